@@ -0,0 +1,165 @@
+package com.roomreservation.reservation.jmh;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.index.IndexLoadGate;
+import com.roomreservation.reservation.index.OccupancyCalendar;
+import com.roomreservation.reservation.index.ReservationIntervalIndex;
+import com.roomreservation.reservation.index.ReservationStatistics;
+import com.roomreservation.reservation.journal.ReservationJournal;
+import com.roomreservation.reservation.repository.ReservationRepository;
+import com.roomreservation.reservation.repository.RoomRepository;
+import com.roomreservation.reservation.repository.UserRepository;
+import com.roomreservation.reservation.service.ReservationServiceImpl;
+
+/**
+ * 예약 경로 JMH 벤치마크 (Mock 저장소)
+ * - 방 1,000개 × 예약 50건이 들어 있는 인덱스를 대상으로 검증, 겹침 확인, 예약 추가+취소 비용을 측정
+ * - Mock은 호출 기록을 남기지 않도록 stubOnly로 생성
+ *
+ * JMH benchmarks of the booking path against mocked repositories
+ * - Measures validation, overlap detection and add+cancel against an index of 1,000 rooms × 50 stays
+ * - Mocks are stub-only so they do not record invocations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingBenchmark {
+    private static final int ROOMS = 1_000;
+    private static final int STAYS_PER_ROOM = 50;
+
+    private ReservationServiceImpl reservationService;
+    private ReservationIntervalIndex intervalIndex;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        today = LocalDate.now();
+        ReservationRepository reservationRepository = mock(ReservationRepository.class, withSettings().stubOnly());
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        RoomRepository roomRepository = mock(RoomRepository.class, withSettings().stubOnly());
+
+        User user = new User();
+        user.setId(1L);
+        Map<Long, Room> rooms = new ConcurrentHashMap<>();
+        Map<Long, Reservation> saved = new ConcurrentHashMap<>();
+        AtomicLong sequence = new AtomicLong();
+
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(roomRepository.findById(anyLong())).thenAnswer(invocation -> Optional.of(rooms.computeIfAbsent(
+            invocation.getArgument(0), id -> {
+                Room room = new Room();
+                room.setId(id);
+                room.setMaxPeople(4);
+                return room;
+            })));
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            reservation.setId(sequence.incrementAndGet());
+            saved.put(reservation.getId(), reservation);
+            return reservation;
+        });
+        when(reservationRepository.findById(anyLong()))
+            .thenAnswer(invocation -> Optional.ofNullable(saved.get(invocation.<Long>getArgument(0))));
+        doAnswer(invocation -> saved.remove(invocation.<Reservation>getArgument(0).getId()))
+            .when(reservationRepository).delete(any(Reservation.class));
+
+        intervalIndex = new ReservationIntervalIndex();
+        reservationService = new ReservationServiceImpl(reservationRepository, userRepository, roomRepository,
+            intervalIndex, new OccupancyCalendar(), new ReservationStatistics(),
+            IndexLoadGate.opened(), ReservationJournal.disabled(), TransactionOperations.withoutTransaction());
+
+        // 방마다 1주 간격으로 3박 예약 / A three-night stay every week in every room
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            for (int week = 0; week < STAYS_PER_ROOM; week++) {
+                LocalDate checkIn = today.plusWeeks(week + 1);
+                reservationService.addReservation(newReservation(roomId, checkIn, checkIn.plusDays(3)));
+            }
+        }
+    }
+
+    @Benchmark
+    public String addReservation_RejectsInvalidStay() {
+        try {
+            reservationService.addReservation(newReservation(1L, today.plusDays(5), today.plusDays(2)));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String addReservation_RejectsOverlap() {
+        long roomId = 1 + ThreadLocalRandom.current().nextInt(ROOMS);
+        LocalDate checkIn = today.plusWeeks(1 + ThreadLocalRandom.current().nextInt(STAYS_PER_ROOM)).plusDays(1);
+        try {
+            reservationService.addReservation(newReservation(roomId, checkIn, checkIn.plusDays(2)));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public boolean overlapDetection() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkIn = today.plusDays(random.nextInt(STAYS_PER_ROOM * 7));
+        return intervalIndex.overlaps(1L + random.nextInt(ROOMS), checkIn, checkIn.plusDays(1 + random.nextInt(4)), null);
+    }
+
+    @Benchmark
+    public Reservation addAndCancelReservation() {
+        // 매주 4번째 날부터 비어 있으므로 그 날 1박 예약 후 바로 취소 (인덱스 크기 유지)
+        // Every week is free from its fourth day, so book one night there and cancel it (keeps the index size steady)
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkIn = today.plusWeeks(1 + random.nextInt(STAYS_PER_ROOM)).plusDays(4);
+        Reservation saved = reservationService.addReservation(
+            newReservation(1L + random.nextInt(ROOMS), checkIn, checkIn.plusDays(1)));
+        return reservationService.cancelReservation(saved.getId());
+    }
+
+    private static Reservation newReservation(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        User user = new User();
+        user.setId(1L);
+        Room room = new Room();
+        room.setId(roomId);
+
+        Reservation reservation = new Reservation();
+        reservation.setUser(user);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkOut);
+        reservation.setNumberOfPeople(2);
+        return reservation;
+    }
+}
@@ -0,0 +1,132 @@
+package com.roomreservation.reservation.jmh;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.roomreservation.reservation.ReservationApplication;
+import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.service.ReservationService;
+import com.roomreservation.reservation.service.RoomService;
+import com.roomreservation.reservation.service.UserService;
+
+/**
+ * 예약 경로 JMH 벤치마크 (내장 H2 + 실제 JPA)
+ * - 웹 서버 없이 애플리케이션 컨텍스트만 띄우고 서비스 빈을 직접 호출
+ * - 방 100개 × 예약 50건을 미리 저장
+ *
+ * JMH benchmarks of the booking path against embedded H2 and real JPA
+ * - Boots the application context without a web server and calls the service beans directly
+ * - Pre-stores 100 rooms × 50 stays
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingH2Benchmark {
+    private static final int ROOMS = 100;
+    private static final int STAYS_PER_ROOM = 50;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private UserService userService;
+    private Long userId;
+    private final Long[] roomIds = new Long[ROOMS];
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReservationApplication.class)
+            .web(WebApplicationType.NONE)
+            .run("--logging.level.root=WARN", "--spring.datasource.url=jdbc:h2:mem:jmh",
+                "--reservation.password.iterations=10000");
+        reservationService = context.getBean(ReservationService.class);
+        userService = context.getBean(UserService.class);
+        RoomService roomService = context.getBean(RoomService.class);
+        today = LocalDate.now();
+
+        User user = new User();
+        user.setName("bench");
+        user.setEmail("bench@example.com");
+        user.setPassword("1234");
+        userId = userService.registerUser(user).getId();
+
+        for (int i = 0; i < ROOMS; i++) {
+            Room room = new Room();
+            room.setName("Room " + (i + 1));
+            room.setPrice(100);
+            room.setMaxPeople(4);
+            roomIds[i] = roomService.addRoom(room).getId();
+            for (int week = 0; week < STAYS_PER_ROOM; week++) {
+                LocalDate checkIn = today.plusWeeks(week + 1);
+                reservationService.addReservation(newReservation(userId, roomIds[i], checkIn, checkIn.plusDays(3)));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String addReservation_RejectsOverlap() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkIn = today.plusWeeks(1 + random.nextInt(STAYS_PER_ROOM)).plusDays(1);
+        try {
+            reservationService.addReservation(newReservation(userId, roomIds[random.nextInt(ROOMS)], checkIn, checkIn.plusDays(2)));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Reservation addAndCancelReservation() {
+        // 매주 4번째 날부터 비어 있으므로 그 날 1박 예약 후 바로 취소 / Every week is free from its fourth day; book it and cancel
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkIn = today.plusWeeks(1 + random.nextInt(STAYS_PER_ROOM)).plusDays(4);
+        Reservation saved = reservationService.addReservation(
+            newReservation(userId, roomIds[random.nextInt(ROOMS)], checkIn, checkIn.plusDays(1)));
+        return reservationService.cancelReservation(saved.getId());
+    }
+
+    @Benchmark
+    public User login() {
+        return userService.login("bench@example.com", "1234");
+    }
+
+    private static Reservation newReservation(Long userId, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        User user = new User();
+        user.setId(userId);
+        Room room = new Room();
+        room.setId(roomId);
+
+        Reservation reservation = new Reservation();
+        reservation.setUser(user);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkOut);
+        reservation.setNumberOfPeople(2);
+        return reservation;
+    }
+}
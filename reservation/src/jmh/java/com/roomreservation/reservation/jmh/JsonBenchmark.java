@@ -0,0 +1,91 @@
+package com.roomreservation.reservation.jmh;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.domain.User;
+
+/**
+ * Reservation / Room JSON 직렬화·역직렬화 JMH 벤치마크
+ * - 스프링 MVC와 같은 방식(Jackson2ObjectMapperBuilder)으로 만든 ObjectMapper 사용
+ *
+ * JMH benchmarks of Reservation and Room JSON serialization and deserialization
+ * - Uses an ObjectMapper built the way Spring MVC builds it (Jackson2ObjectMapperBuilder)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+    private ObjectMapper objectMapper;
+    private Reservation reservation;
+    private Room room;
+    private String reservationJson;
+    private String roomJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        room = new Room();
+        room.setId(1L);
+        room.setName("Ocean View");
+        room.setDescription("바다가 보이는 객실 / Room with an ocean view");
+        room.setPrice(120_000);
+        room.setMaxPeople(4);
+
+        User user = new User();
+        user.setId(1L);
+        user.setName("홍길동");
+        user.setEmail("test@example.com");
+
+        reservation = new Reservation();
+        reservation.setId(1L);
+        reservation.setUser(user);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(LocalDate.of(2025, 8, 25));
+        reservation.setCheckOutDate(LocalDate.of(2025, 8, 28));
+        reservation.setNumberOfPeople(2);
+
+        reservationJson = objectMapper.writeValueAsString(reservation);
+        roomJson = objectMapper.writeValueAsString(room);
+    }
+
+    @Benchmark
+    public String serializeReservation() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(reservation);
+    }
+
+    @Benchmark
+    public Reservation deserializeReservation() throws JsonProcessingException {
+        return objectMapper.readValue(reservationJson, Reservation.class);
+    }
+
+    @Benchmark
+    public String serializeRoom() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(room);
+    }
+
+    @Benchmark
+    public Room deserializeRoom() throws JsonProcessingException {
+        return objectMapper.readValue(roomJson, Room.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.roomreservation.reservation.jmh;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.roomreservation.reservation.cache.UserLookupCache;
+import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.repository.UserRepository;
+import com.roomreservation.reservation.service.CredentialVerifier;
+import com.roomreservation.reservation.service.PasswordHasher;
+import com.roomreservation.reservation.service.UserServiceImpl;
+
+/**
+ * UserServiceImpl.login JMH 벤치마크 (Mock 저장소, 해시 비용별)
+ * - 사용자 조회 캐시 + 검증 스레드 풀 전달 + PBKDF2 검증까지 포함한 로그인 한 번의 지연 시간
+ *
+ * JMH benchmark of UserServiceImpl.login against a mocked repository, per hash cost
+ * - Latency of one login including the lookup cache, the hand-off to the verification pool and the PBKDF2 check
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginBenchmark {
+    @Param({"10000", "100000"})
+    public int iterations;
+
+    private CredentialVerifier credentialVerifier;
+    private UserServiceImpl userService;
+
+    @Setup
+    public void setUp() {
+        PasswordHasher passwordHasher = new PasswordHasher(iterations);
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("bench@example.com");
+        user.setPassword(passwordHasher.hash("1234"));
+
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findByEmail("bench@example.com")).thenReturn(Optional.of(user));
+
+        credentialVerifier = new CredentialVerifier(passwordHasher, 0, 64);
+        userService = new UserServiceImpl(userRepository, passwordHasher, credentialVerifier,
+            new UserLookupCache(100, Duration.ofSeconds(30)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        credentialVerifier.close();
+    }
+
+    @Benchmark
+    public User login() {
+        return userService.login("bench@example.com", "1234");
+    }
+}
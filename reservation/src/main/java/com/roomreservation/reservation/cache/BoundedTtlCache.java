@@ -0,0 +1,168 @@
+package com.roomreservation.reservation.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import com.roomreservation.reservation.dto.CacheStats;
+
+/**
+ * 크기 제한 + TTL 만료를 가진 프로세스 내 캐시
+ * - 가장 오래 사용하지 않은 항목부터 제거 (LRU), 저장 후 TTL이 지나면 만료
+ * - 읽는 중 무효화가 일어나면 그 읽기 결과는 캐시에 넣지 않음 (오래된 값이 다시 들어가는 것을 방지)
+ *
+ * Bounded in-process cache with LRU eviction and time-to-live expiry
+ * - Evicts the least recently used entry when full; entries expire TTL after they are stored
+ * - A load that races with an invalidation is not stored, so stale values cannot come back
+ */
+public final class BoundedTtlCache<K, V> {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 접근 순서 LinkedHashMap (get도 순서를 바꾸므로 항상 잠금 안에서 사용)
+    // Access-ordered map; get() reorders it too, so it is only touched under the lock
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // 무효화할 때마다 증가 / Bumped on every invalidation
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    BoundedTtlCache(int maxSize, Duration ttl, LongSupplier clock) {
+        if (maxSize < 1 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Check your cache size and TTL.");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedTtlCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 만료되었으면 loader로 읽어 저장합니다. loader가 null을 반환하면 저장하지 않습니다.
+     * Returns the cached value, or loads and stores it when absent or expired. Null results are not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt - clock.getAsLong() > 0) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+            misses.increment();
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        // DB 읽기는 잠금 밖에서 수행 / The load runs outside the lock
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    /**
+     * 값을 직접 저장합니다. (쓰기 직후 최신 값을 넣을 때 사용)
+     * Stores a value directly (used to publish the fresh value right after a write).
+     */
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            generation++;
+            entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한 항목만 무효화합니다.
+     * Invalidates a single entry.
+     */
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            generation++;
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 항목을 무효화합니다.
+     * Invalidates every entry.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 만료된 항목을 제거하고 현재 통계를 반환합니다.
+     * Drops expired entries and returns the current statistics.
+     */
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            Iterator<Entry<V>> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().expiresAt - now <= 0) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.roomreservation.reservation.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.CacheStats;
+
+/**
+ * 방 카탈로그 읽기 캐시 (read-through)
+ * - 방 ID별 항목을 캐시 (목록 조회는 키셋 페이지와 메모리 인덱스가 담당)
+ * - 방이 추가/수정/삭제되면 해당 ID 항목만 갱신
+ *
+ * Read-through cache for the room catalog
+ * - Caches rooms by ID; list reads are served by keyset pages and the in-memory indexes
+ * - On add/update/delete only that room's entry is refreshed
+ */
+@Component
+public class RoomCatalogCache {
+    private final BoundedTtlCache<Long, Room> roomsById;
+
+    public RoomCatalogCache(@Value("${reservation.room-cache.max-size:10000}") int maxSize,
+                            @Value("${reservation.room-cache.ttl:PT5M}") Duration ttl) {
+        this.roomsById = new BoundedTtlCache<>(maxSize, ttl);
+    }
+
+    /**
+     * ID로 방을 조회합니다. 캐시에 없으면 loader로 읽습니다.
+     * Returns the room with the given ID, loading it on a miss.
+     */
+    public Room getRoom(Long id, Function<Long, Room> loader) {
+        return roomsById.get(id, loader);
+    }
+
+    /**
+     * 방이 저장(추가/수정)된 뒤 호출합니다.
+     * Call after a room was added or updated.
+     */
+    public void roomSaved(Room room) {
+        roomsById.put(room.getId(), room);
+    }
+
+    /**
+     * 방이 삭제된 뒤 호출합니다.
+     * Call after a room was deleted.
+     */
+    public void roomDeleted(Long id) {
+        roomsById.invalidate(id);
+    }
+
+    /**
+     * 캐시별 적중/실패/제거 통계
+     * Hit/miss/eviction statistics per cache.
+     */
+    public Map<String, CacheStats> stats() {
+        return Map.of("roomsById", roomsById.stats());
+    }
+}
@@ -0,0 +1,44 @@
+package com.roomreservation.reservation.cache;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.roomreservation.reservation.domain.User;
+
+/**
+ * 로그인용 이메일 -> 사용자 조회 캐시 (짧은 TTL)
+ * - 같은 계정의 반복 로그인이 매번 DB를 조회하지 않도록 함
+ * - 없는 이메일은 캐시하지 않음
+ *
+ * Short-lived email-to-user cache for logins
+ * - Keeps repeated logins of the same account from hitting the database every time
+ * - Unknown emails are not cached
+ */
+@Component
+public class UserLookupCache {
+    private final BoundedTtlCache<String, User> usersByEmail;
+
+    public UserLookupCache(@Value("${reservation.login.user-cache.max-size:10000}") int maxSize,
+                           @Value("${reservation.login.user-cache.ttl:PT30S}") Duration ttl) {
+        this.usersByEmail = new BoundedTtlCache<>(maxSize, ttl);
+    }
+
+    /**
+     * 이메일로 사용자를 조회합니다. 캐시에 없으면 loader로 읽습니다.
+     * Returns the user with the given email, loading it on a miss.
+     */
+    public User getUser(String email, Function<String, User> loader) {
+        return usersByEmail.get(email, loader);
+    }
+
+    /**
+     * 사용자가 저장된 뒤 호출합니다.
+     * Call after a user was saved.
+     */
+    public void userSaved(String email) {
+        usersByEmail.invalidate(email);
+    }
+}
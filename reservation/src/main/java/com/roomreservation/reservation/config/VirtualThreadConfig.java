@@ -0,0 +1,35 @@
+package com.roomreservation.reservation.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드 설정 (spring.threads.virtual.enabled=true, Java 21 이상에서만 적용)
+ * - Tomcat 요청 처리와 그 안의 JPA 호출이 가상 스레드에서 실행됨
+ * - DB 연결 수는 Hikari 풀 크기로 제한되므로, 동시 요청 수에도 상한을 두어 연결 대기열이 끝없이 쌓이지 않게 함
+ *
+ * Virtual-thread execution mode (spring.threads.virtual.enabled=true, applied on Java 21 or later only)
+ * - Tomcat request handling, and the JPA calls inside it, run on virtual threads
+ * - Database connections stay capped by the Hikari pool, so concurrent requests are capped too,
+ *   keeping the connection wait queue from growing without bound
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${reservation.virtual-threads.max-concurrent-requests:200}") int maxConcurrentRequests,
+            @Value("${reservation.virtual-threads.acquire-timeout:PT2S}") Duration acquireTimeout) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+            new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxConcurrentRequests, acquireTimeout));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
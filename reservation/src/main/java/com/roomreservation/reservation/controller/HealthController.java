@@ -0,0 +1,41 @@
+package com.roomreservation.reservation.controller;
+
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.roomreservation.reservation.dto.ReadinessStatus;
+
+/**
+ * 상태 확인 API (로드 밸런서/오케스트레이터용)
+ * - 시작 시 메모리 인덱스 적재(ApplicationRunner)가 끝난 뒤에야 준비 상태가 됨
+ *
+ * Health checks for load balancers and orchestrators
+ * - Readiness turns on only after the in-memory indexes are loaded by the startup runners
+ */
+@RestController
+@RequestMapping("/api/health")
+public class HealthController {
+    private final ApplicationAvailability availability;
+
+    public HealthController(ApplicationAvailability availability) {
+        this.availability = availability;
+    }
+
+    /**
+     * 준비 상태 조회 (준비 전이면 503)
+     * Retrieve readiness; 503 until the application accepts traffic.
+     * @return 준비 상태 / Readiness status
+     */
+    @GetMapping("/readiness")
+    public ResponseEntity<ReadinessStatus> getReadiness() {
+        ReadinessState state = availability.getReadinessState();
+        boolean ready = state == ReadinessState.ACCEPTING_TRAFFIC;
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+            .body(new ReadinessStatus(ready, state.name()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.roomreservation.reservation.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.roomreservation.reservation.dto.MetricsSnapshot;
+import com.roomreservation.reservation.metrics.MetricsRegistry;
+
+/**
+ * 서비스/저장소 메트릭 조회 API (외부 수집기 없이 사용)
+ * Exposes service and repository metrics without an external collector.
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+    private final MetricsRegistry metricsRegistry;
+
+    public MetricsController(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * 모든 타이머(지연 시간 백분위)와 카운터 조회
+     * Retrieve every timer (latency percentiles) and counter.
+     * @return 메트릭 스냅샷 / Metrics snapshot
+     */
+    @GetMapping
+    public MetricsSnapshot getMetrics() {
+        return metricsRegistry.snapshot();
+    }
+}
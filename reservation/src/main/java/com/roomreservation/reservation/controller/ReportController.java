@@ -0,0 +1,87 @@
+package com.roomreservation.reservation.controller;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.roomreservation.reservation.dto.AggregateRebuildResult;
+import com.roomreservation.reservation.dto.MonthlyRevenue;
+import com.roomreservation.reservation.dto.OccupancyReport;
+import com.roomreservation.reservation.dto.ReservationAnalyticsReport;
+import com.roomreservation.reservation.service.ReservationAnalyticsService;
+import com.roomreservation.reservation.service.ReservationReportService;
+
+/**
+ * 관리자용 보고서 API
+ * - 점유율/매출은 집계 카운터만 읽음, 분석은 예약 ID 구간별로 병렬 조회
+ *
+ * Reports for management
+ * - Occupancy and revenue read the aggregate counters only; analytics read reservation ID ranges in parallel
+ */
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+    private final ReservationReportService reportService;
+    private final ReservationAnalyticsService analyticsService;
+
+    public ReportController(ReservationReportService reportService, ReservationAnalyticsService analyticsService) {
+        this.reportService = reportService;
+        this.analyticsService = analyticsService;
+    }
+
+    /**
+     * 기간 내 일자별/방별 점유율을 조회한다.
+     * Retrieve occupancy per day and per room for a period.
+     * @param from 시작일 (yyyy-MM-dd)
+     * @param to 종료일, 포함하지 않음 (yyyy-MM-dd)
+     * @return 점유율 보고서
+     */
+    @GetMapping("/occupancy")
+    public OccupancyReport getOccupancy(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return reportService.getOccupancy(from, to);
+    }
+
+    /**
+     * 월별 매출을 조회한다.
+     * Retrieve revenue per month.
+     * @param from 시작 월 (yyyy-MM)
+     * @param to 마지막 월, 포함 (yyyy-MM)
+     * @return 월별 매출 목록
+     */
+    @GetMapping("/revenue")
+    public List<MonthlyRevenue> getRevenue(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                           @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return reportService.getRevenue(from, to);
+    }
+
+    /**
+     * 체크인 기간 내 예약의 방별 인원과 리드 타임을 분석한다. (예약 ID 구간별 병렬 조회)
+     * Analyse party size per room and booking lead time for a check-in period, reading ID ranges in parallel.
+     * @param from 체크인 시작일 (yyyy-MM-dd)
+     * @param to 체크인 종료일, 포함하지 않음 (yyyy-MM-dd)
+     * @return 분석 결과
+     */
+    @GetMapping("/analytics")
+    public ReservationAnalyticsReport analyze(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return analyticsService.analyze(from, to);
+    }
+
+    /**
+     * 집계 카운터를 DB에서 다시 만든다. (복구용)
+     * Rebuild the aggregate counters from the database, for recovery.
+     * @return 재구축 결과
+     */
+    @PostMapping("/rebuild")
+    public AggregateRebuildResult rebuildAggregates() {
+        return reportService.rebuildAggregates();
+    }
+}
@@ -1,5 +1,7 @@
 package com.roomreservation.reservation.controller;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.http.ResponseEntity;
@@ -10,21 +12,33 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.dto.BulkUpdateResult;
+import com.roomreservation.reservation.dto.CursorPage;
+import com.roomreservation.reservation.dto.ReservationBatchResult;
+import com.roomreservation.reservation.dto.ReservationSelection;
+import com.roomreservation.reservation.dto.ReservationSummary;
+import com.roomreservation.reservation.service.ReservationExportService;
 import com.roomreservation.reservation.service.ReservationService;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/api/reservations")
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationExportService reservationExportService;
 
     // 생성자 주입 - ReservationService를 의존성 주입받음
     // Constructor-based dependency injection
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService,
+                                 ReservationExportService reservationExportService) {
         this.reservationService = reservationService;
+        this.reservationExportService = reservationExportService;
     }
 
     /**
@@ -40,14 +54,65 @@ public class ReservationController {
     }
 
     /**
-     * 모든 예약 조회
-     * Retrieves all reservations
+     * 일괄 예약 추가
+     * Adds many reservations in one request; invalid items are rejected individually
+     *
+     * @param reservations 예약 목록 / reservations to add
+     * @return 항목별 처리 결과 / per-item results
+     */
+    @PostMapping("/batch")
+    public List<ReservationBatchResult> addReservations(@RequestBody List<Reservation> reservations) {
+        return reservationService.addReservations(reservations);
+    }
+
+    /**
+     * 일괄 승인 (ID 목록 또는 방/체크인 날짜 범위)
+     * Approves the reservations selected by IDs or by room and check-in date range
+     *
+     * @param selection 대상 예약 선택 조건 / which reservations to approve
+     * @return 승인된 예약 수 / number of reservations approved
+     */
+    @PostMapping("/approve")
+    public BulkUpdateResult approveReservations(@RequestBody ReservationSelection selection) {
+        return reservationService.updateApproval(selection, true);
+    }
+
+    /**
+     * 일괄 거절 (ID 목록 또는 방/체크인 날짜 범위)
+     * Rejects the reservations selected by IDs or by room and check-in date range
+     *
+     * @param selection 대상 예약 선택 조건 / which reservations to reject
+     * @return 거절된 예약 수 / number of reservations rejected
+     */
+    @PostMapping("/reject")
+    public BulkUpdateResult rejectReservations(@RequestBody ReservationSelection selection) {
+        return reservationService.updateApproval(selection, false);
+    }
+
+    /**
+     * 예약 목록 조회 (ID 커서 페이지)
+     * Retrieves reservations one keyset page at a time
      *
-     * @return 예약 리스트 / list of reservations
+     * @param after 이 ID 다음부터 조회, 첫 페이지는 생략 / return reservations after this ID, omit for the first page
+     * @param size 페이지 크기 (기본 20, 최대 100) / page size (default 20, max 100)
+     * @return 예약 요약 페이지 / page of reservation summaries
      */
     @GetMapping
-    public List<Reservation> getAllReservations() {
-        return reservationService.getAllReservations();
+    public CursorPage<ReservationSummary> getAllReservations(@RequestParam(required = false) Long after,
+                                                      @RequestParam(required = false) Integer size) {
+        return reservationService.getReservations(after, size);
+    }
+
+    /**
+     * 전체 예약 내보내기 (NDJSON, 한 줄에 예약 하나)
+     * Streams every reservation as newline-delimited JSON, one reservation per line
+     *
+     * @param response 응답 스트림 / HTTP response to stream into
+     */
+    @GetMapping("/export")
+    public void exportReservations(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        reservationExportService.exportReservations(response.getOutputStream());
     }
 
     /**
@@ -84,7 +149,22 @@ public class ReservationController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> cancelReservation(@PathVariable Long id) {
-        reservationService.cancelReservation(id); 
+        reservationService.cancelReservationById(id); 
         return ResponseEntity.noContent().build(); // 204 No Content 반환
     }
-}
\ No newline at end of file
+
+    /**
+     * 한 방의 기간 내 예약 일괄 취소
+     * Cancels every reservation of a room overlapping [from, to)
+     *
+     * @param roomId 방 ID / room ID
+     * @param from 시작일 (포함) / first day, inclusive
+     * @param to 종료일 (제외) / last day, exclusive
+     * @return 취소된 예약 ID / IDs of the cancelled reservations
+     */
+    @DeleteMapping(params = "roomId")
+    public List<Long> cancelReservations(@RequestParam Long roomId, @RequestParam LocalDate from,
+                                         @RequestParam LocalDate to) {
+        return reservationService.cancelReservations(roomId, from, to);
+    }
+}
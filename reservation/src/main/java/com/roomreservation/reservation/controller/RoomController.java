@@ -1,7 +1,10 @@
 package com.roomreservation.reservation.controller;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,19 +12,33 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.domain.RoomRate;
+import com.roomreservation.reservation.dto.CacheStats;
+import com.roomreservation.reservation.dto.CursorPage;
+import com.roomreservation.reservation.dto.RoomDecommissionResult;
+import com.roomreservation.reservation.dto.RoomSearchHit;
+import com.roomreservation.reservation.dto.StayQuote;
+import com.roomreservation.reservation.service.RoomDecommissionService;
+import com.roomreservation.reservation.service.RoomRateService;
 import com.roomreservation.reservation.service.RoomService;
 
 @RestController
 @RequestMapping("/api/rooms") // 모든 요청의 기본 경로를 /api/rooms로 설정
 public class RoomController {
     private final RoomService roomService;
+    private final RoomDecommissionService roomDecommissionService;
+    private final RoomRateService roomRateService;
 
     // 생성자 주입(Constructor Injection)으로 RoomService를 주입받음
-    public RoomController(RoomService roomService) {
+    public RoomController(RoomService roomService, RoomDecommissionService roomDecommissionService,
+                          RoomRateService roomRateService) {
         this.roomService = roomService;
+        this.roomDecommissionService = roomDecommissionService;
+        this.roomRateService = roomRateService;
     }
 
     /**
@@ -36,13 +53,88 @@ public class RoomController {
     }
 
     /**
-     * 모든 방 목록을 조회한다.
-     * Retrieve all rooms.
-     * @return 방 목록 리스트
+     * 방 목록을 ID 커서 페이지 단위로 조회한다.
+     * Retrieve rooms one keyset page at a time.
+     * @param after 이 ID 다음부터 조회 (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 방 페이지
      */
     @GetMapping
-    public List<Room> getAllRooms() {
-        return roomService.getAllRooms();
+    public CursorPage<Room> getAllRooms(@RequestParam(required = false) Long after,
+                                        @RequestParam(required = false) Integer size) {
+        return roomService.getRooms(after, size);
+    }
+
+    /**
+     * 기간과 인원 조건으로 예약 가능한 방을 조회한다.
+     * Search rooms that are free for the stay and fit the party.
+     * @param checkIn 체크인 날짜 (yyyy-MM-dd)
+     * @param checkOut 체크아웃 날짜 (yyyy-MM-dd)
+     * @param numberOfPeople 숙박 인원
+     * @return 예약 가능한 방 목록
+     */
+    @GetMapping("/available")
+    public List<Room> getAvailableRooms(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+                                        @RequestParam int numberOfPeople) {
+        return roomService.getAvailableRooms(checkIn, checkOut, numberOfPeople);
+    }
+
+    /**
+     * 가격 범위와 수용 인원 조건으로 방을 정렬해 조회한다.
+     * Search rooms by price range and capacity, sorted on the server.
+     * @param minPrice 최소 가격 (생략 가능)
+     * @param maxPrice 최대 가격 (생략 가능)
+     * @param minPeople 최소 수용 인원 (생략 가능)
+     * @param sort 정렬 (price, -price, maxPeople, -maxPeople / 기본 price)
+     * @param size 최대 건수 (기본 20, 최대 100)
+     * @return 조건에 맞는 방 목록
+     */
+    @GetMapping("/search")
+    public List<Room> searchRooms(@RequestParam(required = false) Integer minPrice,
+                                  @RequestParam(required = false) Integer maxPrice,
+                                  @RequestParam(required = false) Integer minPeople,
+                                  @RequestParam(required = false) String sort,
+                                  @RequestParam(required = false) Integer size) {
+        return roomService.searchRooms(minPrice, maxPrice, minPeople, sort, size);
+    }
+
+    /**
+     * 방 이름과 설명을 키워드로 검색한다. (한국어/영어, 관련도 순)
+     * Search rooms by keywords in their name and description, Korean or English, most relevant first.
+     * @param q 검색어 (예: "ocean view", "바다 전망")
+     * @param size 최대 건수 (기본 20, 최대 100)
+     * @return 관련도 순 검색 결과
+     */
+    @GetMapping(value = "/search", params = "q")
+    public List<RoomSearchHit> searchRoomsByKeyword(@RequestParam String q,
+                                                    @RequestParam(required = false) Integer size) {
+        return roomService.searchRoomsByKeyword(q, size);
+    }
+
+    /**
+     * 기간과 인원 조건으로 예약 가능한 방들의 숙박 요금 견적을 조회한다. (검색 결과 페이지용)
+     * Quote every room that is free for the stay and fits the party, for a search results page.
+     * @param checkIn 체크인 날짜 (yyyy-MM-dd)
+     * @param checkOut 체크아웃 날짜 (yyyy-MM-dd)
+     * @param people 숙박 인원
+     * @return 방별 견적 목록
+     */
+    @GetMapping("/quotes")
+    public List<StayQuote> getQuotes(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+                                     @RequestParam int people) {
+        return roomRateService.quoteAvailableRooms(checkIn, checkOut, people);
+    }
+
+    /**
+     * 방 캐시 통계를 조회한다. (캐시 크기/TTL 조정용)
+     * Retrieve room cache hit/miss/eviction counters for tuning.
+     * @return 캐시 이름별 통계
+     */
+    @GetMapping("/cache-stats")
+    public Map<String, CacheStats> getCacheStats() {
+        return roomService.getCacheStats();
     }
 
     /**
@@ -77,4 +169,66 @@ public class RoomController {
     public void deleteRoom(@PathVariable Long id) {
         roomService.deleteRoom(id);
     }
-}
\ No newline at end of file
+
+    /**
+     * 방을 폐쇄한다. 남은 예약은 다른 방으로 옮기거나 취소한 뒤 방을 삭제한다.
+     * Decommission a room: move or cancel its reservations, then delete it.
+     * @param id URL 경로 변수로 전달된 방 ID
+     * @return 옮긴 예약 수와 취소한 예약 수
+     */
+    @PostMapping("/{id}/decommission")
+    public RoomDecommissionResult decommissionRoom(@PathVariable Long id) {
+        return roomDecommissionService.decommissionRoom(id);
+    }
+
+    /**
+     * 특정 방의 숙박 요금 견적을 조회한다.
+     * Quote the price of a stay in a room.
+     * @param id URL 경로 변수로 전달된 방 ID
+     * @param checkIn 체크인 날짜 (yyyy-MM-dd)
+     * @param checkOut 체크아웃 날짜 (yyyy-MM-dd)
+     * @param people 숙박 인원
+     * @return 견적 (박수와 총액)
+     */
+    @GetMapping("/{id}/quote")
+    public StayQuote getQuote(@PathVariable Long id,
+                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+                              @RequestParam int people) {
+        return roomRateService.quote(id, checkIn, checkOut, people);
+    }
+
+    /**
+     * 방에 기간별 요금 규칙(시즌, 주말 등)을 추가한다.
+     * Add a date-range rate rule (season, weekend, ...) to a room.
+     * @param id URL 경로 변수로 전달된 방 ID
+     * @param rate 요청 본문으로 전달된 요금 규칙
+     * @return 저장된 요금 규칙
+     */
+    @PostMapping("/{id}/rates")
+    public RoomRate addRate(@PathVariable Long id, @RequestBody RoomRate rate) {
+        return roomRateService.addRate(id, rate);
+    }
+
+    /**
+     * 방의 요금 규칙을 조회한다.
+     * Retrieve the rate rules of a room.
+     * @param id URL 경로 변수로 전달된 방 ID
+     * @return 요금 규칙 목록 (적용 순서)
+     */
+    @GetMapping("/{id}/rates")
+    public List<RoomRate> getRates(@PathVariable Long id) {
+        return roomRateService.getRates(id);
+    }
+
+    /**
+     * 방의 요금 규칙을 삭제한다.
+     * Delete a rate rule of a room.
+     * @param id URL 경로 변수로 전달된 방 ID
+     * @param rateId URL 경로 변수로 전달된 요금 규칙 ID
+     */
+    @DeleteMapping("/{id}/rates/{rateId}")
+    public void deleteRate(@PathVariable Long id, @PathVariable Long rateId) {
+        roomRateService.deleteRate(id, rateId);
+    }
+}
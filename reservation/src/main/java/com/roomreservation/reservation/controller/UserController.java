@@ -1,15 +1,17 @@
 package com.roomreservation.reservation.controller;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.dto.CursorPage;
 import com.roomreservation.reservation.dto.LoginRequest;
 import com.roomreservation.reservation.service.UserService;
 
@@ -40,22 +42,26 @@ public class UserController {
     /**
      * 로그인 요청 처리
      * Handles user login request.
+     * 비밀번호 검증 동안 요청 스레드를 반환하도록 비동기로 처리 / Handled asynchronously so the request thread is released during verification
      * @param loginRequest 로그인 요청 DTO (이메일, 비밀번호) / Login request DTO (email, password)
      * @return 로그인 성공 시 User 객체 반환 / Returns User object if login successful
      */
     @PostMapping("/login")
-    public User loginUser(@RequestBody LoginRequest loginRequest) {
-        return userService.login(loginRequest.getEmail(), loginRequest.getPassword());
+    public CompletableFuture<User> loginUser(@RequestBody LoginRequest loginRequest) {
+        return userService.loginAsync(loginRequest.getEmail(), loginRequest.getPassword());
     }
 
     /**
-     * 모든 사용자 조회 (관리자용)
-     * Retrieves all users (Admin only).
-     * @return 사용자 리스트 / List of all users
+     * 사용자 목록 조회 (관리자용, ID 커서 페이지)
+     * Retrieves users one keyset page at a time (Admin only).
+     * @param after 이 ID 다음부터 조회, 첫 페이지는 생략 / Return users after this ID, omit for the first page
+     * @param size 페이지 크기 (기본 20, 최대 100) / Page size (default 20, max 100)
+     * @return 사용자 페이지 / Page of users
      */
     @GetMapping
-    public List<User> getAllUser() {
-        return userService.getAllUsers();
+    public CursorPage<User> getAllUser(@RequestParam(required = false) Long after,
+                                       @RequestParam(required = false) Integer size) {
+        return userService.getUsers(after, size);
     }
 
     /**
@@ -0,0 +1,52 @@
+package com.roomreservation.reservation.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+/**
+ * DB 식별자 (행 하나)
+ * - DB가 처음 쓰일 때 임의의 토큰을 만들어 저장, 메모리 DB는 재시작마다 새 토큰이 생김
+ * - 저널/스냅샷처럼 DB 밖에 남는 파일이 어느 DB의 것인지 확인하는 데 사용
+ *
+ * Identity of the database, stored as a single row
+ * - A random token is created the first time the database is used; an in-memory database gets a new one on every restart
+ * - Files kept outside the database, such as the journal and index snapshots, use it to check which database they belong to
+ */
+@Entity
+public class DatabaseIdentity {
+    // 항상 같은 ID의 행 하나만 사용 / Only one row, always with this ID
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    // 임의의 식별 토큰 Random identity token
+    private String token;
+
+    // 새 행 판별 및 동시 생성 감지용 버전 Version, so a new row is inserted and concurrent creation is detected
+    @Version
+    private Long version;
+
+    // 기본 생성자 (Spring JPA가 내부적으로 사용함) Default constructor (used internally by Spring JPA)
+    public DatabaseIdentity() {}
+
+    public DatabaseIdentity(String token) {
+        this.id = SINGLETON_ID;
+        this.token = token;
+    }
+
+    // --- Getter & Setter ---
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
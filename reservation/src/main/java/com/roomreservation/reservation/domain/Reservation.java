@@ -1,13 +1,20 @@
 package com.roomreservation.reservation.domain;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
+// 방별 기간 겹침 조회용 인덱스 Index for per-room overlap queries
+@Table(indexes = @Index(name = "idx_reservation_room_dates", columnList = "room_id, check_in_date, check_out_date"))
 public class Reservation {
     // 고유 에약 ID (자동 생성됨) Unique ID for each user (auto-generated)
     @Id
@@ -34,6 +41,18 @@ public class Reservation {
     // 승인 여부 check to accept or not
     private boolean isApproved;
 
+    // 예약 접수 시각 (리드 타임 분석용, 이전 데이터는 null) Booking time, for lead time analytics; null for older rows
+    @Column(updatable = false)
+    private LocalDateTime bookedAt;
+
+    // 예약 시점의 1박 요금 (매출 집계용, 이전 데이터는 null) Nightly price when booked, for revenue; null for older rows
+    @Column(updatable = false)
+    private Integer nightlyPrice;
+
+    // 낙관적 잠금 버전 (동시 수정 감지) Optimistic locking version (detects concurrent updates)
+    @Version
+    private Long version;
+
     // 기본 생성자 (Spring JPA가 내부적으로 사용함) Default constructor (used internally by Spring JPA)
     public Reservation() {}
 
@@ -94,4 +113,39 @@ public class Reservation {
     public void setIsApproved(boolean isApproved) {
         this.isApproved = isApproved;
     }
+
+    public LocalDateTime getBookedAt() {
+        return bookedAt;
+    }
+
+    public void setBookedAt(LocalDateTime bookedAt) {
+        this.bookedAt = bookedAt;
+    }
+
+    public Integer getNightlyPrice() {
+        return nightlyPrice;
+    }
+
+    public void setNightlyPrice(Integer nightlyPrice) {
+        this.nightlyPrice = nightlyPrice;
+    }
+
+    /**
+     * 매출 집계에 쓸 1박 요금: 예약 시점 요금, 없으면(이전 데이터) 방의 현재 요금, 방도 없으면 0
+     * Nightly price used for revenue: the price when booked, else (older rows) the room's current price, else 0.
+     */
+    public int bookedNightlyPrice() {
+        if (nightlyPrice != null) {
+            return nightlyPrice;
+        }
+        return room == null ? 0 : room.getPrice();
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
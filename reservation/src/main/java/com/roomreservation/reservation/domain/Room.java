@@ -3,8 +3,15 @@ package com.roomreservation.reservation.domain;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_room_price", columnList = "price"),
+    @Index(name = "idx_room_max_people", columnList = "max_people")
+})
 public class Room {
     // 고유 사용자 ID (자동 생성됨) Unique ID for each user (auto-generated)
     @Id
@@ -23,6 +30,11 @@ public class Room {
     // 방 최대 수용 인원 Room's max people number
     private int maxPeople;
 
+    // 낙관적 잠금 버전 (동시 수정 감지, 방에 예약이 들어갈 때마다 증가) Optimistic locking version
+    // (detects concurrent updates; also bumped by every transaction that books a stay into the room)
+    @Version
+    private Long version;
+
     // 기본 생성자 (Spring JPA가 내부적으로 사용함) Default constructor (used internally by Spring JPA)
     public Room() {}
 
@@ -67,4 +79,12 @@ public class Room {
     public void setMaxPeople(int maxPeople) {
         this.maxPeople = maxPeople;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
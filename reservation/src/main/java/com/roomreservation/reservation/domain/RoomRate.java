@@ -0,0 +1,154 @@
+package com.roomreservation.reservation.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 방의 기간별 요금 규칙 (기본 요금 대신 적용)
+ * - [startDate, endDate) 기간의 숙박일 중 daysOfWeek에 해당하는 날에 price를 적용 (요일이 비어 있으면 매일)
+ * - 여러 규칙이 겹치면 priority가 큰 규칙이 우선, 같으면 나중에 만든 규칙이 우선
+ * - 방이 삭제되면 DB에서 함께 삭제됨 (ON DELETE CASCADE)
+ *
+ * Date-range rate rule of a room, overriding its base price
+ * - Applies price to the nights in [startDate, endDate) falling on daysOfWeek (every night when empty)
+ * - When rules overlap, the higher priority wins, then the rule created last
+ * - Deleted together with its room by the database (ON DELETE CASCADE)
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_room_rate_room", columnList = "room_id"))
+public class RoomRate {
+    // 고유 요금 규칙 ID (자동 생성됨) Unique ID for each rate rule (auto-generated)
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    // 규칙이 적용되는 방 (외래키 관계) Room the rule applies to (Foreign key)
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Room room;
+
+    // 규칙 이름 (예: 주말, 성수기) Rule label (e.g. weekend, peak season)
+    private String label;
+
+    // 적용 시작일 (포함) First night the rule applies to (inclusive)
+    private LocalDate startDate;
+
+    // 적용 종료일 (제외) Night the rule stops applying (exclusive)
+    private LocalDate endDate;
+
+    // 적용 요일 비트 (월요일 = 1, 0이면 매일) Day-of-week bits (Monday = 1, 0 for every day)
+    private int dayMask;
+
+    // 1박 요금 Nightly price
+    private int price;
+
+    // 우선순위 (클수록 우선) Priority, higher wins
+    private int priority;
+
+    // 기본 생성자 (Spring JPA가 내부적으로 사용함) Default constructor (used internally by Spring JPA)
+    public RoomRate() {}
+
+    // --- Getter & Setter ---
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Room getRoom() {
+        return room;
+    }
+
+    public void setRoom(Room room) {
+        this.room = room;
+    }
+
+    // 방 ID (지연 로딩 프록시도 초기화 없이 ID 반환) Room ID, read without initializing a lazy proxy
+    public Long getRoomId() {
+        return room == null ? null : room.getId();
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public Set<DayOfWeek> getDaysOfWeek() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((dayMask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    public void setDaysOfWeek(Set<DayOfWeek> daysOfWeek) {
+        int mask = 0;
+        if (daysOfWeek != null) {
+            for (DayOfWeek day : daysOfWeek) {
+                mask |= 1 << (day.getValue() - 1);
+            }
+        }
+        this.dayMask = mask;
+    }
+
+    @JsonIgnore
+    public int getDayMask() {
+        return dayMask;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public void setPrice(int price) {
+        this.price = price;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+}
@@ -0,0 +1,12 @@
+package com.roomreservation.reservation.dto;
+
+/**
+ * 집계 재구축 결과
+ * Result of rebuilding the aggregate counters
+ *
+ * @param ranges 병렬로 읽은 ID 구간 수 / ID ranges read in parallel
+ * @param reservations 집계된 예약 수 / reservations counted
+ * @param elapsedMillis 걸린 시간 (ms) / time taken in milliseconds
+ */
+public record AggregateRebuildResult(int ranges, int reservations, long elapsedMillis) {
+}
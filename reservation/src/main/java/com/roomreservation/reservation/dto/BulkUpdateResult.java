@@ -0,0 +1,10 @@
+package com.roomreservation.reservation.dto;
+
+/**
+ * 일괄 수정 결과
+ * Result of a bulk update
+ *
+ * @param updated 변경된 예약 수 / number of reservations changed
+ */
+public record BulkUpdateResult(int updated) {
+}
@@ -0,0 +1,13 @@
+package com.roomreservation.reservation.dto;
+
+/**
+ * 캐시 통계 (튜닝용)
+ * Cache statistics used to tune size and TTL
+ *
+ * @param hits 적중 수 / lookups served from the cache
+ * @param misses 실패 수 / lookups that went to the loader
+ * @param evictions 크기 초과 또는 만료로 제거된 항목 수 / entries dropped for size or expiry
+ * @param size 현재 항목 수 / current number of entries
+ */
+public record CacheStats(long hits, long misses, long evictions, int size) {
+}
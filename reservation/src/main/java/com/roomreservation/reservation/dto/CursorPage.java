@@ -0,0 +1,49 @@
+package com.roomreservation.reservation.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * ID 기준 커서(keyset) 페이지 응답
+ * - 다음 페이지는 nextCursor 값을 after 파라미터로 넘겨 조회
+ * - nextCursor가 null이면 마지막 페이지
+ *
+ * Keyset (cursor on ID) page response
+ * - Request the next page by passing nextCursor as the after parameter
+ * - A null nextCursor means this is the last page
+ *
+ * @param items 페이지 항목 (ID 오름차순) / page items in ascending ID order
+ * @param nextCursor 다음 페이지 커서 / cursor of the next page
+ */
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+    // 기본 페이지 크기 / Default page size
+    public static final int DEFAULT_SIZE = 20;
+
+    // 최대 페이지 크기 / Maximum page size
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청 페이지 크기를 검증하고 최대 크기로 제한합니다.
+     * Validates the requested page size and caps it at MAX_SIZE.
+     *
+     * @throws IllegalArgumentException 크기가 1 미만일 경우 / when the size is less than 1
+     */
+    public static int boundedSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Check your page size.");
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * 조회 결과로 페이지를 만듭니다. 요청 크기만큼 찼으면 마지막 ID를 다음 커서로 사용합니다.
+     * Builds a page from a query result; if it is full, the last ID becomes the next cursor.
+     */
+    public static <T> CursorPage<T> of(List<T> items, int size, Function<T, Long> idOf) {
+        Long nextCursor = items.size() < size ? null : idOf.apply(items.get(items.size() - 1));
+        return new CursorPage<>(items, nextCursor);
+    }
+}
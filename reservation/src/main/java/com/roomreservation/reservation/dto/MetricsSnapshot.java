@@ -0,0 +1,17 @@
+package com.roomreservation.reservation.dto;
+
+import java.util.Map;
+
+/**
+ * 메트릭 조회 응답 (타이머 이름 -> 지연 시간 요약, 카운터 이름 -> 값)
+ * Metrics response: timer name to latency summary, counter name to value
+ */
+public record MetricsSnapshot(Map<String, Timer> timers, Map<String, Long> counters) {
+
+    /**
+     * 타이머 요약 (밀리초) / Timer summary in milliseconds
+     */
+    public record Timer(long count, double meanMs, double p50Ms, double p95Ms, double p99Ms, double p999Ms,
+                        double maxMs) {
+    }
+}
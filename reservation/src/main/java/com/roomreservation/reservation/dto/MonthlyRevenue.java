@@ -0,0 +1,14 @@
+package com.roomreservation.reservation.dto;
+
+import java.time.YearMonth;
+
+/**
+ * 월 매출 (방 가격 × 박수, 숙박일이 속한 달 기준)
+ * Revenue of one month: room price × nights, attributed to the month of each night
+ *
+ * @param month 월 / month
+ * @param revenue 매출 / revenue
+ * @param nightsSold 판매 박수 / nights sold
+ */
+public record MonthlyRevenue(YearMonth month, long revenue, long nightsSold) {
+}
@@ -0,0 +1,40 @@
+package com.roomreservation.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간 [from, to) 점유율 보고서
+ * Occupancy report for the days [from, to)
+ *
+ * @param from 시작일 / first day
+ * @param to 종료일 (포함하지 않음) / day after the last one
+ * @param roomCount 전체 방 수 / number of rooms
+ * @param days 일자별 점유 / occupancy per day
+ * @param rooms 방별 점유 (점유가 있는 방만) / occupancy per room, only rooms with at least one night
+ */
+public record OccupancyReport(LocalDate from, LocalDate to, long roomCount, List<DayOccupancy> days,
+                              List<RoomOccupancy> rooms) {
+
+    /**
+     * 하루의 점유
+     * Occupancy of one day
+     *
+     * @param date 날짜 / date
+     * @param occupiedRooms 점유된 방 수 / rooms occupied that night
+     * @param rate 점유율 (0 ~ 1) / occupancy rate, 0 to 1
+     */
+    public record DayOccupancy(LocalDate date, int occupiedRooms, double rate) {
+    }
+
+    /**
+     * 한 방의 기간 내 점유
+     * Occupancy of one room over the period
+     *
+     * @param roomId 방 ID / room ID
+     * @param occupiedNights 점유된 박수 / nights occupied
+     * @param rate 점유율 (0 ~ 1) / occupancy rate, 0 to 1
+     */
+    public record RoomOccupancy(Long roomId, int occupiedNights, double rate) {
+    }
+}
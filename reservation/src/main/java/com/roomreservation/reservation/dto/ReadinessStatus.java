@@ -0,0 +1,11 @@
+package com.roomreservation.reservation.dto;
+
+/**
+ * 트래픽 수신 준비 상태 (메모리 인덱스 적재가 끝나야 준비됨)
+ * Readiness to accept traffic; ready once the in-memory indexes are loaded
+ *
+ * @param ready 준비 여부 / whether requests can be served
+ * @param state 스프링 준비 상태 (ACCEPTING_TRAFFIC, REFUSING_TRAFFIC) / Spring readiness state
+ */
+public record ReadinessStatus(boolean ready, String state) {
+}
@@ -0,0 +1,36 @@
+package com.roomreservation.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 체크인 기간 [from, to) 의 예약 분석 결과
+ * Analytics over the reservations checking in within [from, to)
+ *
+ * @param from 체크인 시작일 / first check-in day
+ * @param to 체크인 종료일 (포함하지 않음) / day after the last check-in day
+ * @param partitions 나눠 읽은 ID 구간 수 / number of ID-range partitions read
+ * @param reservations 분석한 예약 수 / reservations analysed
+ * @param partySizeByRoom 방별 인원 통계 (방 ID 순) / party size per room, in room ID order
+ * @param leadTime 예약 접수부터 체크인까지 일수 통계 / days between booking and check-in
+ * @param elapsedMillis 소요 시간 (ms) / elapsed time in milliseconds
+ */
+public record ReservationAnalyticsReport(LocalDate from, LocalDate to, int partitions, long reservations,
+                                         List<RoomPartySize> partySizeByRoom, LeadTime leadTime,
+                                         long elapsedMillis) {
+
+    /**
+     * 방 하나의 인원 통계
+     * Party size statistics of one room
+     */
+    public record RoomPartySize(Long roomId, long reservations, double averagePartySize, int maxPartySize) {
+    }
+
+    /**
+     * 리드 타임 통계 (접수 시각이 없는 예약은 withoutBookingTime 으로만 셈)
+     * Lead time statistics; reservations without a booking time are only counted in withoutBookingTime
+     */
+    public record LeadTime(long reservations, double averageDays, int medianDays, int p90Days, int maxDays,
+                           long withoutBookingTime) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.roomreservation.reservation.dto;
+
+/**
+ * 일괄 예약 요청의 항목별 처리 결과
+ * Per-item result of a batch reservation request
+ *
+ * @param index 요청 목록에서의 위치 / position in the request list
+ * @param reservationId 생성된 예약 ID (거절 시 null) / ID of the created reservation, null when rejected
+ * @param status CREATED 또는 REJECTED / CREATED or REJECTED
+ * @param message 거절 사유 (생성 시 null) / rejection reason, null when created
+ */
+public record ReservationBatchResult(int index, Long reservationId, String status, String message) {
+
+    public static ReservationBatchResult created(int index, Long reservationId) {
+        return new ReservationBatchResult(index, reservationId, "CREATED", null);
+    }
+
+    public static ReservationBatchResult rejected(int index, String message) {
+        return new ReservationBatchResult(index, null, "REJECTED", message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.roomreservation.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 내보내기용 레코드
+ * - 목록용 요약 레코드에 예약 시각, 예약 시점의 1박 요금, 버전을 더해 예약 행을 그대로 옮길 수 있게 함
+ * - nightlyPrice는 저장된 값 그대로 (요금 기록 전 예약은 null)
+ *
+ * Reservation record for exports
+ * - The list summary plus the booking time, the nightly price at booking and the version, so a row can be carried over as is
+ * - nightlyPrice is the stored value, null for reservations made before prices were recorded
+ */
+public record ReservationExport(
+    Long id,
+    Long userId,
+    String userName,
+    Long roomId,
+    String roomName,
+    LocalDate checkInDate,
+    LocalDate checkOutDate,
+    int numberOfPeople,
+    boolean isApproved,
+    LocalDateTime bookedAt,
+    Integer nightlyPrice,
+    Long version) {
+}
@@ -0,0 +1,17 @@
+package com.roomreservation.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 분석용 예약 한 건 (필요한 열만 조회)
+ * One reservation as read for analytics, with only the columns the reports need
+ *
+ * @param id 예약 ID / reservation ID
+ * @param roomId 방 ID / room ID
+ * @param checkInDate 체크인 날짜 / check-in date
+ * @param numberOfPeople 예약 인원 수 / party size
+ * @param bookedAt 예약 접수 시각, 모르면 null / booking time, null when unknown
+ */
+public record ReservationFact(Long id, Long roomId, LocalDate checkInDate, int numberOfPeople, LocalDateTime bookedAt) {
+}
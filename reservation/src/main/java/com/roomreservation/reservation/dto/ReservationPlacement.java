@@ -0,0 +1,20 @@
+package com.roomreservation.reservation.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 방 폐쇄 시 예약을 옮기는 데 필요한 값만 담은 조회 결과
+ * - 버전은 옮길 때 UPDATE 조건으로 사용하여 그 사이 수정된 예약을 덮어쓰지 않음
+ *
+ * What relocating a reservation needs, projected without loading the entity
+ * - The version guards the move UPDATE, so a reservation edited in between is never overwritten
+ *
+ * @param id 예약 ID / reservation ID
+ * @param version 조회 시점의 버전 / version when it was read
+ * @param checkInDate 체크인 날짜 / check-in date
+ * @param checkOutDate 체크아웃 날짜 / check-out date
+ * @param numberOfPeople 인원 / party size
+ */
+public record ReservationPlacement(Long id, Long version, LocalDate checkInDate, LocalDate checkOutDate,
+                                   int numberOfPeople) {
+}
@@ -0,0 +1,37 @@
+package com.roomreservation.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일괄 작업 대상 예약 선택 조건 (ID 목록 또는 필터 중 하나)
+ * - ids: 예약 ID 목록
+ * - 필터: 체크인 날짜가 [from, to) 안에 있는 예약, roomId가 있으면 그 방으로 한정
+ *
+ * Selects the reservations of a bulk operation, either by IDs or by a filter
+ * - ids: reservation IDs
+ * - filter: reservations checking in within [from, to), limited to roomId when given
+ *
+ * @param ids 예약 ID 목록 / reservation IDs
+ * @param roomId 방 ID (선택) / room ID, optional
+ * @param from 체크인 시작일 (포함) / first check-in date, inclusive
+ * @param to 체크인 종료일 (제외) / last check-in date, exclusive
+ */
+public record ReservationSelection(List<Long> ids, Long roomId, LocalDate from, LocalDate to) {
+
+    /**
+     * ID 목록으로 선택하는지 여부
+     * Whether reservations are selected by ID.
+     */
+    public boolean byIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    /**
+     * 필터 조건이 하나라도 있는지 여부
+     * Whether any filter field is set.
+     */
+    public boolean hasFilter() {
+        return roomId != null || from != null || to != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.roomreservation.reservation.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 집계 재구축용 예약 한 건 (방 가격 포함)
+ * One reservation as read for rebuilding the aggregates, with the room's price
+ *
+ * @param id 예약 ID / reservation ID
+ * @param roomId 방 ID / room ID
+ * @param checkInDate 체크인 날짜 / check-in date
+ * @param checkOutDate 체크아웃 날짜 / check-out date
+ * @param nightlyPrice 방 1박 가격 / nightly price of the room
+ */
+public record ReservationStay(Long id, Long roomId, LocalDate checkInDate, LocalDate checkOutDate, int nightlyPrice) {
+}
@@ -0,0 +1,22 @@
+package com.roomreservation.reservation.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 목록 응답용 요약 레코드
+ * - 사용자/방 엔티티 전체 대신 ID와 이름만 담아 한 번의 SQL로 조회
+ *
+ * Slim reservation record for list responses
+ * - Carries only IDs and names instead of the full User and Room entities, loaded in one SQL statement
+ */
+public record ReservationSummary(
+    Long id,
+    Long userId,
+    String userName,
+    Long roomId,
+    String roomName,
+    LocalDate checkInDate,
+    LocalDate checkOutDate,
+    int numberOfPeople,
+    boolean isApproved) {
+}
@@ -0,0 +1,11 @@
+package com.roomreservation.reservation.dto;
+
+/**
+ * 방 ID와 수용 인원만 담은 조회 결과
+ * Room ID and capacity, projected without loading the room entity
+ *
+ * @param id 방 ID / room ID
+ * @param maxPeople 최대 인원 / maximum number of guests
+ */
+public record RoomCapacity(Long id, int maxPeople) {
+}
@@ -0,0 +1,12 @@
+package com.roomreservation.reservation.dto;
+
+/**
+ * 방 폐쇄 결과
+ * Result of decommissioning a room
+ *
+ * @param roomId 삭제된 방 ID / ID of the deleted room
+ * @param relocated 다른 방으로 옮긴 예약 수 / reservations moved to another room
+ * @param cancelled 취소한 예약 수 / reservations cancelled
+ */
+public record RoomDecommissionResult(Long roomId, long relocated, long cancelled) {
+}
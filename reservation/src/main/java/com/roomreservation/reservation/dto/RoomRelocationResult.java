@@ -0,0 +1,20 @@
+package com.roomreservation.reservation.dto;
+
+/**
+ * 방 예약 한 묶음의 이전/취소 결과
+ * Result of relocating one chunk of a room's reservations
+ *
+ * @param relocated 다른 방으로 옮긴 예약 수 / reservations moved to another room
+ * @param cancelled 옮길 방이 없어 취소한 예약 수 / reservations cancelled for lack of a free room
+ * @param skipped 처리 중 다른 요청과 겹쳐 다음 묶음으로 미룬 예약 수 / reservations left for the next chunk after a concurrent change
+ */
+public record RoomRelocationResult(int relocated, int cancelled, int skipped) {
+
+    /**
+     * 이 묶음에서 다룬 예약 수
+     * Reservations looked at in this chunk.
+     */
+    public int processed() {
+        return relocated + cancelled + skipped;
+    }
+}
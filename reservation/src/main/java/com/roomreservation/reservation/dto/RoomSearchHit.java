@@ -0,0 +1,13 @@
+package com.roomreservation.reservation.dto;
+
+import com.roomreservation.reservation.domain.Room;
+
+/**
+ * 키워드 검색 결과 한 건
+ * One keyword search result
+ *
+ * @param room 방 / room
+ * @param score 관련도 점수 (클수록 관련도가 높음) / relevance score, higher is more relevant
+ */
+public record RoomSearchHit(Room room, double score) {
+}
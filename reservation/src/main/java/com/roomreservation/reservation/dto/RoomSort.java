@@ -0,0 +1,49 @@
+package com.roomreservation.reservation.dto;
+
+/**
+ * 방 검색 정렬 순서 (동률은 같은 방향의 ID 순)
+ * - 요청 값: price, -price, maxPeople, -maxPeople (앞의 '-'는 내림차순)
+ *
+ * Sort order of a room search; ties are broken by ID in the same direction
+ * - Request values: price, -price, maxPeople, -maxPeople (a leading '-' means descending)
+ */
+public enum RoomSort {
+    PRICE_ASC("price"),
+    PRICE_DESC("-price"),
+    CAPACITY_ASC("maxPeople"),
+    CAPACITY_DESC("-maxPeople");
+
+    private final String value;
+
+    RoomSort(String value) {
+        this.value = value;
+    }
+
+    /**
+     * 요청 값에 해당하는 정렬 순서 (null이면 가격 오름차순)
+     * Sort order for a request value; null means ascending price.
+     *
+     * @throws IllegalArgumentException 알 수 없는 값일 경우 / when the value is unknown
+     */
+    public static RoomSort of(String value) {
+        if (value == null || value.isBlank()) {
+            return PRICE_ASC;
+        }
+        for (RoomSort sort : values()) {
+            if (sort.value.equals(value.trim())) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort: " + value);
+    }
+
+    // 가격 기준 정렬인지 / Whether the rooms are ordered by price
+    public boolean byPrice() {
+        return this == PRICE_ASC || this == PRICE_DESC;
+    }
+
+    // 내림차순인지 / Whether the order is descending
+    public boolean descending() {
+        return this == PRICE_DESC || this == CAPACITY_DESC;
+    }
+}
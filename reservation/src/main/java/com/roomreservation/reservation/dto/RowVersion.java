@@ -0,0 +1,11 @@
+package com.roomreservation.reservation.dto;
+
+/**
+ * 행 ID와 낙관적 잠금 버전 (스냅샷 이후 바뀐 행 찾기용)
+ * Row ID and optimistic lock version, used to find rows changed since a snapshot
+ *
+ * @param id 행 ID / row ID
+ * @param version 버전 / version
+ */
+public record RowVersion(Long id, Long version) {
+}
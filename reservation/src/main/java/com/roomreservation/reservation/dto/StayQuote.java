@@ -0,0 +1,16 @@
+package com.roomreservation.reservation.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 숙박 요금 견적
+ * Price quote for a stay
+ *
+ * @param roomId 방 ID / room ID
+ * @param checkIn 체크인 날짜 / check-in date
+ * @param checkOut 체크아웃 날짜 / check-out date
+ * @param nights 숙박일 수 / number of nights
+ * @param totalPrice 총액 / total price of the stay
+ */
+public record StayQuote(Long roomId, LocalDate checkIn, LocalDate checkOut, int nights, long totalPrice) {
+}
@@ -0,0 +1,309 @@
+package com.roomreservation.reservation.index;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.RowVersion;
+import com.roomreservation.reservation.metrics.MetricsRegistry;
+import com.roomreservation.reservation.repository.ReservationRepository;
+import com.roomreservation.reservation.repository.RoomRepository;
+
+/**
+ * 애플리케이션 시작 시 메모리 인덱스를 채우는 컴포넌트
+ * - 스냅샷이 있으면 그것을 읽고, DB의 (ID, 버전) 목록과 비교해 새로 생기거나 바뀐 행만 DB에서 읽음 (없어진 행은 버림)
+ * - 스냅샷이 없거나 손상되었으면 DB에서 전체 적재
+ * - 이후 주기적으로, 그리고 종료 시 스냅샷을 남김
+ * - 이후에는 ReservationServiceImpl이 예약 추가/수정/취소 시 (집계 포함), RoomServiceImpl이 방 추가/수정/삭제 시 인덱스를 갱신함
+ * - ApplicationRunner이므로 적재가 끝나야 애플리케이션이 트래픽 수신 가능(ACCEPTING_TRAFFIC) 상태가 됨
+ * - 그 전에도 Tomcat은 요청을 받으므로, 적재를 마친 뒤에야 IndexLoadGate를 열어 쓰기를 허용함
+ *
+ * Fills the in-memory indexes on startup
+ * - With a snapshot on disk, reads it and compares it with the (ID, version) list in the database, so only new or
+ *   changed rows are read from the database and rows that no longer exist are dropped
+ * - Without a usable snapshot, loads everything from the database
+ * - Afterwards writes a snapshot periodically and on shutdown
+ * - Afterwards ReservationServiceImpl keeps them (and the report aggregates) in sync on reservation add/update/cancel,
+ *   and RoomServiceImpl on room add/update/delete
+ * - As an ApplicationRunner it finishes before the application reports ACCEPTING_TRAFFIC readiness
+ * - Tomcat accepts requests before that, so writes are only let through once the load opens the IndexLoadGate
+ */
+@Component
+public class InMemoryIndexLoader implements ApplicationRunner, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(InMemoryIndexLoader.class);
+
+    // (ID, 버전) 목록을 한 번에 읽는 행 수 / Rows per (ID, version) page
+    private static final int VERSION_PAGE_SIZE = 10_000;
+    // 바뀐 행을 한 번에 읽는 ID 수 / IDs per fetch of changed rows
+    private static final int FETCH_BATCH_SIZE = 1_000;
+
+    private static final Comparator<IndexSnapshot.StayRow> STAY_ROW_ORDER =
+        Comparator.comparing(IndexSnapshot.StayRow::reservationId);
+    private static final Comparator<Room> ROOM_ORDER = Comparator.comparing(Room::getId);
+
+    private final ReservationRepository reservationRepository;
+    private final RoomRepository roomRepository;
+    private final ReservationIntervalIndex intervalIndex;
+    private final OccupancyCalendar occupancyCalendar;
+    private final RoomRangeIndex roomRangeIndex;
+    private final RoomTextIndex roomTextIndex;
+    private final ReservationStatistics statistics;
+    private final IndexSnapshotStore snapshotStore;
+    private final MetricsRegistry metricsRegistry;
+    private final IndexLoadGate loadGate;
+    private final Duration snapshotInterval;
+
+    // 달력 정리와 주기적 스냅샷 스레드 (적재 후 시작) / Calendar upkeep and periodic snapshot thread, started after the load
+    private ScheduledExecutorService scheduler;
+    private volatile boolean loaded;
+
+    public InMemoryIndexLoader(ReservationRepository reservationRepository,
+                               RoomRepository roomRepository,
+                               ReservationIntervalIndex intervalIndex,
+                               OccupancyCalendar occupancyCalendar,
+                               RoomRangeIndex roomRangeIndex,
+                               RoomTextIndex roomTextIndex,
+                               ReservationStatistics statistics,
+                               IndexSnapshotStore snapshotStore,
+                               MetricsRegistry metricsRegistry,
+                               IndexLoadGate loadGate,
+                               @Value("${reservation.snapshot.interval:PT5M}") Duration snapshotInterval) {
+        this.reservationRepository = reservationRepository;
+        this.roomRepository = roomRepository;
+        this.intervalIndex = intervalIndex;
+        this.occupancyCalendar = occupancyCalendar;
+        this.roomRangeIndex = roomRangeIndex;
+        this.roomTextIndex = roomTextIndex;
+        this.statistics = statistics;
+        this.snapshotStore = snapshotStore;
+        this.metricsRegistry = metricsRegistry;
+        this.loadGate = loadGate;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        IndexSnapshot snapshot = snapshotStore.readLatest();
+        if (snapshot == null) {
+            reload();
+        } else {
+            restore(snapshot);
+        }
+        long elapsed = System.nanoTime() - start;
+        metricsRegistry.timer("startup.indexes").record(elapsed);
+        log.info("In-memory indexes ready in {} ms ({})", TimeUnit.NANOSECONDS.toMillis(elapsed),
+            snapshot == null ? "full database load" : "restored from snapshot");
+        loaded = true;
+        loadGate.open();
+        scheduleMaintenance();
+    }
+
+    /**
+     * 모든 예약을 다시 읽어 인덱스를 재구성합니다.
+     * Rebuilds the indexes from every stored reservation.
+     */
+    public void reload() {
+        List<IndexSnapshot.StayRow> stays = new ArrayList<>();
+        for (Reservation reservation : reservationRepository.findAll()) {
+            stays.add(toStayRow(reservation));
+        }
+        List<Room> rooms = roomRepository.findAll();
+        metricsRegistry.add("startup.indexes.database-rows", (long) stays.size() + rooms.size());
+        apply(stays, rooms);
+    }
+
+    /**
+     * 스냅샷에 DB의 변경분만 반영하여 인덱스를 재구성합니다.
+     * - 버전이 같은 행은 스냅샷 값을 그대로 쓰고, 새 행과 버전이 다른 행만 DB에서 읽음
+     *
+     * Rebuilds the indexes from a snapshot plus the rows changed in the database since it was taken
+     * - Rows with an unchanged version come from the snapshot; only new rows and rows with another version are read
+     */
+    public void restore(IndexSnapshot snapshot) {
+        List<IndexSnapshot.StayRow> snapshotStays = new ArrayList<>(snapshot.stays());
+        snapshotStays.sort(STAY_ROW_ORDER);
+        Merge<IndexSnapshot.StayRow> stays = merge(snapshotStays, IndexSnapshot.StayRow::reservationId,
+            IndexSnapshot.StayRow::version, reservationRepository::findRowVersionsAfter);
+        for (Reservation reservation : fetch(stays.changedIds(), reservationRepository::findAllById)) {
+            stays.rows().add(toStayRow(reservation));
+        }
+
+        List<Room> snapshotRooms = new ArrayList<>(snapshot.rooms());
+        snapshotRooms.sort(ROOM_ORDER);
+        Merge<Room> rooms = merge(snapshotRooms, Room::getId, Room::getVersion, roomRepository::findRowVersionsAfter);
+        rooms.rows().addAll(fetch(rooms.changedIds(), roomRepository::findAllById));
+
+        long reused = stays.reused() + rooms.reused();
+        long fetched = stays.changedIds().size() + rooms.changedIds().size();
+        metricsRegistry.add("startup.indexes.snapshot-rows", reused);
+        metricsRegistry.add("startup.indexes.database-rows", fetched);
+        log.info("Restored index snapshot from {}: reused {} rows, read {} new or changed rows, dropped {} deleted rows",
+            Instant.ofEpochMilli(snapshot.createdAtMillis()), reused, fetched,
+            stays.dropped() + rooms.dropped());
+        apply(stays.rows(), rooms.rows());
+    }
+
+    /**
+     * 현재 인덱스의 스냅샷을 씁니다. (적재 전에는 아무것도 하지 않음)
+     * Writes a snapshot of the current indexes; does nothing before the initial load.
+     */
+    public void snapshot() {
+        if (!loaded || !snapshotStore.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<IndexSnapshot.StayRow> stays = new ArrayList<>();
+        for (ReservationIntervalIndex.Stay stay : intervalIndex.stays()) {
+            stays.add(new IndexSnapshot.StayRow(stay.reservationId(), stay.version(), stay.roomId(), stay.checkIn(),
+                stay.checkOut(), statistics.nightlyPriceOf(stay.reservationId())));
+        }
+        stays.sort(STAY_ROW_ORDER);
+        List<Room> rooms = roomRangeIndex.rooms();
+        long bytes = snapshotStore.write(new IndexSnapshot(System.currentTimeMillis(), stays, rooms));
+        metricsRegistry.timer("index.snapshot").record(System.nanoTime() - start);
+        log.debug("Wrote index snapshot of {} stays and {} rooms ({} KB)", stays.size(), rooms.size(), bytes / 1024);
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.warn("Could not write the index snapshot on shutdown", e);
+        }
+    }
+
+    // 지난 숙박일 회수(매시간)와 주기적 스냅샷 예약 / Schedules reclaiming past nights (hourly) and periodic snapshots
+    private void scheduleMaintenance() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "index-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                occupancyCalendar.advanceOrigin(LocalDate.now());
+            } catch (RuntimeException e) {
+                log.warn("Could not reclaim past nights of the occupancy calendar", e);
+            }
+        }, 1, 1, TimeUnit.HOURS);
+        if (!snapshotStore.isEnabled() || snapshotInterval.isZero() || snapshotInterval.isNegative()) {
+            return;
+        }
+        long period = snapshotInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                snapshot();
+            } catch (RuntimeException e) {
+                log.warn("Could not write the index snapshot", e);
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    // 모든 인덱스를 주어진 행으로 다시 채움 / Refills every index from the given rows
+    private void apply(List<IndexSnapshot.StayRow> stays, List<Room> rooms) {
+        intervalIndex.clear();
+        occupancyCalendar.clear();
+        statistics.clear();
+        for (IndexSnapshot.StayRow stay : stays) {
+            intervalIndex.put(new ReservationIntervalIndex.Stay(stay.reservationId(), stay.roomId(), stay.checkIn(),
+                stay.checkOut(), stay.version()));
+            if (stay.roomId() != null) {
+                occupancyCalendar.occupy(stay.roomId(), stay.checkIn(), stay.checkOut());
+                statistics.record(stay.reservationId(), stay.roomId(), stay.checkIn(), stay.checkOut(),
+                    stay.nightlyPrice());
+            }
+        }
+        roomRangeIndex.load(rooms);
+        roomTextIndex.load(rooms);
+        log.info("Loaded {} stays; occupancy calendar holds {} rooms in ~{} KB; {} rooms indexed by price and capacity",
+            intervalIndex.size(), occupancyCalendar.roomCount(), occupancyCalendar.estimatedHeapBytes() / 1024,
+            roomRangeIndex.size());
+        log.info("Indexed {} rooms for keyword search with {} distinct tokens; aggregated {} reservations for reports",
+            roomTextIndex.size(), roomTextIndex.tokenCount(), statistics.size());
+    }
+
+    private static IndexSnapshot.StayRow toStayRow(Reservation reservation) {
+        Room room = reservation.getRoom();
+        return new IndexSnapshot.StayRow(reservation.getId(), reservation.getVersion(),
+            room == null ? null : room.getId(), reservation.getCheckInDate(), reservation.getCheckOutDate(),
+            reservation.bookedNightlyPrice());
+    }
+
+    /**
+     * ID 순 스냅샷 행과 DB의 (ID, 버전) 목록을 병합 조인
+     * - 버전이 같으면 스냅샷 행을 유지, 새 행이나 버전이 다른(또는 없는) 행은 다시 읽을 ID로, DB에 없는 행은 버림
+     *
+     * Merge-joins snapshot rows in ID order with the (ID, version) list from the database
+     * - Keeps snapshot rows with the same version; new rows and rows with another (or no) version are re-read,
+     *   and rows missing from the database are dropped
+     */
+    private static <T> Merge<T> merge(List<T> snapshotRows, Function<T, Long> idOf, Function<T, Long> versionOf,
+                                      VersionPager pager) {
+        List<T> rows = new ArrayList<>();
+        List<Long> changedIds = new ArrayList<>();
+        int cursor = 0;
+        int dropped = 0;
+        long after = Long.MIN_VALUE;
+        while (true) {
+            List<RowVersion> page = pager.findRowVersionsAfter(after, Limit.of(VERSION_PAGE_SIZE));
+            for (RowVersion current : page) {
+                while (cursor < snapshotRows.size() && idOf.apply(snapshotRows.get(cursor)) < current.id()) {
+                    cursor++;
+                    dropped++;
+                }
+                T cached = cursor < snapshotRows.size() && idOf.apply(snapshotRows.get(cursor)).equals(current.id())
+                    ? snapshotRows.get(cursor++) : null;
+                Long version = cached == null ? null : versionOf.apply(cached);
+                if (version != null && version.equals(current.version())) {
+                    rows.add(cached);
+                } else {
+                    changedIds.add(current.id());
+                }
+            }
+            if (page.size() < VERSION_PAGE_SIZE) {
+                break;
+            }
+            after = page.get(page.size() - 1).id();
+        }
+        dropped += snapshotRows.size() - cursor;
+        return new Merge<>(rows, changedIds, rows.size(), dropped);
+    }
+
+    private static <T> List<T> fetch(List<Long> ids, Function<List<Long>, List<T>> finder) {
+        List<T> fetched = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += FETCH_BATCH_SIZE) {
+            fetched.addAll(finder.apply(ids.subList(from, Math.min(ids.size(), from + FETCH_BATCH_SIZE))));
+        }
+        return fetched;
+    }
+
+    @FunctionalInterface
+    private interface VersionPager {
+        List<RowVersion> findRowVersionsAfter(long after, Limit limit);
+    }
+
+    private record Merge<T>(List<T> rows, List<Long> changedIds, int reused, int dropped) {
+    }
+}
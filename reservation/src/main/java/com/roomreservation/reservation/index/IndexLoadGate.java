@@ -0,0 +1,47 @@
+package com.roomreservation.reservation.index;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 메모리 인덱스 적재가 끝났는지 알려주는 관문
+ * - Tomcat은 ApplicationRunner가 도는 동안에도 요청을 받으므로, 적재 전의 쓰기는 비었거나 일부만 찬 인덱스로 겹침을 검사하고
+ *   적재 마지막의 clear()에 지워질 수 있음
+ * - InMemoryIndexLoader가 적재를 마치면 열리며, 인덱스를 바꾸는 쓰기는 그 전까지 checkOpen()으로 거절됨
+ *
+ * Gate that tells whether the startup load of the in-memory indexes has finished
+ * - Tomcat accepts requests while the ApplicationRunners run, so a write before the load would check overlaps
+ *   against an empty or partial index and could be wiped by the clear() at the end of the load
+ * - Opened by InMemoryIndexLoader once the load is done; writes that touch the indexes are rejected by
+ *   checkOpen() until then
+ */
+@Component
+public class IndexLoadGate {
+    private volatile boolean open;
+
+    /**
+     * 이미 열린 관문 (인덱스를 직접 채우는 테스트와 벤치마크용)
+     * A gate that is already open, for tests and benchmarks that fill the indexes themselves.
+     */
+    public static IndexLoadGate opened() {
+        IndexLoadGate gate = new IndexLoadGate();
+        gate.open();
+        return gate;
+    }
+
+    public void open() {
+        open = true;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * @throws IllegalStateException 아직 적재 중인 경우 / while the indexes are still loading
+     */
+    public void checkOpen() {
+        if (!open) {
+            throw new IllegalStateException("The service is still starting up. Try again later.");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.roomreservation.reservation.index;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.roomreservation.reservation.domain.Room;
+
+/**
+ * 메모리 인덱스 스냅샷 (숙박 구간과 방, 각각 ID 순)
+ * - 숙박 구간으로 겹침 인덱스, 점유 달력, 집계를, 방으로 가격/인원 인덱스와 키워드 인덱스를 다시 만듦
+ *
+ * Snapshot of the in-memory indexes: stays and rooms, each in ID order
+ * - Stays rebuild the overlap index, occupancy calendar and aggregates; rooms rebuild the range and keyword indexes
+ *
+ * @param createdAtMillis 만든 시각 (epoch ms) / creation time in epoch milliseconds
+ * @param stays 숙박 구간 (예약 ID 순) / stays in reservation ID order
+ * @param rooms 방 (ID 순) / rooms in ID order
+ */
+public record IndexSnapshot(long createdAtMillis, List<StayRow> stays, List<Room> rooms) {
+
+    /**
+     * 예약 한 건의 숙박 구간과 1박 요금 (버전이 같으면 DB를 다시 읽지 않음)
+     * One reservation's stay and nightly price; reused without a database read while its version is unchanged
+     */
+    public record StayRow(Long reservationId, Long version, Long roomId, LocalDate checkIn, LocalDate checkOut,
+                          int nightlyPrice) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.roomreservation.reservation.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.repository.DatabaseIdentityRepository;
+
+/**
+ * 메모리 인덱스 스냅샷 파일 저장소 (최신 스냅샷 하나만 보관)
+ * - 형식: [MAGIC 4][형식 4][DB 식별 토큰][만든 시각 8][숙박 수 4][숙박 × (예약 ID 8, 버전 8, 방 ID 8, 체크인 4, 체크아웃 4, 요금 4)]
+ *   [방 수 4][방 × (ID 8, 버전 8, 가격 4, 인원 4, 이름, 설명)][CRC32C 8]
+ * - 임시 파일에 쓴 뒤 이름을 바꿔 교체하므로 읽는 쪽은 항상 완성된 파일만 봄
+ * - 형식이나 CRC가 맞지 않는 파일, 다른 DB(재시작한 메모리 DB 포함)의 스냅샷은 무시 (호출자는 DB에서 전체 적재)
+ *
+ * File store for snapshots of the in-memory indexes; only the latest snapshot is kept
+ * - Layout: [MAGIC 4][format 4][database identity][created 8][stay count 4][stays × (reservation ID 8, version 8, room ID 8,
+ *   check-in 4, check-out 4, price 4)][room count 4][rooms × (ID 8, version 8, price 4, people 4, name, description)]
+ *   [CRC32C 8]
+ * - Written to a temporary file and renamed over the old one, so readers only ever see a complete file
+ * - A file with a wrong format or checksum, or written for another database (including an in-memory one before a
+ *   restart), is ignored, and callers fall back to a full database load; IDs and versions alone cannot tell databases apart
+ */
+@Component
+public class IndexSnapshotStore {
+    private static final Logger log = LoggerFactory.getLogger(IndexSnapshotStore.class);
+
+    // 파일 식별자 "RRIS" / File identifier "RRIS"
+    private static final int MAGIC = 0x52524953;
+    private static final int FORMAT = 2;
+
+    // 버전/문자열이 없음을 나타내는 값 / Marks a missing version or string
+    private static final long NO_VERSION = Long.MIN_VALUE;
+    private static final int NO_STRING = -1;
+
+    private static final String FILE_NAME = "indexes.snapshot";
+
+    private final boolean enabled;
+    private final Path file;
+    // 스냅샷이 속한 DB 식별 토큰 / Identity of the database the snapshots belong to
+    private final String databaseIdentity;
+
+    @Autowired
+    public IndexSnapshotStore(@Value("${reservation.snapshot.enabled:true}") boolean enabled,
+                              @Value("${reservation.snapshot.directory:${java.io.tmpdir}/room-reservation/snapshots}") String directory,
+                              DatabaseIdentityRepository identities) {
+        this(enabled, directory, enabled ? identities.token() : "");
+    }
+
+    public IndexSnapshotStore(boolean enabled, String directory, String databaseIdentity) {
+        this.enabled = enabled;
+        this.file = Paths.get(directory).resolve(FILE_NAME);
+        this.databaseIdentity = databaseIdentity;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 스냅샷을 파일에 씁니다. (기존 스냅샷 교체)
+     * Writes a snapshot, replacing the previous one.
+     *
+     * @return 파일 크기 (바이트) / file size in bytes
+     */
+    public long write(IndexSnapshot snapshot) {
+        if (!enabled) {
+            return 0;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path temporary = file.resolveSibling(FILE_NAME + ".tmp");
+            CRC32C checksum = new CRC32C();
+            try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16), checksum))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                writeString(out, databaseIdentity);
+                out.writeLong(snapshot.createdAtMillis());
+                out.writeInt(snapshot.stays().size());
+                for (IndexSnapshot.StayRow stay : snapshot.stays()) {
+                    out.writeLong(stay.reservationId());
+                    out.writeLong(stay.version() == null ? NO_VERSION : stay.version());
+                    out.writeLong(stay.roomId());
+                    out.writeInt((int) stay.checkIn().toEpochDay());
+                    out.writeInt((int) stay.checkOut().toEpochDay());
+                    out.writeInt(stay.nightlyPrice());
+                }
+                out.writeInt(snapshot.rooms().size());
+                for (Room room : snapshot.rooms()) {
+                    out.writeLong(room.getId());
+                    out.writeLong(room.getVersion() == null ? NO_VERSION : room.getVersion());
+                    out.writeInt(room.getPrice());
+                    out.writeInt(room.getMaxPeople());
+                    writeString(out, room.getName());
+                    writeString(out, room.getDescription());
+                }
+                // 본문의 CRC를 마지막에 기록 / Checksum of the body, appended last
+                long body = checksum.getValue();
+                out.writeLong(body);
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the index snapshot to " + file, e);
+        }
+    }
+
+    /**
+     * 최신 스냅샷을 읽습니다. 없거나 손상되었으면 null
+     * Reads the latest snapshot, or returns null when there is none or it is damaged.
+     */
+    public IndexSnapshot readLatest() {
+        if (!enabled || !Files.isRegularFile(file)) {
+            return null;
+        }
+        CRC32C checksum = new CRC32C();
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 1 << 16), checksum);
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                log.warn("Ignoring index snapshot {} with an unknown format", file);
+                return null;
+            }
+            if (!databaseIdentity.equals(readString(in))) {
+                log.info("Ignoring index snapshot {} written for another database", file);
+                return null;
+            }
+            long createdAtMillis = in.readLong();
+            int stayCount = in.readInt();
+            List<IndexSnapshot.StayRow> stays = new ArrayList<>(stayCount);
+            for (int i = 0; i < stayCount; i++) {
+                long reservationId = in.readLong();
+                long version = in.readLong();
+                long roomId = in.readLong();
+                LocalDate checkIn = LocalDate.ofEpochDay(in.readInt());
+                LocalDate checkOut = LocalDate.ofEpochDay(in.readInt());
+                stays.add(new IndexSnapshot.StayRow(reservationId, version == NO_VERSION ? null : version, roomId,
+                    checkIn, checkOut, in.readInt()));
+            }
+            int roomCount = in.readInt();
+            List<Room> rooms = new ArrayList<>(roomCount);
+            for (int i = 0; i < roomCount; i++) {
+                Room room = new Room();
+                room.setId(in.readLong());
+                long version = in.readLong();
+                room.setVersion(version == NO_VERSION ? null : version);
+                room.setPrice(in.readInt());
+                room.setMaxPeople(in.readInt());
+                room.setName(readString(in));
+                room.setDescription(readString(in));
+                rooms.add(room);
+            }
+            long expected = checksum.getValue();
+            if (in.readLong() != expected) {
+                log.warn("Ignoring index snapshot {} with a bad checksum", file);
+                return null;
+            }
+            return new IndexSnapshot(createdAtMillis, stays, rooms);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable index snapshot {}", file, e);
+            return null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NO_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NO_STRING) {
+            return null;
+        }
+        if (length < 0) {
+            throw new IOException("Bad string length " + length);
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,325 @@
+package com.roomreservation.reservation.index;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 방-숙박일 점유 비트셋 달력
+ * - 날짜(밤)마다 long[] 비트셋 한 줄을 두고, 방마다 비트 하나(slot)를 배정
+ * - 기간 내 점유된 방 = 해당 날짜 줄들을 word 단위 OR 한 결과
+ * - origin 이전 날짜는 무시하고, origin부터 MAX_DAYS 일까지만 다룸 (그 밖은 covers()가 false)
+ * - 삭제된 방의 slot은 비워서 다음 방에 다시 배정하고, advanceOrigin()으로 지난 날짜 줄을 버림
+ *   -> 크기는 (남은 숙박일 수 × 동시에 존재한 최대 방 수) 안에서 유지됨
+ *
+ * Bitset occupancy calendar with one bit per room per night
+ * - Each night holds one long[] row, and each room is assigned one bit (slot) in it
+ * - Rooms occupied in a window = word-wise OR of the rows of its nights
+ * - Nights before the origin are ignored, and only MAX_DAYS nights from the origin are kept (covers() is false beyond)
+ * - A deleted room's slot is cleared and handed to the next new room, and advanceOrigin() drops the rows of past nights,
+ *   so the calendar stays within (upcoming nights × peak number of rooms)
+ */
+@Component
+public class OccupancyCalendar {
+    // 달력이 다루는 최대 일수 (약 10년) / Maximum number of nights tracked (about ten years)
+    static final int MAX_DAYS = 3660;
+
+    // 배열 헤더 크기 추정치 / Estimated array header size
+    private static final long ARRAY_HEADER_BYTES = 16;
+
+    // 방 ID -> slot 맵 항목당 크기 추정치 (HashMap 노드 + Long + Integer) / Estimated bytes per room slot map entry
+    private static final long SLOT_ENTRY_BYTES = 64;
+
+    // 쓰기 잠금 안에서만 바뀜 / Only changed under the write lock
+    private volatile long originDay;
+
+    // [origin 기준 날짜 오프셋][slot word] / [night offset from origin][slot word]
+    private long[][] nights = new long[0][];
+
+    // 방 ID -> 비트 위치 / Room ID -> bit position
+    private final Map<Long, Integer> slotsByRoom = new HashMap<>();
+
+    // 삭제된 방이 돌려준 재사용 가능한 slot / Slots given back by deleted rooms, reused first
+    private final BitSet freeSlots = new BitSet();
+
+    // 지금까지 배정한 최대 slot + 1 (날짜 줄 폭) / Highest slot ever assigned plus one, the width of the rows
+    private int slotCount;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public OccupancyCalendar() {
+        this(LocalDate.now());
+    }
+
+    OccupancyCalendar(LocalDate origin) {
+        this.originDay = origin.toEpochDay();
+    }
+
+    /**
+     * 방의 [checkIn, checkOut) 숙박일을 점유 상태로 표시합니다.
+     * Marks the nights [checkIn, checkOut) of a room as occupied.
+     */
+    public void occupy(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        if (roomId == null || checkIn == null || checkOut == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(roomId);
+            int word = slot >>> 6;
+            long bit = 1L << slot;
+            int from = clampedOffset(checkIn);
+            int to = clampedOffset(checkOut);
+            if (from < to) {
+                ensureNights(to);
+            }
+            for (int night = from; night < to; night++) {
+                long[] row = nights[night];
+                if (row == null || row.length <= word) {
+                    row = nights[night] = Arrays.copyOf(row == null ? new long[0] : row, word + 1);
+                }
+                row[word] |= bit;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 방의 [checkIn, checkOut) 숙박일 점유 표시를 해제합니다.
+     * Clears the occupied marks of a room for the nights [checkIn, checkOut).
+     */
+    public void release(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        if (roomId == null || checkIn == null || checkOut == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByRoom.get(roomId);
+            if (slot == null) {
+                return;
+            }
+            int word = slot >>> 6;
+            long mask = ~(1L << slot);
+            int to = Math.min(clampedOffset(checkOut), nights.length);
+            for (int night = clampedOffset(checkIn); night < to; night++) {
+                long[] row = nights[night];
+                if (row != null && row.length > word) {
+                    row[word] &= mask;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 방의 slot을 돌려주고 모든 날짜에서 점유 표시를 지웁니다. (방 삭제 후 호출) 비운 slot은 다음 새 방이 재사용합니다.
+     * Gives back a room's slot and clears its marks on every night; call after the room is deleted.
+     * The freed slot is reused by the next new room.
+     */
+    public void removeRoom(Long roomId) {
+        if (roomId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByRoom.remove(roomId);
+            if (slot == null) {
+                return;
+            }
+            int word = slot >>> 6;
+            long mask = ~(1L << slot);
+            for (long[] row : nights) {
+                if (row != null && row.length > word) {
+                    row[word] &= mask;
+                }
+            }
+            freeSlots.set(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * origin을 앞으로 옮기고 그 이전 날짜 줄을 버립니다. (지난 숙박일 회수) 이전 origin보다 앞이면 무시합니다.
+     * Moves the origin forward and drops the rows of the nights before it, reclaiming past nights.
+     * An origin that is not later than the current one is ignored.
+     */
+    public void advanceOrigin(LocalDate origin) {
+        lock.writeLock().lock();
+        try {
+            long shift = origin.toEpochDay() - originDay;
+            if (shift <= 0) {
+                return;
+            }
+            nights = shift >= nights.length ? new long[0][] : Arrays.copyOfRange(nights, (int) shift, nights.length);
+            originDay = origin.toEpochDay();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 달력이 해당 기간 전체를 다루는지 확인합니다. false면 호출자는 다른 방법으로 확인해야 합니다.
+     * Whether the calendar covers the whole window; if false, callers must check another way.
+     */
+    public boolean covers(LocalDate checkIn, LocalDate checkOut) {
+        long origin = originDay;
+        long from = checkIn.toEpochDay() - origin;
+        long to = checkOut.toEpochDay() - origin;
+        return from >= 0 && to <= MAX_DAYS;
+    }
+
+    /**
+     * 방이 [checkIn, checkOut) 동안 비어 있는지 확인합니다.
+     * Checks whether a room is free for the nights [checkIn, checkOut).
+     */
+    public boolean isAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsByRoom.get(roomId);
+            if (slot == null) {
+                return true;
+            }
+            int word = slot >>> 6;
+            long bit = 1L << slot;
+            int to = Math.min(clampedOffset(checkOut), nights.length);
+            for (int night = clampedOffset(checkIn); night < to; night++) {
+                long[] row = nights[night];
+                if (row != null && row.length > word && (row[word] & bit) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 후보 방 중 [checkIn, checkOut) 동안 비어 있는 방 ID만 골라 반환합니다.
+     * 기간 내 날짜 줄을 word 단위로 OR 한 뒤 후보마다 비트 하나만 확인합니다.
+     *
+     * Returns the candidate room IDs that are free for the nights [checkIn, checkOut).
+     * ORs the nights' rows word by word, then tests one bit per candidate.
+     *
+     * @param candidateRoomIds 후보 방 ID / candidate room IDs
+     * @return 빈 방 ID (후보 순서 유지) / free room IDs, in candidate order
+     */
+    public long[] filterAvailable(long[] candidateRoomIds, LocalDate checkIn, LocalDate checkOut) {
+        lock.readLock().lock();
+        try {
+            long[] occupied = new long[(slotCount + 63) >>> 6];
+            int to = Math.min(clampedOffset(checkOut), nights.length);
+            for (int night = clampedOffset(checkIn); night < to; night++) {
+                long[] row = nights[night];
+                if (row == null) {
+                    continue;
+                }
+                int words = Math.min(row.length, occupied.length);
+                for (int i = 0; i < words; i++) {
+                    occupied[i] |= row[i];
+                }
+            }
+            long[] available = new long[candidateRoomIds.length];
+            int count = 0;
+            for (long roomId : candidateRoomIds) {
+                Integer slot = slotsByRoom.get(roomId);
+                if (slot == null || (occupied[slot >>> 6] & (1L << slot)) == 0) {
+                    available[count++] = roomId;
+                }
+            }
+            return Arrays.copyOf(available, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 달력을 비웁니다. (전체 재적재 전에 사용)
+     * Clears the calendar (used before a full reload).
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            nights = new long[0][];
+            slotsByRoom.clear();
+            freeSlots.clear();
+            slotCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 달력에 등록된 방 수
+     * Number of rooms that have a slot in the calendar.
+     */
+    public int roomCount() {
+        lock.readLock().lock();
+        try {
+            return slotsByRoom.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 달력이 차지하는 힙 크기 추정치 (바이트)
+     * - 날짜 줄 배열 + 방 slot 맵 기준, 대략 (숙박일 수 × 방 수 / 8) 바이트
+     *
+     * Estimated heap footprint of the calendar in bytes
+     * - Night rows plus the room slot map, roughly (nights × rooms / 8) bytes
+     */
+    public long estimatedHeapBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = ARRAY_HEADER_BYTES + 8L * nights.length;
+            for (long[] row : nights) {
+                if (row != null) {
+                    bytes += ARRAY_HEADER_BYTES + 8L * row.length;
+                }
+            }
+            bytes += SLOT_ENTRY_BYTES * slotsByRoom.size();
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 방의 slot을 찾거나 새로 배정, 비운 slot 우선 (쓰기 잠금 안에서 호출)
+    // Finds or assigns the room's slot, reusing a freed one first (call under the write lock)
+    private int slotOf(Long roomId) {
+        Integer slot = slotsByRoom.get(roomId);
+        if (slot != null) {
+            return slot;
+        }
+        int newSlot = freeSlots.nextSetBit(0);
+        if (newSlot >= 0) {
+            freeSlots.clear(newSlot);
+        } else {
+            newSlot = slotCount++;
+        }
+        slotsByRoom.put(roomId, newSlot);
+        return newSlot;
+    }
+
+    // origin 기준 날짜 오프셋, [0, MAX_DAYS] 범위로 제한 / Night offset from the origin, clamped to [0, MAX_DAYS]
+    private int clampedOffset(LocalDate date) {
+        long offset = date.toEpochDay() - originDay;
+        return (int) Math.max(0, Math.min(MAX_DAYS, offset));
+    }
+
+    // 날짜 줄 배열을 최소 size 까지 늘림 / Grows the night rows to at least size
+    private void ensureNights(int size) {
+        if (nights.length < size) {
+            nights = Arrays.copyOf(nights, Math.min(MAX_DAYS, Math.max(size, nights.length * 2)));
+        }
+    }
+}
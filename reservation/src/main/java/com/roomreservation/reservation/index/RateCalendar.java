@@ -0,0 +1,217 @@
+package com.roomreservation.reservation.index;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.roomreservation.reservation.domain.RoomRate;
+
+/**
+ * 방별 1박 요금 달력
+ * - 기본 요금과 요금 규칙을 origin부터 horizonDays 일까지 int[] (숙박일 -> 1박 요금) 로 미리 계산
+ * - 견적 = 배열 구간 합 (규칙을 숙박일마다 평가하지 않음), 여러 방 견적은 방마다 연속 구간 합을 도는 단순 반복문
+ * - 규칙이 없는 방은 배열 없이 기본 요금 × 박수, 달력 밖의 날은 규칙을 직접 평가
+ * - 캐시된 요금은 invalidate() 로 무효화하며, 세대 번호로 무효화와 겹친 적재가 오래된 값을 남기지 않게 함
+ *
+ * Per-room nightly rate calendar
+ * - Base price and rate rules are precomputed into an int[] (night -> nightly price) from the origin for horizonDays
+ * - A quote is a slice sum instead of evaluating rules per night; quoting many rooms is a plain loop of contiguous sums
+ * - Rooms without rules keep no array (base price × nights), and nights outside the window evaluate the rules directly
+ * - Cached rates are dropped with invalidate(); a generation number keeps loads that raced an invalidation from sticking
+ */
+@Component
+public class RateCalendar {
+    private static final long[] NO_TOTALS = new long[0];
+
+    private final long originDay;
+    private final int horizonDays;
+
+    // 방 ID -> 계산된 요금 / Room ID -> precomputed rates
+    private final Map<Long, RoomRates> ratesByRoom = new ConcurrentHashMap<>();
+
+    // 무효화할 때마다 증가 / Bumped on every invalidation
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public RateCalendar(@Value("${reservation.rates.horizon-days:730}") int horizonDays) {
+        this(LocalDate.now(), horizonDays);
+    }
+
+    RateCalendar(LocalDate origin, int horizonDays) {
+        if (horizonDays < 1) {
+            throw new IllegalArgumentException("Horizon must be at least one day.");
+        }
+        this.originDay = origin.toEpochDay();
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * 기본 요금과 규칙으로 방의 요금을 계산합니다. (규칙은 적용 순서, 뒤의 규칙이 우선)
+     * Precomputes a room's rates from its base price and rules, given in application order (later rules win).
+     */
+    public RoomRates build(int basePrice, List<RoomRate> rules) {
+        if (rules.isEmpty()) {
+            return new RoomRates(basePrice, null, new Rule[0]);
+        }
+        Rule[] compiled = new Rule[rules.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            RoomRate rate = rules.get(i);
+            compiled[i] = new Rule(rate.getStartDate().toEpochDay() - originDay,
+                rate.getEndDate().toEpochDay() - originDay, rate.getDayMask(), rate.getPrice());
+        }
+        int[] nightly = new int[horizonDays];
+        Arrays.fill(nightly, basePrice);
+        for (Rule rule : compiled) {
+            int from = (int) Math.max(0, Math.min(horizonDays, rule.fromNight()));
+            int to = (int) Math.max(0, Math.min(horizonDays, rule.toNight()));
+            for (int night = from; night < to; night++) {
+                if (rule.appliesOn(originDay + night)) {
+                    nightly[night] = rule.price();
+                }
+            }
+        }
+        return new RoomRates(basePrice, nightly, compiled);
+    }
+
+    /**
+     * 캐시된 방 요금 (없거나 기본 요금이 바뀌었으면 null)
+     * Cached rates of a room, or null when missing or computed for another base price.
+     */
+    public RoomRates get(Long roomId, int basePrice) {
+        RoomRates rates = ratesByRoom.get(roomId);
+        return rates != null && rates.basePrice == basePrice ? rates : null;
+    }
+
+    /**
+     * 현재 세대 번호 (적재 전에 읽어 putIfCurrent에 전달)
+     * Current generation, read before loading rules and passed to putIfCurrent.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 읽은 뒤 무효화가 없었을 때만 요금을 캐시합니다.
+     * Caches rates unless an invalidation happened since the given generation was read.
+     */
+    public void putIfCurrent(long loadedGeneration, Long roomId, RoomRates rates) {
+        ratesByRoom.put(roomId, rates);
+        if (generation.get() != loadedGeneration) {
+            ratesByRoom.remove(roomId, rates);
+        }
+    }
+
+    /**
+     * 방의 캐시된 요금을 버립니다. (요금 규칙 변경, 방 삭제 시)
+     * Drops a room's cached rates, after its rules change or it is deleted.
+     */
+    public void invalidate(Long roomId) {
+        generation.incrementAndGet();
+        ratesByRoom.remove(roomId);
+    }
+
+    /**
+     * [checkIn, checkOut) 숙박 총액
+     * Total price of the nights [checkIn, checkOut).
+     */
+    public long quote(RoomRates rates, LocalDate checkIn, LocalDate checkOut) {
+        return quote(rates, checkIn.toEpochDay() - originDay, checkOut.toEpochDay() - originDay);
+    }
+
+    /**
+     * 여러 방의 [checkIn, checkOut) 숙박 총액 (입력 순서)
+     * Totals of the nights [checkIn, checkOut) for several rooms, in input order.
+     */
+    public long[] quoteAll(RoomRates[] rates, LocalDate checkIn, LocalDate checkOut) {
+        if (rates.length == 0) {
+            return NO_TOTALS;
+        }
+        long from = checkIn.toEpochDay() - originDay;
+        long to = checkOut.toEpochDay() - originDay;
+        long[] totals = new long[rates.length];
+        for (int i = 0; i < rates.length; i++) {
+            totals[i] = quote(rates[i], from, to);
+        }
+        return totals;
+    }
+
+    /**
+     * 캐시된 방 수
+     * Number of rooms with cached rates.
+     */
+    public int size() {
+        return ratesByRoom.size();
+    }
+
+    private long quote(RoomRates rates, long fromNight, long toNight) {
+        if (rates.nightly == null) {
+            return (long) rates.basePrice * Math.max(0, toNight - fromNight);
+        }
+        int from = (int) Math.max(0, Math.min(horizonDays, fromNight));
+        int to = (int) Math.max(from, Math.min(horizonDays, toNight));
+        long total = sum(rates.nightly, from, to);
+        // 달력 밖의 날 (origin 이전, horizon 이후) / Nights outside the window, before the origin or past the horizon
+        for (long night = fromNight; night < Math.min(toNight, 0); night++) {
+            total += rates.priceOn(originDay + night, originDay);
+        }
+        for (long night = Math.max(fromNight, horizonDays); night < toNight; night++) {
+            total += rates.priceOn(originDay + night, originDay);
+        }
+        return total;
+    }
+
+    // 연속 구간 합, 분기 없는 단순 반복문이라 JIT가 펼치고 벡터화할 수 있음
+    // Contiguous slice sum; a branch-free counted loop the JIT can unroll and vectorize
+    private static long sum(int[] nightly, int from, int to) {
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            total += nightly[i];
+        }
+        return total;
+    }
+
+    /**
+     * 한 방의 계산된 요금
+     * Precomputed rates of one room.
+     */
+    public static final class RoomRates {
+        private final int basePrice;
+        // origin 기준 숙박일 -> 1박 요금, 규칙이 없으면 null / Night offset -> nightly price, null without rules
+        private final int[] nightly;
+        private final Rule[] rules;
+
+        private RoomRates(int basePrice, int[] nightly, Rule[] rules) {
+            this.basePrice = basePrice;
+            this.nightly = nightly;
+            this.rules = rules;
+        }
+
+        // 달력 밖의 하루 요금을 규칙으로 계산 (뒤의 규칙 우선) / Price of one night outside the window, later rules win
+        private int priceOn(long epochDay, long originDay) {
+            for (int i = rules.length - 1; i >= 0; i--) {
+                Rule rule = rules[i];
+                long night = epochDay - originDay;
+                if (night >= rule.fromNight() && night < rule.toNight() && rule.appliesOn(epochDay)) {
+                    return rule.price();
+                }
+            }
+            return basePrice;
+        }
+    }
+
+    // origin 기준 [fromNight, toNight) 에 요일 비트가 맞으면 price / price on the nights [fromNight, toNight) matching the day bits
+    private record Rule(long fromNight, long toNight, int dayMask, int price) {
+
+        boolean appliesOn(long epochDay) {
+            // 1970-01-01 은 목요일 (월요일 = 0) / 1970-01-01 was a Thursday (Monday = 0)
+            return dayMask == 0 || (dayMask & (1 << Math.floorMod(epochDay + 3, 7))) != 0;
+        }
+    }
+}
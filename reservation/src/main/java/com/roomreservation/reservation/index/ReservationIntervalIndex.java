@@ -0,0 +1,159 @@
+package com.roomreservation.reservation.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.stereotype.Component;
+
+import com.roomreservation.reservation.domain.Reservation;
+
+/**
+ * 방별 예약 구간 인덱스
+ * - 방마다 체크인 날짜 순으로 정렬된 집합을 유지하여 겹침 여부를 O(log n)에 판단
+ * - 체크아웃 날짜는 퇴실일이므로 [checkIn, checkOut) 반열린 구간으로 취급
+ * - 같은 방의 숙박 구간은 서로 겹치지 않는다는 전제(서비스에서 보장)로 직전 구간 하나만 확인
+ *
+ * In-memory per-room interval index of reservations
+ * - Keeps a set per room ordered by check-in date so overlap checks run in O(log n)
+ * - The check-out date is the departure day, so stays are half-open [checkIn, checkOut)
+ * - Stays of one room never overlap (enforced by the service), so only the preceding stay is checked
+ */
+@Component
+public class ReservationIntervalIndex {
+    // 체크인 날짜, 예약 ID 순 정렬 / Ordered by check-in date, then reservation ID
+    private static final Comparator<Stay> STAY_ORDER = Comparator
+        .comparing(Stay::checkIn)
+        .thenComparing(Stay::reservationId);
+
+    // 방 ID -> 정렬된 숙박 구간 / Room ID -> ordered stays
+    private final Map<Long, NavigableSet<Stay>> staysByRoom = new ConcurrentHashMap<>();
+
+    // 예약 ID -> 숙박 구간 (수정/취소 시 기존 구간 제거용) / Reservation ID -> stay (to drop the old stay on update/cancel)
+    private final Map<Long, Stay> staysByReservation = new ConcurrentHashMap<>();
+
+    /**
+     * 주어진 기간이 해당 방의 기존 예약과 겹치는지 확인합니다.
+     * Checks whether the given stay overlaps an existing reservation of the room.
+     *
+     * @param roomId 방 ID / room ID
+     * @param checkIn 체크인 날짜 / check-in date
+     * @param checkOut 체크아웃 날짜 / check-out date
+     * @param excludedReservationId 비교에서 제외할 예약 ID (수정 시 자기 자신), 없으면 null / reservation ID to ignore (itself on update), or null
+     * @return 겹치면 true / true if the stay overlaps
+     */
+    public boolean overlaps(Long roomId, LocalDate checkIn, LocalDate checkOut, Long excludedReservationId) {
+        if (roomId == null || !checkIn.isBefore(checkOut)) {
+            return false;
+        }
+        NavigableSet<Stay> stays = staysByRoom.get(roomId);
+        if (stays == null) {
+            return false;
+        }
+        // checkOut 이전에 시작하는 마지막 숙박 구간 / Last stay that starts before checkOut
+        Stay candidate = stays.lower(new Stay(Long.MIN_VALUE, roomId, checkOut, checkOut, null));
+        if (candidate != null && candidate.reservationId().equals(excludedReservationId)) {
+            candidate = stays.lower(candidate);
+        }
+        return candidate != null && candidate.checkOut().isAfter(checkIn);
+    }
+
+    /**
+     * 저장된 예약을 인덱스에 추가하거나, 이미 있으면 새 날짜로 교체합니다.
+     * Adds a saved reservation to the index, replacing its previous stay if present.
+     *
+     * @param reservation 저장된 예약 / saved reservation
+     */
+    public void put(Reservation reservation) {
+        if (reservation == null || reservation.getId() == null) {
+            return;
+        }
+        put(new Stay(reservation.getId(), reservation.getRoom() == null ? null : reservation.getRoom().getId(),
+            reservation.getCheckInDate(), reservation.getCheckOutDate(), reservation.getVersion()));
+    }
+
+    /**
+     * 숙박 구간을 인덱스에 추가하거나, 이미 있으면 교체합니다. (스냅샷 복원용)
+     * Adds a stay to the index, replacing the reservation's previous stay if present; used when restoring snapshots.
+     *
+     * @param stay 숙박 구간 / stay interval
+     */
+    public void put(Stay stay) {
+        if (stay == null || stay.reservationId() == null) {
+            return;
+        }
+        remove(stay.reservationId());
+        if (stay.roomId() == null || stay.checkIn() == null || stay.checkOut() == null
+            || !stay.checkIn().isBefore(stay.checkOut())) {
+            // 숙박일이 없는 예약은 방을 점유하지 않음 / Stays without a night do not occupy the room
+            return;
+        }
+        staysByRoom.computeIfAbsent(stay.roomId(), key -> new ConcurrentSkipListSet<>(STAY_ORDER)).add(stay);
+        staysByReservation.put(stay.reservationId(), stay);
+    }
+
+    /**
+     * 예약을 인덱스에서 제거합니다.
+     * Removes a reservation from the index.
+     *
+     * @param reservationId 예약 ID / reservation ID
+     */
+    public void remove(Long reservationId) {
+        if (reservationId == null) {
+            return;
+        }
+        Stay stay = staysByReservation.remove(reservationId);
+        if (stay != null) {
+            NavigableSet<Stay> stays = staysByRoom.get(stay.roomId());
+            if (stays != null) {
+                stays.remove(stay);
+            }
+        }
+    }
+
+    /**
+     * 예약의 숙박 구간을 반환합니다. 인덱스에 없으면 null
+     * Returns the stay of a reservation, or null if it is not indexed.
+     *
+     * @param reservationId 예약 ID / reservation ID
+     */
+    public Stay find(Long reservationId) {
+        return reservationId == null ? null : staysByReservation.get(reservationId);
+    }
+
+    /**
+     * 인덱스에 있는 모든 숙박 구간의 복사본 (순서 없음, 스냅샷용)
+     * Copy of every indexed stay, in no particular order, for snapshots.
+     */
+    public List<Stay> stays() {
+        return new ArrayList<>(staysByReservation.values());
+    }
+
+    /**
+     * 인덱스를 비웁니다. (전체 재적재 전에 사용)
+     * Clears the index (used before a full reload).
+     */
+    public void clear() {
+        staysByRoom.clear();
+        staysByReservation.clear();
+    }
+
+    /**
+     * 인덱스에 있는 숙박 구간 수
+     * Number of stays held in the index.
+     */
+    public int size() {
+        return staysByReservation.size();
+    }
+
+    /**
+     * 한 예약의 숙박 구간 (version은 인덱스에 넣을 때의 예약 버전, 모르면 null)
+     * Stay interval of one reservation; version is the reservation's version when indexed, or null if unknown
+     */
+    public record Stay(Long reservationId, Long roomId, LocalDate checkIn, LocalDate checkOut, Long version) {}
+}
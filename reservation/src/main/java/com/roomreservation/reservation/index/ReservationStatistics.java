@@ -0,0 +1,376 @@
+package com.roomreservation.reservation.index;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 집계 카운터 (점유, 매출)
+ * - 월별로 일자별 점유 방 수, 방별 점유일 비트(일자 = 비트), 매출(1박 요금 합), 판매 박수를 유지
+ * - 예약마다 반영한 값(방, 기간, 1박 요금)을 기억해 두고 record()는 "이전 값 빼기 + 새 값 더하기"로 처리
+ *   -> 같은 예약을 다시 기록해도 중복 집계되지 않고, 취소 시 당시 요금 그대로 빠짐
+ * - ReservationServiceImpl이 추가/수정/취소/이전 시 갱신하고, 시작 시 InMemoryIndexLoader가 채움
+ * - 재구축 중에는 실시간 변경을 따로 기록해 두었다가, 병렬로 만든 새 집계에 다시 적용한 뒤 교체
+ *
+ * Aggregate counters for occupancy and revenue
+ * - Per month: occupied rooms per day, occupied-day bits per room (one bit per day), revenue (sum of nightly prices)
+ *   and nights sold
+ * - Remembers each reservation's contribution (room, stay, nightly price), so record() subtracts the previous one
+ *   before adding the new one: recording a reservation twice never double counts, and a cancellation removes
+ *   exactly what was added, at the price of that time
+ * - ReservationServiceImpl keeps it in sync on add/update/cancel/relocate and InMemoryIndexLoader fills it on startup
+ * - While a rebuild runs, live changes are also logged and replayed onto the freshly built counters before the swap
+ */
+@Component
+public class ReservationStatistics {
+    private State state = new State();
+
+    // 재구축 중 실시간 변경 (예약 ID -> 마지막 값, 취소는 null) / Live changes during a rebuild; null means cancelled
+    private Map<Long, Contribution> rebuildLog;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 예약의 현재 값을 기록합니다. (이전에 기록한 값은 대체)
+     * Records a reservation's current room, stay and nightly price, replacing what was recorded before.
+     */
+    public void record(Long reservationId, Long roomId, LocalDate checkIn, LocalDate checkOut, int nightlyPrice) {
+        if (reservationId == null || roomId == null || checkIn == null || checkOut == null) {
+            return;
+        }
+        Contribution contribution = new Contribution(roomId, checkIn.toEpochDay(), checkOut.toEpochDay(), nightlyPrice);
+        lock.writeLock().lock();
+        try {
+            state.put(reservationId, contribution);
+            if (rebuildLog != null) {
+                rebuildLog.put(reservationId, contribution);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 예약이 다른 방으로 옮겨졌음을 기록합니다. (기간과 요금은 유지)
+     * Records that a reservation moved to another room, keeping its stay and price.
+     */
+    public void move(Long reservationId, Long roomId) {
+        lock.writeLock().lock();
+        try {
+            Contribution previous = state.contributions.get(reservationId);
+            if (previous != null) {
+                Contribution moved = new Contribution(roomId, previous.checkInDay(), previous.checkOutDay(),
+                    previous.nightlyPrice());
+                state.put(reservationId, moved);
+                if (rebuildLog != null) {
+                    rebuildLog.put(reservationId, moved);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 취소된 예약을 집계에서 뺍니다.
+     * Removes a cancelled reservation from the counters.
+     */
+    public void forget(Long reservationId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(reservationId);
+            if (rebuildLog != null) {
+                rebuildLog.put(reservationId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 집계를 비웁니다. (전체 재적재 전에 사용)
+     * Clears the counters (used before a full reload).
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            state = new State();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구축을 시작합니다. 이후 실시간 변경은 completeRebuild()에서 다시 적용하기 위해 기록됩니다.
+     * Starts a rebuild; live changes from now on are logged so completeRebuild() can replay them.
+     *
+     * @throws IllegalStateException 이미 재구축 중일 경우 / when a rebuild is already running
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (rebuildLog != null) {
+                throw new IllegalStateException("A rebuild is already running.");
+            }
+            rebuildLog = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ID 구간 하나를 담을 빈 부분 집계 (스레드마다 따로 사용)
+     * Empty partial counters for one ID range, to be filled by a single thread.
+     */
+    public Partial newPartial() {
+        return new Partial();
+    }
+
+    /**
+     * 부분 집계들을 합치고 재구축 중의 실시간 변경을 다시 적용한 뒤 현재 집계와 교체합니다.
+     * Merges the partial counters, replays the live changes logged during the rebuild and swaps the result in.
+     *
+     * @return 집계된 예약 수 / number of reservations counted
+     */
+    public int completeRebuild(List<Partial> partials) {
+        State rebuilt = new State();
+        for (Partial partial : partials) {
+            rebuilt.mergeFrom(partial.state);
+        }
+        lock.writeLock().lock();
+        try {
+            if (rebuildLog == null) {
+                throw new IllegalStateException("No rebuild is running.");
+            }
+            for (Map.Entry<Long, Contribution> change : rebuildLog.entrySet()) {
+                if (change.getValue() == null) {
+                    rebuilt.remove(change.getKey());
+                } else {
+                    rebuilt.put(change.getKey(), change.getValue());
+                }
+            }
+            state = rebuilt;
+            rebuildLog = null;
+            return rebuilt.contributions.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 실패한 재구축을 버립니다. (현재 집계는 그대로 유지)
+     * Abandons a failed rebuild, keeping the current counters.
+     */
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildLog = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * [from, to) 일자별 점유 방 수
+     * Occupied rooms per day for the days [from, to).
+     */
+    public int[] occupiedRoomsByDay(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            int[] occupied = new int[(int) Math.max(0, to.toEpochDay() - from.toEpochDay())];
+            LocalDate date = from;
+            for (int i = 0; i < occupied.length; i++, date = date.plusDays(1)) {
+                MonthCounters month = state.months.get(monthKey(date));
+                occupied[i] = month == null ? 0 : month.occupiedRooms[date.getDayOfMonth() - 1];
+            }
+            return occupied;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * [from, to) 방별 점유 박수 (점유가 있는 방만, 방 ID 순)
+     * Occupied nights per room for the days [from, to), only rooms with at least one, in room ID order.
+     */
+    public Map<Long, Integer> occupiedNightsByRoom(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> nights = new TreeMap<>();
+            LocalDate monthStart = from.withDayOfMonth(1);
+            while (monthStart.isBefore(to)) {
+                MonthCounters month = state.months.get(monthKey(monthStart));
+                if (month != null) {
+                    int mask = dayMask(monthStart, from, to);
+                    for (Map.Entry<Long, Integer> room : month.roomDays.entrySet()) {
+                        int count = Integer.bitCount(room.getValue() & mask);
+                        if (count > 0) {
+                            nights.merge(room.getKey(), count, Integer::sum);
+                        }
+                    }
+                }
+                monthStart = monthStart.plusMonths(1);
+            }
+            return nights;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * [from, to] 월별 매출과 판매 박수 ([i][0] 매출, [i][1] 박수)
+     * Revenue and nights sold per month for [from, to]; [i][0] is revenue, [i][1] nights.
+     */
+    public long[][] revenueByMonth(YearMonth from, YearMonth to) {
+        lock.readLock().lock();
+        try {
+            List<long[]> rows = new ArrayList<>();
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                MonthCounters counters = state.months.get(month.getYear() * 12 + month.getMonthValue() - 1);
+                rows.add(counters == null ? new long[2] : new long[] {counters.revenue, counters.nights});
+            }
+            return rows.toArray(new long[0][]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 예약에 기록된 1박 요금 (기록이 없으면 0)
+     * Nightly price recorded for a reservation, or 0 when it is not counted.
+     */
+    public int nightlyPriceOf(Long reservationId) {
+        lock.readLock().lock();
+        try {
+            Contribution contribution = state.contributions.get(reservationId);
+            return contribution == null ? 0 : contribution.nightlyPrice();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 집계된 예약 수
+     * Number of reservations counted.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.contributions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int monthKey(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    // 해당 월에서 [from, to) 에 드는 날의 비트 / Bits of the month's days that fall within [from, to)
+    private static int dayMask(LocalDate monthStart, LocalDate from, LocalDate to) {
+        int firstDay = from.isAfter(monthStart) ? from.getDayOfMonth() : 1;
+        LocalDate monthEnd = monthStart.plusMonths(1);
+        int lastDay = to.isBefore(monthEnd) ? to.getDayOfMonth() - 1 : monthStart.lengthOfMonth();
+        if (lastDay < firstDay) {
+            return 0;
+        }
+        int bits = lastDay - firstDay + 1;
+        return (int) (((1L << bits) - 1) << (firstDay - 1));
+    }
+
+    /**
+     * 재구축 시 ID 구간 하나의 부분 집계
+     * Partial counters of one ID range during a rebuild.
+     */
+    public static final class Partial {
+        private final State state = new State();
+
+        /**
+         * 예약 하나를 더합니다.
+         * Adds one reservation.
+         */
+        public void add(Long reservationId, Long roomId, LocalDate checkIn, LocalDate checkOut, int nightlyPrice) {
+            if (reservationId != null && roomId != null && checkIn != null && checkOut != null) {
+                state.put(reservationId, new Contribution(roomId, checkIn.toEpochDay(), checkOut.toEpochDay(), nightlyPrice));
+            }
+        }
+    }
+
+    // 예약 하나가 집계에 더한 값 / What one reservation added to the counters
+    private record Contribution(Long roomId, long checkInDay, long checkOutDay, int nightlyPrice) {
+    }
+
+    // 예약별 반영 값과 월별 카운터 / Per-reservation contributions plus the monthly counters
+    private static final class State {
+        private final Map<Long, Contribution> contributions = new HashMap<>();
+        private final Map<Integer, MonthCounters> months = new HashMap<>();
+
+        void put(Long reservationId, Contribution contribution) {
+            Contribution previous = contributions.put(reservationId, contribution);
+            if (previous != null) {
+                apply(previous, -1);
+            }
+            apply(contribution, 1);
+        }
+
+        void remove(Long reservationId) {
+            Contribution previous = contributions.remove(reservationId);
+            if (previous != null) {
+                apply(previous, -1);
+            }
+        }
+
+        // 다른 ID 구간의 부분 집계를 합침 (예약 ID는 겹치지 않음) / Merges a partial of a disjoint ID range
+        void mergeFrom(State other) {
+            contributions.putAll(other.contributions);
+            for (Map.Entry<Integer, MonthCounters> entry : other.months.entrySet()) {
+                MonthCounters target = months.computeIfAbsent(entry.getKey(), key -> new MonthCounters());
+                MonthCounters source = entry.getValue();
+                target.revenue += source.revenue;
+                target.nights += source.nights;
+                for (int day = 0; day < target.occupiedRooms.length; day++) {
+                    target.occupiedRooms[day] += source.occupiedRooms[day];
+                }
+                for (Map.Entry<Long, Integer> room : source.roomDays.entrySet()) {
+                    target.roomDays.merge(room.getKey(), room.getValue(), (left, right) -> left | right);
+                }
+            }
+        }
+
+        // 숙박일마다 sign(+1/-1) 만큼 반영 / Adds (sign +1) or removes (sign -1) each night of the stay
+        private void apply(Contribution contribution, int sign) {
+            LocalDate date = LocalDate.ofEpochDay(contribution.checkInDay());
+            for (long day = contribution.checkInDay(); day < contribution.checkOutDay(); day++, date = date.plusDays(1)) {
+                int key = monthKey(date);
+                MonthCounters month = months.computeIfAbsent(key, ignored -> new MonthCounters());
+                int dayIndex = date.getDayOfMonth() - 1;
+                month.occupiedRooms[dayIndex] += sign;
+                month.revenue += (long) sign * contribution.nightlyPrice();
+                month.nights += sign;
+                int bit = 1 << dayIndex;
+                int days = month.roomDays.getOrDefault(contribution.roomId(), 0);
+                days = sign > 0 ? days | bit : days & ~bit;
+                if (days == 0) {
+                    month.roomDays.remove(contribution.roomId());
+                } else {
+                    month.roomDays.put(contribution.roomId(), days);
+                }
+            }
+        }
+    }
+
+    // 한 달의 카운터 / Counters of one month
+    private static final class MonthCounters {
+        private final int[] occupiedRooms = new int[31];
+        private final Map<Long, Integer> roomDays = new HashMap<>();
+        private long revenue;
+        private long nights;
+    }
+}
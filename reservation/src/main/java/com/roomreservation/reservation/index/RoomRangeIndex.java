@@ -0,0 +1,198 @@
+package com.roomreservation.reservation.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.RoomSort;
+
+/**
+ * 방 가격/수용 인원 정렬 인덱스
+ * - (가격, ID) 순과 (수용 인원, ID) 순의 정렬 집합을 함께 유지
+ * - 범위 조회는 정렬 기준 쪽 집합의 구간만 순회하고, 나머지 조건은 순회 중에 거르며, limit 건을 채우면 멈춤
+ * - RoomServiceImpl이 추가/수정/삭제 시 갱신하고, 시작 시 InMemoryIndexLoader가 채움 (그 전에는 isLoaded()가 false)
+ * - 삭제된 방 ID를 묘비로 남겨, 삭제와 경합해 늦게 도착한 put이 방을 되살리지 않게 함 (방 ID는 재사용되지 않음)
+ *
+ * Sorted index of rooms by price and by capacity
+ * - Keeps one set ordered by (price, ID) and one by (capacity, ID)
+ * - A range query walks only the slice of the set matching the sort order, filters the other bound on the way,
+ *   and stops once limit rooms are found
+ * - RoomServiceImpl keeps it in sync on add/update/delete and InMemoryIndexLoader fills it on startup
+ *   (isLoaded() is false until then)
+ * - Deleted room IDs are kept as tombstones so a put that raced the delete and lands late cannot bring the room back;
+ *   room IDs are generated and never reused
+ */
+@Component
+public class RoomRangeIndex {
+    private static final Comparator<Entry> BY_PRICE =
+        Comparator.comparingInt(Entry::price).thenComparingLong(Entry::id);
+    private static final Comparator<Entry> BY_CAPACITY =
+        Comparator.comparingInt(Entry::maxPeople).thenComparingLong(Entry::id);
+
+    private final NavigableSet<Entry> byPrice = new TreeSet<>(BY_PRICE);
+    private final NavigableSet<Entry> byCapacity = new TreeSet<>(BY_CAPACITY);
+    private final Map<Long, Entry> entriesById = new HashMap<>();
+    // 삭제된 방 ID (묘비) / IDs of deleted rooms (tombstones)
+    private final Set<Long> deletedIds = new HashSet<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded;
+
+    /**
+     * 인덱스를 주어진 방들로 다시 채웁니다. (DB에서 읽은 목록이므로 묘비와 관계없이 모두 넣음)
+     * Replaces the index contents with the given rooms; they come from the database, so tombstones do not apply.
+     */
+    public void load(Collection<Room> rooms) {
+        lock.writeLock().lock();
+        try {
+            byPrice.clear();
+            byCapacity.clear();
+            entriesById.clear();
+            for (Room room : rooms) {
+                putLocked(room);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스가 채워졌는지 (false면 호출자는 DB로 조회해야 함)
+     * Whether the index has been filled; if false, callers must query the database.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 인덱스에 있는 모든 방 (ID 순, 스냅샷용)
+     * Every indexed room in ID order, for snapshots.
+     */
+    public List<Room> rooms() {
+        lock.readLock().lock();
+        try {
+            List<Room> rooms = new ArrayList<>(entriesById.size());
+            for (Entry entry : entriesById.values()) {
+                rooms.add(entry.room());
+            }
+            rooms.sort(Comparator.comparing(Room::getId));
+            return rooms;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 추가/수정된 방을 반영합니다. 이미 더 새로운 버전이 있거나 삭제된 방이면 무시합니다.
+     * Records an added or updated room, unless a newer version is already indexed or the room was deleted.
+     */
+    public void put(Room room) {
+        if (room == null || room.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (deletedIds.contains(room.getId())) {
+                return;
+            }
+            putLocked(room);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 방을 인덱스에서 뺍니다.
+     * Removes a deleted room.
+     */
+    public void remove(Long roomId) {
+        lock.writeLock().lock();
+        try {
+            deletedIds.add(roomId);
+            Entry entry = entriesById.remove(roomId);
+            if (entry != null) {
+                byPrice.remove(entry);
+                byCapacity.remove(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가격이 [minPrice, maxPrice] 이고 수용 인원이 minPeople 이상인 방을 정렬 순서대로 최대 limit 건 반환합니다.
+     * Returns up to limit rooms priced within [minPrice, maxPrice] that hold at least minPeople, in the given order.
+     */
+    public List<Room> find(int minPrice, int maxPrice, int minPeople, RoomSort sort, int limit) {
+        List<Room> rooms = new ArrayList<>(Math.min(limit, 64));
+        if (minPrice > maxPrice || limit < 1) {
+            return rooms;
+        }
+        lock.readLock().lock();
+        try {
+            NavigableSet<Entry> slice = sort.byPrice()
+                ? byPrice.subSet(new Entry(Long.MIN_VALUE, minPrice, 0, null), true,
+                                 new Entry(Long.MAX_VALUE, maxPrice, 0, null), true)
+                : byCapacity.tailSet(new Entry(Long.MIN_VALUE, 0, minPeople, null), true);
+            for (Entry entry : sort.descending() ? slice.descendingSet() : slice) {
+                if (entry.price() >= minPrice && entry.price() <= maxPrice && entry.maxPeople() >= minPeople) {
+                    rooms.add(entry.room());
+                    if (rooms.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            return rooms;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 있는 방 수
+     * Number of indexed rooms.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entriesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출 / Call under the write lock
+    private void putLocked(Room room) {
+        Entry previous = entriesById.get(room.getId());
+        if (previous != null) {
+            Long previousVersion = previous.room().getVersion();
+            if (previousVersion != null && room.getVersion() != null && previousVersion > room.getVersion()) {
+                return;
+            }
+            byPrice.remove(previous);
+            byCapacity.remove(previous);
+        }
+        Entry entry = new Entry(room.getId(), room.getPrice(), room.getMaxPeople(), room);
+        entriesById.put(entry.id(), entry);
+        byPrice.add(entry);
+        byCapacity.add(entry);
+    }
+
+    // 정렬 키를 고정해 두는 항목 (방 객체가 나중에 바뀌어도 정렬이 깨지지 않음)
+    // Entry that pins the sort keys, so later changes to the Room object cannot corrupt the ordering
+    private record Entry(long id, int price, int maxPeople, Room room) {
+    }
+}
@@ -0,0 +1,355 @@
+package com.roomreservation.reservation.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.RoomSearchHit;
+
+/**
+ * 방 이름/설명 역색인 (키워드 검색)
+ * - 토큰 -> (문서 slot, 가중 빈도) 목록. 방마다 slot(int) 하나를 배정하고 기본형 배열에 저장
+ * - 이름에 나온 토큰은 NAME_WEIGHT 배로 가중
+ * - 점수는 BM25, 검색어 토큰들의 목록만 slot 순으로 병합하며 점수를 더한 뒤 상위 limit 건만 힙으로 고름
+ *   (점수 버퍼는 전체 방 수가 아니라 후보 항목 수만큼만 할당)
+ * - 방 추가/수정/삭제 시 그 방의 토큰 목록만 갱신 (목록은 slot 순으로 정렬, 이진 탐색으로 찾아 제거)
+ * - RoomServiceImpl이 갱신하고, 시작 시 InMemoryIndexLoader가 채움 (그 전에는 isLoaded()가 false)
+ * - RoomRangeIndex처럼 삭제된 방 ID를 묘비로 남겨 늦게 도착한 put을 거름
+ *
+ * Inverted index over room names and descriptions, for keyword search
+ * - Token -> list of (document slot, weighted frequency); each room gets an int slot and postings are primitive arrays
+ * - Tokens found in the name count NAME_WEIGHT times
+ * - Ranked with BM25: the postings of the query tokens are merged in slot order, summing each room's score once,
+ *   and a heap keeps the top limit rooms; score buffers are sized by the candidate postings, not by the room count
+ * - Adding, updating or deleting a room touches only that room's postings, which are kept sorted by slot so an entry
+ *   is found by binary search
+ * - RoomServiceImpl keeps it in sync and InMemoryIndexLoader fills it on startup (isLoaded() is false until then)
+ * - Like RoomRangeIndex, keeps deleted room IDs as tombstones so a late put cannot bring a deleted room back
+ */
+@Component
+public class RoomTextIndex {
+    // 이름 토큰 가중치 / Weight of tokens found in the name
+    static final int NAME_WEIGHT = 3;
+
+    // BM25 매개변수 / BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Postings> postingsByToken = new HashMap<>();
+    private final Map<Long, Integer> slotsByRoom = new HashMap<>();
+    // 삭제된 방 ID (묘비) / IDs of deleted rooms (tombstones)
+    private final Set<Long> deletedIds = new HashSet<>();
+
+    // slot -> 방, 문서 길이(가중), 고유 토큰 / Slot -> room, weighted length and distinct tokens
+    private Room[] rooms = new Room[16];
+    private int[] lengths = new int[16];
+    private String[][] tokensBySlot = new String[16][];
+
+    // 비어 있는 slot (삭제된 방) / Free slots left by deleted rooms
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+    private long totalLength;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded;
+
+    /**
+     * 인덱스를 주어진 방들로 다시 채웁니다.
+     * Replaces the index contents with the given rooms.
+     */
+    public void load(Collection<Room> rooms) {
+        lock.writeLock().lock();
+        try {
+            postingsByToken.clear();
+            slotsByRoom.clear();
+            this.rooms = new Room[Math.max(16, rooms.size())];
+            this.lengths = new int[this.rooms.length];
+            this.tokensBySlot = new String[this.rooms.length][];
+            freeCount = 0;
+            slotCount = 0;
+            totalLength = 0;
+            for (Room room : rooms) {
+                putLocked(room);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스가 채워졌는지 (false면 호출자는 DB로 조회해야 함)
+     * Whether the index has been filled; if false, callers must query the database.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 추가/수정된 방을 색인합니다. 이미 더 새로운 버전이 있거나 삭제된 방이면 무시합니다.
+     * Indexes an added or updated room, unless a newer version is already indexed or the room was deleted.
+     */
+    public void put(Room room) {
+        if (room == null || room.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (deletedIds.contains(room.getId())) {
+                return;
+            }
+            putLocked(room);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 방을 인덱스에서 뺍니다.
+     * Removes a deleted room.
+     */
+    public void remove(Long roomId) {
+        lock.writeLock().lock();
+        try {
+            deletedIds.add(roomId);
+            Integer slot = slotsByRoom.remove(roomId);
+            if (slot != null) {
+                removeSlot(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 관련된 방을 점수 순으로 최대 limit 건 반환합니다. (검색어 토큰 중 하나라도 포함한 방)
+     * Returns up to limit rooms matching any query token, most relevant first.
+     */
+    public List<RoomSearchHit> search(String query, int limit) {
+        LinkedHashSet<String> queryTokens = new LinkedHashSet<>(RoomTextTokenizer.tokenize(query));
+        if (queryTokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int documents = slotsByRoom.size();
+            if (documents == 0) {
+                return List.of();
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / documents);
+            // BM25 길이 보정 = K1 * (1 - B + B * length / averageLength) / BM25 length norm
+            double normBase = K1 * (1 - B);
+            double normPerLength = K1 * B / averageLength;
+            Postings[] lists = new Postings[queryTokens.size()];
+            double[] weights = new double[lists.length];
+            int listCount = 0;
+            int candidateBound = 0;
+            for (String token : queryTokens) {
+                Postings postings = postingsByToken.get(token);
+                if (postings == null) {
+                    continue;
+                }
+                lists[listCount] = postings;
+                weights[listCount++] = (K1 + 1) * Math.log(1 + (documents - postings.size + 0.5) / (postings.size + 0.5));
+                candidateBound += postings.size;
+            }
+            // 정렬된 목록을 slot 순으로 병합, 후보마다 점수를 한 번에 합산
+            // Merge the sorted lists in slot order, summing each candidate's score in one go
+            int[] candidates = new int[candidateBound];
+            double[] scores = new double[candidateBound];
+            int candidateCount = 0;
+            int[] cursors = new int[listCount];
+            while (true) {
+                int slot = Integer.MAX_VALUE;
+                for (int l = 0; l < listCount; l++) {
+                    if (cursors[l] < lists[l].size) {
+                        slot = Math.min(slot, lists[l].slots[cursors[l]]);
+                    }
+                }
+                if (slot == Integer.MAX_VALUE) {
+                    break;
+                }
+                double norm = normBase + normPerLength * lengths[slot];
+                double score = 0;
+                for (int l = 0; l < listCount; l++) {
+                    if (cursors[l] < lists[l].size && lists[l].slots[cursors[l]] == slot) {
+                        double frequency = lists[l].frequencies[cursors[l]++];
+                        score += weights[l] * frequency / (frequency + norm);
+                    }
+                }
+                candidates[candidateCount] = slot;
+                scores[candidateCount++] = score;
+            }
+            return topHits(candidates, scores, candidateCount, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 방 수
+     * Number of indexed rooms.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByRoom.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 고유 토큰 수
+     * Number of distinct tokens.
+     */
+    public int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByToken.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 점수 상위 limit 건 (동점은 방 ID 오름차순), 힙에는 후보 번호를 넣음 / Top limit hits, ties by ascending room ID; the heap holds candidate indexes
+    private List<RoomSearchHit> topHits(int[] candidates, double[] scores, int candidateCount, int limit) {
+        Comparator<Integer> order = (left, right) -> {
+            int byScore = Double.compare(scores[left], scores[right]);
+            return byScore != 0 ? byScore
+                : Long.compare(rooms[candidates[right]].getId(), rooms[candidates[left]].getId());
+        };
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, order);
+        for (int i = 0; i < candidateCount; i++) {
+            // 힙이 찼으면 최하위보다 나은 방만 넣음 / Once the heap is full, only rooms beating its weakest get in
+            if (heap.size() == limit && order.compare(i, heap.peek()) <= 0) {
+                continue;
+            }
+            heap.add(i);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        RoomSearchHit[] hits = new RoomSearchHit[heap.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            int candidate = heap.poll();
+            hits[i] = new RoomSearchHit(rooms[candidates[candidate]], scores[candidate]);
+        }
+        return Arrays.asList(hits);
+    }
+
+    // 쓰기 잠금 안에서 호출 / Call under the write lock
+    private void putLocked(Room room) {
+        Integer existing = slotsByRoom.get(room.getId());
+        if (existing != null) {
+            Long indexedVersion = rooms[existing].getVersion();
+            if (indexedVersion != null && room.getVersion() != null && indexedVersion > room.getVersion()) {
+                return;
+            }
+            removeSlot(existing);
+        }
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : RoomTextTokenizer.tokenize(room.getName())) {
+            frequencies.merge(token, NAME_WEIGHT, Integer::sum);
+        }
+        for (String token : RoomTextTokenizer.tokenize(room.getDescription())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int slot = allocateSlot();
+        int length = 0;
+        String[] tokens = new String[frequencies.size()];
+        int t = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postingsByToken.computeIfAbsent(entry.getKey(), token -> new Postings()).add(slot, entry.getValue());
+            tokens[t++] = entry.getKey();
+            length += entry.getValue();
+        }
+        rooms[slot] = room;
+        lengths[slot] = length;
+        tokensBySlot[slot] = tokens;
+        totalLength += length;
+        slotsByRoom.put(room.getId(), slot);
+    }
+
+    // slot의 토큰 목록 항목을 지우고 slot을 비움 / Drops the slot's postings and frees the slot
+    private void removeSlot(int slot) {
+        for (String token : tokensBySlot[slot]) {
+            Postings postings = postingsByToken.get(token);
+            if (postings != null && postings.remove(slot) && postings.size == 0) {
+                postingsByToken.remove(token);
+            }
+        }
+        totalLength -= lengths[slot];
+        rooms[slot] = null;
+        lengths[slot] = 0;
+        tokensBySlot[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == rooms.length) {
+            int capacity = rooms.length * 2;
+            rooms = Arrays.copyOf(rooms, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            tokensBySlot = Arrays.copyOf(tokensBySlot, capacity);
+        }
+        return slotCount++;
+    }
+
+    // 한 토큰의 (slot, 빈도) 목록, slot 오름차순 / (slot, frequency) list of one token, in ascending slot order
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        // 적재 중에는 slot이 차례로 늘어나 맨 뒤에 붙고, 재사용된 slot만 중간에 끼워 넣음
+        // During a load slots only grow and are appended; only reused slots are inserted in the middle
+        void add(int slot, int frequency) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at >= 0) {
+                frequencies[at] = frequency;
+                return;
+            }
+            at = -at - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            System.arraycopy(frequencies, at, frequencies, at + 1, size - at);
+            slots[at] = slot;
+            frequencies[at] = frequency;
+            size++;
+        }
+
+        boolean remove(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at < 0) {
+                return false;
+            }
+            size--;
+            System.arraycopy(slots, at + 1, slots, at, size - at);
+            System.arraycopy(frequencies, at + 1, frequencies, at, size - at);
+            return true;
+        }
+    }
+}
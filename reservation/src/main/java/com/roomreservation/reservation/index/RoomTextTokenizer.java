@@ -0,0 +1,91 @@
+package com.roomreservation.reservation.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 방 이름/설명 검색용 토크나이저 (한국어 + 영어)
+ * - 글자/숫자가 아닌 문자와 문자 체계가 바뀌는 곳에서 나눔 ("오션뷰room" -> "오션뷰", "room")
+ * - 영어/숫자: 소문자로 바꾸고, 흔한 불용어는 버리고, 복수형 s를 뗌 ("Twin Beds" -> "twin", "bed")
+ * - 한글/한자: 조사가 붙어도 찾을 수 있게 2글자 단위(bigram)로 나눔 ("바다전망이" -> "바다", "다전", "전망", "망이"),
+ *   한 글자 단어는 그대로 사용
+ * - 색인과 검색어에 같은 규칙을 적용하므로 형태소 분석기 없이도 부분 일치가 됨
+ *
+ * Tokenizer for room names and descriptions, Korean and English
+ * - Splits on anything that is not a letter or digit, and where the script changes ("오션뷰room" -> "오션뷰", "room")
+ * - Latin/digits: lower-cased, common stop words dropped, a plural s stripped ("Twin Beds" -> "twin", "bed")
+ * - Hangul/Han: split into overlapping character bigrams so words still match with particles attached
+ *   ("바다전망이" -> "바다", "다전", "전망", "망이"); single-character words are kept as they are
+ * - Documents and queries go through the same rules, so partial Korean matches work without a morphological analyzer
+ */
+final class RoomTextTokenizer {
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "the", "of", "with", "in", "on", "for", "to", "or", "at", "by", "is");
+
+    private RoomTextTokenizer() {
+    }
+
+    /**
+     * 텍스트를 토큰 목록으로 나눕니다. (중복 포함, 등장 순서)
+     * Splits text into tokens, duplicates included, in order of appearance.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        int start = -1;
+        boolean cjkRun = false;
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            boolean wordChar = Character.isLetterOrDigit(codePoint);
+            boolean cjk = wordChar && isCjk(codePoint);
+            if (start >= 0 && (!wordChar || cjk != cjkRun)) {
+                emit(text.substring(start, i), cjkRun, tokens);
+                start = -1;
+            }
+            if (wordChar && start < 0) {
+                start = i;
+                cjkRun = cjk;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            emit(text.substring(start), cjkRun, tokens);
+        }
+        return tokens;
+    }
+
+    private static void emit(String run, boolean cjk, List<String> tokens) {
+        if (cjk) {
+            int length = run.codePointCount(0, run.length());
+            if (length == 1) {
+                tokens.add(run);
+                return;
+            }
+            int from = 0;
+            for (int n = 0; n < length - 1; n++) {
+                int second = run.offsetByCodePoints(from, 1);
+                tokens.add(run.substring(from, run.offsetByCodePoints(second, 1)));
+                from = second;
+            }
+            return;
+        }
+        String word = run.toLowerCase(Locale.ROOT);
+        if (STOP_WORDS.contains(word)) {
+            return;
+        }
+        if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+            word = word.substring(0, word.length() - 1);
+        }
+        tokens.add(word);
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN;
+    }
+}
@@ -0,0 +1,34 @@
+package com.roomreservation.reservation.journal;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 저널 이벤트 한 건
+ * - 날짜는 재생 속도를 위해 epoch day 정수로 보관 (checkIn()/checkOut()으로 변환)
+ * - 알 수 없는 값은 0 (예: 방을 모르는 취소)
+ *
+ * One reservation journal event
+ * - Dates are kept as epoch days for replay speed; checkIn()/checkOut() convert them
+ * - Unknown values are 0, e.g. the room of a cancellation that was not indexed
+ *
+ * @param sequence 저널 순번 (1부터 증가) / journal sequence number, increasing from 1
+ * @param type 이벤트 종류 / event type
+ * @param timestampMillis 기록 시각 (epoch ms) / time of the change in epoch milliseconds
+ * @param reservationId 예약 ID / reservation ID
+ * @param roomId 방 ID / room ID
+ * @param checkInDay 체크인 epoch day / check-in epoch day
+ * @param checkOutDay 체크아웃 epoch day / check-out epoch day
+ * @param numberOfPeople 예약 인원 수 / party size
+ * @param nightlyPrice 1박 가격 / nightly price
+ */
+public record ReservationEvent(long sequence, ReservationEventType type, long timestampMillis, long reservationId,
+                               long roomId, int checkInDay, int checkOutDay, int numberOfPeople, int nightlyPrice) {
+
+    public LocalDate checkIn() {
+        return LocalDate.ofEpochDay(checkInDay);
+    }
+
+    public LocalDate checkOut() {
+        return LocalDate.ofEpochDay(checkOutDay);
+    }
+}
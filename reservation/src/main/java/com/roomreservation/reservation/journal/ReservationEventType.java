@@ -0,0 +1,40 @@
+package com.roomreservation.reservation.journal;
+
+/**
+ * 예약 저널 이벤트 종류
+ * Kinds of reservation journal events
+ */
+public enum ReservationEventType {
+    // 예약 추가 / Reservation added
+    CREATED(1),
+    // 날짜/인원 수정 / Dates or party size changed
+    UPDATED(2),
+    // 다른 방으로 이전 (방 폐쇄, 기간/인원/가격은 그대로) / Moved to another room on decommissioning; stay, party and price unchanged
+    MOVED(3),
+    // 취소 / Cancelled
+    CANCELLED(4);
+
+    private static final ReservationEventType[] BY_CODE = {null, CREATED, UPDATED, MOVED, CANCELLED};
+
+    private final int code;
+
+    ReservationEventType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * 저널에 기록되는 1바이트 코드
+     * One-byte code stored in the journal.
+     */
+    public int code() {
+        return code;
+    }
+
+    /**
+     * 코드에 해당하는 종류, 알 수 없는 코드면 null
+     * The type of a code, or null when the code is unknown.
+     */
+    public static ReservationEventType of(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,444 @@
+package com.roomreservation.reservation.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.roomreservation.reservation.repository.DatabaseIdentityRepository;
+
+/**
+ * 추가 전용 예약 이벤트 저널 (메모리 매핑 세그먼트 파일)
+ * - 레코드는 56바이트 고정 크기: [표시 4][CRC32C 4][순번 8][시각 8][예약 ID 8][방 ID 8][체크인 4][체크아웃 4][인원 4][가격 4]
+ * - 표시(형식 버전 + 종류)를 마지막에 쓰므로 표시가 0이면 아직 쓰이지 않은 자리, CRC가 틀리면 쓰다 만 레코드
+ * - 세그먼트가 가득 차면 디스크에 강제 기록 후 다음 세그먼트로 넘어감 (파일 이름 = 첫 순번)
+ * - 시작 시 마지막 세그먼트를 훑어 쓰다 만 레코드 자리부터 이어서 기록
+ * - replay()는 세그먼트를 순서대로 읽어 CRC를 확인하며 이벤트를 전달 (JPA 없이 메모리 구조를 다시 만들 때 사용)
+ * - 한 디렉터리는 한 프로세스만 열 수 있음 (잠금 파일)
+ * - 디렉터리에 DB 식별 토큰을 기록, 다른 DB(예: 재시작한 메모리 DB)의 저널이면 기존 세그먼트를 버리고 새로 시작
+ *   (같은 예약 ID의 서로 다른 이력이 섞여 재생되지 않도록)
+ * - 커밋 후에 기록하는 record()는 실패해도 예외를 던지지 않고 저널을 손상 상태로 표시, 이후 기록을 멈추고
+ *   재생을 거절함 (빠진 이벤트가 있는 이력으로 재생하지 않도록, DB에서 다시 만들어야 함)
+ *
+ * Append-only reservation event journal in memory-mapped segment files
+ * - Fixed 56-byte records: [marker 4][CRC32C 4][sequence 8][time 8][reservation ID 8][room ID 8]
+ *   [check-in 4][check-out 4][people 4][price 4]
+ * - The marker (format version and type) is written last: a zero marker is free space, a bad CRC a torn write
+ * - A full segment is forced to disk and the next one started; segment files are named after their first sequence
+ * - On open, the last segment is scanned and appends resume where the first torn or free record is
+ * - replay() reads the segments in order, checks every CRC and hands out the events,
+ *   so in-memory structures can be rebuilt without going through JPA
+ * - Only one process may open a directory at a time (lock file)
+ * - The directory records the database identity token; a journal written for another database (such as an in-memory
+ *   database before a restart) has its segments discarded, so replay never mixes unrelated histories of the same IDs
+ * - record(), used after a commit, never throws: a failed append marks the journal degraded, which stops further
+ *   appends and refuses replay, so a history with a missing event is never replayed; it must be rebuilt from the database
+ */
+@Component
+public class ReservationJournal implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReservationJournal.class);
+
+    // 레코드 크기 (바이트) / Record size in bytes
+    static final int RECORD_BYTES = 56;
+
+    // 레코드 형식 버전 / Record format version
+    private static final int FORMAT = 1;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String IDENTITY_FILE = "journal.identity";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    // 저널이 속한 DB 식별 토큰 (null이면 확인하지 않음) / Identity of the database the journal belongs to, unchecked when null
+    private final String databaseIdentity;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final CRC32C appendChecksum = new CRC32C();
+
+    // 첫 순번 -> 세그먼트 파일 (appendLock 보호) / First sequence -> segment file, guarded by appendLock
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+
+    private FileChannel lockChannel;
+    private FileLock directoryLock;
+    private MappedByteBuffer active;
+    private int activePosition;
+
+    // 마지막으로 기록된 순번 (없으면 0) / Last sequence written, 0 when empty
+    private volatile long lastSequence;
+
+    // 기록에 실패해 이벤트가 빠진 상태 / Set once an append failed and the history has a gap
+    private volatile boolean degraded;
+
+    /**
+     * @param enabled false면 아무것도 기록하지 않음 / when false, nothing is written
+     * @param directory 세그먼트 디렉터리 / segment directory
+     * @param segmentSize 세그먼트 파일 크기, 레코드 크기 배수로 내림 / segment file size, rounded down to whole records
+     * @param identities DB 식별 토큰 저장소 / store of the database identity token
+     */
+    @Autowired
+    public ReservationJournal(@Value("${reservation.journal.enabled:true}") boolean enabled,
+                              @Value("${reservation.journal.directory:${java.io.tmpdir}/room-reservation/journal}") String directory,
+                              @Value("${reservation.journal.segment-size:67108864}") int segmentSize,
+                              DatabaseIdentityRepository identities) {
+        this(enabled, directory, segmentSize, enabled ? identities.token() : null);
+    }
+
+    private ReservationJournal(boolean enabled, String directory, int segmentSize, String databaseIdentity) {
+        this.enabled = enabled;
+        this.directory = enabled ? Paths.get(directory) : null;
+        this.segmentBytes = segmentSize / RECORD_BYTES * RECORD_BYTES;
+        this.databaseIdentity = databaseIdentity;
+        if (!enabled) {
+            return;
+        }
+        if (segmentBytes < RECORD_BYTES) {
+            throw new IllegalArgumentException("Segment size must hold at least one record.");
+        }
+        try {
+            open();
+        } catch (IOException e) {
+            release();
+            throw new UncheckedIOException("Could not open the reservation journal in " + directory, e);
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    /**
+     * 디렉터리에 저널을 엽니다. (DB 식별 토큰은 확인하지 않음)
+     * Opens a journal in the given directory without checking the database identity.
+     */
+    public static ReservationJournal open(Path directory, int segmentSize) {
+        return open(directory, segmentSize, null);
+    }
+
+    /**
+     * 주어진 DB의 저널을 디렉터리에 엽니다. 다른 DB의 저널이 있으면 버리고 새로 시작합니다.
+     * Opens the journal of the given database, discarding a journal left there by another database.
+     */
+    public static ReservationJournal open(Path directory, int segmentSize, String databaseIdentity) {
+        return new ReservationJournal(true, directory.toString(), segmentSize, databaseIdentity);
+    }
+
+    /**
+     * 아무것도 기록하지 않는 저널 (테스트/벤치마크용)
+     * A journal that records nothing, for tests and benchmarks.
+     */
+    public static ReservationJournal disabled() {
+        return new ReservationJournal(false, null, 0, (String) null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 마지막으로 기록된 순번 (없으면 0)
+     * The last sequence written, 0 when the journal is empty.
+     */
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * 이벤트 하나를 추가합니다. 모르는 방/날짜는 null로 넘기면 0으로 기록됩니다.
+     * Appends one event; an unknown room or date may be passed as null and is stored as 0.
+     *
+     * @return 부여된 순번, 비활성화 상태면 0 / the sequence assigned, or 0 when disabled
+     */
+    public long append(ReservationEventType type, Long reservationId, Long roomId, LocalDate checkIn,
+                       LocalDate checkOut, int numberOfPeople, int nightlyPrice) {
+        if (!enabled) {
+            return 0;
+        }
+        long timestamp = System.currentTimeMillis();
+        appendLock.lock();
+        try {
+            if (active == null) {
+                throw new IllegalStateException("The reservation journal is closed.");
+            }
+            if (activePosition + RECORD_BYTES > segmentBytes) {
+                roll();
+            }
+            long sequence = lastSequence + 1;
+            int p = activePosition;
+            active.putLong(p + 8, sequence);
+            active.putLong(p + 16, timestamp);
+            active.putLong(p + 24, reservationId == null ? 0 : reservationId);
+            active.putLong(p + 32, roomId == null ? 0 : roomId);
+            active.putInt(p + 40, checkIn == null ? 0 : (int) checkIn.toEpochDay());
+            active.putInt(p + 44, checkOut == null ? 0 : (int) checkOut.toEpochDay());
+            active.putInt(p + 48, numberOfPeople);
+            active.putInt(p + 52, nightlyPrice);
+            int marker = marker(type);
+            active.putInt(p + 4, checksum(appendChecksum, active, p, marker));
+            // 표시를 마지막에 써야 표시가 있는 레코드는 완성된 레코드 / The marker goes last, so a marked record is complete
+            active.putInt(p, marker);
+            activePosition = p + RECORD_BYTES;
+            lastSequence = sequence;
+            return sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll the reservation journal.", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 이미 커밋된 변경의 이벤트를 추가합니다. 실패해도 예외를 던지지 않고 로그를 남긴 뒤 저널을 손상 상태로 표시합니다.
+     * Appends the event of an already committed change. A failure is logged instead of thrown and marks the journal
+     * degraded, so the caller's write still succeeds.
+     *
+     * @return 부여된 순번, 비활성화되었거나 손상 상태면 0 / the sequence assigned, or 0 when disabled or degraded
+     */
+    public long record(ReservationEventType type, Long reservationId, Long roomId, LocalDate checkIn,
+                       LocalDate checkOut, int numberOfPeople, int nightlyPrice) {
+        if (degraded) {
+            return 0;
+        }
+        try {
+            return append(type, reservationId, roomId, checkIn, checkOut, numberOfPeople, nightlyPrice);
+        } catch (RuntimeException e) {
+            degraded = true;
+            log.error("Could not journal {} of reservation {}; the journal stops at sequence {} and must be rebuilt "
+                + "from the database before it is replayed", type, reservationId, lastSequence, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 기록에 실패해 이벤트가 빠진 상태인지 여부
+     * Whether an append failed, leaving the journal without some committed events.
+     */
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    /**
+     * fromSequence 이상인 이벤트를 순서대로 전달합니다. 호출 시점까지 기록된 이벤트만 읽습니다.
+     * Hands the events from fromSequence on to the handler, in order, up to the last one written when called.
+     *
+     * @return 전달한 이벤트 수 / number of events handed out
+     * @throws IllegalStateException 완성된 레코드의 CRC가 틀렸거나 저널이 손상 상태인 경우
+     *                               when a complete record fails its checksum or the journal is degraded
+     */
+    public long replay(long fromSequence, Consumer<ReservationEvent> handler) {
+        if (!enabled) {
+            return 0;
+        }
+        if (degraded) {
+            throw new IllegalStateException("The reservation journal is missing events. Rebuild it from the database.");
+        }
+        long endSequence;
+        List<Path> files = new ArrayList<>();
+        appendLock.lock();
+        try {
+            endSequence = lastSequence;
+            Long first = segments.floorKey(Math.max(1, fromSequence));
+            files.addAll((first == null ? segments : segments.tailMap(first, true)).values());
+        } finally {
+            appendLock.unlock();
+        }
+        CRC32C checksum = new CRC32C();
+        long replayed = 0;
+        for (Path file : files) {
+            MappedByteBuffer segment;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), segmentBytes));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read journal segment " + file, e);
+            }
+            int limit = segment.capacity() / RECORD_BYTES * RECORD_BYTES;
+            for (int p = 0; p < limit; p += RECORD_BYTES) {
+                int marker = segment.getInt(p);
+                if (marker == 0) {
+                    break;
+                }
+                long sequence = segment.getLong(p + 8);
+                if (sequence > endSequence) {
+                    return replayed;
+                }
+                if (sequence < fromSequence) {
+                    continue;
+                }
+                ReservationEventType type = ReservationEventType.of(marker & 0xFF);
+                if (type == null || marker >>> 8 != FORMAT || segment.getInt(p + 4) != checksum(checksum, segment, p, marker)) {
+                    throw new IllegalStateException("Journal checksum mismatch at sequence " + sequence + ".");
+                }
+                handler.accept(new ReservationEvent(sequence, type, segment.getLong(p + 16), segment.getLong(p + 24),
+                    segment.getLong(p + 32), segment.getInt(p + 40), segment.getInt(p + 44), segment.getInt(p + 48),
+                    segment.getInt(p + 52)));
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    /**
+     * 기록 중인 세그먼트를 디스크에 강제 기록하고 저널을 닫습니다.
+     * Forces the active segment to disk and closes the journal.
+     */
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            release();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // 매핑 강제 기록, 잠금 해제 (생성자의 실패 정리에도 사용) / Forces the mapping and releases the lock; also cleans up a failed open
+    private void release() {
+        try {
+            if (active != null) {
+                active.force();
+                active = null;
+            }
+            if (directoryLock != null) {
+                directoryLock.release();
+                directoryLock = null;
+            }
+            if (lockChannel != null) {
+                lockChannel.close();
+                lockChannel = null;
+            }
+        } catch (IOException e) {
+            log.warn("Could not close the reservation journal cleanly", e);
+        }
+    }
+
+    // 디렉터리 잠금, 세그먼트 목록, 이어 쓸 위치 복구 / Locks the directory, lists segments, finds where to resume
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        lockChannel = FileChannel.open(directory.resolve("journal.lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            directoryLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            directoryLock = null;
+        }
+        if (directoryLock == null) {
+            throw new IllegalStateException("The journal directory is in use: " + directory);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    segments.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                        name.length() - SEGMENT_SUFFIX.length())), file);
+                }
+            });
+        }
+        checkIdentity();
+        if (segments.isEmpty()) {
+            startSegment(1);
+        } else {
+            resume(segments.lastKey());
+        }
+        log.info("Reservation journal in {} holds {} segments up to sequence {}", directory, segments.size(),
+            lastSequence);
+    }
+
+    // 다른 DB의 저널(또는 식별 토큰이 없는 저널)이면 세그먼트를 버리고 토큰 기록
+    // Discards the segments of a journal written for another database (or without a token) and records the token
+    private void checkIdentity() throws IOException {
+        if (databaseIdentity == null) {
+            return;
+        }
+        Path identityFile = directory.resolve(IDENTITY_FILE);
+        String recorded = Files.exists(identityFile) ? Files.readString(identityFile).trim() : null;
+        if (databaseIdentity.equals(recorded)) {
+            return;
+        }
+        if (!segments.isEmpty()) {
+            log.warn("Reservation journal in {} belongs to another database; discarding {} segments",
+                directory, segments.size());
+            for (Path file : segments.values()) {
+                Files.delete(file);
+            }
+            segments.clear();
+        }
+        Files.writeString(identityFile, databaseIdentity);
+    }
+
+    // 마지막 세그먼트에서 완성된 마지막 레코드 다음 자리 찾기 / Finds the slot after the last complete record
+    private void resume(long firstSequence) throws IOException {
+        active = map(segments.get(firstSequence));
+        CRC32C checksum = new CRC32C();
+        long expected = firstSequence;
+        int p = 0;
+        while (p + RECORD_BYTES <= segmentBytes) {
+            int marker = active.getInt(p);
+            if (marker == 0 || active.getLong(p + 8) != expected
+                    || active.getInt(p + 4) != checksum(checksum, active, p, marker)) {
+                break;
+            }
+            expected++;
+            p += RECORD_BYTES;
+        }
+        activePosition = p;
+        lastSequence = expected - 1;
+        if (p + RECORD_BYTES <= segmentBytes && active.getInt(p) != 0) {
+            // 쓰다 만 레코드는 지워서 재생 시 끝으로 인식되게 함 / Clear a torn record so replay sees the end there
+            active.putInt(p, 0);
+            log.warn("Discarded a torn journal record after sequence {}", lastSequence);
+        }
+    }
+
+    // 현재 세그먼트를 닫고 다음 순번부터 새 세그먼트 시작 / Seals the current segment and starts the next one
+    private void roll() throws IOException {
+        active.force();
+        startSegment(lastSequence + 1);
+    }
+
+    private void startSegment(long firstSequence) throws IOException {
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        active = map(file);
+        activePosition = 0;
+        segments.put(firstSequence, file);
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지됨 / The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+    }
+
+    private static int marker(ReservationEventType type) {
+        return FORMAT << 8 | type.code();
+    }
+
+    // 레코드 본문(순번~가격)과 표시의 CRC32C / CRC32C of the record body (sequence to price) and its marker
+    private static int checksum(CRC32C checksum, ByteBuffer buffer, int position, int marker) {
+        checksum.reset();
+        checksum.update(buffer.slice(position + 8, RECORD_BYTES - 8));
+        checksum.update(marker);
+        return (int) checksum.getValue();
+    }
+}
@@ -0,0 +1,86 @@
+package com.roomreservation.reservation.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * SQL 실행 횟수와 JDBC 시간을 세는 DataSource 래퍼
+ * - Connection과 Statement를 프록시로 감싸 execute* 호출만 측정하고 나머지는 그대로 위임
+ *
+ * DataSource wrapper that counts SQL executions and JDBC time
+ * - Wraps connections and statements in proxies that time execute* calls and delegate everything else
+ */
+public class AccountingDataSource extends DelegatingDataSource {
+
+    public AccountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(AccountingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> wrapStatement(result, PreparedStatement.class);
+                case "prepareCall" -> wrapStatement(result, CallableStatement.class);
+                case "createStatement" -> wrapStatement(result, Statement.class);
+                default -> result;
+            };
+        }
+    }
+
+    private static Object wrapStatement(Object statement, Class<?> type) {
+        return Proxy.newProxyInstance(AccountingDataSource.class.getClassLoader(),
+            new Class<?>[] {type}, new StatementHandler(statement));
+    }
+
+    private record StatementHandler(Object target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                SqlStatementCounter.record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    // 리플렉션 호출의 원래 예외를 그대로 던짐 / Rethrows the original exception of a reflective call
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
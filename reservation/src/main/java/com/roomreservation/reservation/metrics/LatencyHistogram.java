@@ -0,0 +1,98 @@
+package com.roomreservation.reservation.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 로그-선형 지연 시간 히스토그램 (나노초)
+ * - 2의 거듭제곱 구간마다 16개의 하위 구간을 두어 백분위 오차가 약 6% 이내
+ * - 기록은 배열 원소 하나 증가 + 합계/최댓값 갱신뿐이라 운영 환경에서 상시 사용 가능
+ * - 약 18분(2^40 ns)을 넘는 값은 마지막 구간에 기록
+ *
+ * Lock-free log-linear latency histogram in nanoseconds
+ * - Each power-of-two range is split into 16 sub-buckets, so percentiles are within about 6%
+ * - Recording is one array increment plus sum/max updates, cheap enough to leave on in production
+ * - Values beyond about 18 minutes (2^40 ns) land in the last bucket
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 지연 시간 하나를 기록합니다.
+     * Records one latency.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(indexOf(value));
+        sum.add(value);
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * 현재 값으로 요약을 만듭니다.
+     * Summarizes the recorded values.
+     */
+    public Summary summarize() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        return new Summary(count, count == 0 ? 0 : sum.sum() / count,
+            percentile(counts, count, 0.50), percentile(counts, count, 0.95), percentile(counts, count, 0.99),
+            percentile(counts, count, 0.999), max.get());
+    }
+
+    // 백분위가 속한 구간의 상한 / Upper bound of the bucket holding the percentile
+    private static long percentile(long[] counts, long count, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * count);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(counts.length - 1);
+    }
+
+    static int indexOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = Math.min(MAX_EXPONENT, 63 - Long.numberOfLeadingZeros(nanos));
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) Math.min(SUB_BUCKETS - 1, (nanos >>> shift) - SUB_BUCKETS);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * 히스토그램 요약 (나노초) / Histogram summary in nanoseconds
+     */
+    public record Summary(long count, long mean, long p50, long p95, long p99, long p999, long max) {
+    }
+}
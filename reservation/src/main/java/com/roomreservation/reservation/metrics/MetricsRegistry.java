@@ -0,0 +1,82 @@
+package com.roomreservation.reservation.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.roomreservation.reservation.dto.MetricsSnapshot;
+
+/**
+ * 프로세스 내 메트릭 저장소 (타이머 + 카운터)
+ * - 외부 수집기 없이 /api/metrics 로 바로 조회
+ *
+ * In-process metrics registry of timers and counters
+ * - Read directly through /api/metrics, no external collector needed
+ */
+@Component
+public class MetricsRegistry {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 이름에 해당하는 타이머를 반환합니다. 없으면 만듭니다.
+     * Returns the timer with the given name, creating it on first use.
+     */
+    public LatencyHistogram timer(String name) {
+        LatencyHistogram timer = timers.get(name);
+        return timer != null ? timer : timers.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * 이름에 해당하는 카운터를 1 증가시킵니다.
+     * Increments the counter with the given name.
+     */
+    public void increment(String name) {
+        LongAdder counter = counters.get(name);
+        (counter != null ? counter : counters.computeIfAbsent(name, key -> new LongAdder())).increment();
+    }
+
+    /**
+     * 이름에 해당하는 카운터에 amount를 더합니다.
+     * Adds amount to the counter with the given name.
+     */
+    public void add(String name, long amount) {
+        LongAdder counter = counters.get(name);
+        (counter != null ? counter : counters.computeIfAbsent(name, key -> new LongAdder())).add(amount);
+    }
+
+    /**
+     * 카운터의 현재 값 (없으면 0)
+     * Current value of a counter, 0 if it was never incremented.
+     */
+    public long count(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * 모든 타이머와 카운터의 현재 값을 이름 순으로 반환합니다. (시간 단위: 밀리초)
+     * Returns every timer and counter sorted by name, with times in milliseconds.
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, MetricsSnapshot.Timer> timerSnapshots = new TreeMap<>();
+        timers.forEach((name, timer) -> {
+            LatencyHistogram.Summary summary = timer.summarize();
+            timerSnapshots.put(name, new MetricsSnapshot.Timer(summary.count(), millis(summary.mean()),
+                millis(summary.p50()), millis(summary.p95()), millis(summary.p99()), millis(summary.p999()),
+                millis(summary.max())));
+        });
+        Map<String, Long> counterSnapshots = new TreeMap<>();
+        counters.forEach((name, counter) -> counterSnapshots.put(name, counter.sum()));
+        return new MetricsSnapshot(timerSnapshots, counterSnapshots);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,103 @@
+package com.roomreservation.reservation.metrics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 메서드와 저장소 호출의 지연 시간 및 오류 계측
+ * - 타이머 이름: service.{클래스}.{메서드}, repository.{저장소}.{메서드}
+ * - 서비스 호출마다 실행된 SQL 수와 JDBC 시간도 기록: 카운터 sql.statements.service.*, 타이머 sql.time.service.*
+ *   (안쪽 서비스 호출의 SQL은 바깥 호출에도 포함됨)
+ * - 서비스에서 IllegalArgumentException이 나면 메시지로 "없음"(not_found)과 "검증 실패"(validation)를 구분해 카운트
+ * - reservation.metrics.enabled=false 로 끌 수 있음
+ *
+ * Latency and error instrumentation of service methods and repository calls
+ * - Timer names: service.{class}.{method} and repository.{repository}.{method}
+ * - Also records the SQL statements and JDBC time of each service call: counters sql.statements.service.*
+ *   and timers sql.time.service.* (SQL of nested service calls is included in the outer call)
+ * - IllegalArgumentExceptions thrown by services are counted as not_found or validation, by message
+ * - Can be turned off with reservation.metrics.enabled=false
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "reservation.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ServiceMetricsAspect {
+    private final MetricsRegistry metricsRegistry;
+
+    // (대상 클래스, 메서드) -> 타이머 이름, 호출마다 이름 문자열을 만들지 않도록 캐시
+    // (target class, method) -> timer name, cached so names are not rebuilt on every call
+    private final Map<TimerKey, String> timerNames = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Around("execution(public * com.roomreservation.reservation.service.*Impl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = timerName("service", joinPoint);
+        SqlStatementCounter.Snapshot sqlStart = SqlStatementCounter.current();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (IllegalArgumentException e) {
+            String kind = isNotFound(e) ? "not_found" : "validation";
+            metricsRegistry.increment("errors." + kind);
+            metricsRegistry.increment("errors." + kind + "." + name);
+            throw e;
+        } finally {
+            metricsRegistry.timer(name).record(System.nanoTime() - start);
+            SqlStatementCounter.Snapshot sql = sqlStart.since();
+            if (sql.statements() > 0) {
+                metricsRegistry.add("sql.statements." + name, sql.statements());
+                metricsRegistry.timer("sql.time." + name).record(sql.jdbcNanos());
+            }
+        }
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = timerName("repository", joinPoint);
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            metricsRegistry.timer(name).record(System.nanoTime() - start);
+        }
+    }
+
+    // 없는 ID/이메일 조회 실패인지 메시지로 판단 / Whether the message reports a missing ID or email
+    static boolean isNotFound(IllegalArgumentException e) {
+        String message = e.getMessage() == null ? "" : e.getMessage().toLowerCase(Locale.ROOT);
+        return message.contains("not found") || message.contains("not exist");
+    }
+
+    private String timerName(String layer, ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        return timerNames.computeIfAbsent(new TimerKey(targetClass, method),
+            key -> layer + "." + componentName(joinPoint.getTarget()) + "." + method.getName());
+    }
+
+    // 저장소는 프록시이므로 사용자 인터페이스 이름을 사용 / Repositories are proxies, so use their user interface
+    private static String componentName(Object target) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(target);
+        if (interfaces.length > 0 && Proxy.isProxyClass(target.getClass())) {
+            return interfaces[0].getSimpleName();
+        }
+        return AopProxyUtils.ultimateTargetClass(target).getSimpleName();
+    }
+
+    private record TimerKey(Class<?> targetClass, Method method) {
+    }
+}
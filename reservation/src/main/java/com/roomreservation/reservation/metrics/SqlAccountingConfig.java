@@ -0,0 +1,44 @@
+package com.roomreservation.reservation.metrics;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 실행 집계 설정 (reservation.sql-accounting.enabled=false 로 끌 수 있음)
+ * - 애플리케이션 DataSource를 AccountingDataSource로 감싸고, /api/* 요청마다 SqlAccountingFilter로 기록
+ *
+ * SQL accounting setup, can be turned off with reservation.sql-accounting.enabled=false
+ * - Wraps the application DataSource in an AccountingDataSource and records each /api/* request with SqlAccountingFilter
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "reservation.sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingConfig {
+
+    @Bean
+    public static BeanPostProcessor accountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AccountingDataSource)) {
+                    return new AccountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlAccountingFilter> sqlAccountingFilter(
+            @Value("${reservation.sql-accounting.warn-statements:20}") long warnStatements) {
+        FilterRegistrationBean<SqlAccountingFilter> registration =
+            new FilterRegistrationBean<>(new SqlAccountingFilter(warnStatements));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,60 @@
+package com.roomreservation.reservation.metrics;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 실행된 SQL 수와 JDBC 시간을 기록하는 필터
+ * - 시작 시점 값을 요청 속성에 두고, 끝나면 차이를 로그로 남김 (기본 DEBUG, 기준을 넘으면 WARN)
+ * - 응답 헤더는 본문을 쓰기 전에 SqlAccountingResponseAdvice가 붙임 (필터가 끝날 때는 이미 응답이 커밋됨)
+ * - 요청 스레드에서 실행된 SQL만 셈 (비동기 처리 스레드의 SQL은 서비스별 메트릭에만 잡힘)
+ *
+ * Records the SQL statements and JDBC time of each request
+ * - Stores the starting totals as a request attribute and logs the difference at the end
+ *   (DEBUG normally, WARN above the threshold)
+ * - Response headers are added by SqlAccountingResponseAdvice before the body is written,
+ *   because the response is already committed when this filter finishes
+ * - Counts only SQL run on the request thread; SQL on async worker threads shows up in the per-service metrics
+ */
+public class SqlAccountingFilter extends OncePerRequestFilter {
+    static final String START_ATTRIBUTE = SqlAccountingFilter.class.getName() + ".start";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlAccountingFilter.class);
+
+    private final long warnStatements;
+
+    /**
+     * @param warnStatements 이 수를 넘으면 WARN으로 기록 / log at WARN above this many statements
+     */
+    public SqlAccountingFilter(long warnStatements) {
+        this.warnStatements = warnStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Snapshot start = SqlStatementCounter.current();
+        request.setAttribute(START_ATTRIBUTE, start);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.Snapshot used = start.since();
+            if (used.statements() > warnStatements) {
+                log.warn("{} {}: {} SQL statements, {} ms JDBC", request.getMethod(), request.getRequestURI(),
+                    used.statements(), String.format(Locale.ROOT, "%.2f", used.jdbcMillis()));
+            } else if (log.isDebugEnabled()) {
+                log.debug("{} {}: {} SQL statements, {} ms JDBC", request.getMethod(), request.getRequestURI(),
+                    used.statements(), String.format(Locale.ROOT, "%.2f", used.jdbcMillis()));
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.roomreservation.reservation.metrics;
+
+import java.util.Locale;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 응답 본문을 쓰기 직전에 요청의 SQL 실행 수와 JDBC 시간을 헤더로 붙임
+ * - X-Sql-Statements: 실행한 SQL 수, X-Sql-Time-Ms: JDBC 실행 시간 합계
+ * - 비동기 재디스패치는 다른 스레드이므로 헤더를 붙이지 않음
+ *
+ * Adds the request's SQL statement count and JDBC time as headers right before the body is written
+ * - X-Sql-Statements: statements executed, X-Sql-Time-Ms: total JDBC execution time
+ * - Async re-dispatches run on another thread, so they get no headers
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "reservation.sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingResponseAdvice implements ResponseBodyAdvice<Object> {
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            if (httpRequest.getDispatcherType() != DispatcherType.ASYNC
+                    && httpRequest.getAttribute(SqlAccountingFilter.START_ATTRIBUTE)
+                        instanceof SqlStatementCounter.Snapshot start) {
+                SqlStatementCounter.Snapshot used = start.since();
+                response.getHeaders().set(STATEMENTS_HEADER, Long.toString(used.statements()));
+                response.getHeaders().set(TIME_HEADER, String.format(Locale.ROOT, "%.3f", used.jdbcMillis()));
+            }
+        }
+        return body;
+    }
+}
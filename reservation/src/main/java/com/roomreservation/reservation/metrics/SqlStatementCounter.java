@@ -0,0 +1,54 @@
+package com.roomreservation.reservation.metrics;
+
+/**
+ * 스레드별 SQL 실행 횟수와 JDBC 시간 누적기
+ * - AccountingDataSource가 실행마다 기록하고, 요청/서비스 호출 단위 값은 시작과 끝의 차이로 계산
+ * - executeBatch 한 번은 DB 왕복 한 번이므로 1회로 셈
+ *
+ * Per-thread running totals of SQL executions and JDBC time
+ * - AccountingDataSource records every execution; per-request and per-call figures are end-minus-start differences
+ * - One executeBatch is one database round trip, so it counts once
+ */
+public final class SqlStatementCounter {
+    private static final ThreadLocal<long[]> TOTALS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private SqlStatementCounter() {
+    }
+
+    static void record(long nanos) {
+        long[] totals = TOTALS.get();
+        totals[0]++;
+        totals[1] += nanos;
+    }
+
+    /**
+     * 현재 스레드의 누적 값
+     * Running totals of the current thread.
+     */
+    public static Snapshot current() {
+        long[] totals = TOTALS.get();
+        return new Snapshot(totals[0], totals[1]);
+    }
+
+    /**
+     * 누적 값 스냅샷 / Snapshot of the running totals
+     *
+     * @param statements 실행한 SQL 수 / SQL executions
+     * @param jdbcNanos JDBC 실행 시간 합계 / total time spent in JDBC executions
+     */
+    public record Snapshot(long statements, long jdbcNanos) {
+
+        /**
+         * 이 스냅샷 이후 실행된 양
+         * What has run since this snapshot.
+         */
+        public Snapshot since() {
+            Snapshot now = current();
+            return new Snapshot(now.statements - statements, now.jdbcNanos - jdbcNanos);
+        }
+
+        public double jdbcMillis() {
+            return jdbcNanos / 1_000_000.0;
+        }
+    }
+}
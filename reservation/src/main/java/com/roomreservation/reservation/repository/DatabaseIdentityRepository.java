@@ -0,0 +1,29 @@
+package com.roomreservation.reservation.repository;
+
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.roomreservation.reservation.domain.DatabaseIdentity;
+
+/**
+ * DatabaseIdentity 엔티티에 대한 JPA Repository 인터페이스
+ * JPA Repository interface for DatabaseIdentity entity
+ */
+public interface DatabaseIdentityRepository extends JpaRepository<DatabaseIdentity, Long> {
+
+    /**
+     * DB 식별 토큰을 반환합니다. 없으면 만들어 저장합니다. (동시에 만들면 먼저 저장된 토큰 사용)
+     * Returns the database identity token, creating it on first use; when created concurrently the first one stored wins.
+     */
+    default String token() {
+        return findById(DatabaseIdentity.SINGLETON_ID).map(DatabaseIdentity::getToken).orElseGet(() -> {
+            try {
+                return save(new DatabaseIdentity(UUID.randomUUID().toString())).getToken();
+            } catch (DataIntegrityViolationException e) {
+                return findById(DatabaseIdentity.SINGLETON_ID).orElseThrow().getToken();
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.roomreservation.reservation.repository;
+
+/**
+ * ReservationRepository에 붙는 JDBC 배치 작업 (Spring Data 사용자 정의 조각)
+ * JDBC batch operations mixed into ReservationRepository as a Spring Data custom fragment
+ */
+public interface ReservationBatchOperations {
+
+    /**
+     * 예약들을 각각 지정한 방으로 옮깁니다. UPDATE 문을 JDBC 배치 한 번으로 전송 (호출자의 트랜잭션 안에서 사용)
+     * - 버전이 읽었을 때와 같은 행만 옮김 (그 사이 수정/취소된 예약은 0)
+     *
+     * Moves each reservation to its given room, sending the UPDATEs as one JDBC batch (use inside the caller's transaction)
+     * - Only rows still at the version that was read are moved; reservations edited or cancelled since report 0
+     *
+     * @param reservationIds 예약 ID / reservation IDs
+     * @param versions 같은 위치의 예약을 읽었을 때의 버전 / version each reservation was read at, by position
+     * @param roomIds 같은 위치의 예약이 옮겨갈 방 ID / room ID each reservation moves to, by position
+     * @return 같은 위치의 예약마다 변경된 행 수 (0 또는 1) / rows updated for each reservation, by position (0 or 1)
+     */
+    int[] moveReservations(long[] reservationIds, long[] versions, long[] roomIds);
+}
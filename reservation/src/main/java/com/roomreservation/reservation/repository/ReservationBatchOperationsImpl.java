@@ -0,0 +1,52 @@
+package com.roomreservation.reservation.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * ReservationBatchOperations 구현 (JdbcTemplate 배치)
+ * - JPA 트랜잭션이 묶어 둔 같은 연결을 사용하므로 호출자의 트랜잭션에 참여함
+ * - 엔티티를 읽지 않으므로 버전 확인과 증가는 SQL에서 직접 수행 (@Version과 같은 낙관적 잠금)
+ *
+ * ReservationBatchOperations backed by JdbcTemplate batches
+ * - Runs on the connection bound by the JPA transaction, so it joins the caller's transaction
+ * - Entities are never loaded, so the version is checked and bumped in SQL, the same optimistic lock as @Version
+ */
+class ReservationBatchOperationsImpl implements ReservationBatchOperations {
+    private static final String MOVE_SQL =
+        "update reservation set room_id = ?, version = version + 1 where id = ? and version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ReservationBatchOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int[] moveReservations(long[] reservationIds, long[] versions, long[] roomIds) {
+        if (reservationIds.length != roomIds.length || reservationIds.length != versions.length) {
+            throw new IllegalArgumentException("Each reservation needs a target room.");
+        }
+        int[] counts = jdbcTemplate.batchUpdate(MOVE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                statement.setLong(1, roomIds[i]);
+                statement.setLong(2, reservationIds[i]);
+                statement.setLong(3, versions[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return reservationIds.length;
+            }
+        });
+        for (int i = 0; i < counts.length; i++) {
+            // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2)를 돌려줌 / Drivers report SUCCESS_NO_INFO (-2) when the count is unknown
+            counts[i] = counts[i] < 0 ? 1 : counts[i];
+        }
+        return counts;
+    }
+}
@@ -1,8 +1,28 @@
 package com.roomreservation.reservation.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.dto.ReservationExport;
+import com.roomreservation.reservation.dto.ReservationFact;
+import com.roomreservation.reservation.dto.ReservationPlacement;
+import com.roomreservation.reservation.dto.ReservationStay;
+import com.roomreservation.reservation.dto.ReservationSummary;
+import com.roomreservation.reservation.dto.RowVersion;
 
 /**
  * Reservation 엔티티에 대한 JPA Repository 인터페이스
@@ -13,6 +33,139 @@ import com.roomreservation.reservation.domain.Reservation;
  * - Provides basic CRUD operations (Create, Read, Update, Delete)
  * - Implementation is auto-generated by extending JpaRepository
  */
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
-    
-}
\ No newline at end of file
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationBatchOperations {
+
+    // ID 커서 다음부터 limit 건을 사용자/방 조인 한 번으로 요약 조회 (keyset 페이지)
+    // Next keyset page after the ID cursor, projected with the user and room joined in one statement
+    @Query("""
+        select new com.roomreservation.reservation.dto.ReservationSummary(
+            r.id, u.id, u.name, rm.id, rm.name, r.checkInDate, r.checkOutDate, r.numberOfPeople, r.isApproved)
+        from Reservation r
+        left join r.user u
+        left join r.room rm
+        where r.id > :after
+        order by r.id
+        """)
+    List<ReservationSummary> findSummariesAfter(@Param("after") Long after, Limit limit);
+
+    // 전체 예약을 내보내기 레코드로 JDBC fetch size 단위로 흘려보내며 조회 (읽기 전용 트랜잭션 안에서 사용, 사용 후 close 필요)
+    // Streams every reservation as an export record in JDBC fetch-size chunks (use inside a read-only transaction and close it)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        select new com.roomreservation.reservation.dto.ReservationExport(
+            r.id, u.id, u.name, rm.id, rm.name, r.checkInDate, r.checkOutDate, r.numberOfPeople, r.isApproved,
+            r.bookedAt, r.nightlyPrice, r.version)
+        from Reservation r
+        left join r.user u
+        left join r.room rm
+        order by r.id
+        """)
+    Stream<ReservationExport> streamAllForExport();
+
+    // 승인 여부를 UPDATE 한 번으로 변경, 이미 같은 상태인 예약은 건너뜀 (버전도 올려 낙관적 잠금 유지)
+    // Sets the approval flag with one UPDATE, skipping rows already in that state (bumps the version for optimistic locking)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update Reservation r
+        set r.isApproved = :approved, r.version = r.version + 1
+        where r.id in :ids and r.isApproved <> :approved
+        """)
+    int updateApprovalByIds(@Param("ids") Collection<Long> ids, @Param("approved") boolean approved);
+
+    // 체크인 날짜가 [from, to) 인 예약의 승인 여부를 UPDATE 한 번으로 변경
+    // Sets the approval flag of reservations checking in within [from, to) with one UPDATE
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update Reservation r
+        set r.isApproved = :approved, r.version = r.version + 1
+        where r.checkInDate >= :from and r.checkInDate < :to and r.isApproved <> :approved
+        """)
+    int updateApprovalByCheckIn(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                @Param("approved") boolean approved);
+
+    // 한 방에서 체크인 날짜가 [from, to) 인 예약의 승인 여부를 변경 (방/날짜 인덱스 사용)
+    // Same as above for one room, served by the room/date index
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update Reservation r
+        set r.isApproved = :approved, r.version = r.version + 1
+        where r.room.id = :roomId and r.checkInDate >= :from and r.checkInDate < :to and r.isApproved <> :approved
+        """)
+    int updateApprovalByRoomAndCheckIn(@Param("roomId") Long roomId, @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to, @Param("approved") boolean approved);
+
+    // 예약을 읽지 않고 DELETE 한 번으로 삭제, 삭제된 행 수 반환 (호출 자체가 한 트랜잭션)
+    // Deletes a reservation with one DELETE without loading it and returns the rows deleted (its own transaction)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Reservation r where r.id = :id")
+    int deleteReservationById(@Param("id") Long id);
+
+    // 한 방에서 [from, to) 와 겹치는 예약 ID (ID 순)
+    // IDs of the room's reservations overlapping [from, to), in ID order
+    @Query("""
+        select r.id from Reservation r
+        where r.room.id = :roomId and r.checkInDate < :to and r.checkOutDate > :from
+        order by r.id
+        """)
+    List<Long> findIdsOverlapping(@Param("roomId") Long roomId, @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+
+    // ID 목록의 예약을 DELETE 한 번으로 삭제 / Deletes the listed reservations with one DELETE
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Reservation r where r.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 한 방의 예약 위치(버전 포함)를 ID 순으로 limit 건 조회 (방 폐쇄 시 남은 예약을 묶음으로 처리)
+    // First limit placements, with versions, of one room's reservations in ID order (drains a room in chunks when decommissioning)
+    @Query("""
+        select new com.roomreservation.reservation.dto.ReservationPlacement(
+            r.id, r.version, r.checkInDate, r.checkOutDate, r.numberOfPeople)
+        from Reservation r
+        where r.room.id = :roomId
+        order by r.id
+        """)
+    List<ReservationPlacement> findPlacementsByRoom(@Param("roomId") Long roomId, Limit limit);
+
+    // 방에 남은 예약 수 / Number of reservations left in a room
+    long countByRoomId(Long roomId);
+
+    // ID 커서 다음 예약들의 ID와 버전 (keyset 페이지, 스냅샷 복원용) / IDs and versions after the cursor, for snapshot restores
+    @Query("""
+        select new com.roomreservation.reservation.dto.RowVersion(r.id, r.version)
+        from Reservation r
+        where r.id > :after
+        order by r.id
+        """)
+    List<RowVersion> findRowVersionsAfter(@Param("after") long after, Limit limit);
+
+    // 가장 작은/큰 예약 ID (예약이 없으면 null) / Smallest and largest reservation ID, null when there are none
+    @Query("select min(r.id) from Reservation r")
+    Long findMinId();
+
+    @Query("select max(r.id) from Reservation r")
+    Long findMaxId();
+
+    // ID 구간 (from, to] 의 예약을 예약 시점 요금(이전 데이터는 방 가격)과 함께 조회 (집계 재구축용)
+    // Reservations in the ID range (from, to] with their booked price, or the room price for older rows
+    @Query("""
+        select new com.roomreservation.reservation.dto.ReservationStay(
+            r.id, rm.id, r.checkInDate, r.checkOutDate, coalesce(r.nightlyPrice, rm.price))
+        from Reservation r
+        join r.room rm
+        where r.id > :from and r.id <= :to
+        """)
+    List<ReservationStay> findStaysInIdRange(@Param("from") long from, @Param("to") long to);
+
+    // ID 구간 (from, to] 중 체크인이 [checkInFrom, checkInTo) 인 예약 (분석용) / Reservations in the ID range checking in within the window
+    @Query("""
+        select new com.roomreservation.reservation.dto.ReservationFact(
+            r.id, r.room.id, r.checkInDate, r.numberOfPeople, r.bookedAt)
+        from Reservation r
+        where r.id > :from and r.id <= :to
+          and r.checkInDate >= :checkInFrom and r.checkInDate < :checkInTo
+        """)
+    List<ReservationFact> findFactsInIdRange(@Param("from") long from, @Param("to") long to,
+                                             @Param("checkInFrom") LocalDate checkInFrom,
+                                             @Param("checkInTo") LocalDate checkInTo);
+}
@@ -0,0 +1,25 @@
+package com.roomreservation.reservation.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.roomreservation.reservation.domain.RoomRate;
+
+/**
+ * RoomRate 엔티티에 대한 JPA Repository 인터페이스
+ * JPA Repository interface for RoomRate entity
+ */
+public interface RoomRateRepository extends JpaRepository<RoomRate, Long> {
+
+    // 방의 요금 규칙 (적용 순서: 우선순위, ID 오름차순) / A room's rate rules in application order: priority, then ID
+    @Query("select r from RoomRate r where r.room.id = :roomId order by r.priority, r.id")
+    List<RoomRate> findByRoomId(@Param("roomId") Long roomId);
+
+    // 여러 방의 요금 규칙을 한 번에 조회 (적용 순서) / Rate rules of several rooms in one query, in application order
+    @Query("select r from RoomRate r where r.room.id in :roomIds order by r.priority, r.id")
+    List<RoomRate> findByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+}
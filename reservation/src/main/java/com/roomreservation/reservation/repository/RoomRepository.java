@@ -1,8 +1,23 @@
 package com.roomreservation.reservation.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.RoomCapacity;
+import com.roomreservation.reservation.dto.RowVersion;
 
 /**
  * Room 엔티티에 대한 JPA Repository 인터페이스
@@ -14,5 +29,69 @@ import com.roomreservation.reservation.domain.Room;
  * - Implementation is auto-generated by extending JpaRepository
  */
 public interface RoomRepository extends JpaRepository<Room, Long> {
-    
-}
\ No newline at end of file
+
+    // ID 커서 다음부터 limit 건 조회 (keyset 페이지) / Next page after the ID cursor (keyset pagination)
+    List<Room> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // ID 커서 다음 방들의 ID와 버전 (keyset 페이지, 스냅샷 복원용) / IDs and versions after the cursor, for snapshot restores
+    @Query("""
+        select new com.roomreservation.reservation.dto.RowVersion(r.id, r.version)
+        from Room r
+        where r.id > :after
+        order by r.id
+        """)
+    List<RowVersion> findRowVersionsAfter(@Param("after") long after, Limit limit);
+
+    // 수용 인원이 충분한 방 조회 / Rooms that can hold at least the given number of people
+    List<Room> findByMaxPeopleGreaterThanEqual(int numberOfPeople);
+
+    // 가격 범위와 수용 인원 조건으로 정렬해 limit 건 조회 (idx_room_price, idx_room_max_people 사용)
+    // Rooms within a price range that hold enough people, sorted, limit rows (uses idx_room_price, idx_room_max_people)
+    List<Room> findByPriceBetweenAndMaxPeopleGreaterThanEqual(int minPrice, int maxPrice, int numberOfPeople,
+                                                               Sort sort, Limit limit);
+
+    // 이름이나 설명에 검색어가 들어간 방 (검색 인덱스 적재 전에만 사용, 전체 스캔)
+    // Rooms whose name or description contains the text; full scan, used only before the search index is loaded
+    List<Room> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String name, String description,
+                                                                               Limit limit);
+
+    // 수용 인원이 충분하고 기간 내 겹치는 예약이 없는 방 조회 / Rooms with enough capacity and no overlapping reservation
+    @Query("""
+        select r from Room r
+        where r.maxPeople >= :numberOfPeople
+          and not exists (
+            select res.id from Reservation res
+            where res.room = r
+              and res.checkInDate < :checkOut
+              and res.checkOutDate > :checkIn)
+        """)
+    List<Room> findAvailableRooms(@Param("checkIn") LocalDate checkIn,
+                                  @Param("checkOut") LocalDate checkOut,
+                                  @Param("numberOfPeople") int numberOfPeople);
+
+    // 주어진 방을 뺀 모든 방의 수용 인원 (인원 오름차순) / Capacities of every other room, smallest first
+    @Query("""
+        select new com.roomreservation.reservation.dto.RoomCapacity(r.id, r.maxPeople)
+        from Room r
+        where r.id <> :roomId
+        order by r.maxPeople, r.id
+        """)
+    List<RoomCapacity> findCapacitiesExcept(@Param("roomId") Long roomId);
+
+    // 예약 트랜잭션 안에서 방을 읽고 커밋 시 버전을 올림, 그 사이 다른 트랜잭션이 올렸으면 커밋이 낙관적 잠금 오류로 실패
+    // Reads the rooms inside a booking transaction and bumps their versions on commit;
+    // if another transaction bumped one in between, the commit fails with an optimistic locking error
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select r from Room r where r.id in :ids")
+    List<Room> lockForBooking(@Param("ids") Collection<Long> ids);
+
+    // 참조하는 예약이 없을 때만 방을 삭제 (확인과 삭제가 한 문장) / Deletes the room only if no reservation references it, in one statement
+    @Transactional
+    @Modifying
+    @Query("""
+        delete from Room r
+        where r.id = :id
+          and not exists (select res.id from Reservation res where res.room.id = :id)
+        """)
+    int deleteIfUnreferenced(@Param("id") Long id);
+}
@@ -1,7 +1,9 @@
 package com.roomreservation.reservation.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.roomreservation.reservation.domain.User;
@@ -17,4 +19,7 @@ import com.roomreservation.reservation.domain.User;
  */
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // ID 커서 다음부터 limit 건 조회 (keyset 페이지) / Next page after the ID cursor (keyset pagination)
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
\ No newline at end of file
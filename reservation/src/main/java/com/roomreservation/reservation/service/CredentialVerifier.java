@@ -0,0 +1,63 @@
+package com.roomreservation.reservation.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 검증 전용 스레드 풀
+ * - 해시 검증은 CPU를 많이 쓰므로 요청 스레드(Tomcat)가 아닌 CPU 코어 수만큼의 전용 스레드에서 실행
+ * - 대기열이 가득 차면 즉시 거절 (로그인 폭주가 다른 API의 요청 스레드를 잡아먹지 않도록)
+ *
+ * Dedicated thread pool for password verification
+ * - Hash checks are CPU-heavy, so they run on CPU-sized dedicated threads instead of Tomcat request threads
+ * - When the queue is full, new checks are rejected at once, so a login storm cannot starve other endpoints
+ */
+@Component
+public class CredentialVerifier implements AutoCloseable {
+    private final PasswordHasher passwordHasher;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param threads 검증 스레드 수, 0 이하면 CPU 코어 수 / verification threads, 0 or less for the CPU count
+     * @param queueCapacity 대기 가능한 검증 수 / number of checks allowed to wait
+     */
+    public CredentialVerifier(PasswordHasher passwordHasher,
+                              @Value("${reservation.login.threads:0}") int threads,
+                              @Value("${reservation.login.queue-capacity:64}") int queueCapacity) {
+        this.passwordHasher = passwordHasher;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "credential-verifier-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 비밀번호 검증을 전용 스레드 풀에 맡깁니다. 대기열이 가득 차면 IllegalStateException으로 완료됩니다.
+     * Verifies a password on the dedicated pool. Completes with IllegalStateException when the queue is full.
+     *
+     * @return 일치 여부 / whether the password matches
+     */
+    public CompletableFuture<Boolean> verify(String password, String stored) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordHasher.matches(password, stored), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Too many login attempts. Try again later."));
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,87 @@
+package com.roomreservation.reservation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * PBKDF2(HMAC-SHA256) 비밀번호 해시
+ * - 저장 형식: pbkdf2$반복횟수$솔트$해시 (Base64), 반복 횟수를 함께 저장하므로 비용을 바꿔도 기존 해시를 검증할 수 있음
+ * - 해시 형식이 아닌 기존 평문 비밀번호는 상수 시간 비교로 검증
+ *
+ * PBKDF2 (HMAC-SHA256) password hashing
+ * - Stored as pbkdf2$iterations$salt$hash (Base64); the iteration count travels with the hash, so the cost can change
+ *   without breaking existing hashes
+ * - Legacy plain-text passwords that are not in this format are checked with a constant-time comparison
+ */
+@Component
+public class PasswordHasher {
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2$";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private final int iterations;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * @param iterations 반복 횟수 (비용), 클수록 느리고 안전 / iteration count (cost); higher is slower and stronger
+     */
+    public PasswordHasher(@Value("${reservation.password.iterations:100000}") int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be positive.");
+        }
+        this.iterations = iterations;
+    }
+
+    /**
+     * 비밀번호를 새 솔트로 해시합니다.
+     * Hashes a password with a fresh salt.
+     */
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        Base64.Encoder encoder = Base64.getEncoder();
+        return PREFIX + iterations + "$" + encoder.encodeToString(salt) + "$"
+            + encoder.encodeToString(pbkdf2(password, salt, iterations));
+    }
+
+    /**
+     * 비밀번호가 저장된 값과 일치하는지 확인합니다.
+     * Checks a password against a stored value.
+     */
+    public boolean matches(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        }
+        if (!stored.startsWith(PREFIX)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+        Base64.Decoder decoder = Base64.getDecoder();
+        byte[] expected = decoder.decode(parts[3]);
+        return MessageDigest.isEqual(expected, pbkdf2(password, decoder.decode(parts[2]), Integer.parseInt(parts[1])));
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("PBKDF2 is not available.", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
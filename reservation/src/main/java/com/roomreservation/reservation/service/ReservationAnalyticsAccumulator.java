@@ -0,0 +1,182 @@
+package com.roomreservation.reservation.service;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.roomreservation.reservation.dto.ReservationAnalyticsReport;
+import com.roomreservation.reservation.dto.ReservationFact;
+
+/**
+ * 예약 분석 부분 집계 (ID 구간 하나 또는 합쳐진 여러 구간)
+ * - 방별 인원 합계는 방 ID를 키로 하는 개방 주소법 해시 (long[]/int[] 배열, 박싱 없음)
+ * - 리드 타임은 일 단위 히스토그램 long[] (MAX_LEAD_DAYS 이상은 마지막 칸)
+ * - 스레드 하나만 채우고, 합칠 때는 merge()로 다른 집계를 더함
+ *
+ * Partial analytics of one ID-range partition, or of several merged ones
+ * - Party totals per room live in an open-addressing hash keyed by room ID (long[]/int[] arrays, no boxing)
+ * - Lead time is a per-day histogram in a long[] (MAX_LEAD_DAYS or more share the last bucket)
+ * - Filled by a single thread; partitions are combined with merge()
+ */
+final class ReservationAnalyticsAccumulator {
+    // 리드 타임 히스토그램 마지막 칸 (일) / Last lead time bucket, in days
+    static final int MAX_LEAD_DAYS = 730;
+
+    // 빈 칸 표시 (방 ID는 양수) / Marks an empty slot; room IDs are positive
+    private static final long EMPTY = 0;
+
+    private long[] roomIds = new long[16];
+    private long[] roomReservations = new long[16];
+    private long[] roomPeople = new long[16];
+    private int[] roomMaxPeople = new int[16];
+    private int roomCount;
+
+    private final long[] leadTimeDays = new long[MAX_LEAD_DAYS + 1];
+    private long leadTimeCount;
+    private long leadTimeSum;
+    private int leadTimeMax;
+    private long withoutBookingTime;
+
+    private long reservations;
+
+    /**
+     * 예약 한 건을 더합니다.
+     * Adds one reservation.
+     */
+    void add(ReservationFact fact) {
+        if (fact.roomId() == null || fact.roomId() <= 0 || fact.checkInDate() == null) {
+            return;
+        }
+        reservations++;
+        int slot = slotOf(fact.roomId());
+        roomReservations[slot]++;
+        roomPeople[slot] += fact.numberOfPeople();
+        roomMaxPeople[slot] = Math.max(roomMaxPeople[slot], fact.numberOfPeople());
+        if (fact.bookedAt() == null) {
+            withoutBookingTime++;
+            return;
+        }
+        // 체크인 이후 접수된 이전 데이터는 0일로 취급 / Older rows booked after check-in count as zero days
+        long days = Math.max(0, ChronoUnit.DAYS.between(fact.bookedAt().toLocalDate(), fact.checkInDate()));
+        leadTimeDays[(int) Math.min(MAX_LEAD_DAYS, days)]++;
+        leadTimeCount++;
+        leadTimeSum += days;
+        leadTimeMax = (int) Math.max(leadTimeMax, Math.min(Integer.MAX_VALUE, days));
+    }
+
+    /**
+     * 다른 구간의 부분 집계를 더합니다.
+     * Adds the partial analytics of another partition.
+     */
+    void merge(ReservationAnalyticsAccumulator other) {
+        reservations += other.reservations;
+        for (int i = 0; i < other.roomIds.length; i++) {
+            if (other.roomIds[i] != EMPTY) {
+                int slot = slotOf(other.roomIds[i]);
+                roomReservations[slot] += other.roomReservations[i];
+                roomPeople[slot] += other.roomPeople[i];
+                roomMaxPeople[slot] = Math.max(roomMaxPeople[slot], other.roomMaxPeople[i]);
+            }
+        }
+        for (int day = 0; day < leadTimeDays.length; day++) {
+            leadTimeDays[day] += other.leadTimeDays[day];
+        }
+        leadTimeCount += other.leadTimeCount;
+        leadTimeSum += other.leadTimeSum;
+        leadTimeMax = Math.max(leadTimeMax, other.leadTimeMax);
+        withoutBookingTime += other.withoutBookingTime;
+    }
+
+    long reservations() {
+        return reservations;
+    }
+
+    /**
+     * 방별 인원 통계 (방 ID 순)
+     * Party size statistics per room, in room ID order.
+     */
+    List<ReservationAnalyticsReport.RoomPartySize> partySizeByRoom() {
+        long[] sorted = new long[roomCount];
+        int count = 0;
+        for (long roomId : roomIds) {
+            if (roomId != EMPTY) {
+                sorted[count++] = roomId;
+            }
+        }
+        Arrays.sort(sorted);
+        List<ReservationAnalyticsReport.RoomPartySize> rooms = new ArrayList<>(count);
+        for (long roomId : sorted) {
+            int slot = slotOf(roomId);
+            rooms.add(new ReservationAnalyticsReport.RoomPartySize(roomId, roomReservations[slot],
+                (double) roomPeople[slot] / roomReservations[slot], roomMaxPeople[slot]));
+        }
+        return rooms;
+    }
+
+    /**
+     * 리드 타임 통계 (중앙값과 90 백분위는 히스토그램에서 계산)
+     * Lead time statistics; the median and 90th percentile come from the histogram.
+     */
+    ReservationAnalyticsReport.LeadTime leadTime() {
+        double average = leadTimeCount == 0 ? 0 : (double) leadTimeSum / leadTimeCount;
+        return new ReservationAnalyticsReport.LeadTime(leadTimeCount, average, percentile(0.5), percentile(0.9),
+            leadTimeMax, withoutBookingTime);
+    }
+
+    // 누적 개수가 전체의 fraction 이상이 되는 첫 일수 / First day at which the cumulative count reaches the fraction
+    private int percentile(double fraction) {
+        if (leadTimeCount == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(fraction * leadTimeCount);
+        long seen = 0;
+        for (int day = 0; day < leadTimeDays.length; day++) {
+            seen += leadTimeDays[day];
+            if (seen >= target) {
+                return day == MAX_LEAD_DAYS ? leadTimeMax : day;
+            }
+        }
+        return leadTimeMax;
+    }
+
+    // 방 ID의 칸을 찾거나 새로 만듦 (선형 탐사) / Finds or claims the room's slot, with linear probing
+    private int slotOf(long roomId) {
+        int mask = roomIds.length - 1;
+        int slot = (int) ((roomId * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        while (roomIds[slot] != EMPTY) {
+            if (roomIds[slot] == roomId) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        roomIds[slot] = roomId;
+        if (++roomCount * 2 > roomIds.length) {
+            grow();
+            return slotOf(roomId);
+        }
+        return slot;
+    }
+
+    // 칸 수를 두 배로 늘리고 다시 배치 / Doubles the table and re-inserts every room
+    private void grow() {
+        long[] oldIds = roomIds;
+        long[] oldReservations = roomReservations;
+        long[] oldPeople = roomPeople;
+        int[] oldMaxPeople = roomMaxPeople;
+        int size = oldIds.length * 2;
+        roomIds = new long[size];
+        roomReservations = new long[size];
+        roomPeople = new long[size];
+        roomMaxPeople = new int[size];
+        roomCount = 0;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int slot = slotOf(oldIds[i]);
+                roomReservations[slot] = oldReservations[i];
+                roomPeople[slot] = oldPeople[i];
+                roomMaxPeople[slot] = oldMaxPeople[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+
+import com.roomreservation.reservation.dto.ReservationAnalyticsReport;
+
+public interface ReservationAnalyticsService {
+
+    /**
+     * 체크인이 [from, to) 인 예약의 방별 인원과 리드 타임을 분석합니다.
+     * Analyses party size per room and booking lead time of the reservations checking in within [from, to).
+     *
+     * @param from 체크인 시작일 / first check-in day
+     * @param to 체크인 종료일 (포함하지 않음) / day after the last check-in day
+     * @return 분석 결과 / analytics report
+     * @throws IllegalArgumentException 기간이 비었거나 너무 길 경우 발생 / thrown when the range is empty or too long
+     */
+    ReservationAnalyticsReport analyze(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,139 @@
+package com.roomreservation.reservation.service;
+
+import java.io.Serial;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.roomreservation.reservation.dto.ReservationAnalyticsReport;
+import com.roomreservation.reservation.dto.ReservationFact;
+import com.roomreservation.reservation.repository.ReservationRepository;
+
+/**
+ * 예약 분석 엔진
+ * - 예약 ID 범위를 partitionSize 구간으로 나눠 fork/join 풀에서 구간마다 쿼리 한 번으로 읽고 집계한 뒤 합침
+ * - 풀 스레드 수는 parallelism 으로 고정 (join 대기 중에도 보충 스레드를 만들지 않음)
+ *   -> 분석이 몰려도 CPU와 DB 연결을 최대 parallelism 개만 쓰므로 예약 API 요청을 굶기지 않음
+ *
+ * Reservation analytics engine
+ * - Splits the reservation ID span into partitionSize ranges; a fork/join pool reads each with one query,
+ *   aggregates it and merges the partial results
+ * - The pool is capped at parallelism threads and never adds compensating threads while joining,
+ *   so however many reports run, they use at most parallelism cores and connections and leave the booking API alone
+ */
+@Service
+public class ReservationAnalyticsServiceImpl implements ReservationAnalyticsService, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReservationAnalyticsServiceImpl.class);
+
+    // 분석 기간 최대 일수 (약 10년) / Maximum days in an analytics window (about ten years)
+    private static final int MAX_REPORT_DAYS = 3660;
+
+    private final ReservationRepository reservationRepository;
+    private final int partitionSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param parallelism 분석 스레드 수 상한 / maximum analytics threads
+     * @param partitionSize 구간당 예약 ID 수 / reservation IDs per partition
+     */
+    public ReservationAnalyticsServiceImpl(ReservationRepository reservationRepository,
+                                           @Value("${reservation.analytics.parallelism:2}") int parallelism,
+                                           @Value("${reservation.analytics.partition-size:5000}") int partitionSize) {
+        if (parallelism < 1 || partitionSize < 1) {
+            throw new IllegalArgumentException("Parallelism and partition size must be positive.");
+        }
+        this.reservationRepository = reservationRepository;
+        this.partitionSize = partitionSize;
+        AtomicInteger sequence = new AtomicInteger();
+        this.pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("reservation-analytics-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false, 0, parallelism, 1, forkJoinPool -> true, 60, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 체크인이 [from, to) 인 예약을 ID 구간별로 병렬 집계합니다.
+     * Aggregates the reservations checking in within [from, to), ID range by ID range in parallel.
+     */
+    @Override
+    public ReservationAnalyticsReport analyze(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to) || ChronoUnit.DAYS.between(from, to) > MAX_REPORT_DAYS) {
+            throw new IllegalArgumentException("Check the date range.");
+        }
+        long started = System.nanoTime();
+        Long minId = reservationRepository.findMinId();
+        Long maxId = reservationRepository.findMaxId();
+        int partitions = 0;
+        ReservationAnalyticsAccumulator result = new ReservationAnalyticsAccumulator();
+        if (minId != null && maxId != null) {
+            partitions = (int) Math.min(Integer.MAX_VALUE, (maxId - minId + partitionSize) / partitionSize);
+            result = pool.invoke(new PartitionTask(minId - 1, partitions, from, to));
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Analysed {} reservations checking in {} to {} in {} partitions in {} ms",
+            result.reservations(), from, to, partitions, elapsedMillis);
+        return new ReservationAnalyticsReport(from, to, partitions, result.reservations(), result.partySizeByRoom(),
+            result.leadTime(), elapsedMillis);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 연속된 partitions 개 구간 (start, start + partitions × partitionSize] 을 집계하는 작업
+     * - 구간이 하나면 직접 읽고, 아니면 반으로 나눠 한쪽은 fork, 다른 쪽은 현재 스레드에서 처리
+     *
+     * Aggregates partitions consecutive ranges (start, start + partitions × partitionSize]
+     * - A single partition is read directly; otherwise the span is halved, one half forked, the other run in place
+     */
+    private final class PartitionTask extends RecursiveTask<ReservationAnalyticsAccumulator> {
+        // ForkJoinTask가 Serializable이라 필요 (직렬화해서 쓰지는 않음) / Required because ForkJoinTask is Serializable; never serialized
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long start;
+        private final int partitions;
+        private final LocalDate checkInFrom;
+        private final LocalDate checkInTo;
+
+        PartitionTask(long start, int partitions, LocalDate checkInFrom, LocalDate checkInTo) {
+            this.start = start;
+            this.partitions = partitions;
+            this.checkInFrom = checkInFrom;
+            this.checkInTo = checkInTo;
+        }
+
+        @Override
+        protected ReservationAnalyticsAccumulator compute() {
+            if (partitions == 1) {
+                ReservationAnalyticsAccumulator accumulator = new ReservationAnalyticsAccumulator();
+                for (ReservationFact fact : reservationRepository.findFactsInIdRange(start, start + partitionSize,
+                        checkInFrom, checkInTo)) {
+                    accumulator.add(fact);
+                }
+                return accumulator;
+            }
+            int leftPartitions = partitions / 2;
+            PartitionTask left = new PartitionTask(start, leftPartitions, checkInFrom, checkInTo);
+            PartitionTask right = new PartitionTask(start + (long) leftPartitions * partitionSize,
+                partitions - leftPartitions, checkInFrom, checkInTo);
+            left.fork();
+            ReservationAnalyticsAccumulator merged = right.compute();
+            merged.merge(left.join());
+            return merged;
+        }
+    }
+}
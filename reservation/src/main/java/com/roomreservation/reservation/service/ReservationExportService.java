@@ -0,0 +1,17 @@
+package com.roomreservation.reservation.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ReservationExportService {
+
+    /**
+     * 모든 예약을 NDJSON(줄 단위 JSON)으로 내보냅니다. 예약 수와 관계없이 메모리 사용량이 일정합니다.
+     * Exports every reservation as newline-delimited JSON with constant memory use regardless of row count.
+     *
+     * @param out 출력 스트림 / output stream to write to
+     * @return 내보낸 예약 수 / number of exported reservations
+     * @throws IOException 출력 중 오류가 발생한 경우 / thrown when writing fails
+     */
+    long exportReservations(OutputStream out) throws IOException;
+}
@@ -0,0 +1,71 @@
+package com.roomreservation.reservation.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roomreservation.reservation.dto.ReservationExport;
+import com.roomreservation.reservation.repository.ReservationRepository;
+
+/**
+ * 예약 NDJSON 내보내기
+ * - 예약 행을 전용 내보내기 레코드(예약 시각, 1박 요금, 버전 포함)로 DB 커서에서 흘려받아 한 줄씩 바로 출력
+ * - 엔티티를 읽지 않으므로 예약 수와 관계없이 메모리 사용량이 일정함
+ *
+ * NDJSON export of reservations
+ * - Streams the rows from a database cursor as dedicated export records (booking time, nightly price and version
+ *   included) and writes each one as a line right away
+ * - No entities are loaded, so memory use stays flat however many reservations there are
+ */
+@Service
+public class ReservationExportServiceImpl implements ReservationExportService {
+    // 이 건수마다 출력 버퍼를 비워 클라이언트로 전송 / Flush to the client every this many rows
+    private static final int FLUSH_EVERY = 1000;
+
+    private final ReservationRepository reservationRepository;
+    private final ObjectMapper objectMapper;
+
+    public ReservationExportServiceImpl(ReservationRepository reservationRepository, ObjectMapper objectMapper) {
+        this.reservationRepository = reservationRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 모든 예약을 NDJSON으로 내보냅니다.
+     * - 읽기 전용 트랜잭션 안에서 내보내기 레코드를 fetch size 단위로 흘려받아 바로 출력
+     * - 내보내기 레코드는 영속성 컨텍스트에 쌓이지 않으므로 detach/clear 없이도 메모리가 일정함
+     *
+     * Exports every reservation as NDJSON.
+     * - Streams export records in fetch-size chunks inside a read-only transaction and writes each one immediately
+     * - Export records are never managed, so the persistence context does not grow and needs no detach/clear
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportReservations(OutputStream out) throws IOException {
+        long count = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // 응답 스트림은 컨테이너가 닫음 / The container closes the response stream
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 줄 구분은 직접 쓰므로 루트 값 사이의 기본 공백을 끔 / Lines are delimited by hand, so drop the default " " between root values
+        generator.setRootValueSeparator(null);
+        try (Stream<ReservationExport> reservations = reservationRepository.streamAllForExport()) {
+            Iterator<ReservationExport> iterator = reservations.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                generator.writeRaw('\n');
+                if (++count % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        } finally {
+            generator.close();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,43 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import com.roomreservation.reservation.dto.AggregateRebuildResult;
+import com.roomreservation.reservation.dto.MonthlyRevenue;
+import com.roomreservation.reservation.dto.OccupancyReport;
+
+public interface ReservationReportService {
+
+    /**
+     * 기간 [from, to) 의 일자별/방별 점유율을 집계 카운터에서 조회합니다.
+     * Reads occupancy per day and per room for the days [from, to) from the aggregate counters.
+     *
+     * @param from 시작일 / first day
+     * @param to 종료일 (포함하지 않음) / day after the last one
+     * @return 점유율 보고서 / occupancy report
+     * @throws IllegalArgumentException 기간이 비었거나 너무 길 경우 발생 / thrown when the range is empty or too long
+     */
+    OccupancyReport getOccupancy(LocalDate from, LocalDate to);
+
+    /**
+     * 월 [from, to] 의 매출을 집계 카운터에서 조회합니다.
+     * Reads revenue per month for [from, to] from the aggregate counters.
+     *
+     * @param from 시작 월 / first month
+     * @param to 마지막 월 (포함) / last month, inclusive
+     * @return 월별 매출 / revenue per month
+     * @throws IllegalArgumentException 기간이 잘못되었거나 너무 길 경우 발생 / thrown when the range is reversed or too long
+     */
+    List<MonthlyRevenue> getRevenue(YearMonth from, YearMonth to);
+
+    /**
+     * 집계 카운터를 DB에서 처음부터 다시 만듭니다. (ID 구간별 병렬 조회, 복구용)
+     * Rebuilds the aggregate counters from the database, reading ID ranges in parallel, for recovery.
+     *
+     * @return 재구축 결과 / rebuild result
+     * @throws IllegalStateException 이미 재구축 중일 경우 발생 / thrown when a rebuild is already running
+     */
+    AggregateRebuildResult rebuildAggregates();
+}
@@ -0,0 +1,158 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.roomreservation.reservation.dto.AggregateRebuildResult;
+import com.roomreservation.reservation.dto.MonthlyRevenue;
+import com.roomreservation.reservation.dto.OccupancyReport;
+import com.roomreservation.reservation.dto.ReservationStay;
+import com.roomreservation.reservation.index.ReservationStatistics;
+import com.roomreservation.reservation.index.RoomRangeIndex;
+import com.roomreservation.reservation.repository.ReservationRepository;
+import com.roomreservation.reservation.repository.RoomRepository;
+
+@Service
+public class ReservationReportServiceImpl implements ReservationReportService {
+    private static final Logger log = LoggerFactory.getLogger(ReservationReportServiceImpl.class);
+
+    // 점유율 보고서 최대 일수 / Maximum days in an occupancy report
+    private static final int MAX_REPORT_DAYS = 366;
+
+    // 매출 보고서 최대 개월 수 / Maximum months in a revenue report
+    private static final int MAX_REPORT_MONTHS = 120;
+
+    private final ReservationRepository reservationRepository;
+    private final RoomRepository roomRepository;
+    private final ReservationStatistics statistics;
+    private final RoomRangeIndex roomRangeIndex;
+    private final int rangeSize;
+    private final int threads;
+
+    public ReservationReportServiceImpl(ReservationRepository reservationRepository,
+                                        RoomRepository roomRepository,
+                                        ReservationStatistics statistics,
+                                        RoomRangeIndex roomRangeIndex,
+                                        @Value("${reservation.reports.rebuild-range-size:10000}") int rangeSize,
+                                        @Value("${reservation.reports.rebuild-threads:4}") int threads) {
+        if (rangeSize < 1 || threads < 1) {
+            throw new IllegalArgumentException("Range size and threads must be positive.");
+        }
+        this.reservationRepository = reservationRepository;
+        this.roomRepository = roomRepository;
+        this.statistics = statistics;
+        this.roomRangeIndex = roomRangeIndex;
+        this.rangeSize = rangeSize;
+        this.threads = threads;
+    }
+
+    /**
+     * 집계 카운터만 읽어 점유율을 계산합니다. (예약 테이블은 읽지 않음)
+     * Computes occupancy from the aggregate counters alone, without reading the reservation table.
+     */
+    @Override
+    public OccupancyReport getOccupancy(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to) || ChronoUnit.DAYS.between(from, to) > MAX_REPORT_DAYS) {
+            throw new IllegalArgumentException("Check the date range.");
+        }
+        long roomCount = roomRangeIndex.isLoaded() ? roomRangeIndex.size() : roomRepository.count();
+        int[] occupiedRooms = statistics.occupiedRoomsByDay(from, to);
+        List<OccupancyReport.DayOccupancy> days = new ArrayList<>(occupiedRooms.length);
+        for (int i = 0; i < occupiedRooms.length; i++) {
+            days.add(new OccupancyReport.DayOccupancy(from.plusDays(i), occupiedRooms[i], rate(occupiedRooms[i], roomCount)));
+        }
+        List<OccupancyReport.RoomOccupancy> rooms = new ArrayList<>();
+        for (Map.Entry<Long, Integer> room : statistics.occupiedNightsByRoom(from, to).entrySet()) {
+            rooms.add(new OccupancyReport.RoomOccupancy(room.getKey(), room.getValue(),
+                rate(room.getValue(), occupiedRooms.length)));
+        }
+        return new OccupancyReport(from, to, roomCount, days, rooms);
+    }
+
+    /**
+     * 집계 카운터만 읽어 월별 매출을 반환합니다.
+     * Returns revenue per month from the aggregate counters alone.
+     */
+    @Override
+    public List<MonthlyRevenue> getRevenue(YearMonth from, YearMonth to) {
+        if (from == null || to == null || from.isAfter(to) || ChronoUnit.MONTHS.between(from, to) >= MAX_REPORT_MONTHS) {
+            throw new IllegalArgumentException("Check the month range.");
+        }
+        long[][] rows = statistics.revenueByMonth(from, to);
+        List<MonthlyRevenue> revenue = new ArrayList<>(rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            revenue.add(new MonthlyRevenue(from.plusMonths(i), rows[i][0], rows[i][1]));
+        }
+        return revenue;
+    }
+
+    /**
+     * 집계 카운터를 처음부터 다시 만듭니다.
+     * - 예약 ID 범위를 rangeSize 구간으로 나눠 threads 개 스레드에서 구간마다 쿼리 한 번으로 읽음
+     * - 구간마다 따로 부분 집계를 만든 뒤 합침 (스레드 간 공유 상태 없음)
+     * - 그동안의 실시간 변경은 ReservationStatistics가 기록해 두었다가 교체 직전에 다시 적용하므로 쓰기를 멈출 필요가 없음
+     *
+     * Rebuilds the aggregate counters from scratch.
+     * - Splits the reservation ID span into rangeSize ranges, read with one query each on threads threads
+     * - Each range fills its own partial counters, merged at the end, so threads share no state
+     * - Live changes meanwhile are logged by ReservationStatistics and replayed before the swap, so writes keep flowing
+     */
+    @Override
+    public AggregateRebuildResult rebuildAggregates() {
+        long started = System.nanoTime();
+        statistics.beginRebuild();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Long minId = reservationRepository.findMinId();
+            Long maxId = reservationRepository.findMaxId();
+            List<CompletableFuture<ReservationStatistics.Partial>> ranges = new ArrayList<>();
+            if (minId != null && maxId != null) {
+                for (long from = minId - 1; from < maxId; from += rangeSize) {
+                    long rangeFrom = from;
+                    long rangeTo = Math.min(maxId, from + rangeSize);
+                    ranges.add(CompletableFuture.supplyAsync(() -> readRange(rangeFrom, rangeTo), executor));
+                }
+            }
+            List<ReservationStatistics.Partial> partials = new ArrayList<>(ranges.size());
+            for (CompletableFuture<ReservationStatistics.Partial> range : ranges) {
+                partials.add(range.join());
+            }
+            int reservations = statistics.completeRebuild(partials);
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            log.info("Rebuilt aggregates from {} reservations in {} ID ranges in {} ms",
+                reservations, ranges.size(), elapsedMillis);
+            return new AggregateRebuildResult(ranges.size(), reservations, elapsedMillis);
+        } catch (RuntimeException e) {
+            statistics.abortRebuild();
+            throw e instanceof CompletionException && e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ID 구간 (from, to] 의 부분 집계 / Partial counters of the ID range (from, to]
+    private ReservationStatistics.Partial readRange(long from, long to) {
+        ReservationStatistics.Partial partial = statistics.newPartial();
+        for (ReservationStay stay : reservationRepository.findStaysInIdRange(from, to)) {
+            partial.add(stay.id(), stay.roomId(), stay.checkInDate(), stay.checkOutDate(), stay.nightlyPrice());
+        }
+        return partial;
+    }
+
+    private static double rate(long part, long whole) {
+        return whole == 0 ? 0 : (double) part / whole;
+    }
+}
@@ -1,8 +1,15 @@
 package com.roomreservation.reservation.service;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.dto.BulkUpdateResult;
+import com.roomreservation.reservation.dto.CursorPage;
+import com.roomreservation.reservation.dto.ReservationBatchResult;
+import com.roomreservation.reservation.dto.ReservationSelection;
+import com.roomreservation.reservation.dto.ReservationSummary;
+import com.roomreservation.reservation.dto.RoomRelocationResult;
 
 public interface ReservationService {
 
@@ -13,9 +20,21 @@ public interface ReservationService {
      * @param reservation 예약 정보 / reservation information
      * @return 저장된 예약 객체 / the saved reservation object
      * @throws IllegalArgumentException 예약이 유효하지 않은 경우 발생 / thrown when reservation is invalid
+     * @throws IllegalStateException 시작 시 인덱스 적재가 끝나지 않은 경우 (모든 예약 변경 공통)
+     *                               while the startup index load is still running (applies to every reservation write)
      */
     Reservation addReservation(Reservation reservation);
 
+    /**
+     * 여러 예약을 한 번에 추가합니다. 잘못된 항목은 거절하고 나머지는 저장합니다.
+     * Adds many reservations at once. Invalid items are rejected, the rest are saved.
+     *
+     * @param reservations 예약 목록 / reservations to add
+     * @return 항목별 처리 결과 (요청 순서) / per-item results, in request order
+     * @throws IllegalArgumentException 목록이 비었거나 너무 큰 경우 발생 / thrown when the batch is empty or too large
+     */
+    List<ReservationBatchResult> addReservations(List<Reservation> reservations);
+
     /**
      * 모든 예약 목록을 조회합니다.
      * Retrieves the list of all reservations.
@@ -24,6 +43,17 @@ public interface ReservationService {
      */
     List<Reservation> getAllReservations();
 
+    /**
+     * 예약 요약 목록을 ID 커서 기준으로 한 페이지씩 조회합니다.
+     * Retrieves reservation summaries one keyset page at a time, ordered by ID.
+     *
+     * @param after 이 ID 다음부터 조회, 첫 페이지는 null / return reservations after this ID, null for the first page
+     * @param size 페이지 크기, null이면 기본값 / page size, null for the default
+     * @return 예약 요약 페이지 / page of reservation summaries
+     * @throws IllegalArgumentException 페이지 크기가 1 미만일 경우 발생 / thrown when the size is less than 1
+     */
+    CursorPage<ReservationSummary> getReservations(Long after, Integer size);
+
     /**
      * 예약 ID로 예약을 조회합니다.
      * Retrieves a reservation by its ID.
@@ -54,4 +84,64 @@ public interface ReservationService {
      * @throws IllegalArgumentException 예약이 없을 경우 발생 / thrown when reservation not found
      */
     Reservation cancelReservation(Long id);
-}
\ No newline at end of file
+
+    /**
+     * 예약을 읽지 않고 DELETE 문 한 번으로 취소합니다.
+     * Cancels a reservation with a single DELETE statement, without loading it first.
+     *
+     * @param id 취소할 예약 ID / ID of the reservation to cancel
+     * @throws IllegalArgumentException 예약이 없을 경우 발생 / thrown when reservation not found
+     */
+    void cancelReservationById(Long id);
+
+    /**
+     * 한 방에서 [from, to) 와 겹치는 예약을 한 트랜잭션으로 모두 취소합니다.
+     * Cancels every reservation of a room overlapping [from, to) in one transaction.
+     *
+     * @param roomId 방 ID / room ID
+     * @param from 시작일 (포함) / first day, inclusive
+     * @param to 종료일 (제외) / last day, exclusive
+     * @return 취소된 예약 ID (ID 순) / IDs of the cancelled reservations, in ID order
+     * @throws IllegalArgumentException 방이나 날짜 범위가 잘못된 경우 발생 / thrown when the room or date range is invalid
+     */
+    List<Long> cancelReservations(Long roomId, LocalDate from, LocalDate to);
+
+    /**
+     * 선택한 예약을 한 번에 승인하거나 거절합니다. (엔티티를 읽지 않고 UPDATE 문으로 처리)
+     * Approves or rejects the selected reservations at once, with UPDATE statements instead of loading entities.
+     *
+     * @param selection ID 목록 또는 필터 / IDs or a filter
+     * @param approved true면 승인, false면 거절 / true to approve, false to reject
+     * @return 상태가 바뀐 예약 수 / number of reservations whose state changed
+     * @throws IllegalArgumentException 선택 조건이 없거나 잘못된 경우 발생 / thrown when the selection is missing or invalid
+     */
+    BulkUpdateResult updateApproval(ReservationSelection selection, boolean approved);
+
+    /**
+     * 방에 남은 예약 중 ID 순으로 최대 limit 건을 다른 방으로 옮기거나, 옮길 방이 없으면 취소합니다.
+     * Moves up to limit of the room's remaining reservations, in ID order, to other rooms,
+     * cancelling those that fit nowhere.
+     *
+     * @param roomId 비울 방 ID / ID of the room to drain
+     * @param limit 한 번에 처리할 최대 건수 / maximum reservations to handle in this call
+     * @return 이전/취소/보류 건수 / moved, cancelled and deferred counts
+     */
+    RoomRelocationResult relocateReservations(Long roomId, int limit);
+
+    /**
+     * 방을 새 예약과 다른 방에서의 이전 대상에서 닫습니다. (방 폐쇄용) 반환 후에는 그 방에 새 예약이 들어오지 않습니다.
+     * Closes a room to new bookings and to stays relocated from other rooms, for decommissioning;
+     * once this returns, no new stay can land in the room.
+     *
+     * @param roomId 닫을 방 ID / ID of the room to close
+     */
+    void closeRoom(Long roomId);
+
+    /**
+     * closeRoom으로 닫은 방을 다시 엽니다.
+     * Reopens a room closed by closeRoom.
+     *
+     * @param roomId 다시 열 방 ID / ID of the room to reopen
+     */
+    void reopenRoom(Long roomId);
+}
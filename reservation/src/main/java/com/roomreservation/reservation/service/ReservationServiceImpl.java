@@ -1,31 +1,106 @@
 package com.roomreservation.reservation.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import com.roomreservation.reservation.domain.Reservation;
 import com.roomreservation.reservation.domain.Room;
 import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.dto.BulkUpdateResult;
+import com.roomreservation.reservation.dto.CursorPage;
+import com.roomreservation.reservation.dto.ReservationBatchResult;
+import com.roomreservation.reservation.dto.ReservationPlacement;
+import com.roomreservation.reservation.dto.ReservationSelection;
+import com.roomreservation.reservation.dto.ReservationSummary;
+import com.roomreservation.reservation.dto.RoomCapacity;
+import com.roomreservation.reservation.dto.RoomRelocationResult;
+import com.roomreservation.reservation.index.IndexLoadGate;
+import com.roomreservation.reservation.index.OccupancyCalendar;
+import com.roomreservation.reservation.index.ReservationIntervalIndex;
+import com.roomreservation.reservation.index.ReservationStatistics;
+import com.roomreservation.reservation.journal.ReservationEventType;
+import com.roomreservation.reservation.journal.ReservationJournal;
 import com.roomreservation.reservation.repository.ReservationRepository;
 import com.roomreservation.reservation.repository.RoomRepository;
 import com.roomreservation.reservation.repository.UserRepository;
 
 @Service
 public class ReservationServiceImpl implements ReservationService {
+    // 방 잠금 개수 / Number of room lock stripes
+    private static final int ROOM_LOCK_STRIPES = 256;
+
+    // 일괄 예약 최대 건수 / Maximum number of reservations per batch
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;   
     private final RoomRepository roomRepository;    
+    private final ReservationIntervalIndex intervalIndex;
+    private final OccupancyCalendar occupancyCalendar;
+    private final ReservationStatistics statistics;
+    private final IndexLoadGate loadGate;
+
+    // 변경 이벤트 저널, 방 잠금 안에서 커밋 후 기록하므로 같은 방의 이벤트는 커밋 순서대로 남음
+    // 기록 실패는 이미 커밋된 쓰기를 실패시키지 않고 저널을 손상 상태로 표시함
+    // Change event journal; appended after the commit under the room lock, so one room's events keep commit order
+    // A failed append does not fail the committed write; it marks the journal degraded instead
+    private final ReservationJournal journal;
+
+    // 여러 문장을 한 트랜잭션으로 묶되, 방 잠금 안에서 커밋까지 끝내기 위해 사용
+    // Groups several statements into one transaction that commits before the room lock is released
+    private final TransactionOperations transactionOperations;
+
+    // 같은 방의 겹침 확인과 저장을 직렬화하는 잠금
+    // 저장 트랜잭션은 잠금 안에서 커밋되므로 잠금을 푸는 시점에는 DB와 인덱스가 모두 반영되어 있음
+    // 잠금과 겹침 확인용 인덱스는 이 JVM 안에만 있으므로 겹침 없는 예약 보장은 단일 노드 기준.
+    // 대신 예약을 넣는 트랜잭션은 방 버전을 올려(lockForBooking), 이 잠금을 거치지 않은 같은 방 쓰기와 동시에 커밋되면 한쪽이 실패함
+    // Serializes overlap check and save per room
+    // The saving transaction commits inside the lock, so the database and the indexes are both up to date when it is released
+    // The lock and the overlap indexes live in this JVM, so the no-double-booking guarantee is per node.
+    // Transactions that put stays into a room also bump its version (lockForBooking), so a concurrent commit
+    // for the same room that did not go through this lock fails instead of landing alongside
+    private final RoomLockStripes roomLocks = new RoomLockStripes(ROOM_LOCK_STRIPES);
+
+    // 폐쇄 중이라 새 예약/이전을 받지 않는 방, 방 잠금 안에서 확인 / Rooms being decommissioned; checked under the room lock
+    private final Set<Long> closedRooms = ConcurrentHashMap.newKeySet();
 
     // 생성자 주입(Constructor injection)
     // Constructor injection of ReservationRepository
     public ReservationServiceImpl(ReservationRepository reservationRepository,
                                   UserRepository userRepository,
-                                  RoomRepository roomRepository) {
+                                  RoomRepository roomRepository,
+                                  ReservationIntervalIndex intervalIndex,
+                                  OccupancyCalendar occupancyCalendar,
+                                  ReservationStatistics statistics,
+                                  IndexLoadGate loadGate,
+                                  ReservationJournal journal,
+                                  TransactionOperations transactionOperations) {
         this.reservationRepository = reservationRepository;
         this.userRepository = userRepository;
         this.roomRepository = roomRepository;
+        this.intervalIndex = intervalIndex;
+        this.occupancyCalendar = occupancyCalendar;
+        this.statistics = statistics;
+        this.loadGate = loadGate;
+        this.journal = journal;
+        this.transactionOperations = transactionOperations;
     }
     
     /**
@@ -34,12 +109,10 @@ public class ReservationServiceImpl implements ReservationService {
      */
     @Override
     public Reservation addReservation(Reservation reservation) {
-        if (reservation == null
-            || reservation.getCheckInDate() == null
-            || reservation.getCheckOutDate() == null
-            || reservation.getCheckInDate().isBefore(LocalDate.now())
-            || reservation.getCheckOutDate().isBefore(reservation.getCheckInDate())
-            || reservation.getNumberOfPeople() < 1) {
+        // 시작 시 인덱스 적재가 끝나기 전에는 겹침 검사를 믿을 수 없으므로 거절
+        // Overlap checks cannot be trusted until the startup index load is done, so reject until then
+        loadGate.checkOpen();
+        if (!isValidStay(reservation)) {
             throw new IllegalArgumentException("Check your reservation.");
         }
         // user와 room이 실제 DB에 있는지 조회
@@ -51,8 +124,148 @@ public class ReservationServiceImpl implements ReservationService {
         // 조회된 엔티티로 reservation의 user, room 세팅
         reservation.setUser(user);
         reservation.setRoom(room);
+        reservation.setBookedAt(LocalDateTime.now());
+        reservation.setNightlyPrice(room.getPrice());
+
+        ReentrantLock roomLock = roomLocks.lockFor(room.getId());
+        roomLock.lock();
+        try {
+            // 같은 방에 날짜가 겹치는 예약이 있는지 인덱스로 확인
+            // Reject the stay if it overlaps another booking of the same room
+            if (isClosed(room.getId())) {
+                throw new IllegalArgumentException("The room is being decommissioned.");
+            }
+            if (intervalIndex.overlaps(room.getId(), reservation.getCheckInDate(), reservation.getCheckOutDate(), null)) {
+                throw new IllegalArgumentException("The room is already booked for those dates.");
+            }
+
+            Reservation savedReservation = transactionOperations.execute(status -> {
+                roomRepository.lockForBooking(Collections.singleton(room.getId()));
+                return reservationRepository.save(reservation);
+            });
+            intervalIndex.put(savedReservation);
+            occupancyCalendar.occupy(room.getId(), savedReservation.getCheckInDate(), savedReservation.getCheckOutDate());
+            statistics.record(savedReservation.getId(), room.getId(), savedReservation.getCheckInDate(),
+                savedReservation.getCheckOutDate(), savedReservation.bookedNightlyPrice());
+            journal.record(ReservationEventType.CREATED, savedReservation.getId(), room.getId(),
+                savedReservation.getCheckInDate(), savedReservation.getCheckOutDate(),
+                savedReservation.getNumberOfPeople(), savedReservation.bookedNightlyPrice());
+            return savedReservation;
+        } finally {
+            roomLock.unlock();
+        }
+    }
+
+    /**
+     * 여러 예약을 한 번에 추가합니다.
+     * - 사용자와 방은 종류별로 findAllById 한 번씩만 조회
+     * - 항목별로 검증하고, 기존 예약 및 같은 요청 안의 다른 항목과 겹치면 거절
+     * - 통과한 항목은 관련 방 잠금을 모두 잡은 상태에서 saveAll 한 번으로 저장 (JDBC 배치 삽입)
+     *
+     * Adds many reservations at once.
+     * - Users and rooms are resolved with a single findAllById per type
+     * - Each item is validated and rejected if it overlaps an existing booking or an earlier item of the batch
+     * - Accepted items are saved with one saveAll (JDBC batch inserts) while holding all involved room locks
+     */
+    @Override
+    public List<ReservationBatchResult> addReservations(List<Reservation> reservations) {
+        loadGate.checkOpen();
+        if (reservations == null || reservations.isEmpty() || reservations.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Check your reservation batch.");
+        }
+        // 참조된 사용자/방 ID 수집 후 한 번에 조회
+        // Collect referenced user and room IDs and resolve them in one query each
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> roomIds = new HashSet<>();
+        for (Reservation reservation : reservations) {
+            if (reservation != null && reservation.getUser() != null && reservation.getUser().getId() != null) {
+                userIds.add(reservation.getUser().getId());
+            }
+            if (reservation != null && reservation.getRoom() != null && reservation.getRoom().getId() != null) {
+                roomIds.add(reservation.getRoom().getId());
+            }
+        }
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getId(), user);
+        }
+        Map<Long, Room> rooms = new HashMap<>();
+        for (Room room : roomRepository.findAllById(roomIds)) {
+            rooms.put(room.getId(), room);
+        }
+
+        ReservationBatchResult[] results = new ReservationBatchResult[reservations.size()];
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < reservations.size(); i++) {
+            Reservation reservation = reservations.get(i);
+            if (!isValidStay(reservation)) {
+                results[i] = ReservationBatchResult.rejected(i, "Check your reservation.");
+                continue;
+            }
+            User user = reservation.getUser() == null ? null : users.get(reservation.getUser().getId());
+            if (user == null) {
+                results[i] = ReservationBatchResult.rejected(i, "User does not exist.");
+                continue;
+            }
+            Room room = reservation.getRoom() == null ? null : rooms.get(reservation.getRoom().getId());
+            if (room == null) {
+                results[i] = ReservationBatchResult.rejected(i, "Room does not exist.");
+                continue;
+            }
+            reservation.setUser(user);
+            reservation.setRoom(room);
+            candidates.add(i);
+        }
 
-        return reservationRepository.save(reservation);
+        LocalDateTime bookedAt = LocalDateTime.now();
+        List<ReentrantLock> locks = roomLocks.locksFor(rooms.keySet());
+        locks.forEach(ReentrantLock::lock);
+        try {
+            // 기존 예약 및 앞선 항목과 겹치는지 확인 / Check overlaps with stored bookings and earlier items
+            Map<Long, List<Reservation>> acceptedByRoom = new HashMap<>();
+            List<Integer> acceptedIndexes = new ArrayList<>();
+            List<Reservation> accepted = new ArrayList<>();
+            for (int i : candidates) {
+                Reservation reservation = reservations.get(i);
+                Long roomId = reservation.getRoom().getId();
+                List<Reservation> sameRoom = acceptedByRoom.computeIfAbsent(roomId, key -> new ArrayList<>());
+                if (isClosed(roomId)) {
+                    results[i] = ReservationBatchResult.rejected(i, "The room is being decommissioned.");
+                    continue;
+                }
+                if (intervalIndex.overlaps(roomId, reservation.getCheckInDate(), reservation.getCheckOutDate(), null)
+                    || overlapsAny(reservation, sameRoom)) {
+                    results[i] = ReservationBatchResult.rejected(i, "The room is already booked for those dates.");
+                    continue;
+                }
+                sameRoom.add(reservation);
+                reservation.setBookedAt(bookedAt);
+                reservation.setNightlyPrice(reservation.getRoom().getPrice());
+                acceptedIndexes.add(i);
+                accepted.add(reservation);
+            }
+
+            List<Reservation> savedReservations = transactionOperations.execute(status -> {
+                if (!accepted.isEmpty()) {
+                    roomRepository.lockForBooking(accepted.stream().map(saved -> saved.getRoom().getId())
+                        .collect(Collectors.toSet()));
+                }
+                return reservationRepository.saveAll(accepted);
+            });
+            for (int k = 0; k < savedReservations.size(); k++) {
+                Reservation saved = savedReservations.get(k);
+                intervalIndex.put(saved);
+                occupancyCalendar.occupy(saved.getRoom().getId(), saved.getCheckInDate(), saved.getCheckOutDate());
+                statistics.record(saved.getId(), saved.getRoom().getId(), saved.getCheckInDate(), saved.getCheckOutDate(),
+                    saved.bookedNightlyPrice());
+                journal.record(ReservationEventType.CREATED, saved.getId(), saved.getRoom().getId(), saved.getCheckInDate(),
+                    saved.getCheckOutDate(), saved.getNumberOfPeople(), saved.bookedNightlyPrice());
+                results[acceptedIndexes.get(k)] = ReservationBatchResult.created(acceptedIndexes.get(k), saved.getId());
+            }
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+        return List.of(results);
     }
 
     /**
@@ -64,6 +277,18 @@ public class ReservationServiceImpl implements ReservationService {
         return reservationRepository.findAll(); 
     }
 
+    /**
+     * 예약 요약 목록을 ID 커서 기준으로 한 페이지씩 조회합니다. (사용자/방 조인 포함 SQL 한 번)
+     * Retrieves reservation summaries one keyset page at a time, in a single SQL statement.
+     */
+    @Override
+    public CursorPage<ReservationSummary> getReservations(Long after, Integer size) {
+        int pageSize = CursorPage.boundedSize(size);
+        List<ReservationSummary> reservations = reservationRepository.findSummariesAfter(
+            after == null ? 0L : after, Limit.of(pageSize));
+        return CursorPage.of(reservations, pageSize, ReservationSummary::id);
+    }
+
     /**
      * ID로 예약을 조회합니다.
      * Retrieves a reservation by ID.
@@ -80,21 +305,52 @@ public class ReservationServiceImpl implements ReservationService {
      */
     @Override
     public Reservation updateReservation(Long id, Reservation reservation) {
+        loadGate.checkOpen();
         Reservation existingReservation = reservationRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("The reservation does not exist."));
-        if (reservation == null
-            || reservation.getCheckInDate() == null
-            || reservation.getCheckOutDate() == null
-            || reservation.getCheckInDate().isBefore(LocalDate.now())
-            || reservation.getCheckOutDate().isBefore(reservation.getCheckInDate())
-            || reservation.getNumberOfPeople() < 1) {
+        if (!isValidStay(reservation)) {
             throw new IllegalArgumentException("The reservation does not exist.");
         }
-        existingReservation.setCheckInDate(reservation.getCheckInDate());
-        existingReservation.setCheckOutDate(reservation.getCheckOutDate());
-        existingReservation.setNumberOfPeople(reservation.getNumberOfPeople());
-        existingReservation.setIsApproved(reservation.getIsApproved());
-        return reservationRepository.save(existingReservation);
+        Long roomId = existingReservation.getRoom() == null ? null : existingReservation.getRoom().getId();
+        ReentrantLock roomLock = roomLocks.lockFor(roomId);
+        roomLock.lock();
+        try {
+            // 자기 자신을 제외하고 같은 방 예약과 겹치는지 확인
+            // Check overlaps against the room's other bookings, ignoring this one
+            if (intervalIndex.overlaps(roomId, reservation.getCheckInDate(), reservation.getCheckOutDate(), id)) {
+                throw new IllegalArgumentException("The room is already booked for those dates.");
+            }
+            // 점유 달력 갱신을 위해 기존 날짜 보관 / Keep the old dates to update the occupancy calendar
+            LocalDate previousCheckIn = existingReservation.getCheckInDate();
+            LocalDate previousCheckOut = existingReservation.getCheckOutDate();
+
+            existingReservation.setCheckInDate(reservation.getCheckInDate());
+            existingReservation.setCheckOutDate(reservation.getCheckOutDate());
+            existingReservation.setNumberOfPeople(reservation.getNumberOfPeople());
+            existingReservation.setIsApproved(reservation.getIsApproved());
+            // 다른 요청이 먼저 수정했다면 @Version 검사로 저장이 실패하고 인덱스는 그대로 유지됨
+            // If another request updated it first, the @Version check fails the save and the indexes stay untouched
+            Reservation savedReservation = transactionOperations.execute(status -> {
+                if (roomId != null) {
+                    roomRepository.lockForBooking(Collections.singleton(roomId));
+                }
+                return reservationRepository.save(existingReservation);
+            });
+            intervalIndex.put(savedReservation);
+            occupancyCalendar.release(roomId, previousCheckIn, previousCheckOut);
+            occupancyCalendar.occupy(roomId, savedReservation.getCheckInDate(), savedReservation.getCheckOutDate());
+            // 날짜를 바꿔도 매출은 예약 시점 요금으로 유지 / Editing the dates keeps the revenue at the booked price
+            int nightlyPrice = existingReservation.bookedNightlyPrice();
+            if (existingReservation.getRoom() != null) {
+                statistics.record(id, roomId, savedReservation.getCheckInDate(), savedReservation.getCheckOutDate(),
+                    nightlyPrice);
+            }
+            journal.record(ReservationEventType.UPDATED, id, roomId, savedReservation.getCheckInDate(),
+                savedReservation.getCheckOutDate(), savedReservation.getNumberOfPeople(), nightlyPrice);
+            return savedReservation;
+        } finally {
+            roomLock.unlock();
+        }
     }
 
     /**
@@ -107,17 +363,339 @@ public class ReservationServiceImpl implements ReservationService {
      */
     @Override
     public Reservation cancelReservation(Long id) {
+        loadGate.checkOpen();
         // 예약을 ID로 조회, 없으면 예외 발생
         // Find reservation by ID, throw exception if not found
         Reservation reservation = reservationRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("The reservation does not exist."));
         
-        // 예약 삭제 (취소 처리)
-        // Delete the reservation (cancel it)
-        reservationRepository.delete(reservation);
+        Long roomId = reservation.getRoom() == null ? null : reservation.getRoom().getId();
+        ReentrantLock roomLock = roomLocks.lockFor(roomId);
+        roomLock.lock();
+        try {
+            // 예약 삭제 (취소 처리)
+            // Delete the reservation (cancel it)
+            reservationRepository.delete(reservation);
+            intervalIndex.remove(reservation.getId());
+            occupancyCalendar.release(roomId, reservation.getCheckInDate(), reservation.getCheckOutDate());
+            statistics.forget(reservation.getId());
+            journal.record(ReservationEventType.CANCELLED, reservation.getId(), roomId, reservation.getCheckInDate(),
+                reservation.getCheckOutDate(), reservation.getNumberOfPeople(), 0);
+        } finally {
+            roomLock.unlock();
+        }
         
         // 삭제한 예약 객체 반환
         // Return the deleted reservation object
         return reservation;
     }
-}
\ No newline at end of file
+
+    /**
+     * 예약을 DELETE 문 한 번으로 취소합니다.
+     * - 방 ID와 숙박 기간은 DB 대신 겹침 인덱스에서 가져와 잠금과 점유 해제에 사용
+     * - 잠금을 잡는 사이 예약이 다른 방으로 옮겨졌으면 다시 시도
+     *
+     * Cancels a reservation with a single DELETE statement.
+     * - The room and stay dates come from the overlap index instead of the database, for locking and releasing nights
+     * - Retries if the reservation moved to another room while the lock was being acquired
+     */
+    @Override
+    public void cancelReservationById(Long id) {
+        loadGate.checkOpen();
+        while (true) {
+            ReservationIntervalIndex.Stay stay = intervalIndex.find(id);
+            ReentrantLock roomLock = roomLocks.lockFor(stay == null ? null : stay.roomId());
+            roomLock.lock();
+            try {
+                if (!Objects.equals(stay, intervalIndex.find(id))) {
+                    continue;
+                }
+                if (reservationRepository.deleteReservationById(id) == 0) {
+                    throw new IllegalArgumentException("The reservation does not exist.");
+                }
+                intervalIndex.remove(id);
+                if (stay != null) {
+                    occupancyCalendar.release(stay.roomId(), stay.checkIn(), stay.checkOut());
+                }
+                statistics.forget(id);
+                journalCancellation(id, stay);
+                return;
+            } finally {
+                roomLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 한 방에서 [from, to) 와 겹치는 예약을 모두 취소합니다.
+     * - 방 잠금을 잡은 채 한 트랜잭션에서 ID 조회 1번 + MAX_BATCH_SIZE 개씩 IN 조건 DELETE
+     * - 커밋 후 잠금을 풀기 전에 인덱스와 점유 달력에서 제거
+     *
+     * Cancels every reservation of a room overlapping [from, to).
+     * - Under the room lock, one transaction runs an ID query plus one IN-list DELETE per MAX_BATCH_SIZE IDs
+     * - After the commit, and before the lock is released, the stays are dropped from the index and the calendar
+     */
+    @Override
+    public List<Long> cancelReservations(Long roomId, LocalDate from, LocalDate to) {
+        loadGate.checkOpen();
+        if (roomId == null || from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Check the room and date range.");
+        }
+        ReentrantLock roomLock = roomLocks.lockFor(roomId);
+        roomLock.lock();
+        try {
+            List<Long> cancelledIds = transactionOperations.execute(status -> {
+                List<Long> ids = reservationRepository.findIdsOverlapping(roomId, from, to);
+                for (int start = 0; start < ids.size(); start += MAX_BATCH_SIZE) {
+                    reservationRepository.deleteAllByIdIn(ids.subList(start, Math.min(ids.size(), start + MAX_BATCH_SIZE)));
+                }
+                return ids;
+            });
+            for (Long id : cancelledIds) {
+                ReservationIntervalIndex.Stay stay = intervalIndex.find(id);
+                intervalIndex.remove(id);
+                if (stay != null) {
+                    occupancyCalendar.release(stay.roomId(), stay.checkIn(), stay.checkOut());
+                }
+                statistics.forget(id);
+                journalCancellation(id, stay);
+            }
+            return cancelledIds;
+        } finally {
+            roomLock.unlock();
+        }
+    }
+
+    /**
+     * 선택한 예약을 한 번에 승인하거나 거절합니다.
+     * - ID 목록은 MAX_BATCH_SIZE 개씩 IN 조건 UPDATE 한 번, 필터는 UPDATE 한 번으로 처리
+     * - 메모리 인덱스(겹침 인덱스, 점유 달력)는 숙박 기간만 다루므로 갱신할 것이 없고,
+     *   영속성 컨텍스트는 UPDATE 후 비워서 오래된 승인 값이 남지 않게 함
+     *
+     * Approves or rejects the selected reservations at once.
+     * - IDs run as one IN-list UPDATE per MAX_BATCH_SIZE IDs, a filter as a single UPDATE
+     * - The in-memory indexes (overlap index, occupancy calendar) only track stay dates, so they need no change;
+     *   the persistence context is cleared after the UPDATE so no stale approval flag survives
+     */
+    @Override
+    @Transactional
+    public BulkUpdateResult updateApproval(ReservationSelection selection, boolean approved) {
+        if (selection == null || selection.byIds() == selection.hasFilter()) {
+            throw new IllegalArgumentException("Select reservations by IDs or by a date range.");
+        }
+        if (selection.byIds()) {
+            List<Long> ids = selection.ids().stream().filter(id -> id != null).distinct().toList();
+            int updated = 0;
+            for (int from = 0; from < ids.size(); from += MAX_BATCH_SIZE) {
+                updated += reservationRepository.updateApprovalByIds(
+                    ids.subList(from, Math.min(ids.size(), from + MAX_BATCH_SIZE)), approved);
+            }
+            return new BulkUpdateResult(updated);
+        }
+        if (selection.from() == null || selection.to() == null || !selection.from().isBefore(selection.to())) {
+            throw new IllegalArgumentException("Check the date range.");
+        }
+        int updated = selection.roomId() == null
+            ? reservationRepository.updateApprovalByCheckIn(selection.from(), selection.to(), approved)
+            : reservationRepository.updateApprovalByRoomAndCheckIn(selection.roomId(), selection.from(), selection.to(),
+                approved);
+        return new BulkUpdateResult(updated);
+    }
+
+    /**
+     * 방에 남은 예약 한 묶음을 다른 방으로 옮기거나 취소합니다.
+     * - 1단계 (잠금 없음): 예약마다 인원을 수용하는 가장 작은 빈 방을 고름, 같은 묶음끼리 겹치지 않도록 계획도 인덱스로 확인
+     * - 2단계: 원래 방과 대상 방의 잠금을 정해진 순서로 잡고 다시 확인한 뒤,
+     *   한 트랜잭션에서 이전은 JDBC 배치 UPDATE 한 번, 취소는 IN 조건 DELETE 한 번으로 기록
+     * - 그 사이 바뀐 예약은 건너뛰고 다음 묶음에서 다시 처리
+     *
+     * Relocates or cancels one chunk of a room's remaining reservations.
+     * - Phase 1, without locks: picks the smallest free room that fits each party,
+     *   checking a scratch index so stays of the same chunk do not collide
+     * - Phase 2: locks the source and target rooms in a fixed order, re-checks, then writes in one transaction:
+     *   moves as one JDBC batch UPDATE, cancellations as one IN-list DELETE
+     * - Stays that changed in between are skipped and picked up by the next chunk: cancelled ones are no longer indexed,
+     *   and the move UPDATE only matches rows still at the version that was read
+     */
+    @Override
+    public RoomRelocationResult relocateReservations(Long roomId, int limit) {
+        loadGate.checkOpen();
+        List<ReservationPlacement> chunk = reservationRepository.findPlacementsByRoom(roomId, Limit.of(limit));
+        if (chunk.isEmpty()) {
+            return new RoomRelocationResult(0, 0, 0);
+        }
+        List<RoomCapacity> rooms = roomRepository.findCapacitiesExcept(roomId);
+
+        // 1단계: 옮길 방 계획 (0이면 취소) / Phase 1: plan target rooms (0 means cancel)
+        ReservationIntervalIndex planned = new ReservationIntervalIndex();
+        long[] targets = new long[chunk.size()];
+        Set<Long> lockedRooms = new HashSet<>();
+        lockedRooms.add(roomId);
+        for (int i = 0; i < chunk.size(); i++) {
+            ReservationPlacement stay = chunk.get(i);
+            targets[i] = findFreeRoom(rooms, stay, planned);
+            if (targets[i] != 0) {
+                planned.put(stayOf(stay.id(), targets[i], stay.checkInDate(), stay.checkOutDate()));
+                lockedRooms.add(targets[i]);
+            }
+        }
+
+        // 2단계: 잠금 후 재확인하고 한 트랜잭션으로 기록 / Phase 2: lock, re-check, write in one transaction
+        List<ReentrantLock> locks = roomLocks.locksFor(lockedRooms);
+        locks.forEach(ReentrantLock::lock);
+        try {
+            int[] moveIndexes = new int[chunk.size()];
+            int moves = 0;
+            List<Long> cancelIds = new ArrayList<>();
+            int skipped = 0;
+            for (int i = 0; i < chunk.size(); i++) {
+                ReservationPlacement stay = chunk.get(i);
+                // 읽은 뒤 취소되었거나(인덱스에 없음) 다른 방/날짜로 바뀐 예약은 건너뜀
+                // Skip stays cancelled since they were read (no longer indexed) or moved to other rooms or dates
+                ReservationIntervalIndex.Stay indexed = intervalIndex.find(stay.id());
+                boolean unchanged = indexed != null && stay.version() != null && roomId.equals(indexed.roomId())
+                    && indexed.checkIn().equals(stay.checkInDate()) && indexed.checkOut().equals(stay.checkOutDate());
+                if (!unchanged || (targets[i] != 0 && (isClosed(targets[i])
+                        || intervalIndex.overlaps(targets[i], stay.checkInDate(), stay.checkOutDate(), null)))) {
+                    skipped++;
+                } else if (targets[i] != 0) {
+                    moveIndexes[moves++] = i;
+                } else {
+                    cancelIds.add(stay.id());
+                }
+            }
+            long[] movedIds = new long[moves];
+            long[] movedVersions = new long[moves];
+            long[] movedRooms = new long[moves];
+            for (int move = 0; move < moves; move++) {
+                movedIds[move] = chunk.get(moveIndexes[move]).id();
+                movedVersions[move] = chunk.get(moveIndexes[move]).version();
+                movedRooms[move] = targets[moveIndexes[move]];
+            }
+            int[] movedCounts = transactionOperations.execute(status -> {
+                if (movedRooms.length > 0) {
+                    roomRepository.lockForBooking(Arrays.stream(movedRooms).boxed().collect(Collectors.toSet()));
+                }
+                int[] counts = movedIds.length > 0
+                    ? reservationRepository.moveReservations(movedIds, movedVersions, movedRooms) : new int[0];
+                if (!cancelIds.isEmpty()) {
+                    reservationRepository.deleteAllByIdIn(cancelIds);
+                }
+                return counts;
+            });
+
+            // 커밋 후 실제로 옮겨진 예약만 인덱스, 점유 달력, 집계, 저널에 반영 (버전이 달라 0건이면 다음 묶음에서 다시 처리)
+            // After the commit, apply only rows that actually moved to the index, calendar, aggregates and journal;
+            // a 0 count means the version changed, and the next chunk picks the stay up again
+            int relocated = 0;
+            for (int move = 0; move < moves; move++) {
+                if (movedCounts[move] == 0) {
+                    skipped++;
+                    continue;
+                }
+                relocated++;
+                ReservationPlacement stay = chunk.get(moveIndexes[move]);
+                intervalIndex.put(new ReservationIntervalIndex.Stay(stay.id(), movedRooms[move], stay.checkInDate(),
+                    stay.checkOutDate(), stay.version() + 1));
+                occupancyCalendar.release(roomId, stay.checkInDate(), stay.checkOutDate());
+                occupancyCalendar.occupy(movedRooms[move], stay.checkInDate(), stay.checkOutDate());
+                statistics.move(stay.id(), movedRooms[move]);
+                journal.record(ReservationEventType.MOVED, stay.id(), movedRooms[move], stay.checkInDate(),
+                    stay.checkOutDate(), stay.numberOfPeople(), 0);
+            }
+            for (Long id : cancelIds) {
+                ReservationIntervalIndex.Stay indexed = intervalIndex.find(id);
+                intervalIndex.remove(id);
+                if (indexed != null) {
+                    occupancyCalendar.release(indexed.roomId(), indexed.checkIn(), indexed.checkOut());
+                }
+                statistics.forget(id);
+                journalCancellation(id, indexed);
+            }
+            return new RoomRelocationResult(relocated, cancelIds.size(), skipped);
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
+    /**
+     * 방 잠금 안에서 닫으므로, 반환 시점에는 이 방의 겹침 확인을 이미 통과한 예약도 모두 커밋되어 있음
+     * Closes the room under its lock, so any booking that already passed its overlap check has committed by then
+     */
+    @Override
+    public void closeRoom(Long roomId) {
+        ReentrantLock roomLock = roomLocks.lockFor(roomId);
+        roomLock.lock();
+        try {
+            if (roomId != null) {
+                closedRooms.add(roomId);
+            }
+        } finally {
+            roomLock.unlock();
+        }
+    }
+
+    @Override
+    public void reopenRoom(Long roomId) {
+        if (roomId != null) {
+            closedRooms.remove(roomId);
+        }
+    }
+
+    private boolean isClosed(Long roomId) {
+        return roomId != null && closedRooms.contains(roomId);
+    }
+
+    // 취소를 저널에 기록, 인덱스에 없던 예약은 방/날짜 없이 기록 / Journals a cancellation; unindexed stays carry no room or dates
+    private void journalCancellation(Long id, ReservationIntervalIndex.Stay stay) {
+        journal.record(ReservationEventType.CANCELLED, id, stay == null ? null : stay.roomId(),
+            stay == null ? null : stay.checkIn(), stay == null ? null : stay.checkOut(), 0, 0);
+    }
+
+    // 인원을 수용하고 기간 내 비어 있는 가장 작은 방 (없으면 0) / Smallest room that fits the party and is free, or 0
+    private long findFreeRoom(List<RoomCapacity> rooms, ReservationPlacement stay, ReservationIntervalIndex planned) {
+        for (RoomCapacity room : rooms) {
+            if (room.maxPeople() >= stay.numberOfPeople() && !isClosed(room.id())
+                    && !intervalIndex.overlaps(room.id(), stay.checkInDate(), stay.checkOutDate(), null)
+                    && !planned.overlaps(room.id(), stay.checkInDate(), stay.checkOutDate(), null)) {
+                return room.id();
+            }
+        }
+        return 0;
+    }
+
+    // 인덱스에 넣을 숙박 구간만 채운 예약 / Reservation carrying just what the index needs
+    private static Reservation stayOf(Long reservationId, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        Room room = new Room();
+        room.setId(roomId);
+        Reservation reservation = new Reservation();
+        reservation.setId(reservationId);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkOut);
+        return reservation;
+    }
+
+    // 날짜와 인원이 올바른 예약인지 확인 / Whether the reservation has valid dates and party size
+    private static boolean isValidStay(Reservation reservation) {
+        return reservation != null
+            && reservation.getCheckInDate() != null
+            && reservation.getCheckOutDate() != null
+            && !reservation.getCheckInDate().isBefore(LocalDate.now())
+            && !reservation.getCheckOutDate().isBefore(reservation.getCheckInDate())
+            && reservation.getNumberOfPeople() >= 1;
+    }
+
+    // 같은 방의 다른 예약 중 하나라도 겹치는지 확인 / Whether the stay overlaps any of the given stays
+    private static boolean overlapsAny(Reservation reservation, List<Reservation> others) {
+        for (Reservation other : others) {
+            if (reservation.getCheckInDate().isBefore(other.getCheckOutDate())
+                && other.getCheckInDate().isBefore(reservation.getCheckOutDate())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
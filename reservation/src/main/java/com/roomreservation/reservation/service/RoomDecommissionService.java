@@ -0,0 +1,19 @@
+package com.roomreservation.reservation.service;
+
+import com.roomreservation.reservation.dto.RoomDecommissionResult;
+
+public interface RoomDecommissionService {
+
+    /**
+     * 방을 폐쇄합니다. 남은 예약을 묶음 단위로 다른 방에 옮기거나 취소한 뒤 방을 삭제합니다.
+     * 묶음마다 커밋하므로 중간에 실패해도 다시 호출하면 남은 예약부터 이어서 처리합니다.
+     *
+     * Decommissions a room: its reservations are moved to other rooms or cancelled in chunks, then the room is deleted.
+     * Each chunk commits on its own, so calling again after a failure resumes with the reservations that are left.
+     *
+     * @param roomId 폐쇄할 방 ID / ID of the room to decommission
+     * @return 이전/취소 건수 / moved and cancelled counts
+     * @throws IllegalArgumentException 방이 없을 경우 발생 / thrown when the room does not exist
+     */
+    RoomDecommissionResult decommissionRoom(Long roomId);
+}
@@ -0,0 +1,117 @@
+package com.roomreservation.reservation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.roomreservation.reservation.cache.RoomCatalogCache;
+import com.roomreservation.reservation.dto.RoomDecommissionResult;
+import com.roomreservation.reservation.dto.RoomRelocationResult;
+import com.roomreservation.reservation.index.OccupancyCalendar;
+import com.roomreservation.reservation.index.RateCalendar;
+import com.roomreservation.reservation.index.RoomRangeIndex;
+import com.roomreservation.reservation.index.RoomTextIndex;
+import com.roomreservation.reservation.repository.ReservationRepository;
+import com.roomreservation.reservation.repository.RoomRepository;
+
+@Service
+public class RoomDecommissionServiceImpl implements RoomDecommissionService {
+    private static final Logger log = LoggerFactory.getLogger(RoomDecommissionServiceImpl.class);
+
+    // 연속으로 아무것도 처리하지 못한 묶음(삭제 실패 포함)이 이만큼이면 포기
+    // Give up after this many chunks in a row make no progress, failed deletes included
+    private static final int MAX_STALLED_CHUNKS = 3;
+
+    private final RoomRepository roomRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final RoomCatalogCache roomCache;
+    private final RoomRangeIndex rangeIndex;
+    private final RoomTextIndex textIndex;
+    private final RateCalendar rateCalendar;
+    private final OccupancyCalendar occupancyCalendar;
+    private final int chunkSize;
+
+    public RoomDecommissionServiceImpl(RoomRepository roomRepository,
+                                       ReservationRepository reservationRepository,
+                                       ReservationService reservationService,
+                                       RoomCatalogCache roomCache,
+                                       RoomRangeIndex rangeIndex,
+                                       RoomTextIndex textIndex,
+                                       RateCalendar rateCalendar,
+                                       OccupancyCalendar occupancyCalendar,
+                                       @Value("${reservation.decommission.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }
+        this.roomRepository = roomRepository;
+        this.reservationRepository = reservationRepository;
+        this.reservationService = reservationService;
+        this.roomCache = roomCache;
+        this.rangeIndex = rangeIndex;
+        this.textIndex = textIndex;
+        this.rateCalendar = rateCalendar;
+        this.occupancyCalendar = occupancyCalendar;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 방을 폐쇄합니다.
+     * - 먼저 방을 닫아 새 예약과 다른 방에서의 이전을 막음 (실패하거나 포기하면 다시 엶)
+     * - 남은 예약을 chunkSize 건씩 읽어 옮기거나 취소 (메모리에는 한 묶음만 유지)
+     * - 묶음마다 진행 상황을 로그로 남김
+     * - 예약이 남지 않으면 "참조하는 예약이 없을 때만 삭제" 문장 한 번으로 방을 지움.
+     *   삭제되지 않으면 다시 비우되, 진척 없는 묶음과 함께 MAX_STALLED_CHUNKS 번까지만 시도
+     *
+     * Decommissions a room.
+     * - First closes the room to new bookings and to relocations from other rooms; it is reopened on failure
+     * - Reads the remaining reservations chunkSize at a time and moves or cancels them, holding one chunk in memory
+     * - Logs progress after every chunk
+     * - Once none are left, deletes the room with a single "delete unless referenced" statement;
+     *   if nothing is deleted the room is drained again, and failed deletes count toward MAX_STALLED_CHUNKS
+     *   together with chunks that made no progress
+     */
+    @Override
+    public RoomDecommissionResult decommissionRoom(Long roomId) {
+        if (roomId == null || !roomRepository.existsById(roomId)) {
+            throw new IllegalArgumentException("Room not found.");
+        }
+        // 시작 시점의 건수 (로그용, 이후 이전/취소로 바뀜) / Count at the start, for the log only
+        log.info("Decommissioning room {} with {} reservations", roomId, reservationRepository.countByRoomId(roomId));
+
+        long relocated = 0;
+        long cancelled = 0;
+        int stalledChunks = 0;
+        reservationService.closeRoom(roomId);
+        try {
+            while (true) {
+                RoomRelocationResult chunk = reservationService.relocateReservations(roomId, chunkSize);
+                if (chunk.processed() == 0) {
+                    if (roomRepository.deleteIfUnreferenced(roomId) > 0 || !roomRepository.existsById(roomId)) {
+                        break;
+                    }
+                } else {
+                    relocated += chunk.relocated();
+                    cancelled += chunk.cancelled();
+                    log.info("Decommissioning room {}: {} reservations handled so far ({} relocated, {} cancelled)",
+                        roomId, relocated + cancelled, relocated, cancelled);
+                }
+                if (chunk.relocated() + chunk.cancelled() > 0) {
+                    stalledChunks = 0;
+                } else if (++stalledChunks >= MAX_STALLED_CHUNKS) {
+                    throw new IllegalStateException("Room " + roomId + " is too busy to decommission. Try again later.");
+                }
+            }
+        } finally {
+            reservationService.reopenRoom(roomId);
+        }
+        roomCache.roomDeleted(roomId);
+        rangeIndex.remove(roomId);
+        textIndex.remove(roomId);
+        rateCalendar.invalidate(roomId);
+        occupancyCalendar.removeRoom(roomId);
+        log.info("Decommissioned room {}: {} reservations relocated, {} cancelled", roomId, relocated, cancelled);
+        return new RoomDecommissionResult(roomId, relocated, cancelled);
+    }
+}
@@ -0,0 +1,69 @@
+package com.roomreservation.reservation.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 방 ID 기준 줄무늬(striped) 잠금
+ * - 같은 방의 "겹침 확인 -> 저장"을 직렬화하고, 다른 방의 예약은 서로 다른 잠금에서 병렬로 처리
+ * - 잠금 개수가 고정되어 있어 방 수가 늘어도 메모리가 늘지 않음 (서로 다른 방이 같은 잠금을 공유할 수는 있음)
+ *
+ * Striped locks keyed by room ID
+ * - Serializes check-then-save for one room while bookings of other rooms proceed in parallel
+ * - The stripe count is fixed, so memory does not grow with rooms (different rooms may share a stripe)
+ */
+final class RoomLockStripes {
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * @param stripeCount 잠금 개수 (2의 거듭제곱) / number of stripes (a power of two)
+     */
+    RoomLockStripes(int stripeCount) {
+        if (stripeCount < 1 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a power of two.");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = stripeCount - 1;
+    }
+
+    /**
+     * 방 ID에 해당하는 잠금을 반환합니다.
+     * Returns the lock guarding the given room.
+     */
+    ReentrantLock lockFor(Long roomId) {
+        return stripes[stripeOf(roomId)];
+    }
+
+    /**
+     * 여러 방의 잠금을 중복 없이, 항상 같은 순서로 반환합니다. (순서대로 잠그면 교착 상태가 생기지 않음)
+     * Returns the locks of several rooms without duplicates, always in the same order
+     * (locking them in that order cannot deadlock).
+     */
+    List<ReentrantLock> locksFor(Collection<Long> roomIds) {
+        TreeSet<Integer> stripeIndexes = new TreeSet<>();
+        for (Long roomId : roomIds) {
+            stripeIndexes.add(stripeOf(roomId));
+        }
+        List<ReentrantLock> locks = new ArrayList<>(stripeIndexes.size());
+        for (int index : stripeIndexes) {
+            locks.add(stripes[index]);
+        }
+        return locks;
+    }
+
+    private int stripeOf(Long roomId) {
+        if (roomId == null) {
+            return 0;
+        }
+        // 연속된 ID가 고르게 퍼지도록 비트를 섞음 / Spread consecutive IDs across stripes
+        long hash = roomId * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+}
@@ -0,0 +1,65 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.roomreservation.reservation.domain.RoomRate;
+import com.roomreservation.reservation.dto.StayQuote;
+
+public interface RoomRateService {
+
+    /**
+     * 방에 기간별 요금 규칙을 추가합니다.
+     * Adds a date-range rate rule to a room.
+     *
+     * @param roomId 방 ID / room ID
+     * @param rate 요금 규칙 / rate rule
+     * @return 저장된 규칙 / saved rule
+     * @throws IllegalArgumentException 방이 없거나 기간/요금이 잘못된 경우 발생 / thrown when the room is missing or the rule is invalid
+     */
+    RoomRate addRate(Long roomId, RoomRate rate);
+
+    /**
+     * 방의 요금 규칙을 적용 순서대로 조회합니다.
+     * Retrieves a room's rate rules in application order.
+     *
+     * @param roomId 방 ID / room ID
+     * @return 요금 규칙 목록 / rate rules
+     */
+    List<RoomRate> getRates(Long roomId);
+
+    /**
+     * 방의 요금 규칙을 삭제합니다.
+     * Deletes a rate rule of a room.
+     *
+     * @param roomId 방 ID / room ID
+     * @param rateId 규칙 ID / rule ID
+     * @throws IllegalArgumentException 해당 방의 규칙이 아닐 경우 발생 / thrown when the rule does not belong to the room
+     */
+    void deleteRate(Long roomId, Long rateId);
+
+    /**
+     * 한 방의 숙박 요금 견적을 계산합니다.
+     * Quotes the price of a stay in one room.
+     *
+     * @param roomId 방 ID / room ID
+     * @param checkIn 체크인 날짜 / check-in date
+     * @param checkOut 체크아웃 날짜 / check-out date
+     * @param numberOfPeople 숙박 인원 / number of guests
+     * @return 견적 / quote
+     * @throws IllegalArgumentException 방이 없거나, 날짜가 잘못되었거나, 인원을 수용할 수 없는 경우 발생
+     *                                  thrown when the room is missing, the dates are invalid or the party does not fit
+     */
+    StayQuote quote(Long roomId, LocalDate checkIn, LocalDate checkOut, int numberOfPeople);
+
+    /**
+     * 기간과 인원 조건에 맞는 빈 방들의 견적을 한 번에 계산합니다. (검색 결과 페이지용)
+     * Quotes every room that is free for the stay and fits the party, for a search results page.
+     *
+     * @param checkIn 체크인 날짜 / check-in date
+     * @param checkOut 체크아웃 날짜 / check-out date
+     * @param numberOfPeople 숙박 인원 / number of guests
+     * @return 방별 견적 (방 검색 순서) / quotes per room, in search order
+     */
+    List<StayQuote> quoteAvailableRooms(LocalDate checkIn, LocalDate checkOut, int numberOfPeople);
+}
@@ -0,0 +1,141 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.domain.RoomRate;
+import com.roomreservation.reservation.dto.StayQuote;
+import com.roomreservation.reservation.index.RateCalendar;
+import com.roomreservation.reservation.repository.RoomRateRepository;
+
+@Service
+public class RoomRateServiceImpl implements RoomRateService {
+    private final RoomRateRepository roomRateRepository;
+    private final RoomService roomService;
+    private final RateCalendar rateCalendar;
+
+    public RoomRateServiceImpl(RoomRateRepository roomRateRepository, RoomService roomService,
+                               RateCalendar rateCalendar) {
+        this.roomRateRepository = roomRateRepository;
+        this.roomService = roomService;
+        this.rateCalendar = rateCalendar;
+    }
+
+    /**
+     * 요금 규칙을 저장하고 방의 캐시된 요금을 무효화합니다.
+     * Saves a rate rule and drops the room's cached rates.
+     */
+    @Override
+    public RoomRate addRate(Long roomId, RoomRate rate) {
+        Room room = roomService.getRoomById(roomId);
+        if (rate.getStartDate() == null || rate.getEndDate() == null || !rate.getStartDate().isBefore(rate.getEndDate())) {
+            throw new IllegalArgumentException("Check the rate period.");
+        }
+        if (rate.getPrice() < 0) {
+            throw new IllegalArgumentException("Price must be non-negative.");
+        }
+        rate.setId(null);
+        rate.setRoom(room);
+        RoomRate savedRate = roomRateRepository.save(rate);
+        rateCalendar.invalidate(roomId);
+        return savedRate;
+    }
+
+    @Override
+    public List<RoomRate> getRates(Long roomId) {
+        return roomRateRepository.findByRoomId(roomId);
+    }
+
+    @Override
+    public void deleteRate(Long roomId, Long rateId) {
+        RoomRate rate = roomRateRepository.findById(rateId)
+            .filter(found -> roomId.equals(found.getRoomId()))
+            .orElseThrow(() -> new IllegalArgumentException("Rate not found."));
+        roomRateRepository.delete(rate);
+        rateCalendar.invalidate(roomId);
+    }
+
+    /**
+     * 한 방의 견적 (방은 캐시에서, 요금은 요금 달력에서 조회)
+     * Quotes one room; the room comes from the room cache, the rates from the rate calendar.
+     */
+    @Override
+    public StayQuote quote(Long roomId, LocalDate checkIn, LocalDate checkOut, int numberOfPeople) {
+        validateStay(checkIn, checkOut, numberOfPeople);
+        Room room = roomService.getRoomById(roomId);
+        if (room.getMaxPeople() < numberOfPeople) {
+            throw new IllegalArgumentException("The room cannot hold that many people.");
+        }
+        RateCalendar.RoomRates rates = ratesOf(List.of(room))[0];
+        return new StayQuote(roomId, checkIn, checkOut, nights(checkIn, checkOut),
+            rateCalendar.quote(rates, checkIn, checkOut));
+    }
+
+    /**
+     * 빈 방 검색 결과 전체의 견적
+     * - 캐시에 없는 방의 규칙은 쿼리 한 번으로 적재
+     * - 총액은 RateCalendar.quoteAll 한 번으로 계산
+     *
+     * Quotes every room of an availability search
+     * - Rules of rooms missing from the cache are loaded with one query
+     * - Totals come from a single RateCalendar.quoteAll call
+     */
+    @Override
+    public List<StayQuote> quoteAvailableRooms(LocalDate checkIn, LocalDate checkOut, int numberOfPeople) {
+        validateStay(checkIn, checkOut, numberOfPeople);
+        List<Room> rooms = roomService.getAvailableRooms(checkIn, checkOut, numberOfPeople);
+        long[] totals = rateCalendar.quoteAll(ratesOf(rooms), checkIn, checkOut);
+        int nights = nights(checkIn, checkOut);
+        List<StayQuote> quotes = new ArrayList<>(rooms.size());
+        for (int i = 0; i < totals.length; i++) {
+            quotes.add(new StayQuote(rooms.get(i).getId(), checkIn, checkOut, nights, totals[i]));
+        }
+        return quotes;
+    }
+
+    // 방들의 요금 (캐시 우선, 없는 방은 한 번에 적재) / Rates of the rooms, cached first, the rest loaded together
+    private RateCalendar.RoomRates[] ratesOf(List<Room> rooms) {
+        RateCalendar.RoomRates[] rates = new RateCalendar.RoomRates[rooms.size()];
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < rates.length; i++) {
+            Room room = rooms.get(i);
+            rates[i] = rateCalendar.get(room.getId(), room.getPrice());
+            if (rates[i] == null) {
+                missing.add(room.getId());
+            }
+        }
+        if (missing.isEmpty()) {
+            return rates;
+        }
+        long generation = rateCalendar.generation();
+        Map<Long, List<RoomRate>> rulesByRoom = new HashMap<>();
+        for (RoomRate rate : roomRateRepository.findByRoomIds(missing)) {
+            rulesByRoom.computeIfAbsent(rate.getRoomId(), id -> new ArrayList<>()).add(rate);
+        }
+        for (int i = 0; i < rates.length; i++) {
+            if (rates[i] == null) {
+                Room room = rooms.get(i);
+                rates[i] = rateCalendar.build(room.getPrice(), rulesByRoom.getOrDefault(room.getId(), List.of()));
+                rateCalendar.putIfCurrent(generation, room.getId(), rates[i]);
+            }
+        }
+        return rates;
+    }
+
+    private static void validateStay(LocalDate checkIn, LocalDate checkOut, int numberOfPeople) {
+        if (checkIn == null || checkOut == null || !checkIn.isBefore(checkOut) || numberOfPeople < 1) {
+            throw new IllegalArgumentException("Check your search conditions.");
+        }
+    }
+
+    private static int nights(LocalDate checkIn, LocalDate checkOut) {
+        return (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+    }
+}
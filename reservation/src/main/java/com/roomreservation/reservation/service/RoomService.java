@@ -1,8 +1,13 @@
 package com.roomreservation.reservation.service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.CacheStats;
+import com.roomreservation.reservation.dto.CursorPage;
+import com.roomreservation.reservation.dto.RoomSearchHit;
 
 public interface RoomService {
 
@@ -23,6 +28,50 @@ public interface RoomService {
      */
     List<Room> getAllRooms();
 
+    /**
+     * 방 목록을 ID 커서 기준으로 한 페이지씩 조회한다.
+     * Retrieve rooms one keyset page at a time, ordered by ID.
+     * 
+     * @param after 이 ID 다음부터 조회, 첫 페이지는 null / Return rooms after this ID, null for the first page
+     * @param size 페이지 크기, null이면 기본값 / Page size, null for the default
+     * @return 방 페이지 / Page of rooms
+     */
+    CursorPage<Room> getRooms(Long after, Integer size);
+
+    /**
+     * 기간과 인원 조건에 맞는 빈 방을 조회한다.
+     * Retrieve rooms that fit the party and are free for the whole stay.
+     * 
+     * @param checkIn 체크인 날짜 / Check-in date
+     * @param checkOut 체크아웃 날짜 / Check-out date
+     * @param numberOfPeople 숙박 인원 / Number of guests
+     * @return 예약 가능한 방 리스트 / List of bookable rooms
+     */
+    List<Room> getAvailableRooms(LocalDate checkIn, LocalDate checkOut, int numberOfPeople);
+
+    /**
+     * 가격 범위와 수용 인원 조건으로 방을 정렬해 조회한다.
+     * Retrieve rooms filtered by price range and capacity, in the requested order.
+     *
+     * @param minPrice 최소 가격, null이면 제한 없음 / Minimum price, null for no bound
+     * @param maxPrice 최대 가격, null이면 제한 없음 / Maximum price, null for no bound
+     * @param minPeople 최소 수용 인원, null이면 제한 없음 / Minimum capacity, null for no bound
+     * @param sort 정렬 (price, -price, maxPeople, -maxPeople), null이면 가격 오름차순 / Sort order, null for ascending price
+     * @param size 최대 건수, null이면 기본값 / Maximum number of rooms, null for the default
+     * @return 조건에 맞는 방 리스트 / List of matching rooms
+     */
+    List<Room> searchRooms(Integer minPrice, Integer maxPrice, Integer minPeople, String sort, Integer size);
+
+    /**
+     * 이름과 설명을 키워드로 검색해 관련도 순으로 조회한다.
+     * Search rooms by keywords in their name and description, most relevant first.
+     *
+     * @param query 검색어 (한국어/영어) / Keywords, Korean or English
+     * @param size 최대 건수, null이면 기본값 / Maximum number of rooms, null for the default
+     * @return 관련도 순 검색 결과 / Results ordered by relevance
+     */
+    List<RoomSearchHit> searchRoomsByKeyword(String query, Integer size);
+
     /**
      * ID에 해당하는 방 정보를 조회한다.
      * Retrieve room information by ID.
@@ -50,4 +99,12 @@ public interface RoomService {
      * @return 
      */
     void deleteRoom(Long id);
+
+    /**
+     * 방 캐시의 적중/실패/제거 통계를 조회한다.
+     * Retrieve hit/miss/eviction statistics of the room caches.
+     * 
+     * @return 캐시 이름별 통계 / Statistics by cache name
+     */
+    Map<String, CacheStats> getCacheStats();
 }
\ No newline at end of file
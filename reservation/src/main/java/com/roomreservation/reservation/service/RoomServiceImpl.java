@@ -1,19 +1,49 @@
 package com.roomreservation.reservation.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.roomreservation.reservation.cache.RoomCatalogCache;
 import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.CacheStats;
+import com.roomreservation.reservation.dto.CursorPage;
+import com.roomreservation.reservation.dto.RoomSearchHit;
+import com.roomreservation.reservation.dto.RoomSort;
+import com.roomreservation.reservation.index.IndexLoadGate;
+import com.roomreservation.reservation.index.OccupancyCalendar;
+import com.roomreservation.reservation.index.RateCalendar;
+import com.roomreservation.reservation.index.RoomRangeIndex;
+import com.roomreservation.reservation.index.RoomTextIndex;
 import com.roomreservation.reservation.repository.RoomRepository;
 
 @Service
 public class RoomServiceImpl implements RoomService {
     private final RoomRepository roomRepository;
+    private final OccupancyCalendar occupancyCalendar;
+    private final RoomCatalogCache roomCache;
+    private final RoomRangeIndex rangeIndex;
+    private final RoomTextIndex textIndex;
+    private final RateCalendar rateCalendar;
+    private final IndexLoadGate loadGate;
 
-    public RoomServiceImpl(RoomRepository roomRepository) {
+    public RoomServiceImpl(RoomRepository roomRepository, OccupancyCalendar occupancyCalendar,
+                           RoomCatalogCache roomCache, RoomRangeIndex rangeIndex, RoomTextIndex textIndex,
+                           RateCalendar rateCalendar, IndexLoadGate loadGate) {
         this.roomRepository = roomRepository;
+        this.occupancyCalendar = occupancyCalendar;
+        this.roomCache = roomCache;
+        this.rangeIndex = rangeIndex;
+        this.textIndex = textIndex;
+        this.rateCalendar = rateCalendar;
+        this.loadGate = loadGate;
     }
 
     /**
@@ -27,13 +57,19 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public Room addRoom(Room room) {
+        // 적재 중 인덱스에 넣으면 적재 마지막의 load()에 덮어써짐 / Index writes during the startup load would be overwritten by it
+        loadGate.checkOpen();
         if (room.getPrice() < 0) {
             throw new IllegalArgumentException("Price must be non-negative.");
         }
         if (room.getMaxPeople() < 1) {
             throw new IllegalArgumentException("MaxPeople must be non-negative.");
         }
-        return roomRepository.save(room);
+        Room savedRoom = roomRepository.save(room);
+        roomCache.roomSaved(savedRoom);
+        rangeIndex.put(savedRoom);
+        textIndex.put(savedRoom);
+        return savedRoom;
     }
 
     /**
@@ -48,8 +84,130 @@ public class RoomServiceImpl implements RoomService {
     }
 
     /**
-     * ID에 해당하는 방 정보를 조회한다.
-     * Retrieve room information by ID.
+     * 방 목록을 ID 커서 기준으로 한 페이지씩 조회한다.
+     * Retrieve rooms one keyset page at a time, ordered by ID.
+     * 
+     * @param after 이 ID 다음부터 조회, 첫 페이지는 null / Return rooms after this ID, null for the first page
+     * @param size 페이지 크기, null이면 기본값 / Page size, null for the default
+     * @return 방 페이지 / Page of rooms
+     * @throws IllegalArgumentException 페이지 크기가 1 미만일 경우 발생
+     *                                  Throws when the page size is less than 1
+     */
+    @Override
+    public CursorPage<Room> getRooms(Long after, Integer size) {
+        int pageSize = CursorPage.boundedSize(size);
+        List<Room> rooms = roomRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(pageSize));
+        return CursorPage.of(rooms, pageSize, Room::getId);
+    }
+
+    /**
+     * 기간과 인원 조건에 맞는 빈 방을 조회한다.
+     * - 점유 달력이 기간을 다루면 인원 조건으로 후보를 고른 뒤 달력으로 거름 (후보는 메모리 정렬 인덱스에서, 비어 있으면 DB에서)
+     * - 그렇지 않거나 시작 시 적재가 아직 끝나지 않았으면 DB에서 NOT EXISTS 쿼리 한 번으로 조회
+     * Retrieve rooms that fit the party and are free for the whole stay.
+     * - If the occupancy calendar covers the window, capacity candidates are filtered by the calendar
+     *   (candidates come from the in-memory sorted index, or from the database while it is empty)
+     * - Otherwise, or while the startup load is still filling the calendar, a single NOT EXISTS query runs in the database
+     * 
+     * @param checkIn 체크인 날짜 / Check-in date
+     * @param checkOut 체크아웃 날짜 / Check-out date
+     * @param numberOfPeople 숙박 인원 / Number of guests
+     * @return 예약 가능한 방 리스트 / List of bookable rooms
+     * @throws IllegalArgumentException 날짜가 없거나 순서가 틀렸거나 인원이 1 미만일 경우 발생
+     *                                  Throws when dates are missing or reversed, or numberOfPeople is less than 1
+     */
+    @Override
+    public List<Room> getAvailableRooms(LocalDate checkIn, LocalDate checkOut, int numberOfPeople) {
+        if (checkIn == null || checkOut == null || !checkIn.isBefore(checkOut) || numberOfPeople < 1) {
+            throw new IllegalArgumentException("Check your search conditions.");
+        }
+        if (!loadGate.isOpen() || !occupancyCalendar.covers(checkIn, checkOut)) {
+            return roomRepository.findAvailableRooms(checkIn, checkOut, numberOfPeople);
+        }
+        List<Room> candidates = rangeIndex.isLoaded()
+            ? rangeIndex.find(0, Integer.MAX_VALUE, numberOfPeople, RoomSort.CAPACITY_ASC, Integer.MAX_VALUE)
+            : roomRepository.findByMaxPeopleGreaterThanEqual(numberOfPeople);
+        long[] candidateIds = new long[candidates.size()];
+        Map<Long, Room> roomsById = new HashMap<>();
+        for (int i = 0; i < candidateIds.length; i++) {
+            Room room = candidates.get(i);
+            candidateIds[i] = room.getId();
+            roomsById.put(room.getId(), room);
+        }
+        List<Room> availableRooms = new ArrayList<>();
+        for (long roomId : occupancyCalendar.filterAvailable(candidateIds, checkIn, checkOut)) {
+            availableRooms.add(roomsById.get(roomId));
+        }
+        return availableRooms;
+    }
+
+    /**
+     * 가격 범위와 수용 인원 조건으로 방을 정렬해 조회한다.
+     * - 메모리 정렬 인덱스가 채워져 있으면 인덱스에서 조회 (DB 접근 없음)
+     * - 시작 직후 인덱스가 아직 비어 있으면 DB 인덱스를 타는 쿼리 한 번으로 조회
+     * Retrieve rooms filtered by price range and capacity, in the requested order.
+     * - Served from the in-memory sorted index once it is loaded, without touching the database
+     * - Right after startup, before the index is loaded, one query backed by the database indexes is used
+     * 
+     * @param minPrice 최소 가격, null이면 제한 없음 / Minimum price, null for no bound
+     * @param maxPrice 최대 가격, null이면 제한 없음 / Maximum price, null for no bound
+     * @param minPeople 최소 수용 인원, null이면 제한 없음 / Minimum capacity, null for no bound
+     * @param sort 정렬 (price, -price, maxPeople, -maxPeople), null이면 가격 오름차순 / Sort order, null for ascending price
+     * @param size 최대 건수, null이면 기본값 / Maximum number of rooms, null for the default
+     * @return 조건에 맞는 방 리스트 / List of matching rooms
+     * @throws IllegalArgumentException 범위가 잘못되었거나 정렬 값을 알 수 없을 경우 발생
+     *                                  Throws when a bound is invalid or the sort order is unknown
+     */
+    @Override
+    public List<Room> searchRooms(Integer minPrice, Integer maxPrice, Integer minPeople, String sort, Integer size) {
+        int lowPrice = minPrice == null ? 0 : minPrice;
+        int highPrice = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+        int people = minPeople == null ? 1 : minPeople;
+        if (lowPrice < 0 || lowPrice > highPrice || people < 1) {
+            throw new IllegalArgumentException("Check your search conditions.");
+        }
+        RoomSort order = RoomSort.of(sort);
+        int limit = CursorPage.boundedSize(size);
+        if (rangeIndex.isLoaded()) {
+            return rangeIndex.find(lowPrice, highPrice, people, order, limit);
+        }
+        return roomRepository.findByPriceBetweenAndMaxPeopleGreaterThanEqual(lowPrice, highPrice, people,
+            sortOf(order), Limit.of(limit));
+    }
+
+    /**
+     * 이름과 설명을 키워드로 검색해 관련도 순으로 조회한다.
+     * - 메모리 역색인에서 검색어 토큰의 목록만 훑어 BM25 점수 순으로 반환 (DB 접근 없음)
+     * - 시작 직후 색인이 아직 비어 있으면 DB에서 검색어 전체를 포함하는 방을 찾음 (점수 0, ID 순)
+     * Search rooms by keywords in their name and description, most relevant first.
+     * - Served from the in-memory inverted index, scanning only the query tokens' postings and ranking by BM25
+     * - Right after startup, before the index is loaded, the database is searched for the whole text (score 0, ID order)
+     * 
+     * @param query 검색어 (한국어/영어) / Keywords, Korean or English
+     * @param size 최대 건수, null이면 기본값 / Maximum number of rooms, null for the default
+     * @return 관련도 순 검색 결과 / Results ordered by relevance
+     * @throws IllegalArgumentException 검색어가 비어 있을 경우 발생
+     *                                  Throws when the query is blank
+     */
+    @Override
+    public List<RoomSearchHit> searchRoomsByKeyword(String query, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Check your search keywords.");
+        }
+        int limit = CursorPage.boundedSize(size);
+        if (textIndex.isLoaded()) {
+            return textIndex.search(query, limit);
+        }
+        String text = query.trim();
+        return roomRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(text, text, Limit.of(limit))
+            .stream()
+            .map(room -> new RoomSearchHit(room, 0))
+            .toList();
+    }
+
+    /**
+     * ID에 해당하는 방 정보를 조회한다. (캐시 우선)
+     * Retrieve room information by ID, served from the cache when possible.
      * 
      * @param id 조회할 방 ID / Room ID to retrieve
      * @return 조회된 방 객체 / Retrieved Room object
@@ -58,9 +216,9 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public Room getRoomById(Long id) {
-        Optional<Room> registeredId = roomRepository.findById(id);
-        if (registeredId.isPresent()) {
-            return registeredId.get();
+        Room room = roomCache.getRoom(id, roomId -> roomRepository.findById(roomId).orElse(null));
+        if (room != null) {
+            return room;
         } else {
             throw new IllegalArgumentException("The id is not existed.");
         }
@@ -78,6 +236,7 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public Room updateRoom(Long id, Room updatedRoom) {
+        loadGate.checkOpen();
         Optional<Room> checkId = roomRepository.findById(id);
         if (checkId.isPresent()) {
             Room existingRoom = checkId.get();
@@ -85,7 +244,11 @@ public class RoomServiceImpl implements RoomService {
             existingRoom.setPrice(updatedRoom.getPrice());
             existingRoom.setDescription(updatedRoom.getDescription());
             existingRoom.setMaxPeople(updatedRoom.getMaxPeople());
-            return roomRepository.save(existingRoom);
+            Room savedRoom = roomRepository.save(existingRoom);
+            roomCache.roomSaved(savedRoom);
+            rangeIndex.put(savedRoom);
+            textIndex.put(savedRoom);
+            return savedRoom;
         } else {
             throw new IllegalArgumentException("Room not found.");
         }
@@ -101,11 +264,34 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public void deleteRoom(Long id) {
+        loadGate.checkOpen();
         Optional<Room> existingId = roomRepository.findById(id);
         if (existingId.isPresent()) {
             roomRepository.deleteById(id);
+            roomCache.roomDeleted(id);
+            rangeIndex.remove(id);
+            textIndex.remove(id);
+            rateCalendar.invalidate(id);
+            occupancyCalendar.removeRoom(id);
         } else {
             throw new IllegalArgumentException("Room not found.");
         }
     }
+
+    /**
+     * 방 캐시의 적중/실패/제거 통계를 조회한다.
+     * Retrieve hit/miss/eviction statistics of the room caches.
+     * 
+     * @return 캐시 이름별 통계 / Statistics by cache name
+     */
+    @Override
+    public Map<String, CacheStats> getCacheStats() {
+        return roomCache.stats();
+    }
+
+    // 인덱스와 같은 정렬 (동률은 같은 방향의 ID 순) / Same order as the index, ties by ID in the same direction
+    private static Sort sortOf(RoomSort order) {
+        Sort.Direction direction = order.descending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Sort.by(direction, order.byPrice() ? "price" : "maxPeople", "id");
+    }
 }
\ No newline at end of file
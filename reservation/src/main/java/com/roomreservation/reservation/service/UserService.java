@@ -1,8 +1,10 @@
 package com.roomreservation.reservation.service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.dto.CursorPage;
 
 public interface UserService {
 
@@ -25,6 +27,16 @@ public interface UserService {
      */
     User login(String email, String password);
 
+    /**
+     * 이메일과 비밀번호로 로그인한다. 비밀번호 검증은 전용 스레드 풀에서 실행되어 호출 스레드를 붙잡지 않는다.
+     * Authenticate user by email and password without holding the calling thread during password verification.
+     * 
+     * @param email 로그인 이메일 / Email for login
+     * @param password 로그인 비밀번호 / Password for login
+     * @return 로그인된 사용자 객체를 담은 Future / Future of the logged-in User object
+     */
+    CompletableFuture<User> loginAsync(String email, String password);
+
     /**
      * 모든 사용자를 조회한다. 관리자만 접근 가능하다.
      * Retrieve all users. Only accessible by Admin.
@@ -33,6 +45,16 @@ public interface UserService {
      */
     List<User> getAllUsers();
 
+    /**
+     * 사용자 목록을 ID 커서 기준으로 한 페이지씩 조회한다. 관리자만 접근 가능하다.
+     * Retrieve users one keyset page at a time, ordered by ID. Only accessible by Admin.
+     * 
+     * @param after 이 ID 다음부터 조회, 첫 페이지는 null / Return users after this ID, null for the first page
+     * @param size 페이지 크기, null이면 기본값 / Page size, null for the default
+     * @return 사용자 페이지 / Page of users
+     */
+    CursorPage<User> getUsers(Long after, Integer size);
+
     /**
      * 특정 사용자를 ID로 조회한다. 관리자만 접근 가능하다.
      * Retrieve a user by ID. Only accessible by Admin.
@@ -2,25 +2,37 @@ package com.roomreservation.reservation.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import com.roomreservation.reservation.cache.UserLookupCache;
 import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.dto.CursorPage;
 import com.roomreservation.reservation.repository.UserRepository;
 
 @Service
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final CredentialVerifier credentialVerifier;
+    private final UserLookupCache userCache;
 
     // 생성자 주입 Constructor Injection
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, PasswordHasher passwordHasher,
+                           CredentialVerifier credentialVerifier, UserLookupCache userCache) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.credentialVerifier = credentialVerifier;
+        this.userCache = userCache;
     }
 
      /**
      * 회원가입 메서드
-     * Register a new user if email does not already exist.
+     * Register a new user if email does not already exist. The password is stored hashed.
      * @param user 회원 정보 / User info
      * @return 저장된 User 객체 / Saved User object
      * @throws IllegalArgumentException 중복 이메일인 경우 / If email already exists
@@ -31,7 +43,10 @@ public class UserServiceImpl implements UserService {
         if (existingUser.isPresent()) {
             throw new IllegalArgumentException("Email already exists");
         }
-        return userRepository.save(user);
+        user.setPassword(passwordHasher.hash(user.getPassword()));
+        User savedUser = userRepository.save(user);
+        userCache.userSaved(user.getEmail());
+        return savedUser;
     }
 
     /**
@@ -44,19 +59,44 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public User login(String email, String password) {
-        Optional<User> registeredUser = userRepository.findByEmail(email);
-        if (registeredUser.isPresent()) {
-            User user = registeredUser.get();
-            if (user.getPassword().equals(password)) {
-                return user;
-            } else {
-                throw new IllegalArgumentException("Password is not correct.");
+        try {
+            return loginAsync(email, password).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-        } else {
-            throw new IllegalArgumentException("Email is not exist. Please, Create an account.");
+            throw e;
         }
     }
 
+    /**
+     * 비동기 로그인 메서드
+     * - 사용자 조회는 짧은 TTL 캐시를 거치고, 비밀번호 검증은 CredentialVerifier 스레드 풀에서 실행
+     * Authenticate user asynchronously.
+     * - The user lookup goes through a short-TTL cache, and the password check runs on the CredentialVerifier pool
+     * @param email 사용자 이메일 / User email
+     * @param password 사용자 비밀번호 / User password
+     * @return 로그인 성공 시 User 객체로 완료 / Completes with the User object if login successful
+     * @throws IllegalArgumentException 이메일이 존재하지 않거나 비밀번호가 틀린 경우 (Future 실패로 전달)
+     *                                  If email not found or password incorrect (delivered as a failed future)
+     * @throws IllegalStateException 검증 대기열이 가득 찬 경우 (Future 실패로 전달)
+     *                               If the verification queue is full (delivered as a failed future)
+     */
+    @Override
+    public CompletableFuture<User> loginAsync(String email, String password) {
+        User user = userCache.getUser(email, key -> userRepository.findByEmail(key).orElse(null));
+        if (user == null) {
+            return CompletableFuture.failedFuture(
+                new IllegalArgumentException("Email is not exist. Please, Create an account."));
+        }
+        return credentialVerifier.verify(password, user.getPassword()).thenApply(matches -> {
+            if (!matches) {
+                throw new IllegalArgumentException("Password is not correct.");
+            }
+            return user;
+        });
+    }
+
     /**
      * 모든 사용자 조회 메서드 (Admin 용)
      * Retrieve all users.
@@ -67,6 +107,21 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * 사용자 페이지 조회 메서드 (Admin 용)
+     * Retrieve users one keyset page at a time, ordered by ID.
+     * @param after 이 ID 다음부터 조회, 첫 페이지는 null / Return users after this ID, null for the first page
+     * @param size 페이지 크기, null이면 기본값 / Page size, null for the default
+     * @return 사용자 페이지 / Page of users
+     * @throws IllegalArgumentException 페이지 크기가 1 미만일 경우 / If the page size is less than 1
+     */
+    @Override
+    public CursorPage<User> getUsers(Long after, Integer size) {
+        int pageSize = CursorPage.boundedSize(size);
+        List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(pageSize));
+        return CursorPage.of(users, pageSize, User::getId);
+    }
+
     /**
      * 특정 사용자 조회 메서드 (Admin 용)
      * Retrieve user by ID.
@@ -0,0 +1,144 @@
+package com.roomreservation.reservation.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.roomreservation.reservation.ReservationApplication;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 실행 모드 비교 (동시 클라이언트 1,000개)
+ * - 모드마다 애플리케이션을 새로 띄우고, 예약 조회(JPA) 요청을 닫힌 루프로 보내 처리량과 p99를 측정
+ * - 실행: ./mvnw test -Dtest=ExecutionModeBenchmark -Dbenchmark=true
+ *
+ * Platform-thread vs. virtual-thread execution mode at 1,000 concurrent clients
+ * - Boots the application per mode and drives reservation reads (JPA) in a closed loop, measuring throughput and p99
+ * - Run with: ./mvnw test -Dtest=ExecutionModeBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ExecutionModeBenchmark {
+    private static final int CLIENTS = 1_000;
+    private static final int ROOMS = 20;
+    private static final int RESERVATIONS = 500;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(15);
+
+    @Test
+    void throughputAndP99_PlatformVsVirtualThreads() throws Exception {
+        measure(false);
+        measure(true);
+    }
+
+    private void measure(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = SpringApplication.run(ReservationApplication.class,
+                "--server.port=0", "--logging.level.root=WARN",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + mode)) {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            seed(client, baseUrl);
+
+            run(client, baseUrl, WARMUP);
+            Result result = run(client, baseUrl, MEASURE);
+
+            long[] latencies = result.latencies().stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("%s threads: %.0f req/s, p50=%d ms, p99=%d ms, errors=%d%n", mode,
+                latencies.length / (double) MEASURE.toSeconds(),
+                percentile(latencies, 0.50), percentile(latencies, 0.99), result.errors());
+            assertTrue(latencies.length > 0);
+        }
+    }
+
+    // 사용자 1명, 방 20개, 예약 500건 생성 / Creates one user, 20 rooms and 500 reservations
+    private void seed(HttpClient client, String baseUrl) throws Exception {
+        post(client, baseUrl + "/api/users/register",
+            "{\"name\":\"bench\",\"email\":\"bench@example.com\",\"password\":\"1234\",\"phoneNumber\":\"010\"}");
+        for (int i = 1; i <= ROOMS; i++) {
+            post(client, baseUrl + "/api/rooms",
+                "{\"name\":\"Room " + i + "\",\"description\":\"bench\",\"price\":100,\"maxPeople\":4}");
+        }
+        StringBuilder batch = new StringBuilder("[");
+        for (int i = 0; i < RESERVATIONS; i++) {
+            int room = 1 + i % ROOMS;
+            int week = i / ROOMS;
+            batch.append(i == 0 ? "" : ",")
+                .append("{\"user\":{\"id\":1},\"room\":{\"id\":").append(room).append("},")
+                .append("\"checkInDate\":\"").append(LocalDate.now().plusWeeks(week + 1)).append("\",")
+                .append("\"checkOutDate\":\"").append(LocalDate.now().plusWeeks(week + 1).plusDays(3)).append("\",")
+                .append("\"numberOfPeople\":2}");
+        }
+        post(client, baseUrl + "/api/reservations/batch", batch.append("]").toString());
+    }
+
+    // 클라이언트마다 응답을 받으면 바로 다음 요청을 보내는 닫힌 루프 / Closed loop: each client sends its next request on every response
+    private Result run(HttpClient client, String baseUrl, Duration duration) {
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        CompletableFuture<?>[] clients = new CompletableFuture<?>[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = next(client, baseUrl, deadline, latencies, errors);
+        }
+        CompletableFuture.allOf(clients).join();
+        return new Result(latencies, errors.get());
+    }
+
+    private CompletableFuture<Void> next(HttpClient client, String baseUrl, long deadline,
+                                         Queue<Long> latencies, AtomicLong errors) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = random.nextBoolean()
+            ? "/api/reservations/" + (1 + random.nextInt(RESERVATIONS))
+            : "/api/reservations?after=" + random.nextInt(RESERVATIONS) + "&size=20";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .handle((response, error) -> {
+                if (error != null || response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                } else {
+                    latencies.add(System.nanoTime() - start);
+                }
+                return null;
+            })
+            .thenCompose(ignored -> next(client, baseUrl, deadline, latencies, errors));
+    }
+
+    private static void post(HttpClient client, String url, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    // 정렬된 나노초 배열의 백분위 값을 밀리초로 반환 / Percentile of sorted nanos, in milliseconds
+    private static long percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000;
+    }
+
+    private record Result(Queue<Long> latencies, long errors) {
+    }
+}
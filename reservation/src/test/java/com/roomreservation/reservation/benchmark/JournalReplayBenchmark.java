@@ -0,0 +1,53 @@
+package com.roomreservation.reservation.benchmark;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.roomreservation.reservation.journal.ReservationEventType;
+import com.roomreservation.reservation.journal.ReservationJournal;
+
+/**
+ * 예약 저널 추가/재생 처리량 측정 (이벤트 2,000,000건, 세그먼트 64MB)
+ * - 실행: ./mvnw test -Dtest=JournalReplayBenchmark -Dbenchmark=true
+ *
+ * Append and replay throughput of the reservation journal at 2M events in 64 MB segments
+ * - Run with: ./mvnw test -Dtest=JournalReplayBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class JournalReplayBenchmark {
+    private static final int EVENTS = 2_000_000;
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendAndReplayThroughput_At2mEvents() {
+        LocalDate checkIn = LocalDate.now();
+        try (ReservationJournal journal = ReservationJournal.open(directory, SEGMENT_SIZE)) {
+            long started = System.nanoTime();
+            for (long id = 1; id <= EVENTS; id++) {
+                journal.append(ReservationEventType.CREATED, id, id % 10_000, checkIn, checkIn.plusDays(2), 2, 100);
+            }
+            double appendSeconds = (System.nanoTime() - started) / 1e9;
+
+            // 첫 번은 예열, 두 번째를 측정 / The first pass warms up, the second is measured
+            long[] checksum = new long[1];
+            journal.replay(1, event -> checksum[0] += event.roomId());
+            started = System.nanoTime();
+            long replayed = journal.replay(1, event -> checksum[0] += event.roomId());
+            double replaySeconds = (System.nanoTime() - started) / 1e9;
+
+            System.out.printf("append: %.2f M events/s, replay: %.2f M events/s%n",
+                EVENTS / appendSeconds / 1e6, replayed / replaySeconds / 1e6);
+            assertEquals(EVENTS, replayed);
+            assertTrue(replayed / replaySeconds > 1_000_000, "Replay should exceed 1M events/s");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.roomreservation.reservation.benchmark;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.roomreservation.reservation.cache.UserLookupCache;
+import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.repository.UserRepository;
+import com.roomreservation.reservation.service.CredentialVerifier;
+import com.roomreservation.reservation.service.PasswordHasher;
+import com.roomreservation.reservation.service.UserServiceImpl;
+
+/**
+ * 해시 비용(PBKDF2 반복 횟수)별 로그인 처리량 측정
+ * - 사용자 조회는 Mock + 캐시로 대체하고, CPU 코어 수만큼의 검증 스레드 풀에서 처리되는 로그인 수를 측정
+ * - 실행: ./mvnw test -Dtest=LoginThroughputBenchmark -Dbenchmark=true
+ *
+ * Login throughput per hash cost (PBKDF2 iteration count)
+ * - The user lookup is mocked behind the cache; measures logins completed by the CPU-sized verification pool
+ * - Run with: ./mvnw test -Dtest=LoginThroughputBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class LoginThroughputBenchmark {
+    private static final int[] ITERATIONS = {10_000, 50_000, 100_000, 200_000};
+    private static final int QUEUE_CAPACITY = 64;
+    private static final long MEASURE_NANOS = Duration.ofSeconds(3).toNanos();
+
+    @Test
+    void loginThroughput_PerHashCost() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        System.out.printf("verification threads=%d%n", threads);
+        for (int iterations : ITERATIONS) {
+            PasswordHasher passwordHasher = new PasswordHasher(iterations);
+            User user = new User();
+            user.setEmail("bench@example.com");
+            user.setPassword(passwordHasher.hash("1234"));
+            UserRepository userRepository = mock(UserRepository.class);
+            when(userRepository.findByEmail("bench@example.com")).thenReturn(Optional.of(user));
+
+            try (CredentialVerifier verifier = new CredentialVerifier(passwordHasher, threads, QUEUE_CAPACITY)) {
+                UserServiceImpl userService = new UserServiceImpl(userRepository, passwordHasher, verifier,
+                    new UserLookupCache(100, Duration.ofSeconds(30)));
+
+                // 워밍업 / Warm-up
+                run(userService, MEASURE_NANOS / 3, threads);
+                long start = System.nanoTime();
+                long logins = run(userService, MEASURE_NANOS, threads);
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                System.out.printf("iterations=%,d: %.0f logins/s, %.1f ms CPU per login%n",
+                    iterations, logins / seconds, seconds * 1_000 * threads / logins);
+                assertEquals(true, logins > 0);
+            }
+        }
+    }
+
+    // 대기열이 넘치지 않도록 동시 요청 수를 제한하며 주어진 시간 동안 로그인 / Logs in for the given time, never overfilling the queue
+    private static long run(UserServiceImpl userService, long nanos, int threads) {
+        Semaphore inFlight = new Semaphore(threads + QUEUE_CAPACITY);
+        AtomicLong completed = new AtomicLong();
+        long deadline = System.nanoTime() + nanos;
+        while (System.nanoTime() < deadline) {
+            inFlight.acquireUninterruptibly();
+            CompletableFuture<User> login = userService.loginAsync("bench@example.com", "1234");
+            login.whenComplete((user, error) -> {
+                if (error == null) {
+                    completed.incrementAndGet();
+                }
+                inFlight.release();
+            });
+        }
+        inFlight.acquireUninterruptibly(threads + QUEUE_CAPACITY);
+        return completed.get();
+    }
+}
@@ -0,0 +1,104 @@
+package com.roomreservation.reservation.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.roomreservation.reservation.cache.RoomCatalogCache;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.index.IndexLoadGate;
+import com.roomreservation.reservation.index.OccupancyCalendar;
+import com.roomreservation.reservation.index.RateCalendar;
+import com.roomreservation.reservation.index.RoomRangeIndex;
+import com.roomreservation.reservation.index.RoomTextIndex;
+import com.roomreservation.reservation.repository.RoomRepository;
+import com.roomreservation.reservation.service.RoomServiceImpl;
+
+/**
+ * 빈 방 검색 지연 시간 측정 (방 10,000개, 예약 1,000,000건)
+ * - 인원 조건 후보 조회는 Mock으로 대체하고, 점유 달력으로 거르는 비용만 측정
+ * - 실행: ./mvnw test -Dtest=RoomAvailabilityBenchmark -Dbenchmark=true
+ *
+ * Latency of the available-room search at 10k rooms and 1M reservations
+ * - The capacity query is mocked, so only the occupancy-calendar filtering is measured
+ * - Run with: ./mvnw test -Dtest=RoomAvailabilityBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class RoomAvailabilityBenchmark {
+    private static final int ROOMS = 10_000;
+    private static final int RESERVATIONS_PER_ROOM = 100;
+    private static final int WARMUP_QUERIES = 2_000;
+    private static final int MEASURED_QUERIES = 5_000;
+
+    @Test
+    void searchLatency_At10kRoomsAnd1mReservations() {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        OccupancyCalendar calendar = new OccupancyCalendar();
+
+        // 방마다 100건씩 겹치지 않는 예약 생성 / 100 non-overlapping stays per room
+        List<Room> rooms = new ArrayList<>(ROOMS);
+        for (long id = 1; id <= ROOMS; id++) {
+            Room room = new Room();
+            room.setId(id);
+            room.setMaxPeople(1 + random.nextInt(6));
+            rooms.add(room);
+
+            LocalDate checkIn = today;
+            for (int i = 0; i < RESERVATIONS_PER_ROOM; i++) {
+                checkIn = checkIn.plusDays(random.nextInt(8));
+                LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(7));
+                calendar.occupy(id, checkIn, checkOut);
+                checkIn = checkOut;
+            }
+        }
+
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        when(roomRepository.findByMaxPeopleGreaterThanEqual(anyInt())).thenAnswer(invocation -> {
+            int people = invocation.getArgument(0);
+            return rooms.stream().filter(room -> room.getMaxPeople() >= people).toList();
+        });
+        RoomServiceImpl roomService = new RoomServiceImpl(roomRepository, calendar,
+            new RoomCatalogCache(100, Duration.ofMinutes(5)), new RoomRangeIndex(), new RoomTextIndex(),
+            new RateCalendar(730), IndexLoadGate.opened());
+
+        long[] latencies = new long[MEASURED_QUERIES];
+        long found = 0;
+        for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+            LocalDate checkIn = today.plusDays(random.nextInt(700));
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(14));
+            int people = 1 + random.nextInt(4);
+
+            long start = System.nanoTime();
+            found += roomService.getAvailableRooms(checkIn, checkOut, people).size();
+            long elapsed = System.nanoTime() - start;
+            if (i >= WARMUP_QUERIES) {
+                latencies[i - WARMUP_QUERIES] = elapsed;
+            }
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("rooms=%d reservations=%d calendar=%d KB%n",
+            ROOMS, ROOMS * RESERVATIONS_PER_ROOM, calendar.estimatedHeapBytes() / 1024);
+        System.out.printf("search latency (us): p50=%d p95=%d p99=%d max=%d, avg rooms found=%d%n",
+            percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+            latencies[latencies.length - 1] / 1_000, found / (WARMUP_QUERIES + MEASURED_QUERIES));
+        assertTrue(found > 0);
+    }
+
+    // 정렬된 나노초 배열의 백분위 값을 마이크로초로 반환 / Percentile of sorted nanos, in microseconds
+    private static long percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000;
+    }
+}
@@ -0,0 +1,68 @@
+package com.roomreservation.reservation.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+import com.roomreservation.reservation.dto.CacheStats;
+
+public class BoundedTtlCacheTest {
+    // 테스트에서 직접 움직이는 시계 / Clock moved by hand in the tests
+    private final AtomicLong now = new AtomicLong();
+
+    private final BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(2, Duration.ofSeconds(10), now::get);
+
+    @Test
+    void get_ShouldLoadOnceAndCountHits() {
+        AtomicLong loads = new AtomicLong();
+
+        cache.get(1L, id -> "room" + loads.incrementAndGet());
+        String value = cache.get(1L, id -> "room" + loads.incrementAndGet());
+
+        assertEquals("room1", value);
+        assertEquals(new CacheStats(1, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyUsed_WhenFull() {
+        // 1, 2를 넣고 1을 다시 읽은 뒤 3을 넣으면 2가 제거됨
+        // With 1 and 2 cached and 1 read again, adding 3 evicts 2
+        cache.get(1L, id -> "one");
+        cache.get(2L, id -> "two");
+        cache.get(1L, id -> "one");
+        cache.get(3L, id -> "three");
+
+        assertEquals("reloaded", cache.get(2L, id -> "reloaded"));
+        assertEquals(2, cache.stats().evictions());
+    }
+
+    @Test
+    void get_ShouldReload_WhenEntryExpired() {
+        cache.get(1L, id -> "old");
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertEquals("new", cache.get(1L, id -> "new"));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void get_ShouldNotStoreLoad_WhenInvalidatedWhileLoading() {
+        // 읽는 도중 무효화되면 읽은 값(오래된 값)은 저장하지 않음
+        // A value loaded while the key was invalidated is not stored
+        cache.get(1L, id -> {
+            cache.invalidate(1L);
+            return "stale";
+        });
+
+        assertEquals("fresh", cache.get(1L, id -> "fresh"));
+    }
+
+    @Test
+    void get_ShouldNotCacheNull() {
+        assertNull(cache.get(1L, id -> null));
+        assertEquals(0, cache.stats().size());
+    }
+}
@@ -0,0 +1,146 @@
+package com.roomreservation.reservation.index;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.RowVersion;
+import com.roomreservation.reservation.metrics.MetricsRegistry;
+import com.roomreservation.reservation.repository.ReservationRepository;
+import com.roomreservation.reservation.repository.RoomRepository;
+
+public class InMemoryIndexLoaderTest {
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 7, 1);
+
+    @TempDir
+    Path directory;
+
+    private ReservationRepository reservationRepository;
+    private RoomRepository roomRepository;
+    private ReservationIntervalIndex intervalIndex;
+    private ReservationStatistics statistics;
+    private RoomRangeIndex roomRangeIndex;
+    private MetricsRegistry metricsRegistry;
+    private IndexLoadGate loadGate;
+
+    @BeforeEach
+    public void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        roomRepository = mock(RoomRepository.class);
+        intervalIndex = new ReservationIntervalIndex();
+        statistics = new ReservationStatistics();
+        roomRangeIndex = new RoomRangeIndex();
+        metricsRegistry = new MetricsRegistry();
+        loadGate = new IndexLoadGate();
+    }
+
+    @Test
+    void restore_ShouldReuseUnchangedRows_AndReadOnlyNewOrChangedOnes() {
+        // 스냅샷: 예약 1~3 (버전 1), 방 10, 20 (버전 0)
+        // Snapshot: reservations 1-3 at version 1, rooms 10 and 20 at version 0
+        IndexSnapshot snapshot = new IndexSnapshot(1_000L, List.of(
+            new IndexSnapshot.StayRow(1L, 1L, 10L, CHECK_IN, CHECK_IN.plusDays(2), 100),
+            new IndexSnapshot.StayRow(2L, 1L, 10L, CHECK_IN.plusDays(5), CHECK_IN.plusDays(6), 100),
+            new IndexSnapshot.StayRow(3L, 1L, 20L, CHECK_IN, CHECK_IN.plusDays(1), 200)),
+            List.of(room(10L, 0L, 100), room(20L, 0L, 200)));
+        // DB: 예약 2 수정, 3 취소, 4 추가 / 방 20 가격 변경
+        // Database: reservation 2 updated, 3 cancelled, 4 added; room 20 repriced
+        Room room10 = room(10L, 0L, 100);
+        Room room20 = room(20L, 1L, 250);
+        when(reservationRepository.findRowVersionsAfter(anyLong(), any())).thenReturn(List.of(
+            new RowVersion(1L, 1L), new RowVersion(2L, 2L), new RowVersion(4L, 0L)));
+        when(reservationRepository.findAllById(List.of(2L, 4L))).thenReturn(List.of(
+            reservation(2L, 2L, room10, CHECK_IN.plusDays(7), CHECK_IN.plusDays(9)),
+            reservation(4L, 0L, room20, CHECK_IN, CHECK_IN.plusDays(3))));
+        when(roomRepository.findRowVersionsAfter(anyLong(), any())).thenReturn(List.of(
+            new RowVersion(10L, 0L), new RowVersion(20L, 1L)));
+        when(roomRepository.findAllById(List.of(20L))).thenReturn(List.of(room20));
+
+        newLoader(new IndexSnapshotStore(false, directory.toString(), "db-1")).restore(snapshot);
+
+        assertEquals(3, intervalIndex.size());
+        assertEquals(CHECK_IN.plusDays(7), intervalIndex.find(2L).checkIn());
+        assertNull(intervalIndex.find(3L));
+        assertEquals(250, statistics.nightlyPriceOf(4L));
+        assertEquals(List.of(100, 250), roomRangeIndex.rooms().stream().map(Room::getPrice).toList());
+        assertEquals(2L, metricsRegistry.count("startup.indexes.snapshot-rows"));
+        assertEquals(3L, metricsRegistry.count("startup.indexes.database-rows"));
+        verify(reservationRepository, never()).findAll();
+        verify(roomRepository, never()).findAll();
+    }
+
+    @Test
+    void run_ShouldLoadFromDatabase_AndRestoreFromSnapshotWrittenOnClose() {
+        IndexSnapshotStore store = new IndexSnapshotStore(true, directory.toString(), "db-1");
+        Room room = room(10L, 0L, 100);
+        Reservation reservation = reservation(1L, 0L, room, CHECK_IN, CHECK_IN.plusDays(2));
+        // 예약 시점 요금 80 (방은 이후 100으로 변경) / Booked at 80; the room has since been repriced to 100
+        reservation.setNightlyPrice(80);
+        when(reservationRepository.findAll()).thenReturn(List.of(reservation));
+        when(roomRepository.findAll()).thenReturn(List.of(room));
+
+        InMemoryIndexLoader loader = newLoader(store);
+        assertFalse(loadGate.isOpen());
+        loader.run(new DefaultApplicationArguments());
+        assertTrue(loadGate.isOpen());
+        assertEquals(80, statistics.nightlyPriceOf(1L));
+        loader.close();
+
+        // 다음 시작: 바뀐 행이 없으므로 DB에서 행을 읽지 않음
+        // Next start: nothing changed, so no rows are read from the database
+        when(reservationRepository.findRowVersionsAfter(anyLong(), any())).thenReturn(List.of(new RowVersion(1L, 0L)));
+        when(roomRepository.findRowVersionsAfter(anyLong(), any())).thenReturn(List.of(new RowVersion(10L, 0L)));
+        intervalIndex.clear();
+        newLoader(store).run(new DefaultApplicationArguments());
+
+        assertEquals(CHECK_IN.plusDays(2), intervalIndex.find(1L).checkOut());
+        assertEquals(80, statistics.nightlyPriceOf(1L));
+        assertEquals(2L, metricsRegistry.count("startup.indexes.snapshot-rows"));
+        assertEquals(2L, metricsRegistry.timer("startup.indexes").summarize().count());
+        verify(reservationRepository, never()).findAllById(any());
+    }
+
+    private InMemoryIndexLoader newLoader(IndexSnapshotStore store) {
+        return new InMemoryIndexLoader(reservationRepository, roomRepository, intervalIndex, new OccupancyCalendar(),
+            roomRangeIndex, new RoomTextIndex(), statistics, store, metricsRegistry, loadGate,
+            Duration.ZERO);
+    }
+
+    private static Reservation reservation(Long id, Long version, Room room, LocalDate checkIn, LocalDate checkOut) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setVersion(version);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkOut);
+        return reservation;
+    }
+
+    private static Room room(Long id, Long version, int price) {
+        Room room = new Room();
+        room.setId(id);
+        room.setVersion(version);
+        room.setName("Room " + id);
+        room.setPrice(price);
+        room.setMaxPeople(2);
+        return room;
+    }
+}
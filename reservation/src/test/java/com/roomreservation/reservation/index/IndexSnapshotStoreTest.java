@@ -0,0 +1,80 @@
+package com.roomreservation.reservation.index;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.roomreservation.reservation.domain.Room;
+
+public class IndexSnapshotStoreTest {
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 7, 1);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readLatest_ShouldReturnWrittenSnapshot() {
+        IndexSnapshotStore store = new IndexSnapshotStore(true, directory.toString(), "db-1");
+        IndexSnapshot snapshot = new IndexSnapshot(1_000L,
+            List.of(new IndexSnapshot.StayRow(1L, 3L, 10L, CHECK_IN, CHECK_IN.plusDays(2), 120),
+                new IndexSnapshot.StayRow(2L, null, 20L, CHECK_IN, CHECK_IN.plusDays(1), 80)),
+            List.of(room(10L, 1L, "바다 전망 스위트", null), room(20L, null, "Garden room", "Quiet")));
+
+        store.write(snapshot);
+        IndexSnapshot restored = store.readLatest();
+
+        assertEquals(1_000L, restored.createdAtMillis());
+        assertEquals(snapshot.stays(), restored.stays());
+        assertEquals(2, restored.rooms().size());
+        Room first = restored.rooms().get(0);
+        assertEquals(List.of(10L, 1L, "바다 전망 스위트", 150, 2),
+            List.of(first.getId(), first.getVersion(), first.getName(), first.getPrice(), first.getMaxPeople()));
+        assertNull(first.getDescription());
+        assertNull(restored.rooms().get(1).getVersion());
+        assertEquals("Quiet", restored.rooms().get(1).getDescription());
+    }
+
+    @Test
+    void readLatest_ShouldReturnNull_WhenSnapshotBelongsToAnotherDatabase() {
+        new IndexSnapshotStore(true, directory.toString(), "db-1").write(new IndexSnapshot(1_000L,
+            List.of(new IndexSnapshot.StayRow(1L, 0L, 10L, CHECK_IN, CHECK_IN.plusDays(2), 120)), List.of()));
+
+        // 재시작한 메모리 DB는 같은 ID, 같은 버전으로 다른 예약을 가질 수 있음
+        // A restarted in-memory database may hold a different reservation under the same ID and version
+        assertNull(new IndexSnapshotStore(true, directory.toString(), "db-2").readLatest());
+    }
+
+    @Test
+    void readLatest_ShouldReturnNull_WhenSnapshotIsMissingOrDamaged() throws IOException {
+        IndexSnapshotStore store = new IndexSnapshotStore(true, directory.toString(), "db-1");
+        assertNull(store.readLatest());
+
+        store.write(new IndexSnapshot(1_000L,
+            List.of(new IndexSnapshot.StayRow(1L, 3L, 10L, CHECK_IN, CHECK_IN.plusDays(2), 120)), List.of()));
+        Path file = directory.resolve("indexes.snapshot");
+        byte[] bytes = Files.readAllBytes(file);
+        // 본문 한 바이트 손상 / Damage one byte of the body
+        bytes[20] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertNull(store.readLatest());
+    }
+
+    private static Room room(Long id, Long version, String name, String description) {
+        Room room = new Room();
+        room.setId(id);
+        room.setVersion(version);
+        room.setName(name);
+        room.setDescription(description);
+        room.setPrice(150);
+        room.setMaxPeople(2);
+        return room;
+    }
+}
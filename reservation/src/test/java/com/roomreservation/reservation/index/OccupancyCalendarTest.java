@@ -0,0 +1,106 @@
+package com.roomreservation.reservation.index;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OccupancyCalendarTest {
+    private static final LocalDate ORIGIN = LocalDate.of(2030, 1, 1);
+
+    private OccupancyCalendar calendar;
+
+    @BeforeEach
+    public void setUp() {
+        // 고정된 기준일로 달력 생성 / Create a calendar with a fixed origin
+        calendar = new OccupancyCalendar(ORIGIN);
+    }
+
+    @Test
+    void occupy_ShouldBlockOnlyBookedNights() {
+        // 1/3 ~ 1/5 숙박 (1/5는 퇴실일) / Stay of Jan 3 - Jan 5 (Jan 5 is the departure day)
+        calendar.occupy(1L, ORIGIN.plusDays(2), ORIGIN.plusDays(4));
+
+        assertFalse(calendar.isAvailable(1L, ORIGIN.plusDays(3), ORIGIN.plusDays(6)));
+        assertTrue(calendar.isAvailable(1L, ORIGIN.plusDays(4), ORIGIN.plusDays(6))); // 퇴실일 체크인 가능 / Check-in on departure day
+        assertTrue(calendar.isAvailable(2L, ORIGIN.plusDays(2), ORIGIN.plusDays(4))); // 다른 방 / Other room
+    }
+
+    @Test
+    void release_ShouldFreeNights() {
+        calendar.occupy(1L, ORIGIN.plusDays(2), ORIGIN.plusDays(4));
+        calendar.release(1L, ORIGIN.plusDays(2), ORIGIN.plusDays(4));
+
+        assertTrue(calendar.isAvailable(1L, ORIGIN, ORIGIN.plusDays(10)));
+    }
+
+    @Test
+    void filterAvailable_ShouldReturnFreeRoomsAcrossWords() {
+        // 64개 이상의 방으로 여러 word에 걸친 비트 확인 / Use more than 64 rooms so slots span several words
+        long[] candidates = new long[130];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = i + 1;
+            calendar.occupy(candidates[i], ORIGIN.plusDays(100), ORIGIN.plusDays(101));
+        }
+        calendar.occupy(70L, ORIGIN.plusDays(30), ORIGIN.plusDays(60));
+        calendar.occupy(129L, ORIGIN.plusDays(59), ORIGIN.plusDays(61));
+
+        long[] available = calendar.filterAvailable(new long[] {1L, 70L, 129L, 500L}, ORIGIN.plusDays(50), ORIGIN.plusDays(60));
+
+        assertArrayEquals(new long[] {1L, 500L}, available);
+        assertEquals(130, calendar.roomCount());
+    }
+
+    @Test
+    void covers_ShouldRejectDatesOutsideTheCalendar() {
+        assertTrue(calendar.covers(ORIGIN, ORIGIN.plusDays(30)));
+        assertFalse(calendar.covers(ORIGIN.minusDays(1), ORIGIN.plusDays(1)));
+        assertFalse(calendar.covers(ORIGIN, ORIGIN.plusDays(OccupancyCalendar.MAX_DAYS + 1)));
+    }
+
+    @Test
+    void estimatedHeapBytes_ShouldGrowWithRoomsAndNights() {
+        long empty = calendar.estimatedHeapBytes();
+        calendar.occupy(1L, ORIGIN, ORIGIN.plusDays(365));
+
+        assertTrue(calendar.estimatedHeapBytes() > empty + 365 * 8);
+    }
+
+    @Test
+    void removeRoom_ShouldClearItsNights_AndReuseTheSlot() {
+        calendar.occupy(1L, ORIGIN.plusDays(2), ORIGIN.plusDays(4));
+        calendar.occupy(2L, ORIGIN.plusDays(2), ORIGIN.plusDays(4));
+
+        calendar.removeRoom(1L);
+        // 새 방은 비운 slot을 받으며, 지워진 방의 점유 표시를 물려받지 않음
+        // A new room takes the freed slot without inheriting the deleted room's marks
+        calendar.occupy(3L, ORIGIN.plusDays(10), ORIGIN.plusDays(11));
+
+        assertEquals(2, calendar.roomCount());
+        assertTrue(calendar.isAvailable(3L, ORIGIN.plusDays(2), ORIGIN.plusDays(4)));
+        assertFalse(calendar.isAvailable(2L, ORIGIN.plusDays(2), ORIGIN.plusDays(4)));
+        assertArrayEquals(new long[] {1L, 3L},
+            calendar.filterAvailable(new long[] {1L, 2L, 3L}, ORIGIN.plusDays(2), ORIGIN.plusDays(4)));
+    }
+
+    @Test
+    void advanceOrigin_ShouldDropPastNights_AndKeepUpcomingOnes() {
+        calendar.occupy(1L, ORIGIN.plusDays(2), ORIGIN.plusDays(4));
+        calendar.occupy(1L, ORIGIN.plusDays(40), ORIGIN.plusDays(42));
+        long before = calendar.estimatedHeapBytes();
+
+        calendar.advanceOrigin(ORIGIN.plusDays(30));
+        // 이전 origin으로 되돌리는 호출은 무시 / Moving the origin back is ignored
+        calendar.advanceOrigin(ORIGIN);
+
+        assertFalse(calendar.covers(ORIGIN.plusDays(2), ORIGIN.plusDays(4)));
+        assertTrue(calendar.covers(ORIGIN.plusDays(30), ORIGIN.plusDays(31)));
+        assertFalse(calendar.isAvailable(1L, ORIGIN.plusDays(41), ORIGIN.plusDays(43)));
+        assertTrue(calendar.isAvailable(1L, ORIGIN.plusDays(42), ORIGIN.plusDays(50)));
+        assertTrue(calendar.estimatedHeapBytes() < before);
+    }
+}
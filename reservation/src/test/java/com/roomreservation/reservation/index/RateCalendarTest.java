@@ -0,0 +1,117 @@
+package com.roomreservation.reservation.index;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.roomreservation.reservation.domain.RoomRate;
+
+public class RateCalendarTest {
+    // 2030-01-07 은 월요일 / Jan 7, 2030 is a Monday
+    private static final LocalDate ORIGIN = LocalDate.of(2030, 1, 7);
+
+    private RateCalendar calendar;
+
+    @BeforeEach
+    public void setUp() {
+        // 고정된 기준일, 60일 달력 / Fixed origin, 60-night window
+        calendar = new RateCalendar(ORIGIN, 60);
+    }
+
+    @Test
+    void quote_ShouldUseBasePrice_WhenRoomHasNoRules() {
+        RateCalendar.RoomRates rates = calendar.build(100, List.of());
+
+        assertEquals(300, calendar.quote(rates, ORIGIN, ORIGIN.plusDays(3)));
+        assertEquals(100 * 400, calendar.quote(rates, ORIGIN.minusDays(100), ORIGIN.plusDays(300)));
+    }
+
+    @Test
+    void quote_ShouldApplyLaterRulesOverEarlierOnes() {
+        // 1월 시즌 요금 150, 그 위에 주말(금, 토) 요금 200
+        // January season at 150, with a Friday/Saturday rate of 200 on top
+        RoomRate season = rate(ORIGIN.withDayOfMonth(1), ORIGIN.withDayOfMonth(1).plusMonths(1), 150, null);
+        RoomRate weekend = rate(ORIGIN, ORIGIN.plusDays(60), 200, EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY));
+        RateCalendar.RoomRates rates = calendar.build(100, List.of(season, weekend));
+
+        // 월 ~ 월 (7박): 평일 5박 150, 주말 2박 200 / Mon to Mon: five weekdays at 150, two weekend nights at 200
+        assertEquals(5 * 150 + 2 * 200, calendar.quote(rates, ORIGIN, ORIGIN.plusDays(7)));
+        // 1/28 ~ 2/4: 1월 평일 4박 150 (월~목), 2/1 금/2/2 토 200, 2/3 일 100
+        // Jan 28 to Feb 4: four January weekdays at 150, Fri/Sat Feb 1-2 at 200, Sunday Feb 3 at base
+        assertEquals(4 * 150 + 2 * 200 + 100, calendar.quote(rates, LocalDate.of(2030, 1, 28), LocalDate.of(2030, 2, 4)));
+    }
+
+    @Test
+    void quote_ShouldEvaluateRules_OutsideTheWindow() {
+        // 달력 밖 (origin 이전, 60일 이후) 날짜도 같은 규칙 적용
+        // Nights before the origin and past the 60-night window follow the same rules
+        RoomRate weekend = rate(ORIGIN.minusDays(30), ORIGIN.plusDays(400), 200, EnumSet.of(DayOfWeek.SATURDAY));
+        RateCalendar.RoomRates rates = calendar.build(100, List.of(weekend));
+
+        LocalDate before = ORIGIN.minusDays(7);
+        LocalDate after = ORIGIN.plusDays(84);
+        assertEquals(6 * 100 + 200, calendar.quote(rates, before, before.plusDays(7)));
+        assertEquals(6 * 100 + 200, calendar.quote(rates, after, after.plusDays(7)));
+        // 달력 경계를 걸친 숙박 / A stay straddling the end of the window
+        LocalDate straddle = ORIGIN.plusDays(56);
+        assertEquals(6 * 100 + 200, calendar.quote(rates, straddle, straddle.plusDays(7)));
+    }
+
+    @Test
+    void quoteAll_ShouldMatchSingleQuotes() {
+        RateCalendar.RoomRates plain = calendar.build(80, List.of());
+        RateCalendar.RoomRates seasonal = calendar.build(100, List.of(rate(ORIGIN.plusDays(2), ORIGIN.plusDays(4), 300, null)));
+        LocalDate checkIn = ORIGIN.plusDays(1);
+        LocalDate checkOut = ORIGIN.plusDays(5);
+
+        long[] totals = calendar.quoteAll(new RateCalendar.RoomRates[] {plain, seasonal}, checkIn, checkOut);
+
+        assertArrayEquals(new long[] {320, 800}, totals);
+        assertEquals(totals[1], calendar.quote(seasonal, checkIn, checkOut));
+    }
+
+    @Test
+    void get_ShouldMiss_WhenBasePriceChangedOrInvalidated() {
+        RateCalendar.RoomRates rates = calendar.build(100, List.of());
+        calendar.putIfCurrent(calendar.generation(), 1L, rates);
+
+        assertSame(rates, calendar.get(1L, 100));
+        assertNull(calendar.get(1L, 120)); // 방 기본 요금 변경 / Room base price changed
+
+        calendar.invalidate(1L);
+        assertNull(calendar.get(1L, 100));
+    }
+
+    @Test
+    void putIfCurrent_ShouldDropRates_LoadedBeforeAnInvalidation() {
+        // 규칙을 읽는 도중 규칙이 바뀌면 오래된 요금을 캐시하지 않음
+        // Rates loaded while the rules changed must not stay cached
+        long generation = calendar.generation();
+        RateCalendar.RoomRates stale = calendar.build(100, List.of());
+        calendar.invalidate(1L);
+
+        calendar.putIfCurrent(generation, 1L, stale);
+
+        assertNull(calendar.get(1L, 100));
+        assertEquals(0, calendar.size());
+    }
+
+    private RoomRate rate(LocalDate start, LocalDate end, int price, EnumSet<DayOfWeek> days) {
+        RoomRate rate = new RoomRate();
+        rate.setStartDate(start);
+        rate.setEndDate(end);
+        rate.setPrice(price);
+        if (days != null) {
+            rate.setDaysOfWeek(days);
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,85 @@
+package com.roomreservation.reservation.index;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReservationStatisticsTest {
+    private static final LocalDate JAN_30 = LocalDate.of(2026, 1, 30);
+
+    private ReservationStatistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = new ReservationStatistics();
+    }
+
+    @Test
+    void record_ShouldCountNightsAcrossMonths() {
+        // 1/30 ~ 2/2 (3박, 100원) + 1/31 ~ 2/1 (1박, 200원)
+        // Jan 30 to Feb 2 (3 nights at 100) plus Jan 31 to Feb 1 (1 night at 200)
+        statistics.record(1L, 10L, JAN_30, JAN_30.plusDays(3), 100);
+        statistics.record(2L, 20L, JAN_30.plusDays(1), JAN_30.plusDays(2), 200);
+
+        assertArrayEquals(new int[] {1, 2, 1, 0}, statistics.occupiedRoomsByDay(JAN_30, JAN_30.plusDays(4)));
+        assertEquals(Map.of(10L, 3, 20L, 1), statistics.occupiedNightsByRoom(JAN_30, JAN_30.plusDays(4)));
+        assertEquals(Map.of(10L, 1), statistics.occupiedNightsByRoom(JAN_30.plusDays(2), JAN_30.plusDays(4)));
+        long[][] revenue = statistics.revenueByMonth(YearMonth.of(2026, 1), YearMonth.of(2026, 3));
+        assertArrayEquals(new long[] {400, 3}, revenue[0]);
+        assertArrayEquals(new long[] {100, 1}, revenue[1]);
+        assertArrayEquals(new long[] {0, 0}, revenue[2]);
+    }
+
+    @Test
+    void record_ShouldReplacePreviousValues_AndForgetShouldRemoveThem() {
+        statistics.record(1L, 10L, JAN_30, JAN_30.plusDays(2), 100);
+        // 같은 예약을 다시 기록하면 이전 값은 빠짐 / Recording the same reservation again replaces it
+        statistics.record(1L, 10L, JAN_30.plusDays(1), JAN_30.plusDays(2), 100);
+        statistics.move(1L, 30L);
+
+        assertArrayEquals(new int[] {0, 1}, statistics.occupiedRoomsByDay(JAN_30, JAN_30.plusDays(2)));
+        assertEquals(Map.of(30L, 1), statistics.occupiedNightsByRoom(JAN_30, JAN_30.plusDays(2)));
+
+        statistics.forget(1L);
+        statistics.forget(1L);
+
+        assertArrayEquals(new int[] {0, 0}, statistics.occupiedRoomsByDay(JAN_30, JAN_30.plusDays(2)));
+        assertEquals(Map.of(), statistics.occupiedNightsByRoom(JAN_30, JAN_30.plusDays(2)));
+        assertArrayEquals(new long[] {0, 0}, statistics.revenueByMonth(YearMonth.of(2026, 1), YearMonth.of(2026, 1))[0]);
+        assertEquals(0, statistics.size());
+    }
+
+    @Test
+    void completeRebuild_ShouldMergePartials_AndReplayLiveChanges() {
+        statistics.record(1L, 10L, JAN_30, JAN_30.plusDays(1), 999);
+        statistics.beginRebuild();
+        assertThrows(IllegalStateException.class, statistics::beginRebuild);
+
+        // ID 구간 두 개를 따로 집계 / Two ID ranges counted separately
+        ReservationStatistics.Partial first = statistics.newPartial();
+        first.add(1L, 10L, JAN_30, JAN_30.plusDays(1), 100);
+        first.add(2L, 20L, JAN_30, JAN_30.plusDays(1), 100);
+        ReservationStatistics.Partial second = statistics.newPartial();
+        second.add(3L, 30L, JAN_30, JAN_30.plusDays(1), 100);
+
+        // 재구축 중 실시간 변경: 2번 취소, 4번 추가 / Live changes meanwhile: 2 cancelled, 4 added
+        statistics.forget(2L);
+        statistics.record(4L, 40L, JAN_30, JAN_30.plusDays(1), 50);
+
+        assertEquals(3, statistics.completeRebuild(List.of(first, second)));
+        assertArrayEquals(new int[] {3}, statistics.occupiedRoomsByDay(JAN_30, JAN_30.plusDays(1)));
+        assertEquals(Map.of(10L, 1, 30L, 1, 40L, 1), statistics.occupiedNightsByRoom(JAN_30, JAN_30.plusDays(1)));
+        assertArrayEquals(new long[] {250, 3}, statistics.revenueByMonth(YearMonth.of(2026, 1), YearMonth.of(2026, 1))[0]);
+
+        // 재구축이 끝나면 다시 시작할 수 있음 / A new rebuild can start once the previous one finished
+        statistics.beginRebuild();
+        statistics.abortRebuild();
+    }
+}
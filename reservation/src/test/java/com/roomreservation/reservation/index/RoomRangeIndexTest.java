@@ -0,0 +1,125 @@
+package com.roomreservation.reservation.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.RoomSort;
+
+public class RoomRangeIndexTest {
+    private RoomRangeIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new RoomRangeIndex();
+    }
+
+    @Test
+    void find_ShouldFilterAndSortByPrice() {
+        index.load(List.of(room(1L, 100, 2), room(2L, 80, 4), room(3L, 100, 4), room(4L, 300, 6)));
+
+        assertEquals(List.of(2L, 3L), ids(index.find(50, 200, 3, RoomSort.PRICE_ASC, 10)));
+        // 같은 가격은 ID 순 / Equal prices are ordered by ID
+        assertEquals(List.of(1L, 3L), ids(index.find(100, 100, 1, RoomSort.PRICE_ASC, 10)));
+        assertEquals(List.of(4L, 3L), ids(index.find(0, Integer.MAX_VALUE, 1, RoomSort.PRICE_DESC, 2)));
+    }
+
+    @Test
+    void find_ShouldSortByCapacity() {
+        index.load(List.of(room(1L, 100, 2), room(2L, 80, 4), room(3L, 500, 4), room(4L, 300, 6)));
+
+        assertEquals(List.of(2L, 4L), ids(index.find(0, 400, 3, RoomSort.CAPACITY_ASC, 10)));
+        assertEquals(List.of(4L, 3L, 2L), ids(index.find(0, 1000, 3, RoomSort.CAPACITY_DESC, 10)));
+    }
+
+    @Test
+    void put_ShouldMoveRoom_AndIgnoreOlderVersions() {
+        assertFalse(index.isLoaded());
+        index.load(List.of());
+        assertTrue(index.isLoaded());
+
+        Room room = room(1L, 100, 2);
+        room.setVersion(1L);
+        index.put(room);
+        Room repriced = room(1L, 250, 2);
+        repriced.setVersion(2L);
+        index.put(repriced);
+        // 늦게 도착한 이전 버전은 무시 / A stale version arriving late is ignored
+        index.put(room);
+
+        assertEquals(List.of(), ids(index.find(0, 200, 1, RoomSort.PRICE_ASC, 10)));
+        assertEquals(List.of(1L), ids(index.find(200, 300, 1, RoomSort.PRICE_ASC, 10)));
+        assertEquals(1, index.size());
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void put_ShouldIgnoreRoom_WhenItArrivesAfterTheDelete() {
+        index.load(List.of(room(1L, 100, 2)));
+        Room updated = room(1L, 150, 2);
+        updated.setVersion(1L);
+
+        // 수정 저장 후 인덱스 반영 전에 삭제가 끝난 경우 / The delete finishes between the update's save and its index put
+        index.remove(1L);
+        index.put(updated);
+
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.rooms());
+    }
+
+    @Test
+    void find_ShouldMatchBruteForce() {
+        // 무작위 방 2,000개에서 전체 탐색 결과와 비교 / Compare against a full scan over 2,000 random rooms
+        Random random = new Random(7);
+        List<Room> rooms = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            rooms.add(room(id, random.nextInt(500), 1 + random.nextInt(8)));
+        }
+        index.load(rooms);
+
+        for (int i = 0; i < 200; i++) {
+            int minPrice = random.nextInt(500);
+            int maxPrice = minPrice + random.nextInt(200);
+            int minPeople = 1 + random.nextInt(8);
+            RoomSort sort = RoomSort.values()[random.nextInt(RoomSort.values().length)];
+            Comparator<Room> order = sort.byPrice()
+                ? Comparator.comparingInt(Room::getPrice)
+                : Comparator.comparingInt(Room::getMaxPeople);
+            if (sort.descending()) {
+                order = order.reversed();
+            }
+            Comparator<Room> byId = Comparator.comparing(Room::getId);
+            List<Long> expected = rooms.stream()
+                .filter(room -> room.getPrice() >= minPrice && room.getPrice() <= maxPrice
+                    && room.getMaxPeople() >= minPeople)
+                .sorted(order.thenComparing(sort.descending() ? byId.reversed() : byId))
+                .limit(20)
+                .map(Room::getId)
+                .toList();
+
+            assertEquals(expected, ids(index.find(minPrice, maxPrice, minPeople, sort, 20)));
+        }
+    }
+
+    private Room room(Long id, int price, int maxPeople) {
+        Room room = new Room();
+        room.setId(id);
+        room.setPrice(price);
+        room.setMaxPeople(maxPeople);
+        return room;
+    }
+
+    private List<Long> ids(List<Room> rooms) {
+        return rooms.stream().map(Room::getId).toList();
+    }
+}
@@ -0,0 +1,133 @@
+package com.roomreservation.reservation.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.RoomSearchHit;
+
+public class RoomTextIndexTest {
+    private RoomTextIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new RoomTextIndex();
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAndMoreMatchedTermsFirst() {
+        index.load(List.of(
+            room(1L, "Standard", "Twin beds and a city view"),
+            room(2L, "Ocean View Suite", "King bed"),
+            room(3L, "Deluxe", "Ocean view with twin beds"),
+            room(4L, "Budget", "No window")));
+
+        // 두 단어 모두 포함한 방이 먼저, 같은 조건이면 이름에 나온 방이 먼저
+        // Rooms matching both words come first; among those, a match in the name ranks higher
+        assertEquals(List.of(2L, 3L, 1L), ids(index.search("ocean view", 10)));
+        // 같은 점수는 ID 순, 한 단어만 맞는 방은 뒤로 / Equal scores by ID, a single-word match comes last
+        assertEquals(List.of(1L, 3L, 2L), ids(index.search("twin beds", 10)));
+        assertEquals(List.of(), ids(index.search("balcony", 10)));
+    }
+
+    @Test
+    void search_ShouldMatchKoreanWithParticles() {
+        index.load(List.of(
+            room(1L, "스탠다드", "바다 전망이 좋은 방"),
+            room(2L, "디럭스", "도시 전망, 트윈 침대"),
+            room(3L, "오션뷰 스위트", "킹 침대")));
+
+        assertEquals(1L, ids(index.search("바다전망", 10)).get(0));
+        assertEquals(List.of(2L, 3L), ids(index.search("침대", 10)));
+        assertEquals(List.of(3L), ids(index.search("오션뷰", 10)));
+    }
+
+    @Test
+    void put_ShouldReplaceOldTokens_AndRemoveShouldDropRoom() {
+        Room room = room(1L, "Garden", "Quiet garden room");
+        index.load(List.of(room, room(2L, "Garden Twin", "Twin beds")));
+
+        index.put(room(1L, "Pool", "Pool access"));
+        assertEquals(List.of(2L), ids(index.search("garden", 10)));
+        assertEquals(List.of(1L), ids(index.search("pool", 10)));
+
+        index.remove(1L);
+        assertEquals(List.of(), ids(index.search("pool", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void put_ShouldIgnoreRoom_WhenItArrivesAfterTheDelete() {
+        index.load(List.of(room(1L, "Garden", "Quiet garden room")));
+
+        // 삭제와 경합해 늦게 도착한 put은 방을 되살리지 않음 / A put that raced the delete and lands late is dropped
+        index.remove(1L);
+        index.put(room(1L, "Garden", "Quiet garden room"));
+
+        assertEquals(List.of(), ids(index.search("garden", 10)));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void put_ShouldKeepResults_WhenFreedSlotsAreReused() {
+        // 앞쪽 방을 지운 뒤 새 방이 그 slot을 재사용해도 (목록 중간 삽입) 결과가 같아야 함
+        // Rooms reusing the slots of deleted ones (inserted mid-list) must still be found and ranked correctly
+        List<Room> rooms = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            rooms.add(room(id, "Room " + id, "twin beds"));
+        }
+        index.load(rooms);
+        index.remove(2L);
+        index.remove(5L);
+        index.remove(8L);
+        index.put(room(11L, "Twin", "twin beds"));
+        index.put(room(12L, "Room 12", "ocean view"));
+        index.put(room(13L, "Room 13", "twin beds"));
+        index.remove(9L);
+
+        assertEquals(List.of(11L, 1L, 3L, 4L, 6L, 7L, 10L, 13L), ids(index.search("twin", 20)));
+        assertEquals(List.of(12L), ids(index.search("ocean", 20)));
+        assertEquals(9, index.size());
+    }
+
+    @Test
+    void search_ShouldReturnTopHitsOnly_WhenManyRoomsMatch() {
+        // 무작위 방 5,000개에서 상위 20건이 점수 내림차순인지 확인 / Top 20 of 5,000 random rooms come in descending score order
+        Random random = new Random(3);
+        String[] words = {"ocean", "view", "twin", "bed", "city", "garden", "바다", "전망", "침대", "스위트"};
+        List<Room> rooms = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < 1 + random.nextInt(6); w++) {
+                description.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            rooms.add(room(id, "Room " + id, description.toString()));
+        }
+        index.load(rooms);
+
+        List<RoomSearchHit> hits = index.search("ocean view 바다", 20);
+
+        assertEquals(20, hits.size());
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).score() >= hits.get(i).score());
+        }
+    }
+
+    private Room room(Long id, String name, String description) {
+        Room room = new Room();
+        room.setId(id);
+        room.setName(name);
+        room.setDescription(description);
+        return room;
+    }
+
+    private List<Long> ids(List<RoomSearchHit> hits) {
+        return hits.stream().map(hit -> hit.room().getId()).toList();
+    }
+}
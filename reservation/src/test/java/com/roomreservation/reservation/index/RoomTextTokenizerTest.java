@@ -0,0 +1,28 @@
+package com.roomreservation.reservation.index;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+public class RoomTextTokenizerTest {
+
+    @Test
+    void tokenize_ShouldNormalizeEnglishWords() {
+        // 소문자, 불용어 제거, 복수형 s 제거 / Lower-cased, stop words dropped, plural s stripped
+        assertEquals(List.of("twin", "bed", "ocean", "view", "glass"),
+            RoomTextTokenizer.tokenize("Twin Beds with the Ocean-Views, glass"));
+    }
+
+    @Test
+    void tokenize_ShouldSplitKoreanIntoBigrams() {
+        // 조사가 붙은 단어도 같은 bigram을 공유 / Words with particles attached share the bigrams
+        assertEquals(List.of("바다", "다전", "전망", "망이"), RoomTextTokenizer.tokenize("바다전망이"));
+        assertEquals(List.of("방"), RoomTextTokenizer.tokenize("방"));
+    }
+
+    @Test
+    void tokenize_ShouldSplitWhereScriptChanges() {
+        assertEquals(List.of("오션", "션뷰", "room", "2"), RoomTextTokenizer.tokenize("오션뷰Room 2"));
+    }
+}
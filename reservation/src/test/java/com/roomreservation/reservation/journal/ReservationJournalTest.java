@@ -0,0 +1,146 @@
+package com.roomreservation.reservation.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ReservationJournalTest {
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 7, 1);
+
+    // 세그먼트당 레코드 3개 / Three records per segment
+    private static final int SEGMENT_SIZE = ReservationJournal.RECORD_BYTES * 3;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replay_ShouldReturnEventsInOrder_AcrossRolledSegments() throws IOException {
+        try (ReservationJournal journal = ReservationJournal.open(directory, SEGMENT_SIZE)) {
+            for (long id = 1; id <= 7; id++) {
+                journal.append(ReservationEventType.CREATED, id, 10L, CHECK_IN, CHECK_IN.plusDays(2), 2, 100);
+            }
+            journal.append(ReservationEventType.CANCELLED, 3L, null, null, null, 0, 0);
+
+            List<ReservationEvent> events = new ArrayList<>();
+            assertEquals(8, journal.replay(1, events::add));
+            assertEquals(8, journal.lastSequence());
+            assertEquals(new ReservationEvent(1, ReservationEventType.CREATED, events.get(0).timestampMillis(), 1, 10,
+                (int) CHECK_IN.toEpochDay(), (int) CHECK_IN.plusDays(2).toEpochDay(), 2, 100), events.get(0));
+            assertEquals(CHECK_IN.plusDays(2), events.get(6).checkOut());
+            assertEquals(ReservationEventType.CANCELLED, events.get(7).type());
+            assertEquals(0, events.get(7).roomId());
+
+            // 중간 순번부터 재생 / Replay from a sequence in the middle
+            List<Long> sequences = new ArrayList<>();
+            journal.replay(5, event -> sequences.add(event.sequence()));
+            assertEquals(List.of(5L, 6L, 7L, 8L), sequences);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(3, files.filter(file -> file.toString().endsWith(".seg")).count());
+        }
+    }
+
+    @Test
+    void open_ShouldResumeAfterLastCompleteRecord_AndDropTornOne() throws IOException {
+        try (ReservationJournal journal = ReservationJournal.open(directory, SEGMENT_SIZE)) {
+            journal.append(ReservationEventType.CREATED, 1L, 10L, CHECK_IN, CHECK_IN.plusDays(1), 1, 100);
+            journal.append(ReservationEventType.CREATED, 2L, 10L, CHECK_IN, CHECK_IN.plusDays(1), 1, 100);
+        }
+        // 마지막 레코드를 쓰다 만 것처럼 가격을 바꿈 (CRC 불일치) / Corrupt the last record as if the write was torn
+        Path segment = directory.resolve(String.format("journal-%020d.seg", 1));
+        writeInt(segment, ReservationJournal.RECORD_BYTES + 52, 999);
+
+        try (ReservationJournal journal = ReservationJournal.open(directory, SEGMENT_SIZE)) {
+            assertEquals(1, journal.lastSequence());
+            assertEquals(2, journal.append(ReservationEventType.UPDATED, 1L, 10L, CHECK_IN, CHECK_IN.plusDays(3), 1, 100));
+
+            List<ReservationEvent> events = new ArrayList<>();
+            journal.replay(1, events::add);
+            assertEquals(List.of(ReservationEventType.CREATED, ReservationEventType.UPDATED),
+                events.stream().map(ReservationEvent::type).toList());
+        }
+    }
+
+    @Test
+    void replay_ShouldThrow_WhenSealedRecordIsCorrupted() throws IOException {
+        try (ReservationJournal journal = ReservationJournal.open(directory, SEGMENT_SIZE)) {
+            for (long id = 1; id <= 4; id++) {
+                journal.append(ReservationEventType.CREATED, id, 10L, CHECK_IN, CHECK_IN.plusDays(1), 1, 100);
+            }
+            writeInt(directory.resolve(String.format("journal-%020d.seg", 1)), 24, 42);
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> journal.replay(1, event -> { }));
+            assertEquals("Journal checksum mismatch at sequence 1.", exception.getMessage());
+        }
+    }
+
+    @Test
+    void open_ShouldRejectDirectoryInUse_AndDisabledJournalShouldRecordNothing() {
+        try (ReservationJournal journal = ReservationJournal.open(directory, SEGMENT_SIZE)) {
+            assertEquals(0, journal.lastSequence());
+            assertThrows(IllegalStateException.class, () -> ReservationJournal.open(directory, SEGMENT_SIZE));
+        }
+        ReservationJournal disabled = ReservationJournal.disabled();
+        assertEquals(0, disabled.append(ReservationEventType.CREATED, 1L, 1L, CHECK_IN, CHECK_IN, 1, 1));
+        assertEquals(0, disabled.replay(1, event -> { }));
+    }
+
+    @Test
+    void open_ShouldDiscardJournal_WrittenForAnotherDatabase() {
+        try (ReservationJournal journal = ReservationJournal.open(directory, SEGMENT_SIZE, "db-1")) {
+            journal.append(ReservationEventType.CREATED, 1L, 10L, CHECK_IN, CHECK_IN.plusDays(1), 1, 100);
+            journal.append(ReservationEventType.CREATED, 2L, 10L, CHECK_IN, CHECK_IN.plusDays(1), 1, 100);
+        }
+        // 같은 DB는 이어서 기록 / The same database continues the journal
+        try (ReservationJournal journal = ReservationJournal.open(directory, SEGMENT_SIZE, "db-1")) {
+            assertEquals(2, journal.lastSequence());
+        }
+        // 다른 DB(재시작한 메모리 DB)는 같은 예약 ID의 이력이 섞이지 않도록 새로 시작
+        // Another database (a restarted in-memory one) starts over, so histories of the same IDs never mix
+        try (ReservationJournal journal = ReservationJournal.open(directory, SEGMENT_SIZE, "db-2")) {
+            assertEquals(0, journal.lastSequence());
+            journal.append(ReservationEventType.CREATED, 1L, 20L, CHECK_IN, CHECK_IN.plusDays(2), 2, 100);
+
+            List<ReservationEvent> events = new ArrayList<>();
+            assertEquals(1, journal.replay(1, events::add));
+            assertEquals(20, events.get(0).roomId());
+        }
+    }
+
+    @Test
+    void record_ShouldMarkDegraded_InsteadOfThrowing_WhenAppendFails() {
+        ReservationJournal journal = ReservationJournal.open(directory, SEGMENT_SIZE);
+        assertEquals(1, journal.record(ReservationEventType.CREATED, 1L, 10L, CHECK_IN, CHECK_IN.plusDays(1), 1, 100));
+        // 닫힌 저널에 기록하면 append()는 예외를 던짐 / Appending to a closed journal throws
+        journal.close();
+
+        assertEquals(0, journal.record(ReservationEventType.CREATED, 2L, 10L, CHECK_IN, CHECK_IN.plusDays(1), 1, 100));
+        assertTrue(journal.isDegraded());
+        assertEquals(1, journal.lastSequence());
+
+        // 빠진 이벤트가 있는 이력은 재생하지 않음 / A history with a missing event is never replayed
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> journal.replay(1, event -> { }));
+        assertEquals("The reservation journal is missing events. Rebuild it from the database.", exception.getMessage());
+    }
+
+    private static void writeInt(Path file, long position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, value), position);
+        }
+    }
+}
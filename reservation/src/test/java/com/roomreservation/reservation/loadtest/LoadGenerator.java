@@ -0,0 +1,250 @@
+package com.roomreservation.reservation.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * REST API 부하 생성기 (열린 루프)
+ * - 정해진 도착률로 시나리오를 시작하고, 응답을 기다리지 않고 다음 시나리오를 예정대로 시작
+ * - 각 시나리오의 첫 요청 지연 시간은 "예정된 시작 시각"부터 측정 (서버가 밀리면 대기 시간까지 포함, coordinated omission 방지)
+ * - 동시 진행 시나리오 수는 maxConcurrency로 제한
+ *
+ * Open-loop load generator for the REST API
+ * - Starts scenarios at a fixed arrival rate, on schedule, without waiting for earlier responses
+ * - The first request of each scenario is timed from its scheduled start, so queueing delay is included
+ *   when the server falls behind (avoids coordinated omission)
+ * - The number of scenarios in flight is capped at maxConcurrency
+ */
+public class LoadGenerator {
+    // 응답 JSON의 첫 번째 "id" 값 / First "id" value of a response body
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final int SEED_USERS = 20;
+
+    private final LoadTestConfig config;
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final List<Long> roomIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    public LoadGenerator(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * 데이터를 준비한 뒤 설정된 시간 동안 부하를 생성하고 결과를 반환합니다.
+     * Seeds data, generates load for the configured duration and returns the report.
+     */
+    public LoadReport run() throws Exception {
+        Instant startedAt = Instant.now();
+        seed();
+
+        List<LongFunction<CompletableFuture<Void>>> scenarios = weightedScenarios();
+        Semaphore inFlight = new Semaphore(config.maxConcurrency());
+        long intervalNanos = (long) (1_000_000_000L / config.ratePerSecond());
+        long start = System.nanoTime();
+        long end = start + config.duration().toNanos();
+        long started = 0;
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquireUninterruptibly();
+            LongFunction<CompletableFuture<Void>> scenario = scenarios.get(ThreadLocalRandom.current().nextInt(scenarios.size()));
+            scenario.apply(intended).whenComplete((ignored, error) -> inFlight.release());
+            started++;
+        }
+        // 진행 중인 시나리오가 끝날 때까지 대기 / Wait for the scenarios still in flight
+        inFlight.tryAcquire(config.maxConcurrency(), 60, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        List<LoadReport.EndpointStats> endpoints = new ArrayList<>();
+        recorders.keySet().stream().sorted()
+            .forEach(endpoint -> endpoints.add(recorders.get(endpoint).stats(endpoint, elapsedSeconds)));
+        return new LoadReport(startedAt.toString(), config.baseUrl(), config.ratePerSecond(), config.maxConcurrency(),
+            elapsedSeconds, started, endpoints);
+    }
+
+    // 방과 예약용 사용자 생성 (측정 대상 아님) / Creates rooms and booking users (not measured)
+    private void seed() throws Exception {
+        for (int i = 0; i < config.rooms(); i++) {
+            String body = "{\"name\":\"Load room " + i + "\",\"description\":\"load test\",\"price\":"
+                + (50 + i % 10 * 10) + ",\"maxPeople\":" + (2 + i % 4) + "}";
+            roomIds.add(idOf(client.send(request("POST", "/api/rooms", body), HttpResponse.BodyHandlers.ofString())));
+        }
+        for (int i = 0; i < SEED_USERS; i++) {
+            userIds.add(idOf(client.send(request("POST", "/api/users/register", userJson("seed-" + i)),
+                HttpResponse.BodyHandlers.ofString())));
+        }
+    }
+
+    // 가중치만큼 시나리오를 반복한 목록 / Scenario list with each entry repeated by its weight
+    private List<LongFunction<CompletableFuture<Void>>> weightedScenarios() {
+        Map<String, LongFunction<CompletableFuture<Void>>> byName = Map.of(
+            "auth", this::authScenario,
+            "browse", this::browseScenario,
+            "booking", this::bookingScenario);
+        List<LongFunction<CompletableFuture<Void>>> scenarios = new ArrayList<>();
+        config.mix().forEach((name, weight) -> {
+            LongFunction<CompletableFuture<Void>> scenario = byName.get(name);
+            if (scenario == null) {
+                throw new IllegalArgumentException("Unknown scenario: " + name);
+            }
+            for (int i = 0; i < weight; i++) {
+                scenarios.add(scenario);
+            }
+        });
+        return scenarios;
+    }
+
+    // 회원가입 -> 로그인 / Register, then log in
+    private CompletableFuture<Void> authScenario(long intendedStart) {
+        String name = "user-" + sequence.incrementAndGet();
+        String body = userJson(name);
+        return send("POST /api/users/register", request("POST", "/api/users/register", body), intendedStart)
+            .thenCompose(registered -> registered == null ? done() : send("POST /api/users/login",
+                request("POST", "/api/users/login", "{\"email\":\"" + email(name) + "\",\"password\":\"1234\"}"),
+                System.nanoTime()).thenApply(ignored -> null));
+    }
+
+    // 방 목록 -> 방 상세 -> 빈 방 검색 / Room list, room detail, then availability search
+    private CompletableFuture<Void> browseScenario(long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long roomId = roomIds.get(random.nextInt(roomIds.size()));
+        LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(365));
+        String search = "/api/rooms/available?checkIn=" + checkIn + "&checkOut=" + checkIn.plusDays(1 + random.nextInt(5))
+            + "&numberOfPeople=" + (1 + random.nextInt(4));
+        return send("GET /api/rooms", request("GET", "/api/rooms?size=20", null), intendedStart)
+            .thenCompose(ignored -> send("GET /api/rooms/{id}", request("GET", "/api/rooms/" + roomId, null), System.nanoTime()))
+            .thenCompose(ignored -> send("GET /api/rooms/available", request("GET", search, null), System.nanoTime()))
+            .thenApply(ignored -> null);
+    }
+
+    // 예약 생성 -> 날짜 변경 -> 취소 / Create a reservation, move it by a day, then cancel it
+    private CompletableFuture<Void> bookingScenario(long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long userId = userIds.get(random.nextInt(userIds.size()));
+        Long roomId = roomIds.get(random.nextInt(roomIds.size()));
+        LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(3_000));
+        return send("POST /api/reservations",
+                request("POST", "/api/reservations", reservationJson(userId, roomId, checkIn)), intendedStart)
+            .thenCompose(created -> {
+                if (created == null) {
+                    return done();
+                }
+                String path = "/api/reservations/" + idOf(created);
+                return send("PUT /api/reservations/{id}",
+                        request("PUT", path, reservationJson(userId, roomId, checkIn.plusDays(1))), System.nanoTime())
+                    .thenCompose(ignored -> send("DELETE /api/reservations/{id}", request("DELETE", path, null),
+                        System.nanoTime()))
+                    .thenApply(ignored -> null);
+            });
+    }
+
+    // 요청을 보내고 지연 시간을 기록, 실패하면 null로 완료 / Sends and times a request; completes with null on failure
+    private CompletableFuture<HttpResponse<String>> send(String endpoint, HttpRequest request, long startNanos) {
+        LatencyRecorder recorder = recorders.computeIfAbsent(endpoint, key -> new LatencyRecorder());
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .handle((response, error) -> {
+                boolean failed = error != null || response.statusCode() >= 400;
+                recorder.record(System.nanoTime() - startNanos, failed);
+                return failed ? null : response;
+            });
+    }
+
+    private HttpRequest request(String method, String path, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+            .timeout(Duration.ofSeconds(30));
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private String userJson(String name) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + email(name) + "\",\"password\":\"1234\",\"phoneNumber\":\"010-0000-0000\"}";
+    }
+
+    private String email(String name) {
+        return name + "-" + runId + "@load.test";
+    }
+
+    private static String reservationJson(Long userId, Long roomId, LocalDate checkIn) {
+        return "{\"user\":{\"id\":" + userId + "},\"room\":{\"id\":" + roomId + "},\"checkInDate\":\"" + checkIn
+            + "\",\"checkOutDate\":\"" + checkIn.plusDays(2) + "\",\"numberOfPeople\":1}";
+    }
+
+    private static Long idOf(HttpResponse<String> response) {
+        Matcher matcher = ID.matcher(response.body());
+        if (response.statusCode() >= 400 || !matcher.find()) {
+            throw new IllegalStateException("Unexpected response " + response.statusCode() + ": " + response.body());
+        }
+        return Long.valueOf(matcher.group(1));
+    }
+
+    private static CompletableFuture<Void> done() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // 엔드포인트별 지연 시간 기록 / Latencies of one endpoint
+    private static final class LatencyRecorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void record(long nanos, boolean failed) {
+            if (failed) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        synchronized LoadReport.EndpointStats stats(String endpoint, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new LoadReport.EndpointStats(endpoint, count, errors, count / elapsedSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                count == 0 ? 0 : sorted[count - 1] / 1e6);
+        }
+
+        // 정렬된 나노초 배열의 백분위 값 (밀리초) / Percentile of sorted nanos, in milliseconds
+        private static double percentile(long[] sortedNanos, double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1e6;
+        }
+    }
+}
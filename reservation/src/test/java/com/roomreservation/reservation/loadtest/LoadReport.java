@@ -0,0 +1,63 @@
+package com.roomreservation.reservation.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 부하 테스트 결과 (엔드포인트별 처리량과 지연 시간 백분위)
+ * Load test result: throughput and latency percentiles per endpoint
+ */
+public record LoadReport(String startedAt, String baseUrl, double ratePerSecond, int maxConcurrency,
+                         double elapsedSeconds, long scenariosStarted, List<EndpointStats> endpoints) {
+
+    /**
+     * @param endpoint 메서드 + 경로 템플릿 / method and path template, e.g. "PUT /api/reservations/{id}"
+     * @param throughput 초당 완료된 요청 수 / completed requests per second
+     */
+    public record EndpointStats(String endpoint, long count, long errors, double throughput,
+                                double p50Ms, double p95Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    /**
+     * 결과를 표 형태로 출력합니다.
+     * Prints the result as a table.
+     */
+    public void print(PrintStream out) {
+        out.printf("%d scenarios in %.1f s (target %.1f/s, max %d in flight) against %s%n",
+            scenariosStarted, elapsedSeconds, ratePerSecond, maxConcurrency, baseUrl);
+        out.printf("%-36s %8s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms");
+        for (EndpointStats stats : endpoints) {
+            out.printf("%-36s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", stats.endpoint(), stats.count(), stats.errors(),
+                stats.throughput(), stats.p50Ms(), stats.p95Ms(), stats.p99Ms(), stats.p999Ms());
+        }
+    }
+
+    /**
+     * 결과를 JSON과 CSV 파일로 저장합니다. (실행 간 비교용)
+     * Writes the result as JSON and CSV files so runs can be compared.
+     *
+     * @return 저장한 JSON 파일 경로 / path of the written JSON file
+     */
+    public Path write(Path directory, String name) throws IOException {
+        Files.createDirectories(directory);
+        Path json = directory.resolve(name + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), this);
+
+        StringBuilder csv = new StringBuilder("endpoint,count,errors,throughput,p50_ms,p95_ms,p99_ms,p999_ms,max_ms\n");
+        for (EndpointStats stats : endpoints) {
+            csv.append(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%.3f%n", stats.endpoint(), stats.count(),
+                stats.errors(), stats.throughput(), stats.p50Ms(), stats.p95Ms(), stats.p99Ms(), stats.p999Ms(),
+                stats.maxMs()));
+        }
+        Files.writeString(directory.resolve(name + ".csv"), csv);
+        return json;
+    }
+}
@@ -0,0 +1,60 @@
+package com.roomreservation.reservation.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.* 로 지정)
+ * Load test settings, read from loadtest.* system properties
+ *
+ * @param baseUrl 대상 서버 주소 / target server, e.g. http://localhost:8080
+ * @param ratePerSecond 초당 시나리오 시작 수 (열린 루프) / scenarios started per second (open loop)
+ * @param duration 측정 시간 / how long to generate load
+ * @param maxConcurrency 동시에 진행 가능한 시나리오 수 / scenarios allowed in flight at once
+ * @param mix 시나리오별 가중치 / weight per scenario (auth, browse, booking)
+ * @param rooms 미리 만들 방 수 / rooms created before the run
+ * @param outputDir 결과 파일 위치 / where result files are written
+ */
+public record LoadTestConfig(String baseUrl, double ratePerSecond, Duration duration, int maxConcurrency,
+                             Map<String, Integer> mix, int rooms, Path outputDir) {
+
+    public LoadTestConfig {
+        if (ratePerSecond <= 0 || maxConcurrency < 1 || rooms < 1 || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Check your load test settings.");
+        }
+        if (mix.isEmpty() || mix.values().stream().anyMatch(weight -> weight < 0)
+                || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Check your scenario mix.");
+        }
+    }
+
+    /**
+     * 시스템 프로퍼티에서 설정을 읽습니다. 지정하지 않은 값은 기본값을 사용합니다.
+     * Reads the settings from system properties, falling back to defaults.
+     */
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            System.getProperty("loadtest.baseUrl", "http://localhost:8080"),
+            Double.parseDouble(System.getProperty("loadtest.rate", "50")),
+            Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+            Integer.parseInt(System.getProperty("loadtest.concurrency", "200")),
+            parseMix(System.getProperty("loadtest.mix", "auth=1,browse=6,booking=3")),
+            Integer.parseInt(System.getProperty("loadtest.rooms", "50")),
+            Path.of(System.getProperty("loadtest.output", "target/loadtest")));
+    }
+
+    // "auth=1,browse=6,booking=3" 형식 / Parses "auth=1,browse=6,booking=3"
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Check your scenario mix.");
+            }
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
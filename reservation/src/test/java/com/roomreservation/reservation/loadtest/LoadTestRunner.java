@@ -0,0 +1,37 @@
+package com.roomreservation.reservation.loadtest;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 실행 중인 애플리케이션에 부하를 주고 결과를 target/loadtest 에 저장
+ * - 먼저 ./mvnw spring-boot:run 으로 서버를 띄운 뒤 실행
+ * - 실행: ./mvnw test -Dtest=LoadTestRunner -Dloadtest=true -Dloadtest.rate=100 -Dloadtest.duration=PT60S
+ * - 그 밖의 설정: loadtest.baseUrl, loadtest.concurrency, loadtest.mix (예: auth=1,browse=6,booking=3), loadtest.rooms, loadtest.output
+ *
+ * Drives load against a running application and writes the results to target/loadtest
+ * - Start the server first with ./mvnw spring-boot:run
+ * - Run with: ./mvnw test -Dtest=LoadTestRunner -Dloadtest=true -Dloadtest.rate=100 -Dloadtest.duration=PT60S
+ * - Other settings: loadtest.baseUrl, loadtest.concurrency, loadtest.mix (e.g. auth=1,browse=6,booking=3),
+ *   loadtest.rooms, loadtest.output
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+public class LoadTestRunner {
+
+    @Test
+    void runLoadTest() throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LoadReport report = new LoadGenerator(config).run();
+
+        report.print(System.out);
+        String name = "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path json = report.write(config.outputDir(), name);
+        System.out.println("Results written to " + json.toAbsolutePath() + " (and .csv)");
+        assertTrue(report.scenariosStarted() > 0);
+    }
+}
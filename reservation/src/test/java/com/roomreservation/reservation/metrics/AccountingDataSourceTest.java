@@ -0,0 +1,72 @@
+package com.roomreservation.reservation.metrics;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AccountingDataSourceTest {
+    private AccountingDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:accounting;DB_CLOSE_DELAY=-1");
+        dataSource = new AccountingDataSource(h2);
+    }
+
+    @Test
+    void executions_ShouldBeCountedOnTheCallingThread() throws Exception {
+        QueryBudget budget = QueryBudget.start();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS item (id INT PRIMARY KEY)");
+            statement.executeUpdate("DELETE FROM item");
+            try (PreparedStatement select = connection.prepareStatement("SELECT COUNT(*) FROM item");
+                 ResultSet resultSet = select.executeQuery()) {
+                assertTrue(resultSet.next());
+            }
+        }
+
+        budget.assertStatements(3);
+        assertTrue(budget.jdbcTime().toNanos() > 0);
+    }
+
+    @Test
+    void batch_ShouldCountAsOneStatement() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("CREATE TABLE IF NOT EXISTS item (id INT PRIMARY KEY)");
+            connection.createStatement().execute("DELETE FROM item");
+
+            // 10건을 한 번의 배치로 전송 / Ten rows sent as one batch
+            QueryBudget budget = QueryBudget.start();
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO item (id) VALUES (?)")) {
+                for (int i = 0; i < 10; i++) {
+                    insert.setInt(1, i);
+                    insert.addBatch();
+                }
+                assertEquals(10, insert.executeBatch().length);
+            }
+            budget.assertStatements(1);
+        }
+    }
+
+    @Test
+    void budget_ShouldFail_WhenExceeded() throws Exception {
+        QueryBudget budget = QueryBudget.start();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("SELECT 1");
+            connection.createStatement().execute("SELECT 2");
+        }
+
+        budget.assertStatementsAtMost(2);
+        assertThrows(AssertionError.class, () -> budget.assertStatementsAtMost(1));
+    }
+}
@@ -0,0 +1,49 @@
+package com.roomreservation.reservation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void summarize_ShouldReportPercentilesWithinBucketError() {
+        // 1..10,000 µs를 균등하게 기록하면 p50 ≈ 5ms, p99 ≈ 9.9ms (구간 오차 약 6% 이내)
+        // Uniform 1..10,000 µs gives p50 ≈ 5 ms and p99 ≈ 9.9 ms, within the ~6% bucket error
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros * 1_000L);
+        }
+
+        LatencyHistogram.Summary summary = histogram.summarize();
+
+        assertEquals(10_000, summary.count());
+        assertWithin(5_000_000, summary.p50());
+        assertWithin(9_900_000, summary.p99());
+        assertEquals(10_000_000, summary.max());
+    }
+
+    @Test
+    void indexOf_ShouldPlaceEveryValueInsideItsBucket() {
+        // 모든 값은 자기 구간의 상한 이하이고, 이전 구간의 상한보다 큼
+        // Every value is at most its bucket's upper bound and above the previous bucket's
+        for (long value : new long[] {0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE / 4}) {
+            int index = LatencyHistogram.indexOf(value);
+            if (value < (1L << 41)) {
+                assertTrue(value <= LatencyHistogram.upperBoundOf(index), () -> "value " + value);
+            }
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.upperBoundOf(index - 1), () -> "value " + value);
+            }
+        }
+    }
+
+    @Test
+    void summarize_ShouldReturnZeros_WhenEmpty() {
+        assertEquals(new LatencyHistogram.Summary(0, 0, 0, 0, 0, 0, 0), new LatencyHistogram().summarize());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.07, () -> "expected ~" + expected + " but was " + actual);
+    }
+}
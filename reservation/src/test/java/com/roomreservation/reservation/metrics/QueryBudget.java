@@ -0,0 +1,67 @@
+package com.roomreservation.reservation.metrics;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 테스트용 SQL 실행 예산 검사
+ * - start() 이후 현재 스레드에서 실행된 SQL 수와 JDBC 시간을 검사 (AccountingDataSource가 적용된 경우)
+ * - 예: QueryBudget budget = QueryBudget.start(); service.call(); budget.assertStatementsAtMost(2);
+ *
+ * SQL statement budgets for tests
+ * - Checks the SQL statements and JDBC time run on the current thread since start(),
+ *   as recorded by AccountingDataSource
+ * - Example: QueryBudget budget = QueryBudget.start(); service.call(); budget.assertStatementsAtMost(2);
+ */
+public final class QueryBudget {
+    private final SqlStatementCounter.Snapshot start;
+
+    private QueryBudget(SqlStatementCounter.Snapshot start) {
+        this.start = start;
+    }
+
+    public static QueryBudget start() {
+        return new QueryBudget(SqlStatementCounter.current());
+    }
+
+    /**
+     * start() 이후 실행된 SQL 수
+     * Statements executed since start().
+     */
+    public long statements() {
+        return start.since().statements();
+    }
+
+    /**
+     * start() 이후 JDBC 실행 시간 합계
+     * Total JDBC execution time since start().
+     */
+    public Duration jdbcTime() {
+        return Duration.ofNanos(start.since().jdbcNanos());
+    }
+
+    public QueryBudget assertStatementsAtMost(long max) {
+        long statements = statements();
+        if (statements > max) {
+            fail("Expected at most " + max + " SQL statements but " + statements + " ran");
+        }
+        return this;
+    }
+
+    public QueryBudget assertStatements(long expected) {
+        long statements = statements();
+        if (statements != expected) {
+            fail("Expected " + expected + " SQL statements but " + statements + " ran");
+        }
+        return this;
+    }
+
+    public QueryBudget assertJdbcTimeAtMost(Duration max) {
+        Duration jdbcTime = jdbcTime();
+        if (jdbcTime.compareTo(max) > 0) {
+            fail("Expected at most " + max.toMillis() + " ms of JDBC time but it took " + jdbcTime.toMillis() + " ms");
+        }
+        return this;
+    }
+}
@@ -0,0 +1,70 @@
+package com.roomreservation.reservation.metrics;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.roomreservation.reservation.cache.RoomCatalogCache;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.index.IndexLoadGate;
+import com.roomreservation.reservation.index.OccupancyCalendar;
+import com.roomreservation.reservation.index.RateCalendar;
+import com.roomreservation.reservation.index.RoomRangeIndex;
+import com.roomreservation.reservation.index.RoomTextIndex;
+import com.roomreservation.reservation.repository.RoomRepository;
+import com.roomreservation.reservation.service.RoomService;
+import com.roomreservation.reservation.service.RoomServiceImpl;
+
+public class ServiceMetricsAspectTest {
+    private MetricsRegistry metricsRegistry;
+    private RoomRepository roomRepository;
+    private RoomService roomService;
+
+    @BeforeEach
+    public void setUp() {
+        // 실제 RoomServiceImpl에 계측 Aspect를 적용한 프록시 생성
+        // Proxy a real RoomServiceImpl with the metrics aspect applied
+        metricsRegistry = new MetricsRegistry();
+        roomRepository = mock(RoomRepository.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new RoomServiceImpl(roomRepository, new OccupancyCalendar(),
+            new RoomCatalogCache(100, Duration.ofMinutes(5)), new RoomRangeIndex(), new RoomTextIndex(), new RateCalendar(730),
+            IndexLoadGate.opened()));
+        factory.addAspect(new ServiceMetricsAspect(metricsRegistry));
+        roomService = factory.getProxy();
+    }
+
+    @Test
+    void serviceCall_ShouldBeTimed() {
+        Room room = new Room();
+        room.setId(1L);
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+
+        roomService.getRoomById(1L);
+
+        assertEquals(1, metricsRegistry.snapshot().timers().get("service.RoomServiceImpl.getRoomById").count());
+    }
+
+    @Test
+    void notFound_ShouldBeCountedSeparatelyFromValidationFailures() {
+        // 없는 방 조회는 not_found, 음수 가격은 validation 으로 카운트
+        // A missing room counts as not_found, a negative price as validation
+        when(roomRepository.findById(9L)).thenReturn(Optional.empty());
+        Room room = new Room();
+        room.setPrice(-1);
+
+        assertThrows(IllegalArgumentException.class, () -> roomService.getRoomById(9L));
+        assertThrows(IllegalArgumentException.class, () -> roomService.addRoom(room));
+
+        assertEquals(1, metricsRegistry.count("errors.not_found"));
+        assertEquals(1, metricsRegistry.count("errors.not_found.service.RoomServiceImpl.getRoomById"));
+        assertEquals(1, metricsRegistry.count("errors.validation"));
+        assertEquals(1, metricsRegistry.count("errors.validation.service.RoomServiceImpl.addRoom"));
+    }
+}
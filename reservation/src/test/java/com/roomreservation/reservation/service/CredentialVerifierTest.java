@@ -0,0 +1,39 @@
+package com.roomreservation.reservation.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CredentialVerifierTest {
+
+    @Test
+    void verify_ShouldRejectAtOnce_WhenQueueIsFull() throws Exception {
+        // 스레드 1개 + 대기열 1개가 모두 찬 상태에서 세 번째 검증은 즉시 거절
+        // With the single thread busy and the single queue slot taken, a third check is rejected at once
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHasher passwordHasher = mock(PasswordHasher.class);
+        when(passwordHasher.matches(anyString(), anyString())).thenAnswer(invocation -> release.await(10, TimeUnit.SECONDS));
+
+        try (CredentialVerifier verifier = new CredentialVerifier(passwordHasher, 1, 1)) {
+            CompletableFuture<Boolean> running = verifier.verify("1234", "1234");
+            CompletableFuture<Boolean> queued = verifier.verify("1234", "1234");
+            CompletableFuture<Boolean> rejected = verifier.verify("1234", "1234");
+
+            Throwable exception = assertThrows(CompletionException.class, rejected::join);
+            assertEquals("Too many login attempts. Try again later.", exception.getCause().getMessage());
+
+            release.countDown();
+            assertTrue(running.get(10, TimeUnit.SECONDS));
+            assertTrue(queued.get(10, TimeUnit.SECONDS));
+        }
+    }
+}
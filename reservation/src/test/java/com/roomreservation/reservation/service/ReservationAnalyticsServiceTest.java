@@ -0,0 +1,119 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.roomreservation.reservation.dto.ReservationAnalyticsReport;
+import com.roomreservation.reservation.dto.ReservationFact;
+import com.roomreservation.reservation.repository.ReservationRepository;
+
+public class ReservationAnalyticsServiceTest {
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2027, 1, 1);
+
+    private ReservationRepository reservationRepository;
+    private ReservationAnalyticsServiceImpl analyticsService;
+
+    @BeforeEach
+    public void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        // 구간당 ID 2개, 스레드 2개 / Two IDs per partition on two threads
+        analyticsService = new ReservationAnalyticsServiceImpl(reservationRepository, 2, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        analyticsService.close();
+    }
+
+    @Test
+    void analyze_ShouldMergePartitions_IntoPartySizeAndLeadTime() {
+        LocalDate checkIn = LocalDate.of(2026, 3, 10);
+        when(reservationRepository.findMinId()).thenReturn(1L);
+        when(reservationRepository.findMaxId()).thenReturn(7L);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(reservationRepository.findFactsInIdRange(anyLong(), anyLong(), eq(FROM), eq(TO))).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            long from = invocation.getArgument(0);
+            return switch ((int) from) {
+                // 방 10: 2명(10일 전 예약), 4명(30일 전 예약) / Room 10: 2 people booked 10 days ahead, 4 people 30 days ahead
+                case 0 -> List.of(fact(1L, 10L, checkIn, 2, 10), fact(2L, 10L, checkIn, 4, 30));
+                // 방 20: 3명(0일 전), 접수 시각 없는 1명 / Room 20: 3 people booked the same day, 1 person without a booking time
+                case 4 -> List.of(fact(5L, 20L, checkIn, 3, 0),
+                    new ReservationFact(6L, 20L, checkIn, 1, null));
+                default -> List.of();
+            };
+        });
+
+        ReservationAnalyticsReport report = analyticsService.analyze(FROM, TO);
+
+        // ID 1~7 -> 구간 (0,2] (2,4] (4,6] (6,8] / IDs 1 to 7 make four partitions
+        assertEquals(4, report.partitions());
+        assertEquals(4, report.reservations());
+        assertEquals(List.of(new ReservationAnalyticsReport.RoomPartySize(10L, 2, 3.0, 4),
+            new ReservationAnalyticsReport.RoomPartySize(20L, 2, 2.0, 3)), report.partySizeByRoom());
+        assertEquals(new ReservationAnalyticsReport.LeadTime(3, 40.0 / 3, 10, 30, 30, 1), report.leadTime());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("reservation-analytics-")));
+        assertTrue(threads.size() <= 2);
+    }
+
+    @Test
+    void analyze_ShouldReturnEmptyReport_WhenThereAreNoReservations() {
+        when(reservationRepository.findMinId()).thenReturn(null);
+        when(reservationRepository.findMaxId()).thenReturn(null);
+
+        ReservationAnalyticsReport report = analyticsService.analyze(FROM, TO);
+
+        assertEquals(0, report.partitions());
+        assertEquals(List.of(), report.partySizeByRoom());
+        assertEquals(new ReservationAnalyticsReport.LeadTime(0, 0, 0, 0, 0, 0), report.leadTime());
+        verify(reservationRepository, never()).findFactsInIdRange(anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    void analyze_ShouldThrow_WhenRangeIsInvalid() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> analyticsService.analyze(TO, FROM));
+
+        assertEquals("Check the date range.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.analyze(FROM, FROM.plusYears(20)));
+    }
+
+    @Test
+    void accumulator_ShouldGrowRoomTable_WithoutLosingTotals() {
+        ReservationAnalyticsAccumulator left = new ReservationAnalyticsAccumulator();
+        ReservationAnalyticsAccumulator right = new ReservationAnalyticsAccumulator();
+        LocalDate checkIn = LocalDate.of(2026, 5, 1);
+        for (long roomId = 1; roomId <= 1000; roomId++) {
+            left.add(fact(roomId, roomId, checkIn, 1, 1));
+            right.add(fact(roomId + 1000, roomId, checkIn, 3, 1000));
+        }
+        left.merge(right);
+
+        List<ReservationAnalyticsReport.RoomPartySize> rooms = left.partySizeByRoom();
+        assertEquals(1000, rooms.size());
+        assertEquals(new ReservationAnalyticsReport.RoomPartySize(500L, 2, 2.0, 3), rooms.get(499));
+        // 최대 칸 이상은 실제 최댓값으로 보고 / Lead times past the last bucket report the real maximum
+        assertEquals(new ReservationAnalyticsReport.LeadTime(2000, 500.5, 1, 1000, 1000, 0), left.leadTime());
+    }
+
+    private static ReservationFact fact(Long id, Long roomId, LocalDate checkIn, int people, int daysAhead) {
+        return new ReservationFact(id, roomId, checkIn, people, checkIn.minusDays(daysAhead).atTime(12, 0));
+    }
+}
@@ -0,0 +1,196 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.index.IndexLoadGate;
+import com.roomreservation.reservation.index.OccupancyCalendar;
+import com.roomreservation.reservation.index.ReservationIntervalIndex;
+import com.roomreservation.reservation.index.ReservationStatistics;
+import com.roomreservation.reservation.journal.ReservationJournal;
+import com.roomreservation.reservation.repository.ReservationRepository;
+import com.roomreservation.reservation.repository.RoomRepository;
+import com.roomreservation.reservation.repository.UserRepository;
+
+/**
+ * 동시 예약 스트레스 테스트
+ * - 여러 스레드가 같은 방/날짜를 동시에 예약해도 이중 예약이 생기지 않는지 검증
+ *
+ * Concurrent booking stress test
+ * - Verifies that no double booking happens when many threads book the same room and dates at once
+ */
+public class ReservationConcurrencyTest {
+    private static final int THREADS = 32;
+
+    private ReservationServiceImpl reservationService;
+
+    // 저장된 예약 (DB 대용) / Saved reservations (stands in for the database)
+    private final Queue<Reservation> savedReservations = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    public void setUp() {
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        RoomRepository roomRepository = mock(RoomRepository.class);
+
+        User user = new User();
+        user.setId(1L);
+        Map<Long, Room> rooms = new ConcurrentHashMap<>();
+        AtomicLong sequence = new AtomicLong();
+
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(roomRepository.findById(anyLong())).thenAnswer(invocation -> {
+            Long roomId = invocation.getArgument(0);
+            return Optional.of(rooms.computeIfAbsent(roomId, id -> {
+                Room room = new Room();
+                room.setId(id);
+                room.setMaxPeople(4);
+                return room;
+            }));
+        });
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            // 저장 지연을 흉내 내어 경쟁 구간을 넓힘 / Simulate save latency to widen the race window
+            Thread.sleep(1);
+            reservation.setId(sequence.incrementAndGet());
+            savedReservations.add(reservation);
+            return reservation;
+        });
+
+        reservationService = new ReservationServiceImpl(reservationRepository, userRepository, roomRepository,
+            new ReservationIntervalIndex(), new OccupancyCalendar(), new ReservationStatistics(),
+            IndexLoadGate.opened(), ReservationJournal.disabled(), TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    void addReservation_ShouldAcceptExactlyOne_WhenSameRoomAndDatesAreBookedConcurrently() throws Exception {
+        // 32개 스레드가 같은 방, 같은 날짜를 동시에 예약
+        // 32 threads book the same room for the same dates at the same moment
+        LocalDate checkIn = LocalDate.now().plusDays(5);
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(THREADS, attempt -> {
+            try {
+                reservationService.addReservation(newReservation(1L, checkIn, checkIn.plusDays(2)));
+            } catch (IllegalArgumentException e) {
+                assertEquals("The room is already booked for those dates.", e.getMessage());
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, savedReservations.size());
+        assertEquals(THREADS - 1, rejected.get());
+    }
+
+    @Test
+    void addReservation_ShouldAcceptAll_WhenRoomsDiffer() throws Exception {
+        // 서로 다른 방은 모두 예약 성공 / Bookings for different rooms all succeed
+        LocalDate checkIn = LocalDate.now().plusDays(5);
+
+        runConcurrently(THREADS, attempt ->
+            reservationService.addReservation(newReservation((long) attempt + 1, checkIn, checkIn.plusDays(2))));
+
+        assertEquals(THREADS, savedReservations.size());
+    }
+
+    @Test
+    void addReservation_ShouldNeverDoubleBook_UnderRandomContention() throws Exception {
+        // 방 4개에 무작위 기간으로 2,000건 예약 시도 후 겹치는 예약이 없는지 검증
+        // Attempt 2,000 random stays over 4 rooms, then verify that no saved stays overlap
+        runConcurrently(2_000, attempt -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(60));
+            try {
+                reservationService.addReservation(
+                    newReservation(1L + random.nextInt(4), checkIn, checkIn.plusDays(1 + random.nextInt(5))));
+            } catch (IllegalArgumentException e) {
+                // 겹쳐서 거절된 예약 / Rejected because it overlaps
+            }
+        });
+
+        Map<Long, List<Reservation>> byRoom = new ConcurrentHashMap<>();
+        for (Reservation reservation : savedReservations) {
+            byRoom.computeIfAbsent(reservation.getRoom().getId(), id -> new ArrayList<>()).add(reservation);
+        }
+        assertTrue(savedReservations.size() > 4);
+        for (List<Reservation> stays : byRoom.values()) {
+            stays.sort(Comparator.comparing(Reservation::getCheckInDate));
+            for (int i = 1; i < stays.size(); i++) {
+                assertTrue(!stays.get(i).getCheckInDate().isBefore(stays.get(i - 1).getCheckOutDate()),
+                    "Double booking in room " + stays.get(i).getRoom().getId());
+            }
+        }
+    }
+
+    // 주어진 횟수만큼 작업을 동시에 시작하고 모두 끝날 때까지 대기 / Starts the attempts together and waits for all of them
+    private void runConcurrently(int attempts, AttemptTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        try {
+            for (int i = 0; i < attempts; i++) {
+                int attempt = i;
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        task.run(attempt);
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        assertTrue(failures.isEmpty(), () -> "Unexpected failure: " + failures.peek());
+    }
+
+    private Reservation newReservation(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        User user = new User();
+        user.setId(1L);
+        Room room = new Room();
+        room.setId(roomId);
+
+        Reservation reservation = new Reservation();
+        reservation.setUser(user);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkOut);
+        reservation.setNumberOfPeople(2);
+        return reservation;
+    }
+
+    @FunctionalInterface
+    private interface AttemptTask {
+        void run(int attempt) throws Exception;
+    }
+}
@@ -0,0 +1,92 @@
+package com.roomreservation.reservation.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.roomreservation.reservation.dto.ReservationExport;
+import com.roomreservation.reservation.repository.ReservationRepository;
+
+public class ReservationExportServiceTest {
+
+    private ReservationRepository reservationRepository;
+    private ReservationExportServiceImpl exportService;
+    // 스프링 부트 기본값처럼 날짜를 ISO 문자열로 출력 / ISO date strings, like Spring Boot's default mapper
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @BeforeEach
+    public void setup() {
+        reservationRepository = mock(ReservationRepository.class);
+        exportService = new ReservationExportServiceImpl(reservationRepository, objectMapper);
+    }
+
+    @Test
+    void exportReservations_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // 예약마다 한 줄씩 JSON으로 출력 / Writes one JSON object per reservation, one per line
+        when(reservationRepository.streamAllForExport()).thenReturn(Stream.of(export(1L), export(2L), export(3L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = exportService.exportReservations(out);
+
+        String expected = objectMapper.writeValueAsString(export(1L)) + "\n"
+            + objectMapper.writeValueAsString(export(2L)) + "\n"
+            + objectMapper.writeValueAsString(export(3L)) + "\n";
+        // 줄 앞에 구분 공백이 붙지 않아야 함 / No separator space may precede any line
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, count);
+        assertEquals(3, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode node = objectMapper.readTree(lines[i]);
+            assertEquals(i + 1, node.get("id").asLong());
+            assertEquals("2025-08-25", node.get("checkInDate").asText());
+            // 목록 요약에 없는 열도 내보냄 / Columns the list summary leaves out are exported too
+            assertEquals("2025-08-20T10:15:00", node.get("bookedAt").asText());
+            assertEquals(120, node.get("nightlyPrice").asInt());
+            assertEquals(3, node.get("version").asLong());
+        }
+    }
+
+    @Test
+    void exportReservations_ShouldCloseRepositoryStream() throws Exception {
+        // 출력 후 DB 커서를 닫음 / Closes the database cursor after writing
+        boolean[] closed = {false};
+        when(reservationRepository.streamAllForExport())
+            .thenReturn(Stream.of(export(1L)).onClose(() -> closed[0] = true));
+
+        exportService.exportReservations(new ByteArrayOutputStream());
+
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    void exportReservations_ShouldWriteNothing_WhenThereAreNoReservations() throws Exception {
+        // 예약이 없으면 빈 출력 / Empty output when there are no reservations
+        when(reservationRepository.streamAllForExport()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, exportService.exportReservations(out));
+        assertEquals(0, out.size());
+    }
+
+    private ReservationExport export(Long id) {
+        return new ReservationExport(id, 1L, "홍길동", 1L, "Room 1",
+            LocalDate.of(2025, 8, 25), LocalDate.of(2025, 8, 28), 2, false,
+            LocalDateTime.of(2025, 8, 20, 10, 15), 120, 3L);
+    }
+}
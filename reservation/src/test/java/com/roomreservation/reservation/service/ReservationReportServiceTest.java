@@ -0,0 +1,90 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.roomreservation.reservation.dto.AggregateRebuildResult;
+import com.roomreservation.reservation.dto.MonthlyRevenue;
+import com.roomreservation.reservation.dto.OccupancyReport;
+import com.roomreservation.reservation.dto.ReservationStay;
+import com.roomreservation.reservation.index.ReservationStatistics;
+import com.roomreservation.reservation.index.RoomRangeIndex;
+import com.roomreservation.reservation.repository.ReservationRepository;
+import com.roomreservation.reservation.repository.RoomRepository;
+
+public class ReservationReportServiceTest {
+    private static final LocalDate JUNE_1 = LocalDate.of(2026, 6, 1);
+
+    private ReservationRepository reservationRepository;
+    private RoomRepository roomRepository;
+    private ReservationStatistics statistics;
+    private ReservationReportServiceImpl reportService;
+
+    @BeforeEach
+    public void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        roomRepository = mock(RoomRepository.class);
+        statistics = new ReservationStatistics();
+        // 구간 크기 2, 스레드 2개 / Ranges of two IDs on two threads
+        reportService = new ReservationReportServiceImpl(reservationRepository, roomRepository, statistics,
+            new RoomRangeIndex(), 2, 2);
+    }
+
+    @Test
+    void getOccupancy_ShouldReadCounters_WithoutQueryingReservations() {
+        when(roomRepository.count()).thenReturn(4L);
+        statistics.record(1L, 10L, JUNE_1, JUNE_1.plusDays(2), 100);
+        statistics.record(2L, 20L, JUNE_1.plusDays(1), JUNE_1.plusDays(2), 100);
+
+        OccupancyReport report = reportService.getOccupancy(JUNE_1, JUNE_1.plusDays(2));
+
+        assertEquals(4L, report.roomCount());
+        assertEquals(List.of(new OccupancyReport.DayOccupancy(JUNE_1, 1, 0.25),
+            new OccupancyReport.DayOccupancy(JUNE_1.plusDays(1), 2, 0.5)), report.days());
+        assertEquals(List.of(new OccupancyReport.RoomOccupancy(10L, 2, 1.0),
+            new OccupancyReport.RoomOccupancy(20L, 1, 0.5)), report.rooms());
+        verify(reservationRepository, never()).findAll();
+    }
+
+    @Test
+    void getOccupancy_ShouldThrow_WhenRangeIsInvalid() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> reportService.getOccupancy(JUNE_1, JUNE_1));
+        assertEquals("Check the date range.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> reportService.getOccupancy(JUNE_1, JUNE_1.plusYears(2)));
+        assertThrows(IllegalArgumentException.class,
+            () -> reportService.getRevenue(YearMonth.of(2026, 6), YearMonth.of(2026, 5)));
+    }
+
+    @Test
+    void rebuildAggregates_ShouldReadIdRangesInParallel_AndReplaceCounters() {
+        // 남아 있던 잘못된 값은 재구축 후 사라짐 / A stale entry is gone after the rebuild
+        statistics.record(99L, 10L, JUNE_1, JUNE_1.plusDays(1), 1);
+        when(reservationRepository.findMinId()).thenReturn(1L);
+        when(reservationRepository.findMaxId()).thenReturn(5L);
+        when(reservationRepository.findStaysInIdRange(anyLong(), anyLong())).thenReturn(List.of());
+        when(reservationRepository.findStaysInIdRange(0L, 2L)).thenReturn(List.of(
+            new ReservationStay(1L, 10L, JUNE_1, JUNE_1.plusDays(2), 100)));
+        when(reservationRepository.findStaysInIdRange(4L, 5L)).thenReturn(List.of(
+            new ReservationStay(5L, 20L, JUNE_1.plusMonths(1), JUNE_1.plusMonths(1).plusDays(1), 300)));
+
+        AggregateRebuildResult result = reportService.rebuildAggregates();
+
+        assertEquals(3, result.ranges());
+        assertEquals(2, result.reservations());
+        assertEquals(List.of(new MonthlyRevenue(YearMonth.of(2026, 6), 200, 2),
+            new MonthlyRevenue(YearMonth.of(2026, 7), 300, 1)),
+            reportService.getRevenue(YearMonth.of(2026, 6), YearMonth.of(2026, 7)));
+    }
+}
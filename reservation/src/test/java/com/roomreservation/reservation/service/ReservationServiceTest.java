@@ -1,30 +1,86 @@
 package com.roomreservation.reservation.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionOperations;
 
 import com.roomreservation.reservation.domain.Reservation;
 import com.roomreservation.reservation.domain.Room;
 import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.dto.BulkUpdateResult;
+import com.roomreservation.reservation.dto.CursorPage;
+import com.roomreservation.reservation.dto.ReservationBatchResult;
+import com.roomreservation.reservation.dto.ReservationPlacement;
+import com.roomreservation.reservation.dto.ReservationSelection;
+import com.roomreservation.reservation.dto.ReservationSummary;
+import com.roomreservation.reservation.dto.RoomCapacity;
+import com.roomreservation.reservation.dto.RoomRelocationResult;
+import com.roomreservation.reservation.index.IndexLoadGate;
+import com.roomreservation.reservation.index.OccupancyCalendar;
+import com.roomreservation.reservation.index.ReservationIntervalIndex;
+import com.roomreservation.reservation.index.ReservationStatistics;
+import com.roomreservation.reservation.journal.ReservationEventType;
+import com.roomreservation.reservation.journal.ReservationJournal;
 import com.roomreservation.reservation.repository.ReservationRepository;
+import com.roomreservation.reservation.repository.RoomRepository;
+import com.roomreservation.reservation.repository.UserRepository;
 
 public class ReservationServiceTest {
     @Mock
     private ReservationRepository reservationRepository; // ReservationRepository 목 객체 생성 / Mock ReservationRepository
 
+    @Mock
+    private UserRepository userRepository; // UserRepository 목 객체 생성 / Mock UserRepository
+
+    @Mock
+    private RoomRepository roomRepository; // RoomRepository 목 객체 생성 / Mock RoomRepository
+
+    @Spy
+    private ReservationIntervalIndex intervalIndex = new ReservationIntervalIndex(); // 실제 인덱스 사용 / Real interval index
+
+    @Spy
+    private OccupancyCalendar occupancyCalendar = new OccupancyCalendar(); // 실제 점유 달력 사용 / Real occupancy calendar
+
+    @Spy
+    private ReservationStatistics statistics = new ReservationStatistics(); // 실제 집계 카운터 사용 / Real aggregate counters
+
+    @Spy
+    private IndexLoadGate loadGate = IndexLoadGate.opened(); // 적재가 끝난 상태 / Startup index load already done
+
+    @Spy
+    private ReservationJournal journal = ReservationJournal.disabled(); // 기록하지 않는 저널 / Journal that records nothing
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction(); // 트랜잭션 없이 바로 실행 / Runs callbacks directly
+
     @InjectMocks
     private ReservationServiceImpl reservationServiceImpl; // ReservationServiceImpl에 목 객체 주입 / Inject mocks into ReservationServiceImpl
 
@@ -56,7 +112,9 @@ public class ReservationServiceTest {
         reservation.setNumberOfPeople(4);
         reservation.setIsApproved(true);
 
-        // 저장 시 목 동작 설정 / Mock behavior on save
+        // 조회 및 저장 시 목 동작 설정 / Mock behavior on lookups and save
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
+        when(roomRepository.findById(any())).thenReturn(Optional.of(room));
         when(reservationRepository.save(reservation)).thenReturn(reservation);
 
         // 서비스 메서드 호출 / Call service method
@@ -75,6 +133,34 @@ public class ReservationServiceTest {
         System.out.println("예약된 check-out 날짜: " + results.getCheckOutDate());
     }
 
+    @Test
+    void addReservation_ShouldReturnCommittedBooking_WhenJournalAppendFails() {
+        // 커밋 후 저널 기록이 실패해도 예약은 성공하고 저널만 손상 상태가 됨
+        // A journal failure after the commit keeps the booking and only marks the journal degraded
+        Room room = new Room();
+        room.setId(1L);
+        room.setMaxPeople(2);
+        room.setPrice(100);
+        Reservation reservation = new Reservation();
+        reservation.setId(10L);
+        reservation.setUser(new User());
+        reservation.setRoom(room);
+        reservation.setCheckInDate(LocalDate.now().plusDays(1));
+        reservation.setCheckOutDate(LocalDate.now().plusDays(3));
+        reservation.setNumberOfPeople(2);
+
+        when(userRepository.findById(any())).thenReturn(Optional.of(new User()));
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+        when(reservationRepository.save(reservation)).thenReturn(reservation);
+        doThrow(new UncheckedIOException("Could not roll the reservation journal.", new IOException("disk full")))
+            .when(journal).append(any(ReservationEventType.class), any(), any(), any(), any(), anyInt(), anyInt());
+
+        assertEquals(reservation, reservationServiceImpl.addReservation(reservation));
+
+        assertTrue(journal.isDegraded());
+        assertFalse(occupancyCalendar.isAvailable(1L, LocalDate.now().plusDays(1), LocalDate.now().plusDays(3)));
+    }
+
     @Test
     void addReservation_ShouldThrowException_WhenInputIsInvalid() {
         // 예약 객체의 checkInDate가 null인 경우 예외 발생 테스트 / Test exception when checkInDate is null
@@ -105,6 +191,24 @@ public class ReservationServiceTest {
         assertEquals("Check your reservation.", exception.getMessage());
     }
 
+    @Test
+    void addReservation_ShouldReject_WhileIndexesAreLoading() {
+        // 시작 시 인덱스 적재가 끝나기 전에는 저장 없이 거절 / Rejected without saving until the startup index load is done
+        ReservationServiceImpl loadingService = new ReservationServiceImpl(reservationRepository, userRepository,
+            roomRepository, intervalIndex, occupancyCalendar, statistics, new IndexLoadGate(), journal,
+            transactionOperations);
+        Reservation reservation = new Reservation();
+        reservation.setCheckInDate(LocalDate.now().plusDays(1));
+        reservation.setCheckOutDate(LocalDate.now().plusDays(2));
+        reservation.setNumberOfPeople(2);
+
+        assertThrows(IllegalStateException.class, () -> loadingService.addReservation(reservation));
+        assertThrows(IllegalStateException.class, () -> loadingService.cancelReservationById(1L));
+
+        verify(reservationRepository, never()).save(any());
+        verify(reservationRepository, never()).deleteReservationById(any());
+    }
+
     @Test
     void addReservation_ShouldThrowException_WhenOutputIsInvalid() {
         // 예약 객체의 checkOutDate가 null인 경우 예외 발생 테스트 / Test exception when checkOutDate is null
@@ -298,6 +402,26 @@ public class ReservationServiceTest {
         assertEquals(updated.getIsApproved(), result.getIsApproved());
     }
 
+    @Test
+    void updateReservation_ShouldKeepBookedPrice_WhenRoomWasRepricedSinceBooking() {
+        // 100에 예약한 뒤 방 요금이 250으로 올라도 날짜 수정 후 매출은 100 기준
+        // Booked at 100; the room now costs 250, yet the edited stay still earns 100 a night
+        Room room = new Room();
+        room.setId(7L);
+        room.setPrice(250);
+        Reservation existing = batchItem(1L, 7L, 1, 3);
+        existing.setId(1L);
+        existing.setRoom(room);
+        existing.setNightlyPrice(100);
+        Reservation updated = batchItem(1L, 7L, 1, 4);
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        reservationServiceImpl.updateReservation(1L, updated);
+
+        assertEquals(100, statistics.nightlyPriceOf(1L));
+    }
+
     @Test
     void updateReservation_ShouldThrowException_WhenReservationDoesNotExist() {
         // 없는 예약 수정 시 예외 테스트 / Test exception when updating non-existent reservation
@@ -366,4 +490,474 @@ public class ReservationServiceTest {
         });
         assertEquals("The reservation does not exist.", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void addReservation_ShouldThrowException_WhenRoomIsAlreadyBooked() {
+        // 같은 방에 겹치는 예약이 있을 때 예외 테스트 / Test exception when the room is already booked for overlapping dates
+        User user = new User();
+        user.setId(1L);
+
+        Room room = new Room();
+        room.setId(1L);
+        room.setMaxPeople(4);
+
+        Reservation booked = new Reservation();
+        booked.setId(10L);
+        booked.setRoom(room);
+        booked.setCheckInDate(LocalDate.now().plusDays(1));
+        booked.setCheckOutDate(LocalDate.now().plusDays(4));
+        intervalIndex.put(booked);
+
+        Reservation reservation = new Reservation();
+        reservation.setUser(user);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(LocalDate.now().plusDays(3)); // 기존 예약 마지막 밤과 겹침 / Overlaps the last booked night
+        reservation.setCheckOutDate(LocalDate.now().plusDays(5));
+        reservation.setNumberOfPeople(2);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> {
+            reservationServiceImpl.addReservation(reservation);
+        });
+
+        assertEquals("The room is already booked for those dates.", exception.getMessage());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void addReservation_ShouldSaveReservation_WhenStayStartsOnPreviousCheckOut() {
+        // 기존 예약 체크아웃 날에 체크인하는 경우 저장 테스트 / Test save when check-in equals the previous check-out
+        User user = new User();
+        user.setId(1L);
+
+        Room room = new Room();
+        room.setId(1L);
+        room.setMaxPeople(4);
+
+        Reservation booked = new Reservation();
+        booked.setId(10L);
+        booked.setRoom(room);
+        booked.setCheckInDate(LocalDate.now().plusDays(1));
+        booked.setCheckOutDate(LocalDate.now().plusDays(3));
+        intervalIndex.put(booked);
+
+        Reservation reservation = new Reservation();
+        reservation.setUser(user);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(LocalDate.now().plusDays(3));
+        reservation.setCheckOutDate(LocalDate.now().plusDays(5));
+        reservation.setNumberOfPeople(2);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+        when(reservationRepository.save(reservation)).thenAnswer(invocation -> {
+            reservation.setId(11L);
+            return reservation;
+        });
+
+        Reservation result = reservationServiceImpl.addReservation(reservation);
+
+        assertEquals(11L, result.getId());
+        assertEquals(2, intervalIndex.size());
+    }
+
+    @Test
+    void updateReservation_ShouldIgnoreItself_WhenCheckingOverlap() {
+        // 수정 시 자기 자신과의 겹침은 무시하는지 테스트 / Test that update does not conflict with its own stay
+        Long reservationId = 1L;
+        Room room = new Room();
+        room.setId(1L);
+
+        Reservation existing = new Reservation();
+        existing.setId(reservationId);
+        existing.setRoom(room);
+        existing.setCheckInDate(LocalDate.now().plusDays(1));
+        existing.setCheckOutDate(LocalDate.now().plusDays(3));
+        existing.setNumberOfPeople(2);
+        intervalIndex.put(existing);
+
+        Reservation updated = new Reservation();
+        updated.setCheckInDate(LocalDate.now().plusDays(2));
+        updated.setCheckOutDate(LocalDate.now().plusDays(4));
+        updated.setNumberOfPeople(2);
+
+        when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(existing));
+        when(reservationRepository.save(existing)).thenReturn(existing);
+
+        reservationServiceImpl.updateReservation(reservationId, updated);
+
+        // 인덱스가 새 날짜로 교체되었는지 확인 / Verify the index now holds the new dates
+        assertEquals(1, intervalIndex.size());
+        assertTrue(intervalIndex.overlaps(1L, LocalDate.now().plusDays(3), LocalDate.now().plusDays(4), null));
+        assertFalse(intervalIndex.overlaps(1L, LocalDate.now().plusDays(1), LocalDate.now().plusDays(2), null));
+    }
+
+    @Test
+    void cancelReservation_ShouldReleaseDates() {
+        // 취소된 예약의 날짜가 다시 예약 가능해지는지 테스트 / Test that cancelled dates become bookable again
+        Room room = new Room();
+        room.setId(1L);
+
+        Reservation reservation = new Reservation();
+        reservation.setId(1L);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(LocalDate.now().plusDays(1));
+        reservation.setCheckOutDate(LocalDate.now().plusDays(3));
+        intervalIndex.put(reservation);
+        occupancyCalendar.occupy(1L, reservation.getCheckInDate(), reservation.getCheckOutDate());
+
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
+
+        reservationServiceImpl.cancelReservation(1L);
+
+        assertFalse(intervalIndex.overlaps(1L, LocalDate.now().plusDays(1), LocalDate.now().plusDays(3), null));
+        assertTrue(occupancyCalendar.isAvailable(1L, LocalDate.now().plusDays(1), LocalDate.now().plusDays(3)));
+    }
+
+    @Test
+    void addReservations_ShouldSaveValidItemsAndRejectInvalidOnes() {
+        // 일괄 예약: 정상 2건, 없는 방 1건, 같은 요청 안에서 겹치는 1건
+        // Batch: two valid items, one unknown room, one overlapping an earlier item
+        User user = new User();
+        user.setId(1L);
+        Room room = new Room();
+        room.setId(1L);
+
+        Reservation first = batchItem(1L, 1L, 1, 3);
+        Reservation unknownRoom = batchItem(1L, 99L, 1, 3);
+        Reservation overlapping = batchItem(1L, 1L, 2, 4);
+        Reservation second = batchItem(1L, 1L, 3, 5);
+
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        when(roomRepository.findAllById(any())).thenReturn(List.of(room));
+        when(reservationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Reservation> toSave = invocation.getArgument(0);
+            long id = 100;
+            for (Reservation reservation : toSave) {
+                reservation.setId(id++);
+            }
+            return toSave;
+        });
+
+        List<ReservationBatchResult> results = reservationServiceImpl.addReservations(
+            List.of(first, unknownRoom, overlapping, second));
+
+        // 요청 순서대로 결과 반환 / Results come back in request order
+        assertEquals(4, results.size());
+        assertEquals("CREATED", results.get(0).status());
+        assertEquals(100L, results.get(0).reservationId());
+        assertEquals("Room does not exist.", results.get(1).message());
+        assertEquals("The room is already booked for those dates.", results.get(2).message());
+        assertEquals("CREATED", results.get(3).status());
+        assertEquals(101L, results.get(3).reservationId());
+
+        // 사용자/방 조회와 저장이 각각 한 번씩만 호출되었는지 검증
+        // Verify one lookup per type and a single saveAll
+        verify(userRepository, times(1)).findAllById(any());
+        verify(roomRepository, times(1)).findAllById(any());
+        verify(reservationRepository, times(1)).saveAll(anyList());
+        verify(userRepository, never()).findById(any());
+        assertEquals(2, intervalIndex.size());
+    }
+
+    @Test
+    void addReservations_ShouldThrowException_WhenBatchIsEmpty() {
+        // 빈 일괄 예약 요청 예외 테스트 / Test exception for an empty batch
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> {
+            reservationServiceImpl.addReservations(List.of());
+        });
+
+        assertEquals("Check your reservation batch.", exception.getMessage());
+    }
+
+    // 일괄 예약 테스트용 항목 생성 / Build a batch item for tests
+    private Reservation batchItem(Long userId, Long roomId, int checkInDays, int checkOutDays) {
+        User user = new User();
+        user.setId(userId);
+        Room room = new Room();
+        room.setId(roomId);
+
+        Reservation reservation = new Reservation();
+        reservation.setUser(user);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(LocalDate.now().plusDays(checkInDays));
+        reservation.setCheckOutDate(LocalDate.now().plusDays(checkOutDays));
+        reservation.setNumberOfPeople(2);
+        return reservation;
+    }
+
+    @Test
+    void getReservations_ShouldReturnNextCursor_WhenPageIsFull() {
+        // 페이지가 가득 차면 마지막 ID를 다음 커서로 반환 / A full page returns the last ID as the next cursor
+        ReservationSummary first = summary(11L);
+        ReservationSummary second = summary(12L);
+
+        when(reservationRepository.findSummariesAfter(10L, Limit.of(2))).thenReturn(List.of(first, second));
+
+        CursorPage<ReservationSummary> page = reservationServiceImpl.getReservations(10L, 2);
+
+        assertEquals(2, page.items().size());
+        assertEquals("Harry", page.items().get(0).userName());
+        assertEquals(12L, page.nextCursor());
+    }
+
+    @Test
+    void getReservations_ShouldCapPageSize_AndEndOnPartialPage() {
+        // 최대 크기를 넘는 요청은 제한되고, 덜 찬 페이지는 마지막 페이지 / Oversized requests are capped; a partial page is the last one
+        when(reservationRepository.findSummariesAfter(0L, Limit.of(CursorPage.MAX_SIZE)))
+            .thenReturn(List.of(summary(1L)));
+
+        CursorPage<ReservationSummary> page = reservationServiceImpl.getReservations(null, 10_000);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void cancelReservationById_ShouldDeleteWithoutLoading_AndReleaseDates() {
+        // 인덱스의 숙박 기간으로 점유를 해제하고, DB는 DELETE 한 번만 실행
+        // Nights are released from the indexed stay; the database only sees one DELETE
+        Reservation reservation = batchItem(1L, 1L, 1, 3);
+        reservation.setId(1L);
+        intervalIndex.put(reservation);
+        occupancyCalendar.occupy(1L, reservation.getCheckInDate(), reservation.getCheckOutDate());
+        when(reservationRepository.deleteReservationById(1L)).thenReturn(1);
+
+        reservationServiceImpl.cancelReservationById(1L);
+
+        verify(reservationRepository, never()).findById(any());
+        assertFalse(intervalIndex.overlaps(1L, reservation.getCheckInDate(), reservation.getCheckOutDate(), null));
+        assertTrue(occupancyCalendar.isAvailable(1L, reservation.getCheckInDate(), reservation.getCheckOutDate()));
+    }
+
+    @Test
+    void cancelReservationById_ShouldThrowException_WhenNothingWasDeleted() {
+        when(reservationRepository.deleteReservationById(9L)).thenReturn(0);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            reservationServiceImpl.cancelReservationById(9L));
+        assertEquals("The reservation does not exist.", exception.getMessage());
+    }
+
+    @Test
+    void cancelReservations_ShouldDeleteOverlappingStaysInChunks_AndReturnIds() {
+        // 2,500건을 DELETE 세 번 (1,000 + 1,000 + 500) 으로 취소하고 인덱스에서도 제거
+        // 2,500 stays are cancelled with three DELETEs (1,000 + 1,000 + 500) and dropped from the index
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate to = from.plusDays(30);
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 2_500; id++) {
+            ids.add(id);
+        }
+        Reservation indexed = batchItem(1L, 7L, 2, 4);
+        indexed.setId(1L);
+        intervalIndex.put(indexed);
+        when(reservationRepository.findIdsOverlapping(7L, from, to)).thenReturn(ids);
+
+        List<Long> cancelled = reservationServiceImpl.cancelReservations(7L, from, to);
+
+        assertEquals(ids, cancelled);
+        verify(reservationRepository, times(3)).deleteAllByIdIn(anyList());
+        assertFalse(intervalIndex.overlaps(7L, indexed.getCheckInDate(), indexed.getCheckOutDate(), null));
+        assertThrows(IllegalArgumentException.class, () -> reservationServiceImpl.cancelReservations(7L, to, from));
+    }
+
+    @Test
+    void relocateReservations_ShouldMoveToSmallestFreeRoom_AndCancelWhenNoneFits() {
+        // 방 1의 예약 3건: 2인 -> 빈 2인실(3번), 같은 기간 2인 -> 2인실이 찼으므로 4인실(4번), 6인 -> 맞는 방이 없어 취소
+        // Room 1 holds three stays: 2 guests -> free double (3), same dates 2 guests -> quad (4) since 3 is taken,
+        // 6 guests -> nothing fits, cancelled
+        Reservation first = batchItem(1L, 1L, 1, 3);
+        first.setId(11L);
+        Reservation second = batchItem(1L, 1L, 1, 3);
+        second.setId(12L);
+        Reservation third = batchItem(1L, 1L, 5, 6);
+        third.setId(13L);
+        intervalIndex.put(first);
+        intervalIndex.put(second);
+        intervalIndex.put(third);
+        occupancyCalendar.occupy(1L, first.getCheckInDate(), first.getCheckOutDate());
+        when(reservationRepository.findPlacementsByRoom(1L, Limit.of(500))).thenReturn(List.of(
+            placementOf(first, 2), placementOf(second, 2), placementOf(third, 6)));
+        when(roomRepository.findCapacitiesExcept(1L)).thenReturn(List.of(
+            new RoomCapacity(3L, 2), new RoomCapacity(4L, 4)));
+        when(reservationRepository.moveReservations(any(), any(), any())).thenReturn(new int[] {1, 1});
+
+        RoomRelocationResult result = reservationServiceImpl.relocateReservations(1L, 500);
+
+        assertEquals(new RoomRelocationResult(2, 1, 0), result);
+        verify(reservationRepository).moveReservations(new long[] {11L, 12L}, new long[] {0L, 0L}, new long[] {3L, 4L});
+        verify(reservationRepository).deleteAllByIdIn(List.of(13L));
+        assertTrue(intervalIndex.overlaps(3L, first.getCheckInDate(), first.getCheckOutDate(), null));
+        assertTrue(occupancyCalendar.isAvailable(1L, first.getCheckInDate(), first.getCheckOutDate()));
+        assertFalse(occupancyCalendar.isAvailable(4L, first.getCheckInDate(), first.getCheckOutDate()));
+        assertNull(intervalIndex.find(13L));
+    }
+
+    @Test
+    void relocateReservations_ShouldSkipStays_ThatChangedSinceTheyWereRead() {
+        // 읽은 뒤 다른 방으로 옮겨진 예약은 건드리지 않음 / A stay moved elsewhere after it was read is left alone
+        Reservation moved = batchItem(1L, 2L, 1, 3);
+        moved.setId(11L);
+        intervalIndex.put(moved);
+        Reservation stale = batchItem(1L, 1L, 1, 3);
+        stale.setId(11L);
+        when(reservationRepository.findPlacementsByRoom(1L, Limit.of(10))).thenReturn(List.of(placementOf(stale, 2)));
+        when(roomRepository.findCapacitiesExcept(1L)).thenReturn(List.of(new RoomCapacity(3L, 2)));
+
+        RoomRelocationResult result = reservationServiceImpl.relocateReservations(1L, 10);
+
+        assertEquals(new RoomRelocationResult(0, 0, 1), result);
+        verify(reservationRepository, never()).moveReservations(any(), any(), any());
+        verify(reservationRepository, never()).deleteAllByIdIn(anyList());
+    }
+
+    @Test
+    void relocateReservations_ShouldSkipStay_WhenItIsCancelledBeforeTheLocksAreTaken() {
+        // 묶음을 읽은 뒤, 방 잠금을 잡기 전에 예약이 취소되고 같은 밤에 새 예약이 들어옴
+        // After the chunk is read and before the room locks are taken, the stay is cancelled and a new booking takes its nights
+        Reservation cancelled = batchItem(1L, 1L, 1, 3);
+        cancelled.setId(11L);
+        intervalIndex.put(cancelled);
+        occupancyCalendar.occupy(1L, cancelled.getCheckInDate(), cancelled.getCheckOutDate());
+        statistics.record(11L, 1L, cancelled.getCheckInDate(), cancelled.getCheckOutDate(), 100);
+        Reservation newcomer = batchItem(1L, 1L, 1, 3);
+        newcomer.setId(12L);
+        when(reservationRepository.findPlacementsByRoom(1L, Limit.of(10))).thenReturn(List.of(placementOf(cancelled, 2)));
+        when(reservationRepository.deleteReservationById(11L)).thenReturn(1);
+        when(roomRepository.findCapacitiesExcept(1L)).thenAnswer(invocation -> {
+            reservationServiceImpl.cancelReservationById(11L);
+            intervalIndex.put(newcomer);
+            occupancyCalendar.occupy(1L, newcomer.getCheckInDate(), newcomer.getCheckOutDate());
+            return List.of(new RoomCapacity(3L, 2));
+        });
+
+        RoomRelocationResult result = reservationServiceImpl.relocateReservations(1L, 10);
+
+        // 유령 예약 없음: 대상 방은 비어 있고, 새 예약의 밤은 그대로 점유
+        // No phantom stay: the target room stays free and the newcomer's nights stay occupied
+        assertEquals(new RoomRelocationResult(0, 0, 1), result);
+        verify(reservationRepository, never()).moveReservations(any(), any(), any());
+        assertNull(intervalIndex.find(11L));
+        assertTrue(occupancyCalendar.isAvailable(3L, cancelled.getCheckInDate(), cancelled.getCheckOutDate()));
+        assertFalse(occupancyCalendar.isAvailable(1L, newcomer.getCheckInDate(), newcomer.getCheckOutDate()));
+        assertEquals(0, statistics.size());
+    }
+
+    @Test
+    void relocateReservations_ShouldLeaveIndexes_WhenMoveMatchesNoRowAfterConcurrentUpdate() {
+        // 읽은 뒤 다른 요청이 수정하여 버전이 바뀌면 UPDATE가 0건 -> 인덱스/달력/집계는 그대로, 다음 묶음에서 다시 처리
+        // An update committed after the read changes the version, so the UPDATE matches no row:
+        // indexes, calendar and aggregates are left alone and the next chunk retries
+        Reservation edited = batchItem(1L, 1L, 1, 3);
+        edited.setId(11L);
+        intervalIndex.put(edited);
+        occupancyCalendar.occupy(1L, edited.getCheckInDate(), edited.getCheckOutDate());
+        statistics.record(11L, 1L, edited.getCheckInDate(), edited.getCheckOutDate(), 100);
+        when(reservationRepository.findPlacementsByRoom(1L, Limit.of(10))).thenReturn(List.of(placementOf(edited, 2)));
+        when(roomRepository.findCapacitiesExcept(1L)).thenReturn(List.of(new RoomCapacity(3L, 2)));
+        when(reservationRepository.moveReservations(any(), any(), any())).thenReturn(new int[] {0});
+
+        RoomRelocationResult result = reservationServiceImpl.relocateReservations(1L, 10);
+
+        assertEquals(new RoomRelocationResult(0, 0, 1), result);
+        assertEquals(1L, intervalIndex.find(11L).roomId());
+        assertTrue(occupancyCalendar.isAvailable(3L, edited.getCheckInDate(), edited.getCheckOutDate()));
+        assertFalse(occupancyCalendar.isAvailable(1L, edited.getCheckInDate(), edited.getCheckOutDate()));
+        assertEquals(Map.of(1L, 2), statistics.occupiedNightsByRoom(edited.getCheckInDate(), edited.getCheckOutDate()));
+    }
+
+    @Test
+    void closeRoom_ShouldRejectNewBookings_AndKeepRelocationsOut_UntilReopened() {
+        // 폐쇄 중인 방에는 새 예약도, 다른 방에서 옮겨 오는 예약도 들어오지 않음
+        // A room being decommissioned takes neither new bookings nor stays relocated from other rooms
+        Room closed = new Room();
+        closed.setId(3L);
+        closed.setMaxPeople(4);
+        closed.setPrice(100);
+        Reservation booking = batchItem(1L, 3L, 1, 3);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(booking.getUser()));
+        when(roomRepository.findById(3L)).thenReturn(Optional.of(closed));
+        reservationServiceImpl.closeRoom(3L);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            reservationServiceImpl.addReservation(booking));
+        assertEquals("The room is being decommissioned.", exception.getMessage());
+
+        Reservation stay = batchItem(1L, 1L, 1, 3);
+        stay.setId(11L);
+        intervalIndex.put(stay);
+        when(reservationRepository.findPlacementsByRoom(1L, Limit.of(10))).thenReturn(List.of(placementOf(stay, 2)));
+        when(roomRepository.findCapacitiesExcept(1L)).thenReturn(List.of(new RoomCapacity(3L, 2)));
+        assertEquals(new RoomRelocationResult(0, 1, 0), reservationServiceImpl.relocateReservations(1L, 10));
+        verify(reservationRepository, never()).moveReservations(any(), any(), any());
+
+        reservationServiceImpl.reopenRoom(3L);
+        when(reservationRepository.save(booking)).thenReturn(booking);
+        assertNotNull(reservationServiceImpl.addReservation(booking));
+    }
+
+    @Test
+    void updateApproval_ShouldUpdateIdsInChunks_WithoutLoadingReservations() {
+        // 1,500개 ID는 중복/빈 값을 제거한 뒤 UPDATE 두 번으로 처리 (1,000 + 500)
+        // 1,500 IDs run as two UPDATEs (1,000 + 500) after dropping duplicates and nulls
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 1_500; id++) {
+            ids.add(id);
+        }
+        ids.add(1L);
+        ids.add(null);
+        when(reservationRepository.updateApprovalByIds(anyList(), anyBoolean()))
+            .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        BulkUpdateResult result = reservationServiceImpl.updateApproval(
+            new ReservationSelection(ids, null, null, null), true);
+
+        assertEquals(1_500, result.updated());
+        verify(reservationRepository, times(2)).updateApprovalByIds(anyList(), anyBoolean());
+        verify(reservationRepository, never()).findById(any());
+    }
+
+    @Test
+    void updateApproval_ShouldUseRoomFilter_WhenRoomIsGiven() {
+        // 방과 체크인 범위로 거절 / Reject by room and check-in range
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate to = from.plusDays(1);
+        when(reservationRepository.updateApprovalByRoomAndCheckIn(3L, from, to, false)).thenReturn(7);
+
+        BulkUpdateResult result = reservationServiceImpl.updateApproval(
+            new ReservationSelection(null, 3L, from, to), false);
+
+        assertEquals(7, result.updated());
+        verify(reservationRepository, never()).updateApprovalByCheckIn(any(), any(), anyBoolean());
+    }
+
+    @Test
+    void updateApproval_ShouldThrowException_WhenSelectionIsInvalid() {
+        // 조건 없음, ID와 필터 동시 지정, 잘못된 날짜 범위는 모두 거절
+        // No selection, IDs together with a filter, and an inverted date range are all rejected
+        LocalDate day = LocalDate.now().plusDays(1);
+
+        assertThrows(IllegalArgumentException.class, () -> reservationServiceImpl.updateApproval(
+            new ReservationSelection(List.of(), null, null, null), true));
+        assertThrows(IllegalArgumentException.class, () -> reservationServiceImpl.updateApproval(
+            new ReservationSelection(List.of(1L), 1L, null, null), true));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            reservationServiceImpl.updateApproval(new ReservationSelection(null, null, day, day), true));
+        assertEquals("Check the date range.", exception.getMessage());
+    }
+
+    // 예약을 인원 수를 바꾼 위치 정보로 변환 (버전 0) / Placement of a reservation with the given party size, at version 0
+    private ReservationPlacement placementOf(Reservation reservation, int numberOfPeople) {
+        return new ReservationPlacement(reservation.getId(), 0L, reservation.getCheckInDate(),
+            reservation.getCheckOutDate(), numberOfPeople);
+    }
+
+    // 예약 요약 테스트 데이터 생성 / Build a reservation summary for tests
+    private ReservationSummary summary(Long id) {
+        return new ReservationSummary(id, 1L, "Harry", 1L, "Room1",
+            LocalDate.now().plusDays(1), LocalDate.now().plusDays(2), 2, false);
+    }
+}
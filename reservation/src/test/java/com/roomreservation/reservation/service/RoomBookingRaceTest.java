@@ -0,0 +1,145 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.repository.ReservationRepository;
+import com.roomreservation.reservation.repository.RoomRepository;
+
+/**
+ * 실제 H2 DB에서의 같은 방 동시 예약 테스트
+ * - 방 잠금으로 한 건만 저장되는지, 잠금을 거치지 않은 동시 쓰기는 방 버전 검사로 커밋이 실패하는지 검증
+ *
+ * Same-room booking races against the real H2 database
+ * - Checks that the room lock lets exactly one booking in, and that a concurrent write that bypasses the lock
+ *   fails its commit on the room version check
+ */
+@SpringBootTest
+class RoomBookingRaceTest {
+    private static final int THREADS = 16;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void addReservation_ShouldStoreExactlyOne_WhenThreadsRaceForSameRoomAndDates() throws Exception {
+        Room room = roomService.addRoom(newRoom());
+        User user = userService.registerUser(newUser());
+        long versionBefore = roomRepository.findById(room.getId()).orElseThrow().getVersion();
+        LocalDate checkIn = LocalDate.now().plusDays(40);
+
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        reservationService.addReservation(newReservation(user, room, checkIn, checkIn.plusDays(2)));
+                        booked.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        assertEquals("The room is already booked for those dates.", e.getMessage());
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, booked.get());
+        assertEquals(THREADS - 1, rejected.get());
+        assertEquals(1, reservationRepository.countByRoomId(room.getId()));
+        // 저장된 예약 한 건만큼 방 버전이 오름 / The room version went up once, for the one stored booking
+        assertEquals(versionBefore + 1, roomRepository.findById(room.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void lockForBooking_ShouldFailCommit_WhenAnotherWriterBookedTheRoomMeanwhile() {
+        Room room = roomService.addRoom(newRoom());
+        User user = userService.registerUser(newUser());
+        LocalDate checkIn = LocalDate.now().plusDays(60);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // 이 잠금을 거치지 않는 쓰기(예: 다른 노드)가 방 버전을 읽은 뒤, 다른 예약이 먼저 커밋됨
+        // A writer that does not go through this lock (another node, say) reads the room version,
+        // then another booking commits first
+        assertThrows(OptimisticLockingFailureException.class, () -> transaction.executeWithoutResult(status -> {
+            roomRepository.lockForBooking(List.of(room.getId()));
+            CompletableFuture.runAsync(() -> reservationService.addReservation(
+                newReservation(user, room, checkIn, checkIn.plusDays(1)))).join();
+        }));
+        assertEquals(1, reservationRepository.countByRoomId(room.getId()));
+    }
+
+    private static Room newRoom() {
+        Room room = new Room();
+        room.setName("Race Room");
+        room.setDescription("booking race");
+        room.setPrice(100);
+        room.setMaxPeople(4);
+        return room;
+    }
+
+    private static User newUser() {
+        User user = new User();
+        user.setName("Race");
+        user.setEmail("race-" + System.nanoTime() + "@example.com");
+        user.setPassword("password");
+        user.setPhoneNumber("010-0000-0000");
+        return user;
+    }
+
+    private static Reservation newReservation(User user, Room room, LocalDate checkIn, LocalDate checkOut) {
+        Reservation reservation = new Reservation();
+        reservation.setUser(user);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkOut);
+        reservation.setNumberOfPeople(2);
+        return reservation;
+    }
+}
@@ -0,0 +1,141 @@
+package com.roomreservation.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.roomreservation.reservation.cache.RoomCatalogCache;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.RoomDecommissionResult;
+import com.roomreservation.reservation.dto.RoomRelocationResult;
+import com.roomreservation.reservation.index.OccupancyCalendar;
+import com.roomreservation.reservation.index.RateCalendar;
+import com.roomreservation.reservation.index.RoomRangeIndex;
+import com.roomreservation.reservation.index.RoomTextIndex;
+import com.roomreservation.reservation.repository.ReservationRepository;
+import com.roomreservation.reservation.repository.RoomRepository;
+
+public class RoomDecommissionServiceTest {
+    private RoomRepository roomRepository;
+    private ReservationRepository reservationRepository;
+    private ReservationService reservationService;
+    private RoomCatalogCache roomCache;
+    private RateCalendar rateCalendar;
+    private OccupancyCalendar occupancyCalendar;
+    private RoomDecommissionServiceImpl decommissionService;
+
+    @BeforeEach
+    public void setUp() {
+        roomRepository = mock(RoomRepository.class);
+        reservationRepository = mock(ReservationRepository.class);
+        reservationService = mock(ReservationService.class);
+        roomCache = new RoomCatalogCache(100, Duration.ofMinutes(5));
+        rateCalendar = new RateCalendar(730);
+        occupancyCalendar = new OccupancyCalendar();
+        decommissionService = new RoomDecommissionServiceImpl(roomRepository, reservationRepository,
+            reservationService, roomCache, new RoomRangeIndex(), new RoomTextIndex(), rateCalendar, occupancyCalendar, 2);
+    }
+
+    @Test
+    void decommissionRoom_ShouldDrainInChunks_ThenDeleteRoom() {
+        // 예약 5건을 2건씩 처리한 뒤 방 삭제 / Five stays handled two at a time, then the room is deleted
+        when(roomRepository.existsById(1L)).thenReturn(true);
+        when(reservationRepository.countByRoomId(1L)).thenReturn(5L);
+        when(reservationService.relocateReservations(1L, 2)).thenReturn(
+            new RoomRelocationResult(2, 0, 0),
+            new RoomRelocationResult(1, 1, 0),
+            new RoomRelocationResult(0, 1, 0),
+            new RoomRelocationResult(0, 0, 0));
+        when(roomRepository.deleteIfUnreferenced(1L)).thenReturn(1);
+        rateCalendar.putIfCurrent(rateCalendar.generation(), 1L, rateCalendar.build(100, List.of()));
+        occupancyCalendar.occupy(1L, LocalDate.now().plusDays(1), LocalDate.now().plusDays(3));
+
+        RoomDecommissionResult result = decommissionService.decommissionRoom(1L);
+
+        assertEquals(new RoomDecommissionResult(1L, 3, 2), result);
+        assertEquals(0, rateCalendar.size());
+        // 삭제된 방의 달력 slot도 돌려줌 / The deleted room's calendar slot is given back too
+        assertEquals(0, occupancyCalendar.roomCount());
+        verify(reservationService, times(4)).relocateReservations(1L, 2);
+    }
+
+    @Test
+    void decommissionRoom_ShouldDrainAgain_WhenBookingArrivesBeforeDelete() {
+        // 삭제 직전 새 예약이 들어오면 삭제되지 않으므로 다시 비운 뒤 삭제
+        // A booking that lands right before the delete blocks it, so the room is drained again
+        when(roomRepository.existsById(1L)).thenReturn(true);
+        when(reservationService.relocateReservations(1L, 2)).thenReturn(
+            new RoomRelocationResult(0, 0, 0),
+            new RoomRelocationResult(1, 0, 0),
+            new RoomRelocationResult(0, 0, 0));
+        when(roomRepository.deleteIfUnreferenced(1L)).thenReturn(0, 1);
+
+        RoomDecommissionResult result = decommissionService.decommissionRoom(1L);
+
+        assertEquals(1, result.relocated());
+        verify(roomRepository, times(2)).deleteIfUnreferenced(1L);
+    }
+
+    @Test
+    void decommissionRoom_ShouldEvictRoomFromCache() {
+        Room room = new Room();
+        room.setId(1L);
+        roomCache.roomSaved(room);
+        when(roomRepository.existsById(1L)).thenReturn(true);
+        when(reservationService.relocateReservations(1L, 2)).thenReturn(new RoomRelocationResult(0, 0, 0));
+        when(roomRepository.deleteIfUnreferenced(1L)).thenReturn(1);
+
+        decommissionService.decommissionRoom(1L);
+
+        assertNull(roomCache.getRoom(1L, id -> null));
+    }
+
+    @Test
+    void decommissionRoom_ShouldGiveUp_WhenNoChunkMakesProgress() {
+        // 계속 다른 요청과 겹쳐 하나도 처리하지 못하면 포기 / Gives up when concurrent changes block every chunk
+        when(roomRepository.existsById(1L)).thenReturn(true);
+        when(reservationService.relocateReservations(1L, 2)).thenReturn(new RoomRelocationResult(0, 0, 2));
+
+        assertThrows(IllegalStateException.class, () -> decommissionService.decommissionRoom(1L));
+        verify(roomRepository, never()).deleteIfUnreferenced(1L);
+    }
+
+    @Test
+    void decommissionRoom_ShouldCloseRoomFirst_AndGiveUp_WhenDeleteKeepsFailing() {
+        // 비운 뒤에도 삭제가 계속 실패하면 무한히 돌지 않고 포기, 방은 다시 열림
+        // A delete that keeps failing after the drain counts as no progress, so it gives up and reopens the room
+        when(roomRepository.existsById(1L)).thenReturn(true);
+        when(reservationService.relocateReservations(1L, 2)).thenReturn(new RoomRelocationResult(0, 0, 0));
+        when(roomRepository.deleteIfUnreferenced(1L)).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> decommissionService.decommissionRoom(1L));
+
+        InOrder order = inOrder(reservationService);
+        order.verify(reservationService).closeRoom(1L);
+        order.verify(reservationService, times(3)).relocateReservations(1L, 2);
+        order.verify(reservationService).reopenRoom(1L);
+        verify(roomRepository, times(3)).deleteIfUnreferenced(1L);
+    }
+
+    @Test
+    void decommissionRoom_ShouldThrowException_WhenRoomDoesNotExist() {
+        when(roomRepository.existsById(9L)).thenReturn(false);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            decommissionService.decommissionRoom(9L));
+        assertEquals("Room not found.", exception.getMessage());
+    }
+}
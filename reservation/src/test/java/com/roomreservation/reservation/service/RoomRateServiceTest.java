@@ -0,0 +1,130 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.domain.RoomRate;
+import com.roomreservation.reservation.dto.StayQuote;
+import com.roomreservation.reservation.index.RateCalendar;
+import com.roomreservation.reservation.repository.RoomRateRepository;
+
+public class RoomRateServiceTest {
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(10);
+
+    private RoomRateRepository roomRateRepository;
+    private RoomService roomService;
+    private RoomRateServiceImpl roomRateService;
+
+    @BeforeEach
+    public void setUp() {
+        roomRateRepository = mock(RoomRateRepository.class);
+        roomService = mock(RoomService.class);
+        roomRateService = new RoomRateServiceImpl(roomRateRepository, roomService, new RateCalendar(730));
+    }
+
+    @Test
+    void quote_ShouldApplyRules_AndCacheThem() {
+        // 둘째 밤에 특별 요금 300 / A special price of 300 on the second night
+        Room room = room(1L, 100, 2);
+        when(roomService.getRoomById(1L)).thenReturn(room);
+        when(roomRateRepository.findByRoomIds(List.of(1L)))
+            .thenReturn(List.of(rate(room, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2), 300)));
+
+        StayQuote quote = roomRateService.quote(1L, CHECK_IN, CHECK_IN.plusDays(3), 2);
+        roomRateService.quote(1L, CHECK_IN, CHECK_IN.plusDays(3), 2);
+
+        assertEquals(new StayQuote(1L, CHECK_IN, CHECK_IN.plusDays(3), 3, 500), quote);
+        // 두 번째 견적은 캐시된 요금 사용 / The second quote uses the cached rates
+        verify(roomRateRepository, times(1)).findByRoomIds(anyCollection());
+    }
+
+    @Test
+    void quote_ShouldThrow_WhenPartyDoesNotFit() {
+        when(roomService.getRoomById(1L)).thenReturn(room(1L, 100, 2));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> roomRateService.quote(1L, CHECK_IN, CHECK_IN.plusDays(1), 3));
+
+        assertEquals("The room cannot hold that many people.", exception.getMessage());
+    }
+
+    @Test
+    void quoteAvailableRooms_ShouldLoadRulesOfAllRoomsInOneQuery() {
+        Room first = room(1L, 100, 2);
+        Room second = room(2L, 80, 4);
+        when(roomService.getAvailableRooms(CHECK_IN, CHECK_IN.plusDays(2), 2)).thenReturn(List.of(first, second));
+        when(roomRateRepository.findByRoomIds(List.of(1L, 2L)))
+            .thenReturn(List.of(rate(second, CHECK_IN, CHECK_IN.plusDays(1), 50)));
+
+        List<StayQuote> quotes = roomRateService.quoteAvailableRooms(CHECK_IN, CHECK_IN.plusDays(2), 2);
+
+        assertEquals(List.of(200L, 130L), quotes.stream().map(StayQuote::totalPrice).toList());
+        verify(roomRateRepository, times(1)).findByRoomIds(anyCollection());
+    }
+
+    @Test
+    void addRate_ShouldInvalidateCachedRates() {
+        Room room = room(1L, 100, 2);
+        when(roomService.getRoomById(1L)).thenReturn(room);
+        when(roomRateRepository.findByRoomIds(List.of(1L))).thenReturn(List.of());
+        when(roomRateRepository.save(any(RoomRate.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        assertEquals(100, roomRateService.quote(1L, CHECK_IN, CHECK_IN.plusDays(1), 1).totalPrice());
+
+        roomRateService.addRate(1L, rate(null, CHECK_IN, CHECK_IN.plusDays(1), 150));
+        when(roomRateRepository.findByRoomIds(List.of(1L)))
+            .thenReturn(List.of(rate(room, CHECK_IN, CHECK_IN.plusDays(1), 150)));
+
+        assertEquals(150, roomRateService.quote(1L, CHECK_IN, CHECK_IN.plusDays(1), 1).totalPrice());
+    }
+
+    @Test
+    void addRate_ShouldThrow_WhenPeriodIsEmpty() {
+        when(roomService.getRoomById(1L)).thenReturn(room(1L, 100, 2));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> roomRateService.addRate(1L, rate(null, CHECK_IN, CHECK_IN, 150)));
+
+        assertEquals("Check the rate period.", exception.getMessage());
+        verify(roomRateRepository, never()).save(any(RoomRate.class));
+    }
+
+    @Test
+    void deleteRate_ShouldThrow_WhenRateBelongsToAnotherRoom() {
+        when(roomRateRepository.findById(5L))
+            .thenReturn(Optional.of(rate(room(2L, 100, 2), CHECK_IN, CHECK_IN.plusDays(1), 150)));
+
+        assertThrows(IllegalArgumentException.class, () -> roomRateService.deleteRate(1L, 5L));
+        verify(roomRateRepository, never()).delete(any(RoomRate.class));
+    }
+
+    private Room room(Long id, int price, int maxPeople) {
+        Room room = new Room();
+        room.setId(id);
+        room.setPrice(price);
+        room.setMaxPeople(maxPeople);
+        return room;
+    }
+
+    private RoomRate rate(Room room, LocalDate start, LocalDate end, int price) {
+        RoomRate rate = new RoomRate();
+        rate.setRoom(room);
+        rate.setStartDate(start);
+        rate.setEndDate(end);
+        rate.setPrice(price);
+        return rate;
+    }
+}
@@ -1,5 +1,7 @@
 package com.roomreservation.reservation.service;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -10,17 +12,34 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 
+import com.roomreservation.reservation.cache.RoomCatalogCache;
 import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.dto.CursorPage;
+import com.roomreservation.reservation.index.IndexLoadGate;
+import com.roomreservation.reservation.index.OccupancyCalendar;
+import com.roomreservation.reservation.index.RateCalendar;
+import com.roomreservation.reservation.index.RoomRangeIndex;
+import com.roomreservation.reservation.index.RoomTextIndex;
 import com.roomreservation.reservation.repository.RoomRepository;
 
 public class RoomServiceTest {
     private RoomServiceImpl roomService;
     private RoomRepository roomRepository;
+    private OccupancyCalendar occupancyCalendar;
+    private RoomRangeIndex rangeIndex;
+    private RoomTextIndex textIndex;
+    private RateCalendar rateCalendar;
+    private IndexLoadGate loadGate;
 
     @BeforeEach
     public void setUp() {
@@ -32,9 +51,19 @@ public class RoomServiceTest {
         // Create a mock object for RoomRepository
         roomRepository = mock(RoomRepository.class);
 
+        // 실제 점유 달력을 사용합니다.
+        // Use a real occupancy calendar
+        occupancyCalendar = new OccupancyCalendar();
+        rangeIndex = new RoomRangeIndex();
+        textIndex = new RoomTextIndex();
+        rateCalendar = new RateCalendar(730);
+        loadGate = IndexLoadGate.opened();
+
         // RoomServiceImpl에 Mock된 RoomRepository를 주입합니다.
         // Inject the mocked RoomRepository into RoomServiceImpl
-        roomService = new RoomServiceImpl(roomRepository);
+        roomService = new RoomServiceImpl(roomRepository, occupancyCalendar,
+            new RoomCatalogCache(100, Duration.ofMinutes(5)), rangeIndex, textIndex, rateCalendar,
+            loadGate);
     }
 
     @Test
@@ -79,6 +108,23 @@ public class RoomServiceTest {
         assertEquals("Price must be non-negative.", exception.getMessage());
     }
 
+    @Test
+    // 시작 시 인덱스 적재가 끝나기 전에는 방 추가/삭제를 거절하는지 테스트합니다.
+    // Tests that adding and deleting rooms is rejected until the startup index load is done.
+    void addRoom_ShouldReject_WhileIndexesAreLoading() {
+        RoomServiceImpl loadingService = new RoomServiceImpl(roomRepository, occupancyCalendar,
+            new RoomCatalogCache(100, Duration.ofMinutes(5)), rangeIndex, textIndex, rateCalendar, new IndexLoadGate());
+        Room room = new Room();
+        room.setName("Room");
+        room.setPrice(100);
+        room.setMaxPeople(2);
+
+        assertThrows(IllegalStateException.class, () -> loadingService.addRoom(room));
+        assertThrows(IllegalStateException.class, () -> loadingService.deleteRoom(1L));
+        verify(roomRepository, never()).save(any(Room.class));
+        verify(roomRepository, never()).deleteById(any());
+    }
+
     @Test
     // 최대 인원이 1 미만일 때 IllegalArgumentException이 발생하는지 테스트합니다.
     // Tests if IllegalArgumentException is thrown when maxPeople is less than one.
@@ -194,10 +240,283 @@ public class RoomServiceTest {
 
         // deleteRoom() 호출
         // Call deleteRoom()
+        rateCalendar.putIfCurrent(rateCalendar.generation(), 1L, rateCalendar.build(100, List.of()));
+        occupancyCalendar.occupy(1L, LocalDate.now().plusDays(1), LocalDate.now().plusDays(2));
         roomService.deleteRoom(1L);
 
-        // deleteById()가 호출되었는지 검증
-        // Verify that deleteById() was called
+        // deleteById()가 호출되었는지, 캐시된 요금과 달력 slot이 버려졌는지 검증
+        // Verify that deleteById() was called and the cached rates and calendar slot were dropped
         verify(roomRepository).deleteById(1L);
+        assertEquals(0, rateCalendar.size());
+        assertEquals(0, occupancyCalendar.roomCount());
+    }
+
+    @Test
+    void getAvailableRooms_ShouldExcludeBookedRooms() {
+        // 인원 조건을 만족하는 방 두 개 중 하나가 예약된 경우
+        // Two rooms fit the party, one of them is booked for the stay
+        Room freeRoom = new Room();
+        freeRoom.setId(1L);
+        freeRoom.setMaxPeople(4);
+
+        Room bookedRoom = new Room();
+        bookedRoom.setId(2L);
+        bookedRoom.setMaxPeople(4);
+
+        LocalDate checkIn = LocalDate.now().plusDays(10);
+        LocalDate checkOut = LocalDate.now().plusDays(12);
+        occupancyCalendar.occupy(2L, LocalDate.now().plusDays(11), LocalDate.now().plusDays(14));
+
+        // 인원 조건 조회 시 두 방 반환
+        // Stub the capacity query to return both rooms
+        when(roomRepository.findByMaxPeopleGreaterThanEqual(3)).thenReturn(List.of(freeRoom, bookedRoom));
+
+        List<Room> results = roomService.getAvailableRooms(checkIn, checkOut, 3);
+
+        // 예약되지 않은 방만 반환되는지 검증
+        // Verify that only the free room is returned
+        assertEquals(1, results.size());
+        assertEquals(1L, results.get(0).getId());
+    }
+
+    @Test
+    void getAvailableRooms_ShouldTakeCandidatesFromRangeIndex_WhenLoaded() {
+        // 정렬 인덱스가 채워져 있으면 인원 조건 후보를 DB에서 읽지 않음
+        // Once the sorted index is loaded, capacity candidates are not read from the database
+        Room small = new Room();
+        small.setId(1L);
+        small.setPrice(100);
+        small.setMaxPeople(2);
+        Room large = new Room();
+        large.setId(2L);
+        large.setPrice(100);
+        large.setMaxPeople(6);
+        Room bookedLarge = new Room();
+        bookedLarge.setId(3L);
+        bookedLarge.setPrice(100);
+        bookedLarge.setMaxPeople(4);
+        rangeIndex.load(List.of(small, large, bookedLarge));
+
+        LocalDate checkIn = LocalDate.now().plusDays(10);
+        LocalDate checkOut = checkIn.plusDays(2);
+        occupancyCalendar.occupy(3L, checkIn, checkOut);
+
+        List<Room> results = roomService.getAvailableRooms(checkIn, checkOut, 3);
+
+        assertEquals(List.of(2L), results.stream().map(Room::getId).toList());
+        verify(roomRepository, never()).findByMaxPeopleGreaterThanEqual(anyInt());
+        verify(roomRepository, never()).findAvailableRooms(any(), any(), anyInt());
+    }
+
+    @Test
+    void getAvailableRooms_ShouldQueryDatabase_WhenCalendarDoesNotCoverDates() {
+        // 달력 범위를 벗어난 기간은 DB 쿼리로 조회
+        // Windows outside the calendar fall back to the database query
+        LocalDate checkIn = LocalDate.now().plusYears(20);
+        LocalDate checkOut = checkIn.plusDays(2);
+        when(roomRepository.findAvailableRooms(checkIn, checkOut, 2)).thenReturn(List.of());
+
+        roomService.getAvailableRooms(checkIn, checkOut, 2);
+
+        verify(roomRepository).findAvailableRooms(checkIn, checkOut, 2);
+    }
+
+    @Test
+    void getAvailableRooms_ShouldQueryDatabase_WhileIndexesAreLoading() {
+        // 적재 중인 달력은 비어 있어 모든 방이 비어 보이므로 DB 쿼리로 조회
+        // A calendar still being loaded shows every room as free, so the database query is used
+        RoomServiceImpl loadingService = new RoomServiceImpl(roomRepository, occupancyCalendar,
+            new RoomCatalogCache(100, Duration.ofMinutes(5)), rangeIndex, textIndex, rateCalendar, new IndexLoadGate());
+        LocalDate checkIn = LocalDate.now().plusDays(10);
+        LocalDate checkOut = checkIn.plusDays(2);
+        when(roomRepository.findAvailableRooms(checkIn, checkOut, 2)).thenReturn(List.of());
+
+        assertEquals(List.of(), loadingService.getAvailableRooms(checkIn, checkOut, 2));
+
+        verify(roomRepository).findAvailableRooms(checkIn, checkOut, 2);
+        verify(roomRepository, never()).findByMaxPeopleGreaterThanEqual(anyInt());
+    }
+
+    @Test
+    // 체크아웃이 체크인보다 빠를 때 IllegalArgumentException이 발생하는지 테스트합니다.
+    // Tests if IllegalArgumentException is thrown when checkOut is not after checkIn.
+    void getAvailableRooms_ShouldThrowException_WhenDatesAreReversed() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> {
+            roomService.getAvailableRooms(LocalDate.now().plusDays(3), LocalDate.now().plusDays(1), 2);
+        });
+        assertEquals("Check your search conditions.", exception.getMessage());
+    }
+
+    @Test
+    void getRooms_ShouldReturnPageAfterCursor() {
+        // 커서 다음 페이지 조회
+        // Retrieve the page after the cursor
+        Room room = new Room();
+        room.setId(6L);
+        room.setName("Room");
+
+        // 기본 페이지 크기로 조회되도록 설정
+        // Stub the keyset query with the default page size
+        when(roomRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(CursorPage.DEFAULT_SIZE))).thenReturn(List.of(room));
+
+        CursorPage<Room> page = roomService.getRooms(5L, null);
+
+        // 덜 찬 페이지이므로 다음 커서 없음
+        // Partial page, so there is no next cursor
+        assertEquals("Room", page.items().get(0).getName());
+        assertEquals(null, page.nextCursor());
+    }
+
+    @Test
+    // 페이지 크기가 1 미만일 때 IllegalArgumentException이 발생하는지 테스트합니다.
+    // Tests if IllegalArgumentException is thrown when the page size is less than one.
+    void getRooms_ShouldThrowException_WhenSizeIsNotPositive() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> {
+            roomService.getRooms(null, 0);
+        });
+        assertEquals("Check your page size.", exception.getMessage());
+    }
+
+    @Test
+    void getRoomById_ShouldReadDatabaseOnce_WhenCalledRepeatedly() {
+        // 두 번째 조회부터는 캐시에서 반환
+        // Repeated lookups are served from the cache
+        Room room = new Room();
+        room.setId(1L);
+        room.setName("Room");
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+
+        roomService.getRoomById(1L);
+        roomService.getRoomById(1L);
+
+        verify(roomRepository, times(1)).findById(1L);
+        assertEquals(1, roomService.getCacheStats().get("roomsById").hits());
+        assertEquals(1, roomService.getCacheStats().get("roomsById").misses());
+    }
+
+    @Test
+    void updateRoom_ShouldRefreshCachedRoom() {
+        // 수정 후 조회하면 DB를 다시 읽지 않고 수정된 방이 반환됨
+        // After an update the new room is returned without reading the database again
+        Room room = new Room();
+        room.setId(1L);
+        room.setPrice(100);
+        Room updatedRoom = new Room();
+        updatedRoom.setId(1L);
+        updatedRoom.setPrice(200);
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+        when(roomRepository.save(any(Room.class))).thenReturn(updatedRoom);
+
+        roomService.getRoomById(1L);
+        roomService.updateRoom(1L, updatedRoom);
+
+        // 첫 조회와 수정 시의 조회만 DB를 읽음 / Only the first lookup and the update itself read the database
+        assertEquals(200, roomService.getRoomById(1L).getPrice());
+        verify(roomRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void deleteRoom_ShouldEvictCachedRoom() {
+        // 삭제 후 조회하면 캐시가 아닌 DB를 확인
+        // After a delete the lookup goes back to the database
+        Room room = new Room();
+        room.setId(1L);
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+        roomService.getRoomById(1L);
+
+        roomService.deleteRoom(1L);
+        when(roomRepository.findById(1L)).thenReturn(Optional.empty());
+
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> {
+            roomService.getRoomById(1L);
+        });
+        assertEquals("The id is not existed.", exception.getMessage());
+    }
+
+    @Test
+    void searchRooms_ShouldUseIndex_AndFollowRoomChanges() {
+        // 인덱스를 채운 뒤에는 DB 없이 조회하고, 수정/삭제가 바로 반영됨
+        // Once loaded the index answers without the database, and updates/deletes show up immediately
+        Room cheap = newRoom(1L, 50, 2);
+        Room mid = newRoom(2L, 100, 4);
+        Room expensive = newRoom(3L, 200, 4);
+        rangeIndex.load(List.of(cheap, mid, expensive));
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(cheap));
+        when(roomRepository.findById(3L)).thenReturn(Optional.of(expensive));
+        when(roomRepository.save(any(Room.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(List.of(3L, 2L), ids(roomService.searchRooms(60, null, 3, "-price", null)));
+
+        roomService.updateRoom(1L, newRoom(1L, 150, 4));
+        roomService.deleteRoom(3L);
+
+        assertEquals(List.of(2L, 1L), ids(roomService.searchRooms(60, null, 3, null, null)));
+        verify(roomRepository, times(0)).findByPriceBetweenAndMaxPeopleGreaterThanEqual(
+            anyInt(), anyInt(), anyInt(), any(Sort.class), any(Limit.class));
+    }
+
+    @Test
+    void searchRooms_ShouldQueryDatabase_BeforeIndexIsLoaded() {
+        // 시작 직후 인덱스가 비어 있으면 DB 쿼리로 조회
+        // Before the index is loaded the database query is used
+        Room room = newRoom(1L, 100, 4);
+        Sort sort = Sort.by(Sort.Direction.DESC, "maxPeople", "id");
+        when(roomRepository.findByPriceBetweenAndMaxPeopleGreaterThanEqual(0, 150, 2, sort, Limit.of(10)))
+            .thenReturn(List.of(room));
+
+        assertEquals(List.of(1L), ids(roomService.searchRooms(null, 150, 2, "-maxPeople", 10)));
+    }
+
+    @Test
+    // 알 수 없는 정렬 값이면 IllegalArgumentException이 발생하는지 테스트합니다.
+    // Tests if IllegalArgumentException is thrown for an unknown sort order.
+    void searchRooms_ShouldThrowException_WhenSortIsUnknown() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> {
+            roomService.searchRooms(null, null, null, "name", null);
+        });
+        assertEquals("Unknown sort: name", exception.getMessage());
+    }
+
+    @Test
+    void searchRoomsByKeyword_ShouldFollowRoomChanges() {
+        // 수정된 설명으로 바로 검색되고, 삭제된 방은 검색되지 않음
+        // Updated descriptions are searchable right away and deleted rooms disappear
+        Room room = newRoom(1L, 100, 2);
+        room.setDescription("City view");
+        textIndex.load(List.of(room));
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+        when(roomRepository.save(any(Room.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Room updatedRoom = newRoom(1L, 100, 2);
+        updatedRoom.setDescription("Ocean view");
+        roomService.updateRoom(1L, updatedRoom);
+        assertEquals(List.of(1L), roomService.searchRoomsByKeyword("ocean", null).stream().map(hit -> hit.room().getId()).toList());
+        assertEquals(List.of(), roomService.searchRoomsByKeyword("city", null));
+
+        roomService.deleteRoom(1L);
+        assertEquals(List.of(), roomService.searchRoomsByKeyword("ocean", null));
+    }
+
+    @Test
+    // 검색어가 비어 있으면 IllegalArgumentException이 발생하는지 테스트합니다.
+    // Tests if IllegalArgumentException is thrown for a blank query.
+    void searchRoomsByKeyword_ShouldThrowException_WhenQueryIsBlank() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> {
+            roomService.searchRoomsByKeyword("  ", null);
+        });
+        assertEquals("Check your search keywords.", exception.getMessage());
+    }
+
+    private Room newRoom(Long id, int price, int maxPeople) {
+        Room room = new Room();
+        room.setId(id);
+        room.setName("Room " + id);
+        room.setPrice(price);
+        room.setMaxPeople(maxPeople);
+        return room;
+    }
+
+    private List<Long> ids(List<Room> rooms) {
+        return rooms.stream().map(Room::getId).toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.roomreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.roomreservation.reservation.domain.Reservation;
+import com.roomreservation.reservation.domain.Room;
+import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.dto.BulkUpdateResult;
+import com.roomreservation.reservation.dto.ReservationSelection;
+import com.roomreservation.reservation.metrics.QueryBudget;
+
+/**
+ * 주요 서비스 호출의 SQL 실행 예산 테스트
+ * - 실제 H2 DB에서 호출마다 실행되는 SQL 수를 고정해, N+1 조회나 불필요한 조회가 다시 생기면 실패하도록 함
+ *
+ * SQL statement budgets of the main service calls
+ * - Pins how many statements each call runs against the real H2 database,
+ *   so a reintroduced N+1 or redundant lookup fails the build
+ */
+@SpringBootTest
+class ServiceQueryBudgetTest {
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Test
+    void roomLookups_ShouldHitTheDatabaseOnlyOnCacheMiss() {
+        Room room = roomService.addRoom(newRoom());
+
+        // 저장 직후 첫 조회는 DB, 두 번째는 캐시 / First read after the save hits the database, the second the cache
+        QueryBudget firstRead = QueryBudget.start();
+        roomService.getRoomById(room.getId());
+        firstRead.assertStatementsAtMost(1);
+
+        QueryBudget secondRead = QueryBudget.start();
+        roomService.getRoomById(room.getId());
+        secondRead.assertStatements(0);
+    }
+
+    @Test
+    void reservationLifecycle_ShouldStayWithinBudget() {
+        Room room = roomService.addRoom(newRoom());
+        User user = userService.registerUser(newUser());
+        LocalDate checkIn = LocalDate.now().plusDays(30);
+
+        // 사용자 조회 + 방 조회 + ID 할당 + INSERT + 방 버전 읽기/올리기 (겹침 확인은 메모리 인덱스)
+        // User lookup + room lookup + ID allocation + INSERT + room version read and bump (overlaps are checked in memory)
+        QueryBudget add = QueryBudget.start();
+        Reservation saved = reservationService.addReservation(newReservation(user, room, checkIn, checkIn.plusDays(2)));
+        add.assertStatementsAtMost(6);
+
+        // 요약 페이지는 조인 한 번 / A summary page is a single join
+        QueryBudget page = QueryBudget.start();
+        reservationService.getReservations(null, 20);
+        page.assertStatements(1);
+
+        // 일괄 승인은 예약을 읽지 않고 UPDATE 한 번 / Bulk approval is one UPDATE without loading the reservation
+        QueryBudget approve = QueryBudget.start();
+        BulkUpdateResult approved = reservationService.updateApproval(
+            new ReservationSelection(null, room.getId(), checkIn, checkIn.plusDays(1)), true);
+        approve.assertStatements(1);
+        assertEquals(1, approved.updated());
+
+        // 예약 조회 + UPDATE + 방 버전 읽기/올리기 / Reservation lookup + UPDATE + room version read and bump
+        QueryBudget update = QueryBudget.start();
+        reservationService.updateReservation(saved.getId(),
+            newReservation(user, room, checkIn.plusDays(1), checkIn.plusDays(3)));
+        update.assertStatementsAtMost(5);
+
+        QueryBudget cancel = QueryBudget.start();
+        Reservation cancelled = reservationService.cancelReservation(saved.getId());
+        cancel.assertStatementsAtMost(3);
+        assertEquals(saved.getId(), cancelled.getId());
+
+        // ID로 취소는 DELETE 한 번 / Cancelling by ID is a single DELETE
+        Reservation another = reservationService.addReservation(newReservation(user, room, checkIn, checkIn.plusDays(1)));
+        QueryBudget cancelById = QueryBudget.start();
+        reservationService.cancelReservationById(another.getId());
+        cancelById.assertStatements(1);
+
+        // 방/기간 일괄 취소는 ID 조회 + DELETE / Bulk cancel is one ID query plus one DELETE
+        reservationService.addReservation(newReservation(user, room, checkIn, checkIn.plusDays(1)));
+        reservationService.addReservation(newReservation(user, room, checkIn.plusDays(1), checkIn.plusDays(2)));
+        QueryBudget bulkCancel = QueryBudget.start();
+        List<Long> cancelledIds = reservationService.cancelReservations(room.getId(), checkIn, checkIn.plusDays(2));
+        bulkCancel.assertStatements(2);
+        assertEquals(2, cancelledIds.size());
+    }
+
+    private static Room newRoom() {
+        Room room = new Room();
+        room.setName("Budget Room");
+        room.setDescription("query budget");
+        room.setPrice(100);
+        room.setMaxPeople(4);
+        return room;
+    }
+
+    private static User newUser() {
+        User user = new User();
+        user.setName("Budget");
+        user.setEmail("budget-" + System.nanoTime() + "@example.com");
+        user.setPassword("password");
+        user.setPhoneNumber("010-0000-0000");
+        return user;
+    }
+
+    private static Reservation newReservation(User user, Room room, LocalDate checkIn, LocalDate checkOut) {
+        Reservation reservation = new Reservation();
+        reservation.setUser(user);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkOut);
+        reservation.setNumberOfPeople(2);
+        return reservation;
+    }
+}
@@ -1,21 +1,27 @@
 package com.roomreservation.reservation.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
+import com.roomreservation.reservation.cache.UserLookupCache;
 import com.roomreservation.reservation.domain.User;
+import com.roomreservation.reservation.dto.CursorPage;
 import com.roomreservation.reservation.repository.UserRepository;
 
 public class UserServiceTest {
@@ -23,13 +29,24 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
     private UserServiceImpl userService;
+    private CredentialVerifier credentialVerifier;
 
     @BeforeEach
     public void setup() {
         // Mockito 초기화 / Initialize Mockito mocks
         MockitoAnnotations.openMocks(this);
+
+        // 테스트 속도를 위해 낮은 해시 비용 사용 / Low hash cost to keep the tests fast
+        PasswordHasher passwordHasher = new PasswordHasher(1_000);
+        credentialVerifier = new CredentialVerifier(passwordHasher, 2, 16);
+        userService = new UserServiceImpl(userRepository, passwordHasher, credentialVerifier,
+            new UserLookupCache(100, Duration.ofSeconds(30)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        credentialVerifier.close();
     }
 
     @Test
@@ -141,4 +158,58 @@ public class UserServiceTest {
 
         verify(userRepository).findById(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUsers_ShouldReturnNextCursor_WhenPageIsFull() {
+        // 사용자 페이지 조회 테스트 / Test for retrieving a page of users
+        User user = new User();
+        user.setId(3L);
+        user.setEmail("test@example.com");
+
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(1))).thenReturn(List.of(user));
+
+        CursorPage<User> page = userService.getUsers(2L, 1);
+
+        assertEquals("test@example.com", page.items().get(0).getEmail());
+        assertEquals(3L, page.nextCursor());
+
+        verify(userRepository).findByIdGreaterThanOrderByIdAsc(2L, Limit.of(1));
+    }
+
+    @Test
+    void registerUser_ShouldStoreHashedPassword_AndLoginWithIt() {
+        // 가입 시 비밀번호는 해시로 저장되고, 그 해시로 로그인 가능
+        // The password is stored hashed on registration, and login works against the hash
+        User user = new User();
+        user.setEmail("test@example.com");
+        user.setPassword("1234");
+
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
+        when(userRepository.save(user)).thenReturn(user);
+        userService.registerUser(user);
+
+        assertNotEquals("1234", user.getPassword());
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        assertEquals("test@example.com", userService.login("test@example.com", "1234").getEmail());
+
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> {
+            userService.login("test@example.com", "12345");
+        });
+        assertEquals("Password is not correct.", exception.getMessage());
+    }
+
+    @Test
+    void login_ShouldReadUserOnce_WhenLoggingInRepeatedly() {
+        // 반복 로그인 시 사용자 조회는 캐시에서 처리 / Repeated logins reuse the cached user lookup
+        User user = new User();
+        user.setEmail("test@example.com");
+        user.setPassword("1234");
+
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+
+        userService.login("test@example.com", "1234");
+        userService.loginAsync("test@example.com", "1234").join();
+
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+    }
+}